@@ -0,0 +1,181 @@
+package org.fastcampus.jober.common;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** AI Flask 서버 연동 설정 (ai.flask.*) */
+@ConfigurationProperties(prefix = "ai.flask")
+@Data
+public class AiFlaskProps {
+  private String baseUrl;
+  private String chatEndpoint;
+  private String chatStreamEndpoint;
+
+  // 타임아웃 (미설정 시 무한 대기하던 기존 동작을 막기 위한 기본값)
+  private Duration connectTimeout = Duration.ofSeconds(3);
+  private Duration readTimeout = Duration.ofSeconds(60);
+  private Duration responseTimeout = Duration.ofSeconds(60);
+
+  // 동일 요청 동시 호출 합치기 (AiRequestCoalescer)
+  private boolean singleFlightEnabled = true;
+
+  private Pool pool = new Pool();
+  private ResponseCache responseCache = new ResponseCache();
+  private CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();
+  private BulkheadSettings bulkhead = new BulkheadSettings();
+  private StreamSettings stream = new StreamSettings();
+  private Batch batch = new Batch();
+  private Jobs jobs = new Jobs();
+  private Session session = new Session();
+  private Scheduler scheduler = new Scheduler();
+  private Retry retry = new Retry();
+  private Hedge hedge = new Hedge();
+  private Compression compression = new Compression();
+
+  @Data
+  public static class Pool {
+    private int maxTotal = 100;
+    private int maxPerRoute = 50;
+    // 풀에서 커넥션을 빌려올 때 최대 대기 시간
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+    // 이 시간 이상 쉬고 있는 커넥션은 백그라운드에서 정리
+    private Duration idleEviction = Duration.ofSeconds(30);
+    // 커넥션 최대 수명 (AI 서버 재배포 시 stale 커넥션 방지)
+    private Duration timeToLive = Duration.ofMinutes(5);
+  }
+
+  @Data
+  public static class ResponseCache {
+    private boolean enabled = true;
+    private long maxSize = 1_000;
+    private Duration ttl = Duration.ofMinutes(10);
+    // 같은 입력에 같은 응답이 기대되는 단계만 캐시 (state.step 기준)
+    private List<String> cacheableSteps = List.of("initial");
+  }
+
+  @Data
+  public static class CircuitBreakerSettings {
+    // 최근 slidingWindowSize건 중 실패/지연 비율이 임계치를 넘으면 OPEN
+    private float failureRateThreshold = 50;
+    private float slowCallRateThreshold = 80;
+    // SSE 스트림은 첫 이벤트까지의 시간으로 판단
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(30);
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    // OPEN 유지 시간. 이후 HALF_OPEN으로 전환되어 probe 호출을 허용
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    private int permittedCallsInHalfOpenState = 3;
+    private boolean automaticTransitionToHalfOpen = true;
+  }
+
+  @Data
+  public static class BulkheadSettings {
+    // AI 서버로 동시에 나갈 수 있는 최대 호출 수 (SSE 스트림 포함)
+    private int maxConcurrentCalls = 30;
+    // 슬롯이 없을 때 대기 시간. 0이면 즉시 폴백
+    private Duration maxWait = Duration.ZERO;
+  }
+
+  @Data
+  public static class StreamSettings {
+    // 클라이언트 연결 유지를 위한 SSE 주석(: keep-alive) 전송 주기
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    // AI 서버로부터 이 시간 동안 이벤트가 없으면 업스트림을 끊고 안내 이벤트로 종료
+    private Duration idleTimeout = Duration.ofSeconds(60);
+    // 느린 클라이언트를 위해 쌓아 둘 최대 이벤트(청크) 수
+    private int bufferSize = 256;
+  }
+
+  @Data
+  public static class Batch {
+    // 일괄 생성 요청 하나가 AI 서버로 동시에 보내는 최대 호출 수 (bulkhead 한도보다 작게)
+    private int maxConcurrency = 4;
+    // 요청 하나에 담을 수 있는 최대 항목 수
+    private int maxItems = 50;
+  }
+
+  @Data
+  public static class Jobs {
+    // 비동기 생성 작업을 실행하는 워커 수 (= 작업 모드의 AI 서버 동시 호출 상한)
+    private int workers = 4;
+    // 대기 + 실행 중 작업이 이 수를 넘으면 새 작업 등록을 거절 (429)
+    private int maxPending = 200;
+    // 재시작 복구 시 이 횟수만큼 시도한 작업은 실패 처리
+    private int maxAttempts = 3;
+    // 작업 완료 구독(SSE) 최대 대기 시간
+    private Duration subscribeTimeout = Duration.ofMinutes(5);
+  }
+
+  @Data
+  public static class Session {
+    // sessionId만 보낸 요청의 state를 서버에 보관한 마지막 상태로 채움
+    private boolean enabled = true;
+    // 마지막 접근 후 이 시간이 지나면 세션 상태 만료
+    private Duration ttl = Duration.ofMinutes(30);
+    // 보관할 최대 세션 수 (세션당 수 KB)
+    private long maxSessions = 10_000;
+  }
+
+  @Data
+  public static class Scheduler {
+    private boolean enabled = true;
+    // AI 서버로 동시에 나갈 수 있는 호출 슬롯 수 (bulkhead 한도 이하로)
+    private int maxConcurrent = 30;
+    // 슬롯을 기다리는 호출은 스페이스/우선순위별로 이 수까지만 대기열에 쌓음
+    private int maxQueuePerSpace = 50;
+    // 슬롯 대기 최대 시간. 넘으면 안내 응답으로 종료
+    private Duration maxWait = Duration.ofSeconds(30);
+    // 우선순위 등급 간 슬롯 배분 비율 (가중 라운드 로빈)
+    private int interactiveWeight = 6;
+    private int batchWeight = 3;
+    private int backgroundWeight = 1;
+  }
+
+  @Data
+  public static class Retry {
+    private boolean enabled = true;
+    // 첫 시도를 포함한 최대 시도(라운드) 횟수. 헤지가 켜져 있으면 라운드마다 최대 2번 전송
+    private int maxAttempts = 3;
+    // 재시도 간격은 initialBackoff부터 2배씩 늘어 maxBackoff까지, 각 간격을 ±jitter 비율만큼 무작위로 흔듦
+    private Duration initialBackoff = Duration.ofMillis(200);
+    private Duration maxBackoff = Duration.ofSeconds(2);
+    private double jitter = 0.5;
+    // 첫 시도 시작부터 이 시간 안에서만 재시도를 시작함 (백오프 대기 포함). 넘으면 마지막 오류로 실패
+    private Duration maxElapsed = Duration.ofSeconds(10);
+    // 다시 보내도 되는 단계 (state.step 기준). 같은 입력에 부작용 없이 같은 결과가 나오는 단계만. 비어 있으면 재시도/헤지 안 함
+    private List<String> idempotentSteps = List.of("initial");
+  }
+
+  @Data
+  public static class Hedge {
+    // 첫 시도가 최근 응답 시간의 percentile 값보다 오래 걸리면 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용
+    private boolean enabled = false;
+    private double percentile = 0.95;
+    // 응답 시간 표본이 minSamples개 쌓이기 전에는 initialDelay 사용
+    private int minSamples = 50;
+    private Duration initialDelay = Duration.ofSeconds(5);
+    // 헤지 지연의 하한/상한
+    private Duration minDelay = Duration.ofMillis(500);
+    private Duration maxDelay = Duration.ofSeconds(20);
+  }
+
+  @Data
+  public static class Compression {
+    // 응답: Accept-Encoding: gzip을 보내고, AI 서버가 압축해 보내면 클라이언트가 풂
+    private boolean responseEnabled = true;
+    // 요청: AUTO는 AI 서버가 응답 헤더 Accept-Encoding으로 gzip 수신을 알린 뒤부터 압축 (RFC 7694)
+    private RequestMode request = RequestMode.AUTO;
+    // 이보다 작은 요청 본문은 압축하지 않음 (바이트). 작은 JSON은 압축 비용이 전송 절감보다 큼
+    private int minRequestSize = 2048;
+
+    public enum RequestMode {
+      OFF,
+      AUTO,
+      ALWAYS
+    }
+  }
+}
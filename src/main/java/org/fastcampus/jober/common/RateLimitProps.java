@@ -0,0 +1,31 @@
+package org.fastcampus.jober.common;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 템플릿 생성 API 요청 제한 설정 (rate-limit.*). 사용자별, 스페이스별 토큰 버킷을 각각 적용합니다. */
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitProps {
+  private boolean enabled = true;
+  private Bucket user = new Bucket(10, 10, Duration.ofMinutes(1));
+  private Bucket space = new Bucket(60, 60, Duration.ofMinutes(1));
+  // 메모리에 보관할 최대 버킷 수 (오래 쓰지 않은 버킷부터 정리)
+  private long maxKeys = 100_000;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Bucket {
+    // 한 번에 몰아서 보낼 수 있는 최대 요청 수
+    private long capacity;
+    // refillPeriod마다 채워지는 토큰 수 (지속 허용 속도)
+    private long refillTokens;
+    private Duration refillPeriod;
+  }
+}
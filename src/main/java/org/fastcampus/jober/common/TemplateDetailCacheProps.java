@@ -0,0 +1,19 @@
+package org.fastcampus.jober.common;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/** 템플릿 상세 조회 캐시 설정 (template.detail-cache.*). 항목마다 본문 TEXT를 들고 있으므로 개수가 아닌 크기로 제한합니다. */
+@ConfigurationProperties(prefix = "template.detail-cache")
+@Data
+public class TemplateDetailCacheProps {
+  private boolean enabled = true;
+  // 캐시 전체 크기 상한 (항목 문자열 길이로 추정한 바이트 합계)
+  private DataSize maxSize = DataSize.ofMegabytes(64);
+  // 저장 후 이 시간이 지나면 만료 (무효화를 놓친 경우의 상한)
+  private Duration ttl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,15 @@
+package org.fastcampus.jober.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** 템플릿 목록 키셋 페이지 설정 (template.list.*) */
+@ConfigurationProperties(prefix = "template.list")
+@Data
+public class TemplateListProps {
+  // size를 주지 않았을 때의 페이지 크기
+  private int defaultPageSize = 20;
+  // 요청할 수 있는 최대 페이지 크기
+  private int maxPageSize = 100;
+}
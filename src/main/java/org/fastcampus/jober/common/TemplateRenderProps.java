@@ -0,0 +1,18 @@
+package org.fastcampus.jober.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** 템플릿 변수 렌더링 설정 (template.render.*). 컴파일된 템플릿은 인스턴스 메모리에 캐시합니다. */
+@ConfigurationProperties(prefix = "template.render")
+@Data
+public class TemplateRenderProps {
+  // 컴파일 캐시 크기 상한 (템플릿 본문 글자 수 합계)
+  private long maxCachedChars = 5_000_000;
+  // 미리보기 연락처 수 기본값과 상한
+  private int defaultPreviewSize = 20;
+  private int maxPreviewSize = 100;
+  // 내보내기에서 DB에서 한 번에 읽을 연락처 수 (배치마다 응답을 flush)
+  private int exportBatchSize = 1_000;
+}
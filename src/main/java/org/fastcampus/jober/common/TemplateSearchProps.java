@@ -0,0 +1,21 @@
+package org.fastcampus.jober.common;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** 저장된 템플릿 전문 검색 설정 (template.search.*). 스페이스별 역색인을 메모리에 보관합니다. */
+@ConfigurationProperties(prefix = "template.search")
+@Data
+public class TemplateSearchProps {
+  // 메모리에 올려 둘 최대 스페이스 색인 수 (오래 검색하지 않은 스페이스부터 내림)
+  private long maxSpaces = 1_000;
+  // 마지막 검색 후 이 시간이 지나면 색인을 내리고 다음 검색 때 DB에서 다시 만듦
+  private Duration idleTtl = Duration.ofMinutes(30);
+  private int defaultPageSize = 20;
+  private int maxPageSize = 100;
+  // 삭제/수정으로 남은 빈 문서 비율이 이 값을 넘으면 색인을 압축
+  private double compactionRatio = 0.3;
+}
@@ -0,0 +1,26 @@
+package org.fastcampus.jober.common;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** 유사 템플릿 찾기 설정 (template.similarity.*). 스페이스별 MinHash LSH 색인을 메모리에 보관합니다. */
+@ConfigurationProperties(prefix = "template.similarity")
+@Data
+public class TemplateSimilarityProps {
+  // 메모리에 올려 둘 최대 스페이스 색인 수 (오래 쓰지 않은 스페이스부터 내림)
+  private long maxSpaces = 1_000;
+  // 마지막 사용 후 이 시간이 지나면 색인을 내리고 다음 요청 때 DB에서 다시 만듦
+  private Duration idleTtl = Duration.ofMinutes(30);
+  // 유사 템플릿 조회의 기본 최소 유사도 (추정 Jaccard, 0.7에서 재현율 약 92%, 이보다 낮추면 재현율이 빠르게 떨어짐)
+  private double minSimilarity = 0.7;
+  // 저장할 때 이 값 이상인 템플릿을 중복 후보로 응답에 담음
+  private double duplicateThreshold = 0.9;
+  private int maxDuplicates = 5;
+  private int defaultSize = 10;
+  private int maxSize = 50;
+  // 삭제/수정으로 남은 빈 문서 비율이 이 값을 넘으면 색인을 압축
+  private double compactionRatio = 0.3;
+}
@@ -0,0 +1,15 @@
+package org.fastcampus.jober.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** 템플릿 NDJSON 가져오기/내보내기 설정 (template.transfer.*) */
+@ConfigurationProperties(prefix = "template.transfer")
+@Data
+public class TemplateTransferProps {
+  // 가져오기 시 한 트랜잭션에서 JDBC 배치로 넣을 줄 수 (배치마다 스페이스 멤버 여부를 다시 확인)
+  private int importBatchSize = 500;
+  // 응답에 담을 최대 오류 줄 수 (건너뛴 줄 수는 모두 셈)
+  private int maxReportedErrors = 20;
+}
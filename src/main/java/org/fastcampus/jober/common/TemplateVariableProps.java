@@ -0,0 +1,15 @@
+package org.fastcampus.jober.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** 템플릿 변수 정규화 설정 (template.variables.*) */
+@ConfigurationProperties(prefix = "template.variables")
+@Data
+public class TemplateVariableProps {
+  // 시작 후 백그라운드에서 변수 행을 만든 적 없는 기존 템플릿을 채울지 여부
+  private boolean backfillOnStartup = true;
+  // 채우기 배치 크기 (배치마다 별도 트랜잭션)
+  private int backfillBatchSize = 500;
+}
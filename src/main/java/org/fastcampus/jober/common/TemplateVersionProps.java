@@ -0,0 +1,15 @@
+package org.fastcampus.jober.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/** 템플릿 버전 저장 설정 (template.version.*) */
+@ConfigurationProperties(prefix = "template.version")
+@Data
+public class TemplateVersionProps {
+  // 이 버전 수마다 전체 스냅샷을 남김 (복원 시 적용하는 변경분은 최대 snapshot-interval - 1개)
+  private int snapshotInterval = 10;
+  // 변경분이 본문 전체 크기의 이 비율을 넘으면 변경분 대신 스냅샷으로 저장
+  private double maxDeltaRatio = 0.5;
+}
@@ -0,0 +1,180 @@
+package org.fastcampus.jober.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.common.AiFlaskProps.Compression.RequestMode;
+
+/**
+ * AI 서버로 보내는 요청 본문의 gzip 압축. RestTemplate에는 인터셉터로, WebClient에는 커넥터 데코레이터로 붙으며 두 경로가
+ * 협상 상태를 공유합니다.
+ *
+ * <ul>
+ *   <li>min-request-size보다 작은 본문은 그대로 보냅니다.
+ *   <li>AUTO 모드는 AI 서버 응답에 gzip을 포함한 Accept-Encoding 헤더가 온 뒤부터 압축합니다 (RFC 7694).
+ *   <li>압축한 요청에 415가 오면 AI 서버가 압축 요청을 받지 못하는 것으로 보고 다음 요청부터 압축하지 않습니다.
+ * </ul>
+ *
+ * 응답 압축(Accept-Encoding 협상과 해제)은 각 HTTP 클라이언트의 기능을 사용합니다 (HttpClientConfig 참고).
+ */
+@Slf4j
+public class AiHttpCompression {
+
+  static final String GZIP = "gzip";
+
+  private final RequestMode mode;
+  private final int minRequestSize;
+  private volatile boolean serverAcceptsGzip;
+
+  public AiHttpCompression(AiFlaskProps.Compression props) {
+    this.mode = props.getRequest();
+    this.minRequestSize = props.getMinRequestSize();
+  }
+
+  /** 이 크기의 요청 본문을 압축해서 보낼지 판단합니다. */
+  boolean shouldCompress(int size) {
+    if (size < minRequestSize) {
+      return false;
+    }
+    return switch (mode) {
+      case OFF -> false;
+      case AUTO -> serverAcceptsGzip;
+      case ALWAYS -> true;
+    };
+  }
+
+  /** AI 서버 응답 헤더로 압축 요청 수신 가능 여부를 갱신합니다. */
+  void observe(HttpHeaders responseHeaders, int status, boolean compressed) {
+    if (compressed && status == HttpStatus.UNSUPPORTED_MEDIA_TYPE.value()) {
+      if (serverAcceptsGzip || mode == RequestMode.ALWAYS) {
+        log.warn("AI 서버가 gzip 요청 본문을 거부했습니다. 이후 요청은 압축하지 않습니다.");
+      }
+      serverAcceptsGzip = false;
+      return;
+    }
+    if (!serverAcceptsGzip && acceptsGzip(responseHeaders)) {
+      log.info("AI 서버가 gzip 요청 본문 수신을 알렸습니다. {}바이트 이상 요청은 압축합니다.", minRequestSize);
+      serverAcceptsGzip = true;
+    }
+  }
+
+  private static boolean acceptsGzip(HttpHeaders headers) {
+    for (String value : headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+      for (String coding : value.split(",")) {
+        if (coding.trim().toLowerCase(Locale.ROOT).startsWith(GZIP)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /** RestTemplate용: 버퍼링된 요청 본문을 압축하고 Content-Encoding/Content-Length를 맞춥니다. */
+  public ClientHttpRequestInterceptor interceptor() {
+    return (request, body, execution) -> {
+      boolean compressed = shouldCompress(body.length);
+      byte[] payload = body;
+      if (compressed) {
+        payload = gzip(body);
+        request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        request.getHeaders().setContentLength(payload.length);
+      }
+      var response = execution.execute(request, payload);
+      observe(response.getHeaders(), response.getStatusCode().value(), compressed);
+      return response;
+    };
+  }
+
+  /** WebClient용: 요청 본문을 모아 크기를 확인한 뒤 압축하는 커넥터로 감쌉니다. */
+  public ClientHttpConnector decorate(ClientHttpConnector connector) {
+    if (mode == RequestMode.OFF) {
+      return connector;
+    }
+    return new ClientHttpConnector() {
+      @Override
+      public Mono<ClientHttpResponse> connect(
+          HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        AtomicReference<CompressingRequest> sent = new AtomicReference<>();
+        return connector
+            .connect(
+                method,
+                uri,
+                request -> {
+                  CompressingRequest compressing = new CompressingRequest(request);
+                  sent.set(compressing);
+                  return requestCallback.apply(compressing);
+                })
+            .doOnNext(
+                response -> {
+                  CompressingRequest request = sent.get();
+                  observe(
+                      response.getHeaders(),
+                      response.getStatusCode().value(),
+                      request != null && request.compressed);
+                });
+      }
+    };
+  }
+
+  /** 본문을 하나의 버퍼로 모은 뒤 크기가 임계치 이상이면 gzip으로 바꿔 씁니다. SSE 요청도 본문은 한 번에 보내므로 안전합니다. */
+  private final class CompressingRequest extends ClientHttpRequestDecorator {
+    private volatile boolean compressed;
+
+    CompressingRequest(ClientHttpRequest delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      return DataBufferUtils.join(body)
+          .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+          .flatMap(
+              buffer -> {
+                int size = buffer.readableByteCount();
+                if (!shouldCompress(size)) {
+                  return super.writeWith(Mono.just(buffer));
+                }
+                byte[] raw = new byte[size];
+                buffer.read(raw);
+                DataBufferUtils.release(buffer);
+                byte[] gzipped = gzip(raw);
+                compressed = true;
+                getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                getHeaders().setContentLength(gzipped.length);
+                return super.writeWith(Mono.just(bufferFactory().wrap(gzipped)));
+              });
+    }
+  }
+
+  static byte[] gzip(byte[] raw) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+      gzip.write(raw);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,88 @@
+package org.fastcampus.jober.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+
+/** AI Flask 서버 호출을 보호하는 서킷 브레이커와 bulkhead 설정 (ai.flask.circuit-breaker.*, ai.flask.bulkhead.*) */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AiResilienceConfig {
+
+  public static final String AI_FLASK = "aiFlask";
+
+  private final AiFlaskProps aiFlaskProps;
+
+  @Bean
+  public CircuitBreaker aiCircuitBreaker(MeterRegistry meterRegistry) {
+    AiFlaskProps.CircuitBreakerSettings settings = aiFlaskProps.getCircuitBreaker();
+    CircuitBreakerConfig config =
+        CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(settings.getSlidingWindowSize())
+            .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+            .failureRateThreshold(settings.getFailureRateThreshold())
+            .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+            .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+            .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+            .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+            .automaticTransitionFromOpenToHalfOpenEnabled(
+                settings.isAutomaticTransitionToHalfOpen())
+            // bulkhead 포화는 AI 서버 장애가 아니므로 실패율에 포함하지 않음
+            .ignoreExceptions(BulkheadFullException.class)
+            .build();
+
+    CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+    CircuitBreaker circuitBreaker = registry.circuitBreaker(AI_FLASK);
+    circuitBreaker
+        .getEventPublisher()
+        .onStateTransition(
+            event -> {
+              CircuitBreaker.StateTransition transition = event.getStateTransition();
+              log.warn(
+                  "[CIRCUIT] AI 서버 서킷 상태 변경: {} -> {}",
+                  transition.getFromState(),
+                  transition.getToState());
+              meterRegistry
+                  .counter(
+                      "ai.circuitbreaker.transitions",
+                      "from",
+                      transition.getFromState().name(),
+                      "to",
+                      transition.getToState().name())
+                  .increment();
+            });
+    return circuitBreaker;
+  }
+
+  @Bean
+  public Bulkhead aiBulkhead(MeterRegistry meterRegistry) {
+    AiFlaskProps.BulkheadSettings settings = aiFlaskProps.getBulkhead();
+    BulkheadConfig config =
+        BulkheadConfig.custom()
+            .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+            .maxWaitDuration(settings.getMaxWait())
+            .build();
+
+    BulkheadRegistry registry = BulkheadRegistry.of(config);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+    return registry.bulkhead(AI_FLASK);
+  }
+}
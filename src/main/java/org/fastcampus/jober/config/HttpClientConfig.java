@@ -1,21 +1,128 @@
 package org.fastcampus.jober.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
 
-/** HTTP 클라이언트 설정 클래스 AI Flask 서버와 통신하기 위한 RestTemplate 빈을 제공합니다. */
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+
+/** HTTP 클라이언트 설정 클래스 AI Flask 서버와 통신하기 위한 커넥션 풀 기반 RestTemplate / WebClient 커넥터를 제공합니다. */
 @Configuration
 public class HttpClientConfig {
 
+  private final AiFlaskProps aiFlaskProps;
+  // RestTemplate과 WebClient가 요청 압축 협상 상태를 공유
+  private final AiHttpCompression aiHttpCompression;
+
+  public HttpClientConfig(AiFlaskProps aiFlaskProps) {
+    this.aiFlaskProps = aiFlaskProps;
+    this.aiHttpCompression = new AiHttpCompression(aiFlaskProps.getCompression());
+  }
+
+  /**
+   * AI Flask 서버용 Apache HttpClient 생성. 커넥션 풀, keep-alive 재사용, 유휴 커넥션 정리, 타임아웃을 ai.flask.* 설정으로
+   * 구성합니다.
+   *
+   * @return 풀링 HttpClient
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient aiHttpClient() {
+    AiFlaskProps.Pool pool = aiFlaskProps.getPool();
+
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(
+                        Timeout.ofMilliseconds(aiFlaskProps.getConnectTimeout().toMillis()))
+                    .setSocketTimeout(
+                        Timeout.ofMilliseconds(aiFlaskProps.getReadTimeout().toMillis()))
+                    .setTimeToLive(TimeValue.ofMilliseconds(pool.getTimeToLive().toMillis()))
+                    .build())
+            .build();
+
+    RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setConnectionRequestTimeout(
+                Timeout.ofMilliseconds(pool.getAcquireTimeout().toMillis()))
+            .setResponseTimeout(
+                Timeout.ofMilliseconds(aiFlaskProps.getResponseTimeout().toMillis()))
+            .build();
+
+    HttpClientBuilder builder =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEviction().toMillis()));
+    // 기본값으로 Accept-Encoding: gzip, deflate를 보내고 압축 응답을 풂
+    if (!aiFlaskProps.getCompression().isResponseEnabled()) {
+      builder.disableContentCompression();
+    }
+    return builder.build();
+  }
+
   /**
    * RestTemplate 빈 생성 외부 AI Flask 서버와의 HTTP 통신을 위해 사용됩니다.
    *
-   * @return RestTemplate 인스턴스
+   * @return 커넥션 풀을 사용하고 큰 요청 본문을 gzip으로 압축하는 RestTemplate 인스턴스
    */
   @Bean
-  public RestTemplate restTemplate() {
-    // WebClient 쓰기
-    return new RestTemplate();
+  public RestTemplate restTemplate(CloseableHttpClient aiHttpClient) {
+    RestTemplate restTemplate =
+        new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiHttpClient));
+    if (aiFlaskProps.getCompression().getRequest() != AiFlaskProps.Compression.RequestMode.OFF) {
+      restTemplate.getInterceptors().add(aiHttpCompression.interceptor());
+    }
+    return restTemplate;
+  }
+
+  /**
+   * SSE 스트리밍(WebClient)용 커넥터. RestTemplate과 같은 풀 크기/타임아웃 설정을 사용합니다.
+   *
+   * @return Reactor Netty 커넥터
+   */
+  @Bean
+  public ClientHttpConnector aiClientHttpConnector() {
+    AiFlaskProps.Pool pool = aiFlaskProps.getPool();
+
+    ConnectionProvider provider =
+        ConnectionProvider.builder("ai-flask")
+            .maxConnections(pool.getMaxTotal())
+            .pendingAcquireTimeout(pool.getAcquireTimeout())
+            .maxIdleTime(pool.getIdleEviction())
+            .maxLifeTime(pool.getTimeToLive())
+            .evictInBackground(pool.getIdleEviction())
+            .build();
+
+    HttpClient httpClient =
+        HttpClient.create(provider)
+            .option(
+                ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                (int) aiFlaskProps.getConnectTimeout().toMillis())
+            // 스트림에서는 청크 사이의 최대 대기 시간으로 동작
+            .responseTimeout(aiFlaskProps.getResponseTimeout())
+            // Accept-Encoding: gzip을 보내고 압축 응답(SSE 포함)을 풂
+            .compress(aiFlaskProps.getCompression().isResponseEnabled());
+
+    return aiHttpCompression.decorate(new ReactorClientHttpConnector(httpClient));
   }
 }
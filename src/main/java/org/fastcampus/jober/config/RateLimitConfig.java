@@ -0,0 +1,30 @@
+package org.fastcampus.jober.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import org.fastcampus.jober.common.RateLimitProps;
+import org.fastcampus.jober.util.InMemoryRateLimitStore;
+import org.fastcampus.jober.util.RateLimitStore;
+import org.fastcampus.jober.util.TokenBucketSpec;
+
+/** 요청 제한 저장소 설정. 공유 저장소 구현을 RateLimitStore 빈으로 등록하면 인메모리 저장소 대신 사용됩니다. */
+@Configuration
+public class RateLimitConfig {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public RateLimitStore rateLimitStore(RateLimitProps props) {
+    Duration user = spec(props.getUser()).fullRefill();
+    Duration space = spec(props.getSpace()).fullRefill();
+    return new InMemoryRateLimitStore(props.getMaxKeys(), user.compareTo(space) > 0 ? user : space);
+  }
+
+  private static TokenBucketSpec spec(RateLimitProps.Bucket bucket) {
+    return TokenBucketSpec.of(
+        bucket.getCapacity(), bucket.getRefillTokens(), bucket.getRefillPeriod());
+  }
+}
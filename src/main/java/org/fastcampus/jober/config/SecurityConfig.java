@@ -77,7 +77,7 @@ public class SecurityConfig {
     conf.setAllowedHeaders(List.of("Content-Type", "Authorization", "X-XSRF-TOKEN"));
     conf.setAllowCredentials(true); // 쿠키/인증 포함 요청이면 필수
     // 필요 시 응답 헤더 노출
-    conf.setExposedHeaders(List.of("Location"));
+    conf.setExposedHeaders(List.of("Location", "Retry-After"));
     // 프리플라이트 캐시 시간
     conf.setMaxAge(3600L);
 
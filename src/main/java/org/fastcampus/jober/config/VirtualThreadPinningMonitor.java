@@ -0,0 +1,88 @@
+package org.fastcampus.jober.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 모드에서 캐리어 스레드 고정(pinning)을 감지하는 진단기. JFR jdk.VirtualThreadPinned 이벤트를 구독해 임계치 이상 고정된
+ * 호출 경로(synchronized 블록, 네이티브 호출 등)를 스택과 함께 WARN 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(
+    prefix = "app.virtual-threads",
+    name = "pinning-diagnostics",
+    havingValue = "true",
+    matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int MAX_FRAMES = 12;
+
+  private final Duration threshold;
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void start() {
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::report);
+    stream.startAsync();
+    log.info("[VTHREAD] pinning 진단 활성화 (threshold={})", threshold);
+  }
+
+  private void report(RecordedEvent event) {
+    String frames = "";
+    if (event.getStackTrace() != null) {
+      List<RecordedFrame> top =
+          event.getStackTrace().getFrames().stream().limit(MAX_FRAMES).toList();
+      frames =
+          top.stream()
+              .map(
+                  f ->
+                      f.getMethod().getType().getName()
+                          + "."
+                          + f.getMethod().getName()
+                          + ":"
+                          + f.getLineNumber())
+              .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+    }
+    log.warn(
+        "[VTHREAD] 가상 스레드 pinning 감지: {}ms (thread={}){}",
+        event.getDuration().toMillis(),
+        event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+        frames);
+  }
+
+  @Override
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+}
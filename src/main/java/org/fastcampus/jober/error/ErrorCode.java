@@ -13,6 +13,7 @@ public enum ErrorCode {
   FORBIDDEN("COMMON-403", "접근이 거부되었습니다.", HttpStatus.FORBIDDEN),
   NOT_FOUND("COMMON-404", "리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
   METHOD_NOT_ALLOWED("COMMON-405", "허용되지 않은 메서드입니다.", HttpStatus.METHOD_NOT_ALLOWED),
+  TOO_MANY_REQUESTS("COMMON-429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
   // 비즈니스 (예시)
   USER_NOT_FOUND("USER-404", "사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
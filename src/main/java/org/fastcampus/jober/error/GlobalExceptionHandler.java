@@ -45,6 +45,17 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(ec.getStatus()).body(build(ec, ex.getMessage(), req, null));
   }
 
+  // 요청 제한 초과: 클라이언트가 다시 시도할 시점을 Retry-After(초)로 알려줌
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleRateLimit(
+      RateLimitExceededException ex, HttpServletRequest req) {
+    var ec = ex.getErrorCode();
+    long retryAfter = ex.getRetryAfterSeconds();
+    return ResponseEntity.status(ec.getStatus())
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+        .body(build(ec, ex.getMessage(), req, Map.of("retryAfterSeconds", retryAfter)));
+  }
+
   // 검증 오류
   @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
   public ResponseEntity<ErrorResponse> handleValidation(Exception ex, HttpServletRequest req) {
@@ -0,0 +1,22 @@
+package org.fastcampus.jober.error;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/** 요청 제한(토큰 버킷)을 넘은 경우 발생합니다. GlobalExceptionHandler가 429와 Retry-After 헤더로 응답합니다. */
+@Getter
+public class RateLimitExceededException extends BusinessException {
+  private final Duration retryAfter;
+
+  public RateLimitExceededException(String message, Duration retryAfter) {
+    super(ErrorCode.TOO_MANY_REQUESTS, message);
+    this.retryAfter = retryAfter;
+  }
+
+  /** Retry-After 헤더 값 (초 단위 올림, 최소 1초) */
+  public long getRetryAfterSeconds() {
+    long seconds = retryAfter.toSeconds();
+    return retryAfter.toNanosPart() > 0 || seconds == 0 ? seconds + 1 : seconds;
+  }
+}
@@ -2,6 +2,7 @@ package org.fastcampus.jober.space.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -47,4 +48,22 @@ public interface SpaceContactsRepository extends JpaRepository<SpaceContacts, Lo
   List<SpaceContacts> findBySpaceIdAndTag(
       @Parameter(description = "스페이스 ID", required = true) @Param("spaceId") Long spaceId,
       @Parameter(description = "태그", required = true) @Param("tag") String tag);
+
+  /**
+   * 스페이스 연락처를 id 오름차순으로 afterId 다음부터 limit건 조회 (대량 렌더링/내보내기용 키셋 페이지)
+   *
+   * @param spaceId 스페이스 ID
+   * @param tag 태그 (null이면 전체)
+   * @param afterId 이전 페이지의 마지막 연락처 ID (첫 페이지는 0)
+   * @param limit 조회 건수
+   * @return 연락처 엔티티 리스트
+   */
+  @Query(
+      "SELECT sc FROM SpaceContacts sc WHERE sc.spaceId = :spaceId AND (:tag IS NULL OR sc.tag = :tag)"
+          + " AND sc.id > :afterId AND (sc.isDeleted = false OR sc.isDeleted IS NULL) ORDER BY sc.id ASC")
+  List<SpaceContacts> findPageBySpaceId(
+      @Param("spaceId") Long spaceId,
+      @Param("tag") String tag,
+      @Param("afterId") Long afterId,
+      Limit limit);
 }
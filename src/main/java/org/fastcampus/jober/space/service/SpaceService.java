@@ -19,6 +19,7 @@ import org.fastcampus.jober.space.mapper.SpaceMapper;
 import org.fastcampus.jober.space.mapper.SpaceMemberMapper;
 import org.fastcampus.jober.space.repository.SpaceMemberRepository;
 import org.fastcampus.jober.space.repository.SpaceRepository;
+import org.fastcampus.jober.template.service.TemplateDetailCache;
 import org.fastcampus.jober.user.dto.CustomUserDetails;
 
 @Service
@@ -28,6 +29,7 @@ public class SpaceService {
   private final SpaceMapper spaceMapper; // Mapper 주입
   private final SpaceMemberMapper spaceMemberMapper;
   private final SpaceMemberRepository spaceMemberRepository;
+  private final TemplateDetailCache templateDetailCache;
 
   @Transactional
   public void createSpace(SpaceCreateRequestDto dto, CustomUserDetails principal) {
@@ -74,6 +76,7 @@ public class SpaceService {
     existingSpace.validateAdminUser(principal.getUserId());
 
     spaceRepository.deleteById(existingSpace.getSpaceId());
+    templateDetailCache.evictSpace(existingSpace.getSpaceId());
   }
 
   public List<SpaceListResponseDto> getSpaceList(CustomUserDetails principal) {
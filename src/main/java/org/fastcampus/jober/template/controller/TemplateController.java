@@ -7,7 +7,9 @@ import org.fastcampus.jober.template.dto.request.TemplateCreateRequestDto;
 import org.fastcampus.jober.template.dto.response.TemplateListResponseDto;
 import org.fastcampus.jober.user.dto.CustomUserDetails;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,12 +33,24 @@ import lombok.RequiredArgsConstructor;
 
 import org.fastcampus.jober.template.dto.request.TemplateDeleteRequestDto;
 import org.fastcampus.jober.template.dto.request.TemplateSaveRequestDto;
+import org.fastcampus.jober.template.dto.response.TemplateBatchItemResponseDto;
 import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
 import org.fastcampus.jober.template.dto.response.TemplateDetailResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplatePageResponseDto;
 import org.fastcampus.jober.template.dto.response.TemplateSaveResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateSearchResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateSimilarResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateSummaryResponseDto;
 import org.fastcampus.jober.template.dto.response.TemplateTitleResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateVariableUsageResponseDto;
+import org.fastcampus.jober.template.service.TemplateRateLimiter;
 import org.fastcampus.jober.template.service.TemplateService;
+import org.fastcampus.jober.util.SseStreamGuard;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /** 템플릿 관련 REST API를 제공하는 컨트롤러 클래스 템플릿 생성, 조회, 수정, 삭제 등의 기능을 처리합니다. */
 @Slf4j
@@ -45,7 +60,12 @@ import reactor.core.publisher.Flux;
 @RequiredArgsConstructor
 public class TemplateController {
 
+  // 스트리밍 응답은 AI 생성 시간만큼 열려 있으므로 서블릿 async 타임아웃을 두지 않음
+  private static final long STREAM_NO_TIMEOUT = -1L;
+
   private final TemplateService templateService;
+  private final SseStreamGuard sseStreamGuard;
+  private final TemplateRateLimiter templateRateLimiter;
 
   /**
    * AI를 통한 템플릿 생성 요청 API 사용자의 메시지를 받아서 AI Flask 서버로 전달하고, 구조화된 템플릿 응답을 반환합니다.
@@ -61,20 +81,88 @@ public class TemplateController {
       responseCode = "200",
       description = "AI 템플릿 생성 성공",
       content = @Content(schema = @Schema(implementation = TemplateCreateResponseDto.class)))
+  @ApiResponse(responseCode = "429", description = "사용자/스페이스 요청 한도 초과 (Retry-After 헤더 참고)")
   @PostMapping("/create-template")
   public ResponseEntity<TemplateCreateResponseDto> createTemplate(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
       @org.springframework.web.bind.annotation.RequestBody TemplateCreateRequestDto request) {
+    // 멤버십은 한 번만 확인하고, 확인된 spaceId로 요청 제한을 건 뒤 대기열 키를 넘김
+    String queue = templateService.queueKey(userId(principal), request.getSpaceId());
+    templateRateLimiter.acquire(userId(principal), request.getSpaceId());
 
     log.info("템플릿 생성 요청 수신 - 사용자 메시지: {}, state: {}", request.getMessage(), request.getState());
 
     // TemplateService를 통해 AI Flask 서버로 요청 전달
-    TemplateCreateResponseDto aiResponse = templateService.createTemplate(request);
+    TemplateCreateResponseDto aiResponse = templateService.createTemplate(userId(principal), queue, request);
 
     log.info("AI Flask 서버로부터 응답 수신 완료");
 
     return ResponseEntity.ok(aiResponse);
   }
 
+  /**
+   * AI 템플릿 생성 요청 API (논블로킹). createTemplate과 요청/응답 형식은 같지만, AI 서버 응답을 기다리는 동안 Tomcat 워커
+   * 스레드를 점유하지 않습니다.
+   *
+   * @param request 템플릿 생성 요청 DTO (사용자 메시지와 AI 세션 상태 포함)
+   * @return AI가 생성한 구조화된 템플릿 응답 DTO
+   */
+  @Operation(
+      summary = "AI 템플릿 생성 요청 (비동기)",
+      description = "create-template과 동일하지만 AI 서버 응답 대기 중 서블릿 스레드를 반환합니다.")
+  @ApiResponse(
+      responseCode = "200",
+      description = "AI 템플릿 생성 성공",
+      content = @Content(schema = @Schema(implementation = TemplateCreateResponseDto.class)))
+  @ApiResponse(responseCode = "429", description = "사용자/스페이스 요청 한도 초과 (Retry-After 헤더 참고)")
+  @PostMapping("/create-template/async")
+  public Mono<ResponseEntity<TemplateCreateResponseDto>> createTemplateAsync(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @RequestBody TemplateCreateRequestDto request) {
+    String queue = templateService.queueKey(userId(principal), request.getSpaceId());
+    templateRateLimiter.acquire(userId(principal), request.getSpaceId());
+    log.info("비동기 템플릿 생성 요청 수신 - 사용자 메시지: {}", request.getMessage());
+    return templateService.createTemplateAsync(userId(principal), queue, request).map(ResponseEntity::ok);
+  }
+
+  /**
+   * AI 템플릿 일괄 생성 API. 요청 목록을 제한된 동시성으로 AI 서버에 보내고, 항목별 결과를 완료되는 순서대로 NDJSON(기본) 또는
+   * SSE로 전송합니다. 일부 항목이 실패해도 나머지 항목은 계속 처리됩니다.
+   *
+   * @param requests 템플릿 생성 요청 DTO 목록
+   * @return 항목별 생성 결과 스트림
+   */
+  @Operation(
+      summary = "AI 템플릿 일괄 생성",
+      description =
+          "여러 개의 템플릿 생성 요청을 한 번에 처리합니다. 결과는 완료되는 순서대로 한 줄씩(application/x-ndjson) 또는 "
+              + "SSE(text/event-stream)로 전송되며, index로 요청 항목과 매칭합니다.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "항목별 결과 스트림",
+        content =
+            @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = TemplateBatchItemResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "요청 목록이 비었거나, 최대 항목 수 또는 버킷 크기 초과"),
+    @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아닌 항목이 있음"),
+    @ApiResponse(responseCode = "429", description = "사용자/스페이스 요청 한도 초과 (Retry-After 헤더 참고)")
+  })
+  @PostMapping(
+      value = "/create-template/batch",
+      produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+  public Flux<TemplateBatchItemResponseDto> createTemplates(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @RequestBody List<TemplateCreateRequestDto> requests) {
+    Map<Long, String> queues = templateService.queueKeys(userId(principal), requests);
+    // 항목마다 자기 스페이스 버킷에서 토큰 소모
+    templateRateLimiter.acquire(
+        userId(principal), requests.stream().map(TemplateCreateRequestDto::getSpaceId).toList());
+    log.info("템플릿 일괄 생성 요청 수신 - 항목 수: {}", requests.size());
+    return templateService.createTemplates(userId(principal), requests, queues);
+  }
+
     @Operation(
             summary = "템플릿 생성 SSE 스트리밍",
             description = """
@@ -93,13 +181,65 @@ public class TemplateController {
                             array = @ArraySchema(schema = @Schema(implementation = TemplateCreateResponseDto.class))
                     )
             ),
+            @ApiResponse(responseCode = "429", description = "사용자/스페이스 요청 한도 초과 (Retry-After 헤더 참고)"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PostMapping(value = "/sse", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<ServerSentEvent<TemplateCreateResponseDto>> templateSSE(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
             @RequestBody TemplateCreateRequestDto templateCreateRequestDto) {
-        return templateService.templateSSE(templateCreateRequestDto)
-                .map(data -> ServerSentEvent.builder(data).build());
+        String queue = templateService.queueKey(userId(principal), templateCreateRequestDto.getSpaceId());
+        templateRateLimiter.acquire(userId(principal), templateCreateRequestDto.getSpaceId());
+        // heartbeat 주석, 크기 제한 버퍼 적용. 클라이언트가 끊으면 구독 취소가 AI 서버 연결까지 전파됨
+        return sseStreamGuard.downstream(
+                "decoded", templateService.templateSSE(userId(principal), queue, templateCreateRequestDto));
+    }
+
+    /**
+     * 템플릿 생성 SSE 스트리밍 (pass-through). /sse와 같은 이벤트를 보내지만 AI 서버가 보낸 바이트를 그대로 전달하므로 이벤트마다
+     * DTO 변환 비용이 없습니다. 클라이언트 연결이 끊기면 AI 서버 요청도 취소됩니다.
+     *
+     * @param templateCreateRequestDto 템플릿 생성 요청 DTO
+     * @return AI 서버 SSE 원본을 전달하는 emitter
+     */
+    @Operation(
+            summary = "템플릿 생성 SSE 스트리밍 (relay)",
+            description = "/template/sse와 동일한 이벤트 스트림을 AI 서버 응답 그대로 전달합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "SSE 연결 성공 - AI 서버 이벤트 원본 스트림",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            ),
+            @ApiResponse(responseCode = "429", description = "사용자/스페이스 요청 한도 초과 (Retry-After 헤더 참고)"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping(value = "/sse/relay", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> templateSSERelay(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestBody TemplateCreateRequestDto templateCreateRequestDto) {
+        String queue = templateService.queueKey(userId(principal), templateCreateRequestDto.getSpaceId());
+        templateRateLimiter.acquire(userId(principal), templateCreateRequestDto.getSpaceId());
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(STREAM_NO_TIMEOUT);
+        Disposable subscription = sseStreamGuard
+                .downstreamRaw("relay", templateService.templateSSERelay(userId(principal), queue, templateCreateRequestDto))
+                // 서블릿 출력 스트림 쓰기는 블로킹이므로 Netty 이벤트 루프 밖에서 수행
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        chunk -> {
+                            try {
+                                emitter.send(chunk, MediaType.TEXT_EVENT_STREAM);
+                            } catch (IOException e) {
+                                throw Exceptions.propagate(e);
+                            }
+                        },
+                        emitter::completeWithError,
+                        emitter::complete);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        emitter.onCompletion(subscription::dispose);
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
     }
 
 
@@ -170,11 +310,13 @@ public class TemplateController {
    */
   @Operation(summary = "템플릿 저장", description = "템플릿을 저장합니다.")
   @ApiResponse(responseCode = "200", description = "성공적으로 템플릿이 저장됨")
+  @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님")
   @ApiResponse(responseCode = "404", description = "템플릿 또는 스페이스를 찾을 수 없음")
   @PostMapping("/save")
   public ResponseEntity<TemplateSaveResponseDto> saveTemplate(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
       @RequestBody TemplateSaveRequestDto request) {
-    TemplateSaveResponseDto response = templateService.saveTemplate(request);
+    TemplateSaveResponseDto response = templateService.saveTemplate(principal, request);
     return ResponseEntity.ok(response);
   }
 
@@ -211,4 +353,172 @@ public class TemplateController {
         List<TemplateListResponseDto> templates = templateService.getTemplateList(principal,spaceId);
         return ResponseEntity.ok(templates);
     }
+
+    /**
+     * 템플릿 목록 키셋 페이지 조회 API
+     *
+     * @param spaceId 스페이스 ID
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 페이지 크기
+     * @return 템플릿 목록 페이지
+     */
+    @Operation(
+            summary = "템플릿 목록 페이지 조회",
+            description = "스페이스 템플릿의 제목과 변수화된 템플릿을 최신순으로 한 페이지씩 반환합니다. "
+                    + "다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님")
+    })
+    @GetMapping("/list/page")
+    public ResponseEntity<TemplatePageResponseDto<TemplateListResponseDto>> getTemplateListPage(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(templateService.getTemplateListPage(principal, spaceId, cursor, size));
+    }
+
+    /**
+     * 템플릿 요약 키셋 페이지 조회 API
+     *
+     * @param spaceId 스페이스 ID
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 페이지 크기
+     * @return 템플릿 요약(id, 제목, 생성일시) 페이지
+     */
+    @Operation(
+            summary = "템플릿 요약 페이지 조회",
+            description = "스페이스 템플릿의 ID, 제목, 생성일시를 최신순으로 한 페이지씩 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님"),
+            @ApiResponse(responseCode = "404", description = "스페이스를 찾을 수 없음")
+    })
+    @GetMapping("/summaries")
+    public ResponseEntity<TemplatePageResponseDto<TemplateSummaryResponseDto>> getTemplateSummaryPage(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(templateService.getTemplateSummaryPage(principal, spaceId, cursor, size));
+    }
+
+    /**
+     * 템플릿 전문 검색 API
+     *
+     * @param spaceId 스페이스 ID
+     * @param q 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 점수 내림차순 검색 결과
+     */
+    @Operation(
+            summary = "템플릿 검색",
+            description = "스페이스에 저장된 템플릿을 제목, 설명, 본문으로 검색합니다. "
+                    + "검색어의 모든 단어를 포함한 템플릿을 관련도 순으로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어가 비어 있음"),
+            @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<TemplateSearchResponseDto> searchTemplates(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+            @Parameter(description = "검색어", required = true) @RequestParam String q,
+            @Parameter(description = "페이지 번호 (0부터)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "0") int size
+    ) {
+        return ResponseEntity.ok(templateService.searchTemplates(principal, spaceId, q, page, size));
+    }
+
+    /**
+     * 유사 템플릿 조회 API
+     *
+     * @param spaceId 스페이스 ID
+     * @param templateId 기준 템플릿 ID
+     * @param minSimilarity 최소 유사도 (0~1)
+     * @param size 최대 결과 수
+     * @return 유사도 내림차순 결과
+     */
+    @Operation(
+            summary = "유사 템플릿 조회",
+            description = "같은 스페이스에서 본문이 비슷한 템플릿을 유사도(MinHash로 추정한 Jaccard) 순으로 반환합니다. "
+                    + "#{변수} 이름만 다른 템플릿은 같은 본문으로 봅니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "minSimilarity가 0~1 밖임"),
+            @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님"),
+            @ApiResponse(responseCode = "404", description = "템플릿이 없거나 본문이 비어 있음")
+    })
+    @GetMapping("/similar")
+    public ResponseEntity<TemplateSimilarResponseDto> findSimilarTemplates(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+            @Parameter(description = "기준 템플릿 ID", required = true) @RequestParam Long templateId,
+            @Parameter(description = "최소 유사도 (0~1, 기본 0.7)") @RequestParam(required = false) Double minSimilarity,
+            @Parameter(description = "최대 결과 수") @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(
+                templateService.findSimilarTemplates(principal, spaceId, templateId, minSimilarity, size));
+    }
+
+    /**
+     * 스페이스 변수 목록 API
+     *
+     * @param spaceId 스페이스 ID
+     * @return 변수별 사용 템플릿 수 (많이 쓰는 순)
+     */
+    @Operation(summary = "스페이스 변수 목록", description = "스페이스 템플릿에서 쓰이는 #{변수}와 변수별 사용 템플릿 수를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님")
+    })
+    @GetMapping("/variables")
+    public ResponseEntity<List<TemplateVariableUsageResponseDto>> getVariableUsage(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId
+    ) {
+        return ResponseEntity.ok(templateService.getVariableUsage(principal, spaceId));
+    }
+
+    /**
+     * 변수를 쓰는 템플릿 조회 API
+     *
+     * @param spaceId 스페이스 ID
+     * @param name 변수명
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 페이지 크기
+     * @return 템플릿 요약 페이지 (최신순)
+     */
+    @Operation(summary = "변수를 쓰는 템플릿 조회", description = "본문이나 editableVariables에 지정한 변수가 있는 템플릿을 최신순으로 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "변수명이 비어 있거나 커서가 잘못됨"),
+            @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님")
+    })
+    @GetMapping("/variables/templates")
+    public ResponseEntity<TemplatePageResponseDto<TemplateSummaryResponseDto>> getTemplatesByVariable(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+            @Parameter(description = "변수명 (#{} 제외)", required = true, example = "고객명") @RequestParam String name,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(templateService.getTemplatesByVariable(principal, spaceId, name, cursor, size));
+    }
+
+    /** 세션 상태를 사용자별로 구분하기 위한 ID. 인증 없이 열린 환경(permit-all)에서는 null */
+    private static Long userId(CustomUserDetails principal) {
+        return principal != null ? principal.getUserId() : null;
+    }
 }
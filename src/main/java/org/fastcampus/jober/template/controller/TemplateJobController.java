@@ -0,0 +1,125 @@
+package org.fastcampus.jober.template.controller;
+
+import java.net.URI;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+import org.fastcampus.jober.template.dto.request.TemplateCreateRequestDto;
+import org.fastcampus.jober.template.dto.response.TemplateJobResponseDto;
+import org.fastcampus.jober.template.service.TemplateJobService;
+import org.fastcampus.jober.template.service.TemplateRateLimiter;
+import org.fastcampus.jober.template.service.TemplateService;
+import org.fastcampus.jober.user.dto.CustomUserDetails;
+import org.fastcampus.jober.util.SseStreamGuard;
+
+/** 비동기 템플릿 생성 작업 API. 요청을 등록한 뒤 jobId로 상태를 조회(폴링)하거나 SSE로 완료를 구독합니다. */
+@Slf4j
+@Tag(name = "Template Job", description = "비동기 템플릿 생성 작업 API")
+@RestController
+@RequestMapping("/template/jobs")
+@RequiredArgsConstructor
+public class TemplateJobController {
+
+  private final TemplateJobService templateJobService;
+  private final TemplateService templateService;
+  private final SseStreamGuard sseStreamGuard;
+  private final TemplateRateLimiter templateRateLimiter;
+
+  /**
+   * 템플릿 생성 작업 등록 API. AI 서버 응답을 기다리지 않고 바로 jobId를 반환합니다.
+   *
+   * @param request 템플릿 생성 요청 DTO
+   * @return 등록된 작업 상태
+   */
+  @Operation(
+      summary = "템플릿 생성 작업 등록",
+      description = "템플릿 생성 요청을 작업 큐에 등록하고 jobId를 반환합니다. 결과는 상태 조회 또는 SSE 구독으로 받습니다.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "202",
+        description = "작업 등록 성공",
+        content = @Content(schema = @Schema(implementation = TemplateJobResponseDto.class))),
+    @ApiResponse(responseCode = "403", description = "spaceId를 보냈지만 스페이스 멤버가 아님"),
+    @ApiResponse(responseCode = "429", description = "대기 중인 작업이 너무 많거나 사용자/스페이스 요청 한도 초과")
+  })
+  @PostMapping
+  public ResponseEntity<TemplateJobResponseDto> submit(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @RequestBody TemplateCreateRequestDto request) {
+    // 멤버가 아닌 스페이스의 버킷을 비우지 못하도록 등록 시점에 먼저 확인 (실행 시점에 다시 확인)
+    templateService.queueKey(principal.getUserId(), request.getSpaceId());
+    templateRateLimiter.acquire(principal.getUserId(), request.getSpaceId());
+    TemplateJobResponseDto job = templateJobService.submit(principal.getUserId(), request);
+    return ResponseEntity.accepted().location(URI.create("/template/jobs/" + job.getJobId())).body(job);
+  }
+
+  /**
+   * 템플릿 생성 작업 상태 조회 API. 작업을 등록한 사용자만 조회할 수 있습니다.
+   *
+   * @param jobId 작업 ID
+   * @return 작업 상태 (완료 시 결과 포함)
+   */
+  @Operation(summary = "템플릿 생성 작업 조회", description = "작업 상태를 조회합니다. SUCCEEDED이면 생성 결과를 함께 반환합니다.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "조회 성공",
+        content = @Content(schema = @Schema(implementation = TemplateJobResponseDto.class))),
+    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (다른 사용자의 작업 포함)")
+  })
+  @GetMapping("/{jobId}")
+  public ResponseEntity<TemplateJobResponseDto> get(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @Parameter(description = "작업 ID", required = true) @PathVariable(name = "jobId")
+          String jobId) {
+    return ResponseEntity.ok(templateJobService.get(principal.getUserId(), jobId));
+  }
+
+  /**
+   * 템플릿 생성 작업 구독 API. 현재 상태를 보내고, 작업이 끝나면 최종 상태를 보낸 뒤 스트림을 닫습니다. 작업을 등록한 사용자만
+   * 구독할 수 있습니다.
+   *
+   * @param jobId 작업 ID
+   * @return 작업 상태 SSE 스트림
+   */
+  @Operation(
+      summary = "템플릿 생성 작업 구독 (SSE)",
+      description = "현재 작업 상태와 완료 상태를 SSE로 전송합니다. 구독 제한 시간이 지나면 그 시점의 상태를 보내고 종료합니다.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "SSE 연결 성공",
+        content =
+            @Content(
+                mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                schema = @Schema(implementation = TemplateJobResponseDto.class))),
+    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (다른 사용자의 작업 포함)")
+  })
+  @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Flux<ServerSentEvent<TemplateJobResponseDto>> subscribe(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @Parameter(description = "작업 ID", required = true) @PathVariable(name = "jobId")
+          String jobId) {
+    return sseStreamGuard.downstream("job", templateJobService.subscribe(principal.getUserId(), jobId));
+  }
+}
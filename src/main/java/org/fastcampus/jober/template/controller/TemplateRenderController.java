@@ -0,0 +1,105 @@
+package org.fastcampus.jober.template.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.fastcampus.jober.template.dto.response.TemplateRenderPreviewResponseDto;
+import org.fastcampus.jober.template.service.CompiledTemplate;
+import org.fastcampus.jober.template.service.TemplateRenderService;
+import org.fastcampus.jober.user.dto.CustomUserDetails;
+
+/** 저장된 템플릿의 #{변수}를 스페이스 연락처로 채우는 API. 미리보기는 일부 연락처만, 내보내기는 전체를 스트리밍합니다. */
+@Tag(name = "Template Render", description = "템플릿 변수 렌더링 API")
+@RestController
+@RequestMapping("/template/render")
+@RequiredArgsConstructor
+public class TemplateRenderController {
+
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+  private final TemplateRenderService templateRenderService;
+
+  /**
+   * 템플릿 렌더링 미리보기 API
+   *
+   * @param spaceId 스페이스 ID
+   * @param templateId 템플릿 ID
+   * @param tag 연락처 태그 (없으면 전체)
+   * @param size 미리볼 연락처 수
+   * @return 변수 목록과 연락처별 렌더링 결과
+   */
+  @Operation(
+      summary = "템플릿 렌더링 미리보기",
+      description = "스페이스 연락처 앞쪽 일부로 템플릿의 #{변수}를 채운 결과를 반환합니다.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "미리보기 성공"),
+    @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님"),
+    @ApiResponse(responseCode = "404", description = "템플릿을 찾을 수 없음")
+  })
+  @GetMapping("/preview")
+  public ResponseEntity<TemplateRenderPreviewResponseDto> preview(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+      @Parameter(description = "템플릿 ID", required = true) @RequestParam Long templateId,
+      @Parameter(description = "연락처 태그") @RequestParam(required = false) String tag,
+      @Parameter(description = "미리볼 연락처 수 (기본 20, 최대 100)") @RequestParam(required = false)
+          Integer size) {
+    return ResponseEntity.ok(templateRenderService.preview(principal, spaceId, templateId, tag, size));
+  }
+
+  /**
+   * 템플릿 렌더링 내보내기 API. 권한/템플릿 확인은 응답을 시작하기 전에 끝내고, 본문은 연락처를 배치로 읽어 가며 씁니다.
+   *
+   * @param spaceId 스페이스 ID
+   * @param templateId 템플릿 ID
+   * @param tag 연락처 태그 (없으면 전체)
+   * @return 연락처 한 명당 한 줄인 NDJSON 스트림
+   */
+  @Operation(
+      summary = "템플릿 렌더링 내보내기",
+      description =
+          "스페이스 연락처 전체(또는 태그)로 템플릿의 #{변수}를 채워 NDJSON으로 내려받습니다."
+              + " 한 줄: {\"contactId\", \"name\", \"phoneNum\", \"text\"}")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "내보내기 시작",
+        content = @Content(mediaType = "application/x-ndjson")),
+    @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님"),
+    @ApiResponse(responseCode = "404", description = "템플릿을 찾을 수 없음")
+  })
+  @GetMapping(value = "/export", produces = "application/x-ndjson")
+  public ResponseEntity<StreamingResponseBody> export(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+      @Parameter(description = "템플릿 ID", required = true) @RequestParam Long templateId,
+      @Parameter(description = "연락처 태그") @RequestParam(required = false) String tag) {
+    CompiledTemplate template = templateRenderService.prepare(principal, spaceId, templateId);
+    StreamingResponseBody body = out -> templateRenderService.export(template, spaceId, tag, out);
+    return ResponseEntity.ok()
+        .contentType(NDJSON)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename("template-" + templateId + "-render.ndjson")
+                .build()
+                .toString())
+        .body(body);
+  }
+}
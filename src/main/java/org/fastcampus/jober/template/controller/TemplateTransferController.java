@@ -0,0 +1,102 @@
+package org.fastcampus.jober.template.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+import org.fastcampus.jober.template.dto.response.TemplateImportResponseDto;
+import org.fastcampus.jober.template.service.TemplateTransferService;
+import org.fastcampus.jober.user.dto.CustomUserDetails;
+
+/** 스페이스 템플릿을 NDJSON으로 한 번에 내보내고 가져오는 API. 요청/응답 본문을 스트리밍으로 처리합니다. */
+@Tag(name = "Template Transfer", description = "템플릿 가져오기/내보내기 API")
+@RestController
+@RequestMapping("/template/transfer")
+@RequiredArgsConstructor
+public class TemplateTransferController {
+
+  private static final String NDJSON_VALUE = "application/x-ndjson";
+
+  private final TemplateTransferService templateTransferService;
+
+  /**
+   * 템플릿 내보내기 API. 권한 확인은 응답을 시작하기 전에 끝내고, 본문은 템플릿을 스트림으로 읽어 가며 씁니다. 템플릿이 많으면
+   * 오래 걸리므로 비동기 요청 타임아웃이 없는 요청 스레드에서 바로 씁니다.
+   *
+   * @param spaceId 스페이스 ID
+   * @param response 템플릿 한 건당 한 줄인 NDJSON을 쓸 응답 (id 순)
+   */
+  @Operation(
+      summary = "템플릿 내보내기",
+      description =
+          "스페이스의 삭제되지 않은 템플릿 전체를 NDJSON으로 내려받습니다. 한 줄: {\"templateId\", \"title\","
+              + " \"description\", \"type\", \"template\", \"structuredTemplate\", \"editableVariables\","
+              + " \"hasImage\", \"createdAt\"}")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "내보내기 시작",
+        content = @Content(mediaType = "application/x-ndjson")),
+    @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님")
+  })
+  @GetMapping(value = "/export", produces = NDJSON_VALUE)
+  public void export(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+      HttpServletResponse response)
+      throws IOException {
+    templateTransferService.requireMember(principal, spaceId);
+    response.setContentType(NDJSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment().filename("space-" + spaceId + "-templates.ndjson").build().toString());
+    templateTransferService.export(spaceId, response.getOutputStream());
+  }
+
+  /**
+   * 템플릿 가져오기 API. 요청 본문을 한 줄씩 읽어 배치 단위로 저장합니다.
+   *
+   * @param spaceId 가져올 스페이스 ID
+   * @param body 내보내기와 같은 형식의 NDJSON
+   * @return 저장/건너뜀 건수
+   */
+  @Operation(
+      summary = "템플릿 가져오기",
+      description =
+          "NDJSON 한 줄을 새 템플릿 하나로 저장합니다. 내보내기 파일을 그대로 올릴 수 있으며 templateId, createdAt은"
+              + " 무시합니다. 형식이 잘못된 줄은 건너뛰고, 이미 저장된 배치는 뒤에서 실패해도 남습니다.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "가져오기 완료"),
+    @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님"),
+    @ApiResponse(responseCode = "404", description = "스페이스를 찾을 수 없음")
+  })
+  @PostMapping(value = "/import", consumes = NDJSON_VALUE)
+  public ResponseEntity<TemplateImportResponseDto> importTemplates(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+      InputStream body)
+      throws IOException {
+    templateTransferService.requireMember(principal, spaceId);
+    return ResponseEntity.ok(templateTransferService.importTemplates(principal, spaceId, body));
+  }
+}
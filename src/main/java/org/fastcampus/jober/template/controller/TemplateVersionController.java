@@ -0,0 +1,101 @@
+package org.fastcampus.jober.template.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.fastcampus.jober.template.dto.request.TemplateVersionRestoreRequestDto;
+import org.fastcampus.jober.template.dto.response.TemplateVersionDetailResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateVersionResponseDto;
+import org.fastcampus.jober.template.service.TemplateVersionService;
+import org.fastcampus.jober.user.dto.CustomUserDetails;
+
+/** 템플릿 버전 API. /template/save에 templateId를 넘겨 저장할 때마다 버전이 하나씩 쌓입니다. */
+@Tag(name = "Template Version", description = "템플릿 버전 조회/복원 API")
+@RestController
+@RequestMapping("/template/versions")
+@RequiredArgsConstructor
+public class TemplateVersionController {
+
+  private final TemplateVersionService templateVersionService;
+
+  /**
+   * 템플릿 버전 목록 조회 API
+   *
+   * @param spaceId 스페이스 ID
+   * @param templateId 템플릿 ID
+   * @return 최신순 버전 목록
+   */
+  @Operation(summary = "템플릿 버전 목록 조회", description = "템플릿의 저장 이력을 최신 버전부터 반환합니다.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "조회 성공"),
+    @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님"),
+    @ApiResponse(responseCode = "404", description = "템플릿 또는 스페이스를 찾을 수 없음")
+  })
+  @GetMapping
+  public ResponseEntity<List<TemplateVersionResponseDto>> getVersions(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+      @Parameter(description = "템플릿 ID", required = true) @RequestParam Long templateId) {
+    return ResponseEntity.ok(templateVersionService.getVersions(principal, spaceId, templateId));
+  }
+
+  /**
+   * 템플릿 버전 내용 조회 API
+   *
+   * @param version 버전 번호
+   * @param spaceId 스페이스 ID
+   * @param templateId 템플릿 ID
+   * @return 해당 버전의 템플릿 내용
+   */
+  @Operation(summary = "템플릿 버전 내용 조회", description = "지정한 버전의 템플릿 내용을 반환합니다.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "조회 성공"),
+    @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님"),
+    @ApiResponse(responseCode = "404", description = "템플릿 또는 버전을 찾을 수 없음")
+  })
+  @GetMapping("/{version}")
+  public ResponseEntity<TemplateVersionDetailResponseDto> getVersion(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @Parameter(description = "버전 번호", required = true) @PathVariable Integer version,
+      @Parameter(description = "스페이스 ID", required = true) @RequestParam Long spaceId,
+      @Parameter(description = "템플릿 ID", required = true) @RequestParam Long templateId) {
+    return ResponseEntity.ok(templateVersionService.getVersion(principal, spaceId, templateId, version));
+  }
+
+  /**
+   * 템플릿 버전 복원 API
+   *
+   * @param request 스페이스 ID, 템플릿 ID, 되돌릴 버전
+   * @return 새로 기록된 버전의 내용
+   */
+  @Operation(
+      summary = "템플릿 버전 복원",
+      description = "템플릿을 지정한 버전의 내용으로 되돌립니다. 이력은 지우지 않고 새 버전으로 기록합니다.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "복원 성공"),
+    @ApiResponse(responseCode = "403", description = "스페이스 멤버가 아님"),
+    @ApiResponse(responseCode = "404", description = "템플릿 또는 버전을 찾을 수 없음")
+  })
+  @PostMapping("/restore")
+  public ResponseEntity<TemplateVersionDetailResponseDto> restore(
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+      @RequestBody TemplateVersionRestoreRequestDto request) {
+    return ResponseEntity.ok(templateVersionService.restore(principal, request));
+  }
+}
@@ -21,9 +21,21 @@ public class TemplateCreateRequestDto {
   private String message;
 
   @JsonProperty("state")
-  @Schema(description = "AI 세션 상태 정보")
+  @Schema(description = "AI 세션 상태 정보 (sessionId를 보내면 생략 가능)")
   private TemplateState state;
 
+  @JsonProperty("sessionId")
+  @Schema(
+      description = "AI 대화 세션 ID (Template.sessionId). state를 생략하면 서버에 보관된 마지막 상태를 사용합니다.",
+      example = "3b6f1c2e-8a4d-4f7b-9c1e-5d2a7f0e6b13")
+  private String sessionId;
+
+  @JsonProperty("spaceId")
+  @Schema(
+      description = "요청한 스페이스 ID (AI 호출 공정 분배 기준, 멤버인 스페이스만 가능. AI 서버로는 전달되지 않음)",
+      example = "1")
+  private Long spaceId;
+
   /**
    * AI Flask 서버 요청용 Map 객체로 변환합니다. 데이터 변환과 null 처리 책임을 DTO가 담당합니다.
    *
@@ -0,0 +1,52 @@
+package org.fastcampus.jober.template.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import org.fastcampus.jober.template.entity.Template;
+
+/** 템플릿 가져오기 NDJSON 한 줄. 내보내기 줄의 templateId, createdAt 등 나머지 필드는 무시합니다. */
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TemplateImportLineDto {
+
+    @Schema(description = "템플릿 제목", example = "신규 가입 환영 메시지")
+    private String title;
+
+    @Schema(description = "템플릿 설명", example = "회원가입 직후 발송하는 알림톡")
+    private String description;
+
+    @Schema(description = "템플릿 타입", example = "환영/알림")
+    private String type;
+
+    @Schema(description = "템플릿 원본 내용", example = "안녕하세요, #{고객명}님!")
+    private String template;
+
+    @Schema(description = "구조화된 템플릿 객체 (JSON 문자열 형태)")
+    private String structuredTemplate;
+
+    @Schema(description = "편집 가능한 변수 객체 (JSON 문자열 형태)")
+    private String editableVariables;
+
+    @Schema(description = "이미지 포함 여부", example = "false")
+    private Boolean hasImage;
+
+    /**
+     * 가져올 스페이스의 새 템플릿으로 변환합니다.
+     *
+     * @param spaceId 가져올 스페이스 ID
+     * @return Template 엔티티 (저장 전)
+     */
+    public Template toEntity(Long spaceId) {
+        return Template.builder()
+                .spaceId(spaceId)
+                .title(title)
+                .description(description)
+                .type(type)
+                .template(template)
+                .structuredTemplate(structuredTemplate)
+                .editableVariables(editableVariables)
+                .hasImage(hasImage)
+                .build();
+    }
+}
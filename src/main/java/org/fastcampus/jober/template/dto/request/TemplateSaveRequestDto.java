@@ -3,6 +3,7 @@ package org.fastcampus.jober.template.dto.request;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.entity.TemplateContent;
 
 @Getter
 public class TemplateSaveRequestDto {
@@ -10,6 +11,9 @@ public class TemplateSaveRequestDto {
     @Schema(description = "스페이스 ID", example = "1")
     private Long spaceId;
 
+    @Schema(description = "새 버전으로 저장할 기존 템플릿 ID (없으면 새 템플릿으로 저장)", example = "101")
+    private Long templateId;
+
     @Schema(description = "템플릿 제목", example = "새로운 템플릿 제목")
     private String title;
 
@@ -33,6 +37,9 @@ public class TemplateSaveRequestDto {
     @Schema(description = "이미지 포함 여부", example = "false")
     private Boolean hasImage;
 
+    @Schema(description = "템플릿을 생성한 AI 대화 세션 ID", example = "3b6f1c2e-8a4d-4f7b-9c1e-5d2a7f0e6b13")
+    private String sessionId;
+
     /**
      * DTO를 Template 엔티티로 변환합니다.
      *
@@ -48,6 +55,17 @@ public class TemplateSaveRequestDto {
                 .structuredTemplate(structuredTemplate) // 필드명 변경: finalTemplate -> structuredTemplate
                 .editableVariables(editableVariables) // 필드명 변경: extractedVariables -> editableVariables
                 .hasImage(hasImage) // 'hasImage' 필드 추가
+                .sessionId(sessionId)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 기존 템플릿의 새 버전으로 저장할 내용을 반환합니다.
+     *
+     * @return 버전 내용
+     */
+    public TemplateContent toContent() {
+        return new TemplateContent(
+                title, description, type, hasImage, template, structuredTemplate, editableVariables);
+    }
+}
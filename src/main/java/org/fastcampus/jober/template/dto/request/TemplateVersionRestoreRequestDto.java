@@ -0,0 +1,21 @@
+package org.fastcampus.jober.template.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateVersionRestoreRequestDto {
+
+  @Schema(description = "스페이스 ID", example = "1")
+  private Long spaceId;
+
+  @Schema(description = "템플릿 ID", example = "101")
+  private Long templateId;
+
+  @Schema(description = "되돌릴 버전 번호", example = "3")
+  private Integer version;
+}
@@ -0,0 +1,38 @@
+package org.fastcampus.jober.template.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 일괄 템플릿 생성 결과 한 건. 완료되는 순서대로 전송되므로 index로 요청 항목과 짝을 맞춥니다. */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TemplateBatchItemResponseDto {
+
+    @Schema(description = "요청 목록에서의 위치 (0부터 시작)", example = "0")
+    private int index;
+
+    @Schema(description = "AI 서버 호출 성공 여부", example = "true")
+    private boolean success;
+
+    @Schema(description = "AI 템플릿 생성 결과 (성공 시)")
+    private TemplateCreateResponseDto result;
+
+    @Schema(description = "실패 사유 (실패 시)", example = "AI Flask 서버 호출 중 오류가 발생했습니다")
+    private String error;
+
+    public static TemplateBatchItemResponseDto success(int index, TemplateCreateResponseDto result) {
+        return TemplateBatchItemResponseDto.builder().index(index).success(true).result(result).build();
+    }
+
+    public static TemplateBatchItemResponseDto failure(int index, String error) {
+        return TemplateBatchItemResponseDto.builder().index(index).success(false).error(error).build();
+    }
+}
@@ -3,6 +3,7 @@ package org.fastcampus.jober.template.dto.response;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -52,4 +53,9 @@ public class TemplateCreateResponseDto {
     // AI 서버의 'hasImage' 키에 해당합니다.
     @JsonProperty("hasImage")
     private Boolean hasImage;
+
+    // AI 서버 응답에는 없는 필드. 이 응답을 얻기까지 AI 서버로 보낸 시도 수 (재시도/헤지 포함, 캐시 적중 시 원래 호출 기준)
+    @JsonProperty("attempts")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer attempts;
 }
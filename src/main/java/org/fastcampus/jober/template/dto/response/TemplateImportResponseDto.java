@@ -0,0 +1,29 @@
+package org.fastcampus.jober.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 템플릿 NDJSON 가져오기 결과 DTO */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TemplateImportResponseDto {
+
+    @Schema(description = "새로 저장된 템플릿 수", example = "1000")
+    private long imported;
+
+    @Schema(description = "형식이 잘못되어 건너뛴 줄 수 (빈 줄 제외)", example = "2")
+    private long skipped;
+
+    @Schema(description = "커밋한 배치 수", example = "2")
+    private int batches;
+
+    @Schema(description = "건너뛴 줄의 사유 (앞쪽 일부만)", example = "[\"3번째 줄: 템플릿 내용이 비어 있습니다.\"]")
+    private List<String> errors;
+}
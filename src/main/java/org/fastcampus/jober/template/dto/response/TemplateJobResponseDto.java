@@ -0,0 +1,41 @@
+package org.fastcampus.jober.template.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.fastcampus.jober.template.entity.enums.JobStatus;
+
+/** 비동기 템플릿 생성 작업 상태 응답 DTO */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TemplateJobResponseDto {
+
+    @Schema(description = "작업 ID", example = "5f0c9a8e-2b1d-4c55-9e7a-0d6f3c1b2a90")
+    private String jobId;
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private JobStatus status;
+
+    @Schema(description = "실행 시도 횟수", example = "1")
+    private Integer attempts;
+
+    @Schema(description = "AI 템플릿 생성 결과 (SUCCEEDED일 때)")
+    private TemplateCreateResponseDto result;
+
+    @Schema(description = "실패 사유 (FAILED일 때)")
+    private String error;
+
+    @Schema(description = "작업 등록 일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "작업 완료 일시")
+    private LocalDateTime completedAt;
+}
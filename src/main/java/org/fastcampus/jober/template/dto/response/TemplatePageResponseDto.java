@@ -0,0 +1,31 @@
+package org.fastcampus.jober.template.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 템플릿 목록 키셋 페이지 응답 DTO. 최신 템플릿(id 역순)부터 반환하며 nextCursor로 다음 페이지를 요청합니다. */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TemplatePageResponseDto<T> {
+
+    @Schema(description = "이번 페이지 항목")
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 없음)", example = "MTo0Mg")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "적용된 페이지 크기", example = "20")
+    private int size;
+}
@@ -0,0 +1,49 @@
+package org.fastcampus.jober.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 템플릿 #{변수}를 스페이스 연락처로 채운 미리보기 응답 DTO */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TemplateRenderPreviewResponseDto {
+
+    @Schema(description = "템플릿 ID", example = "1")
+    private Long templateId;
+
+    @Schema(description = "본문에 나온 변수명", example = "[\"고객명\", \"쿠폰코드\"]")
+    private List<String> variables;
+
+    @Schema(description = "연락처 필드도 기본값도 없어 #{변수} 그대로 남는 변수명", example = "[]")
+    private List<String> unresolvedVariables;
+
+    @Schema(description = "연락처별 렌더링 결과 (연락처 ID 오름차순)")
+    private List<Item> items;
+
+    /** 연락처 한 명의 렌더링 결과 */
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Item {
+
+        @Schema(description = "연락처 ID", example = "10")
+        private Long contactId;
+
+        @Schema(description = "연락처 이름", example = "홍길동")
+        private String name;
+
+        @Schema(description = "연락처 전화번호", example = "010-1234-5678")
+        private String phoneNum;
+
+        @Schema(description = "변수를 채운 메시지", example = "안녕하세요, 홍길동님!")
+        private String text;
+    }
+}
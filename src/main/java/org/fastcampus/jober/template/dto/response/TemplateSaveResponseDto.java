@@ -2,6 +2,7 @@ package org.fastcampus.jober.template.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
 import java.util.Map;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -45,6 +46,12 @@ public class TemplateSaveResponseDto {
     @Schema(description = "이미지 포함 여부", example = "false")
     private Boolean hasImage;
 
+    @Schema(description = "이번 저장으로 기록된 버전 번호", example = "1")
+    private Integer version;
+
+    @Schema(description = "같은 스페이스에서 본문이 거의 같은 기존 템플릿 (중복 저장 경고용, 없으면 빈 목록)")
+    private List<TemplateSimilarResponseDto.Item> nearDuplicates;
+
     /**
      * Template 엔티티를 TemplateSaveResponseDto로 변환합니다.
      *
@@ -52,6 +59,30 @@ public class TemplateSaveResponseDto {
      * @return TemplateSaveResponseDto
      */
     public static TemplateSaveResponseDto from(Template template) {
+        return from(template, null);
+    }
+
+    /**
+     * Template 엔티티와 이번 저장으로 기록된 버전 번호로 TemplateSaveResponseDto를 생성합니다.
+     *
+     * @param template 템플릿 엔티티
+     * @param version 버전 번호
+     * @return TemplateSaveResponseDto
+     */
+    public static TemplateSaveResponseDto from(Template template, Integer version) {
+        return from(template, version, List.of());
+    }
+
+    /**
+     * Template 엔티티, 버전 번호, 중복 후보로 TemplateSaveResponseDto를 생성합니다.
+     *
+     * @param template 템플릿 엔티티
+     * @param version 버전 번호
+     * @param nearDuplicates 본문이 거의 같은 기존 템플릿
+     * @return TemplateSaveResponseDto
+     */
+    public static TemplateSaveResponseDto from(
+            Template template, Integer version, List<TemplateSimilarResponseDto.Item> nearDuplicates) {
         return TemplateSaveResponseDto.builder()
                 .id(template.getId()) // ID 필드 추가
                 .spaceId(template.getSpaceId())
@@ -62,6 +93,8 @@ public class TemplateSaveResponseDto {
                 .structuredTemplate(template.getStructuredTemplate())
                 .editableVariables(template.getEditableVariables())
                 .hasImage(template.getHasImage())
+                .version(version)
+                .nearDuplicates(nearDuplicates)
                 .build();
     }
 }
\ No newline at end of file
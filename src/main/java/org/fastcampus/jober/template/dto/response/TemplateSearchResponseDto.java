@@ -0,0 +1,49 @@
+package org.fastcampus.jober.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 템플릿 전문 검색 응답 DTO (점수 내림차순) */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TemplateSearchResponseDto {
+
+    @Schema(description = "검색 결과")
+    private List<Item> items;
+
+    @Schema(description = "페이지 번호 (0부터)", example = "0")
+    private int page;
+
+    @Schema(description = "이번 페이지 결과 수", example = "20")
+    private int size;
+
+    @Schema(description = "검색어와 일치한 전체 템플릿 수", example = "42")
+    private int totalHits;
+
+    /** 검색 결과 한 건 */
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Item {
+
+        @Schema(description = "템플릿 ID", example = "1")
+        private Long templateId;
+
+        @Schema(description = "템플릿 제목", example = "신규 가입 환영 메시지")
+        private String title;
+
+        @Schema(description = "템플릿 설명", example = "회원가입 직후 발송하는 알림톡")
+        private String description;
+
+        @Schema(description = "검색 점수 (BM25)", example = "7.31")
+        private float score;
+    }
+}
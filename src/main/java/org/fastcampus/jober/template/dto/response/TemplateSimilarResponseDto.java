@@ -0,0 +1,40 @@
+package org.fastcampus.jober.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 유사 템플릿 조회 응답 DTO (유사도 내림차순) */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TemplateSimilarResponseDto {
+
+    @Schema(description = "기준 템플릿 ID", example = "101")
+    private Long templateId;
+
+    @Schema(description = "본문이 비슷한 템플릿")
+    private List<Item> items;
+
+    /** 비슷한 템플릿 한 건 */
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Item {
+
+        @Schema(description = "템플릿 ID", example = "87")
+        private Long templateId;
+
+        @Schema(description = "템플릿 제목", example = "신규 가입 환영 메시지")
+        private String title;
+
+        @Schema(description = "본문 유사도 추정치 (MinHash Jaccard, 0~1)", example = "0.93")
+        private double similarity;
+    }
+}
@@ -0,0 +1,21 @@
+package org.fastcampus.jober.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 템플릿 목록 페이지 한 건 (본문 TEXT 컬럼 없이 조회하는 프로젝션) */
+@Getter
+@AllArgsConstructor
+public class TemplateSummaryResponseDto {
+
+    @Schema(description = "템플릿 ID", example = "1")
+    private Long templateId;
+
+    @Schema(description = "템플릿 제목", example = "카카오톡 알림 템플릿", maxLength = 120)
+    private String title;
+
+    @Schema(description = "생성 일시")
+    private LocalDateTime createdAt;
+}
@@ -42,4 +42,14 @@ public class TemplateTitleResponseDto {
   public static List<TemplateTitleResponseDto> fromList(List<Template> titles) {
     return titles.stream().map(TemplateTitleResponseDto::from).collect(Collectors.toList());
   }
+
+  /**
+   * 제목만 조회한 프로젝션으로부터 DTO 리스트를 생성합니다.
+   *
+   * @param titles 템플릿 제목 리스트
+   * @return TemplateTitleResponseDto 리스트
+   */
+  public static List<TemplateTitleResponseDto> fromTitles(List<String> titles) {
+    return titles.stream().map(title -> TemplateTitleResponseDto.builder().title(title).build()).toList();
+  }
 }
@@ -0,0 +1,17 @@
+package org.fastcampus.jober.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 스페이스에서 쓰이는 변수와 그 변수를 쓰는 템플릿 수 */
+@Getter
+@AllArgsConstructor
+public class TemplateVariableUsageResponseDto {
+
+    @Schema(description = "변수명", example = "고객명")
+    private String name;
+
+    @Schema(description = "이 변수를 쓰는 템플릿 수", example = "12")
+    private Long templateCount;
+}
@@ -0,0 +1,58 @@
+package org.fastcampus.jober.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.fastcampus.jober.template.entity.TemplateContent;
+
+/** 특정 버전의 템플릿 내용 응답 DTO */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TemplateVersionDetailResponseDto {
+
+    @Schema(description = "템플릿 ID", example = "101")
+    private Long templateId;
+
+    @Schema(description = "버전 번호", example = "3")
+    private Integer version;
+
+    @Schema(description = "템플릿 제목", example = "신규 가입 환영 메시지")
+    private String title;
+
+    @Schema(description = "템플릿 설명", example = "신규 가입 고객에게 보내는 환영 메시지입니다.")
+    private String description;
+
+    @Schema(description = "템플릿 타입", example = "환영 메시지")
+    private String type;
+
+    @Schema(description = "이미지 포함 여부", example = "false")
+    private Boolean hasImage;
+
+    @Schema(description = "템플릿 원본 내용", example = "안녕하세요, #{고객명}님!")
+    private String template;
+
+    @Schema(description = "구조화된 템플릿 객체 (JSON 문자열 형태)")
+    private String structuredTemplate;
+
+    @Schema(description = "편집 가능한 변수 객체 (JSON 문자열 형태)")
+    private String editableVariables;
+
+    public static TemplateVersionDetailResponseDto of(Long templateId, int version, TemplateContent content) {
+        return TemplateVersionDetailResponseDto.builder()
+                .templateId(templateId)
+                .version(version)
+                .title(content.title())
+                .description(content.description())
+                .type(content.type())
+                .hasImage(content.hasImage())
+                .template(content.template())
+                .structuredTemplate(content.structuredTemplate())
+                .editableVariables(content.editableVariables())
+                .build();
+    }
+}
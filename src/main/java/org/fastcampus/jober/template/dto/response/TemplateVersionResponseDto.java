@@ -0,0 +1,33 @@
+package org.fastcampus.jober.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 템플릿 버전 목록 한 건 (내용 제외) */
+@Getter
+@AllArgsConstructor
+public class TemplateVersionResponseDto {
+
+    @Schema(description = "버전 번호 (1부터)", example = "3")
+    private Integer version;
+
+    @Schema(description = "전체 스냅샷으로 저장된 버전인지 여부", example = "false")
+    private Boolean snapshot;
+
+    @Schema(description = "이 버전의 템플릿 제목", example = "신규 가입 환영 메시지")
+    private String title;
+
+    @Schema(description = "저장된 크기 (바이트)", example = "184")
+    private Integer storedBytes;
+
+    @Schema(description = "본문 전체 크기 (바이트)", example = "6240")
+    private Integer bodyBytes;
+
+    @Schema(description = "저장 일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "저장한 사용자")
+    private String createdBy;
+}
@@ -7,6 +7,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,13 +18,29 @@ import lombok.NoArgsConstructor;
 import lombok.Setter; // Setter를 추가하여 유연성을 확보하거나, 별도의 수정 메소드를 만듭니다.
 import org.fastcampus.jober.common.entity.BaseEntity;
 import org.fastcampus.jober.template.entity.enums.Status;
-
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 템플릿 엔티티. 스페이스별 목록은 (space_id, is_deleted, id) 인덱스를 따라 id 역순 키셋 페이지로 읽습니다. 운영 DB(ddl-auto:
+ * none)에는 아래 인덱스를 직접 만들어야 합니다.
+ *
+ * <pre>CREATE INDEX idx_template_space_deleted_id ON template (space_id, is_deleted, id);
+ * ALTER TABLE template ADD COLUMN similarity_signature VARBINARY(480) NULL;
+ * ALTER TABLE template ADD COLUMN variables_extracted BIT NOT NULL DEFAULT 0;
+ * UPDATE template t SET variables_extracted = 1
+ *   WHERE EXISTS (SELECT 1 FROM template_variable v WHERE v.template_id = t.id);
+ * CREATE INDEX idx_template_variables_extracted_id ON template (variables_extracted, id);</pre>
+ */
 @Getter
 @Setter // 빌더 외에 객체 수정을 위해 Setter 추가 (혹은 필요한 필드에만 별도 수정 메소드 추가)
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_template_space_deleted_id", columnList = "space_id, is_deleted, id"),
+    @Index(name = "idx_template_variables_extracted_id", columnList = "variables_extracted, id")
+})
 public class Template extends BaseEntity {
 
     @Id
@@ -62,6 +80,10 @@ public class Template extends BaseEntity {
 
     // --- ▲▲▲ 여기까지 수정/추가된 필드입니다 ▲▲▲ ---
 
+    /** 본문의 MinHash 서명 (유사 템플릿 찾기용, 저장할 때 계산). 이전에 저장된 행은 null이며 색인을 만들 때 본문에서 계산합니다. */
+    @Column(length = 480)
+    private byte[] similaritySignature;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isDeleted = false;
@@ -70,6 +92,12 @@ public class Template extends BaseEntity {
     @Builder.Default
     private Boolean isAccepted = false;
 
+    /** 변수 행(template_variable)을 만든 적이 있으면 true. 변수가 하나도 없는 템플릿도 시작 시 채우기에서 다시 읽지 않게 합니다. */
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    @Builder.Default
+    private Boolean variablesExtracted = false;
+
     /** 템플릿 삭제 권한 검증 */
     public void validateDeletePermission(Long spaceId) {
         if (this.isDeleted) {
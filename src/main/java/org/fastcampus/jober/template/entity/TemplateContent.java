@@ -0,0 +1,45 @@
+package org.fastcampus.jober.template.entity;
+
+import java.nio.charset.StandardCharsets;
+
+/** 버전으로 기록하는 템플릿 내용. 제목 등 짧은 필드는 버전마다 그대로, 본문 세 필드는 변경분으로 저장합니다. */
+public record TemplateContent(
+    String title,
+    String description,
+    String type,
+    Boolean hasImage,
+    String template,
+    String structuredTemplate,
+    String editableVariables) {
+
+  public static TemplateContent from(Template template) {
+    return new TemplateContent(
+        template.getTitle(),
+        template.getDescription(),
+        template.getType(),
+        template.getHasImage(),
+        template.getTemplate(),
+        template.getStructuredTemplate(),
+        template.getEditableVariables());
+  }
+
+  /** 이 내용으로 템플릿(계보의 현재 버전)을 덮어씁니다. */
+  public void applyTo(Template target) {
+    target.setTitle(title);
+    target.setDescription(description);
+    target.setType(type);
+    target.setHasImage(hasImage);
+    target.setTemplate(template);
+    target.setStructuredTemplate(structuredTemplate);
+    target.setEditableVariables(editableVariables);
+  }
+
+  /** 본문 세 필드의 UTF-8 바이트 수 (전체 복사로 저장했을 때의 크기) */
+  public int bodySize() {
+    return utf8Length(template) + utf8Length(structuredTemplate) + utf8Length(editableVariables);
+  }
+
+  private static int utf8Length(String value) {
+    return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+  }
+}
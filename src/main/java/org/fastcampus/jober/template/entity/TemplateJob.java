@@ -0,0 +1,114 @@
+package org.fastcampus.jober.template.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.fastcampus.jober.common.entity.BaseEntity;
+import org.fastcampus.jober.template.entity.enums.JobStatus;
+
+/**
+ * 비동기 템플릿 생성 작업. 요청과 결과를 JSON으로 보관하므로 서버가 재시작되어도 대기/실행 중이던 작업을 다시 실행할 수 있습니다.
+ * 작업을 등록한 사용자만 조회/구독할 수 있습니다.
+ *
+ * <p>운영 DB(ddl-auto: none)에는 아래 테이블을 직접 만들어야 합니다.
+ *
+ * <pre>
+ * CREATE TABLE template_job (
+ *   id VARCHAR(36) PRIMARY KEY,
+ *   user_id BIGINT NOT NULL, status VARCHAR(20) NOT NULL,
+ *   request_payload TEXT NOT NULL, result_payload TEXT, error_message VARCHAR(500),
+ *   attempts INT NOT NULL, started_at DATETIME(6), completed_at DATETIME(6),
+ *   created_at DATETIME(6), updated_at DATETIME(6), created_by VARCHAR(255), updated_by VARCHAR(255));
+ * CREATE INDEX idx_template_job_status ON template_job (status);
+ * </pre>
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "template_job", indexes = @Index(name = "idx_template_job_status", columnList = "status"))
+public class TemplateJob extends BaseEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    // 작업을 등록한 사용자
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String requestPayload; // TemplateCreateRequestDto JSON
+
+    @Column(columnDefinition = "TEXT")
+    private String resultPayload; // TemplateCreateResponseDto JSON
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    /** 새 작업을 대기 상태로 생성합니다. */
+    public static TemplateJob queued(Long userId, String requestPayload) {
+        return TemplateJob.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .status(JobStatus.QUEUED)
+                .requestPayload(requestPayload)
+                .build();
+    }
+
+    /** 워커가 작업을 가져갔을 때 호출합니다. */
+    public void start() {
+        this.status = JobStatus.RUNNING;
+        this.attempts = this.attempts + 1;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void succeed(String resultPayload) {
+        this.status = JobStatus.SUCCEEDED;
+        this.resultPayload = resultPayload;
+        this.errorMessage = null;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /** 작업을 등록한 사용자인지 확인합니다. */
+    public boolean isOwnedBy(Long userId) {
+        return this.userId != null && this.userId.equals(userId);
+    }
+
+    public void fail(String errorMessage) {
+        this.status = JobStatus.FAILED;
+        this.errorMessage =
+                errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /** 재시작으로 중단된 작업을 다시 대기 상태로 돌립니다. */
+    public void requeue() {
+        this.status = JobStatus.QUEUED;
+        this.startedAt = null;
+    }
+}
@@ -0,0 +1,67 @@
+package org.fastcampus.jober.template.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 템플릿이 쓰는 변수 한 개. 본문의 #{변수}와 editableVariables의 키를 템플릿 저장 때마다 정규화해 두는 파생 데이터이며, "변수 X를
+ * 쓰는 템플릿" 조회를 (space_id, name) 인덱스로 처리합니다. 원본은 여전히 Template의 template/editableVariables 컬럼입니다.
+ *
+ * <p>운영 DB(ddl-auto: none)에는 아래 테이블을 직접 만들어야 합니다. 기존 템플릿은 애플리케이션 시작 시 채워집니다
+ * (template.variables.backfill-on-startup).
+ *
+ * <pre>
+ * CREATE TABLE template_variable (
+ *   id BIGINT AUTO_INCREMENT PRIMARY KEY,
+ *   template_id BIGINT NOT NULL, space_id BIGINT NOT NULL,
+ *   name VARCHAR(100) NOT NULL, default_value VARCHAR(255), in_body BIT NOT NULL,
+ *   CONSTRAINT uk_template_variable UNIQUE (template_id, name));
+ * CREATE INDEX idx_template_variable_space_name ON template_variable (space_id, name, template_id);
+ * </pre>
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    name = "template_variable",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_template_variable", columnNames = {"template_id", "name"}),
+    indexes =
+        @Index(name = "idx_template_variable_space_name", columnList = "space_id, name, template_id"))
+public class TemplateVariable {
+
+    public static final int MAX_NAME_LENGTH = 100;
+    public static final int MAX_DEFAULT_VALUE_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long templateId;
+
+    @Column(nullable = false)
+    private Long spaceId;
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
+    private String name;
+
+    @Column(length = MAX_DEFAULT_VALUE_LENGTH)
+    private String defaultValue; // editableVariables의 값 (길면 잘라서 저장)
+
+    @Column(nullable = false)
+    private Boolean inBody; // 본문에 #{name}으로 나오는지 (false면 editableVariables에만 있음)
+}
@@ -0,0 +1,82 @@
+package org.fastcampus.jober.template.entity;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.fastcampus.jober.common.entity.BaseEntity;
+
+/**
+ * 템플릿 버전. 같은 templateId(계보)의 저장마다 1씩 늘어나며, payload는 전체 스냅샷(gzip)이거나 직전 버전에 대한 변경분입니다.
+ * 스냅샷은 일정 간격마다 남기므로 어떤 버전이든 스냅샷 1개와 변경분 몇 개로 복원됩니다 (TemplateVersionCodec 참고).
+ *
+ * <p>운영 DB(ddl-auto: none)에는 아래 테이블을 직접 만들어야 합니다.
+ *
+ * <pre>
+ * CREATE TABLE template_version (
+ *   id BIGINT AUTO_INCREMENT PRIMARY KEY,
+ *   template_id BIGINT NOT NULL, space_id BIGINT NOT NULL, version INT NOT NULL, snapshot BIT NOT NULL,
+ *   title VARCHAR(120), description VARCHAR(255), type VARCHAR(255), has_image BIT,
+ *   payload MEDIUMBLOB NOT NULL, payload_size INT NOT NULL, body_size INT NOT NULL,
+ *   created_at DATETIME(6), updated_at DATETIME(6), created_by VARCHAR(255), updated_by VARCHAR(255),
+ *   CONSTRAINT uk_template_version UNIQUE (template_id, version));
+ * </pre>
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    name = "template_version",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_template_version", columnNames = {"template_id", "version"}))
+public class TemplateVersion extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long templateId;
+
+    @Column(nullable = false)
+    private Long spaceId;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Column(nullable = false)
+    private Boolean snapshot;
+
+    @Column(length = 120)
+    private String title;
+
+    private String description;
+
+    private String type;
+
+    private Boolean hasImage;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false, length = 16_777_215)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private Integer payloadSize; // payload 바이트 수
+
+    @Column(nullable = false)
+    private Integer bodySize; // 본문 세 필드를 전체 복사했을 때의 바이트 수
+}
@@ -0,0 +1,13 @@
+package org.fastcampus.jober.template.entity.enums;
+
+// 비동기 템플릿 생성 작업 상태
+public enum JobStatus {
+  QUEUED,
+  RUNNING,
+  SUCCEEDED,
+  FAILED;
+
+  public boolean isTerminal() {
+    return this == SUCCEEDED || this == FAILED;
+  }
+}
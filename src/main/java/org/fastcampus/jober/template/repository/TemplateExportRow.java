@@ -0,0 +1,15 @@
+package org.fastcampus.jober.template.repository;
+
+import java.time.LocalDateTime;
+
+/** 템플릿 내보내기 한 줄에 쓰는 필드만 담은 행. 엔티티가 아니므로 스트리밍 중 영속성 컨텍스트에 쌓이지 않습니다. */
+public record TemplateExportRow(
+    Long templateId,
+    String title,
+    String description,
+    String type,
+    String template,
+    String structuredTemplate,
+    String editableVariables,
+    Boolean hasImage,
+    LocalDateTime createdAt) {}
@@ -0,0 +1,22 @@
+package org.fastcampus.jober.template.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.fastcampus.jober.template.entity.TemplateJob;
+import org.fastcampus.jober.template.entity.enums.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/** 비동기 템플릿 생성 작업 저장소 */
+@Repository
+public interface TemplateJobRepository extends JpaRepository<TemplateJob, String> {
+
+  /**
+   * 지정한 상태의 작업들을 생성 순서대로 조회 (재시작 시 미완료 작업 복구용)
+   *
+   * @param statuses 조회할 상태 목록
+   * @return 작업 목록
+   */
+  List<TemplateJob> findByStatusInOrderByCreatedAtAsc(Collection<JobStatus> statuses);
+}
@@ -1,12 +1,19 @@
 package org.fastcampus.jober.template.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.fastcampus.jober.template.dto.response.TemplateListResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateSummaryResponseDto;
 import org.fastcampus.jober.template.entity.Template;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,8 +34,30 @@ public interface TemplateRepository extends JpaRepository<Template, Long> {
   List<Template> findBySpaceId(
       @Parameter(description = "스페이스 ID", required = true) @Param("spaceId") Long spaceId);
 
+  /**
+   * 특정 spaceId의 템플릿 제목만 조회 (findBySpaceId와 같은 대상, TEXT 컬럼 제외)
+   *
+   * @param spaceId 스페이스 ID
+   * @return 템플릿 제목 리스트
+   */
+  @Query("SELECT t.title FROM Template t WHERE t.spaceId = :spaceId")
+  List<String> findTitlesBySpaceId(@Param("spaceId") Long spaceId);
+
   Optional<Template> findByIdAndSpaceId(Long id, Long spaceId);
 
+  boolean existsByIdAndSpaceIdAndIsDeletedFalse(Long id, Long spaceId);
+
+  /**
+   * 새 버전을 기록하기 위해 삭제되지 않은 템플릿을 쓰기 잠금으로 조회 (같은 계보에 동시에 저장해도 버전 번호가 겹치지 않도록)
+   *
+   * @param id 템플릿 ID
+   * @param spaceId 스페이스 ID
+   * @return 템플릿 엔티티
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT t FROM Template t WHERE t.id = :id AND t.spaceId = :spaceId AND t.isDeleted = false")
+  Optional<Template> findActiveForUpdate(@Param("id") Long id, @Param("spaceId") Long spaceId);
+
     /**
      * 특정 spaceId와 templateId의 템플릿을 조회 (completedAt(생성일시) 제외 모든 필드 조회)
      * @param spaceId 스페이스 ID
@@ -51,4 +80,102 @@ AND sm.user.userId = :userId
 AND t.isDeleted = false
 """)
   List<TemplateListResponseDto> findAllBySpaceIdAndUserId(@Param("userId") Long userId, @Param("spaceId") Long spaceId);
+
+  /**
+   * 스페이스의 삭제되지 않은 템플릿을 검색 색인용 필드만 조회
+   *
+   * @param spaceId 스페이스 ID
+   * @return 색인 문서 리스트
+   */
+  @Query("""
+SELECT new org.fastcampus.jober.template.repository.TemplateSearchDocument(
+  t.id, t.spaceId, t.title, t.description, t.template)
+FROM Template t
+WHERE t.spaceId = :spaceId
+AND t.isDeleted = false
+""")
+  List<TemplateSearchDocument> findSearchDocumentsBySpaceId(@Param("spaceId") Long spaceId);
+
+  /**
+   * 스페이스의 유사 템플릿 색인 행 조회. 서명이 저장된 행은 본문을 읽지 않습니다.
+   *
+   * @param spaceId 스페이스 ID
+   * @return 색인 행 리스트
+   */
+  @Query("""
+SELECT new org.fastcampus.jober.template.repository.TemplateSimilarityRow(
+  t.id, t.title, t.similaritySignature,
+  CASE WHEN t.similaritySignature IS NULL THEN t.template ELSE NULL END)
+FROM Template t
+WHERE t.spaceId = :spaceId
+AND t.isDeleted = false
+""")
+  List<TemplateSimilarityRow> findSimilarityRowsBySpaceId(@Param("spaceId") Long spaceId);
+
+  /**
+   * 스페이스의 템플릿 요약을 id 역순 키셋 페이지로 조회 (idx_template_space_deleted_id 사용)
+   *
+   * @param spaceId 스페이스 ID
+   * @param cursor 이 id 미만만 조회 (첫 페이지는 Long.MAX_VALUE)
+   * @param limit 조회 건수
+   * @return 템플릿 요약 리스트
+   */
+  @Query("""
+SELECT new org.fastcampus.jober.template.dto.response.TemplateSummaryResponseDto(
+  t.id, t.title, t.createdAt)
+FROM Template t
+WHERE t.spaceId = :spaceId
+AND t.isDeleted = false
+AND t.id < :cursor
+ORDER BY t.id DESC
+""")
+  List<TemplateSummaryResponseDto> findSummaryPage(
+      @Param("spaceId") Long spaceId, @Param("cursor") Long cursor, Limit limit);
+
+  /**
+   * 스페이스의 템플릿 목록(제목, 변수화된 템플릿)을 id 역순 키셋 페이지로 조회
+   *
+   * @param spaceId 스페이스 ID
+   * @param cursor 이 id 미만만 조회 (첫 페이지는 Long.MAX_VALUE)
+   * @param limit 조회 건수
+   * @return 템플릿 목록 리스트
+   */
+  @Query("""
+SELECT new org.fastcampus.jober.template.dto.response.TemplateListResponseDto(
+  t.id, t.title, t.template)
+FROM Template t
+WHERE t.spaceId = :spaceId
+AND t.isDeleted = false
+AND t.id < :cursor
+ORDER BY t.id DESC
+""")
+  List<TemplateListResponseDto> findListPage(
+      @Param("spaceId") Long spaceId, @Param("cursor") Long cursor, Limit limit);
+
+  /**
+   * 변수 행(template_variable)을 아직 만들지 않은 템플릿을 id 순으로 조회 (변수 정규화 이전에 저장된 템플릿 채우기용,
+   * idx_template_variables_extracted_id 사용)
+   *
+   * @param afterId 이전 배치의 마지막 id (처음은 0)
+   * @param limit 조회 건수
+   * @return 템플릿 엔티티 리스트
+   */
+  @Query("""
+SELECT t FROM Template t
+WHERE t.variablesExtracted = false
+AND t.id > :afterId
+AND t.isDeleted = false
+AND NOT EXISTS (SELECT 1 FROM TemplateVariable v WHERE v.templateId = t.id)
+ORDER BY t.id ASC
+""")
+  List<Template> findWithoutVariables(@Param("afterId") Long afterId, Limit limit);
+
+  /**
+   * 변수 행을 만든 템플릿으로 표시합니다 (변수가 없어도 표시해 다음 시작 때 다시 읽지 않음).
+   *
+   * @param ids 템플릿 ID 목록
+   */
+  @Modifying
+  @Query("UPDATE Template t SET t.variablesExtracted = true WHERE t.id IN :ids")
+  void markVariablesExtracted(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,17 @@
+package org.fastcampus.jober.template.repository;
+
+import org.fastcampus.jober.template.entity.Template;
+
+/** 전문 검색 색인에 넣는 템플릿 필드만 담은 프로젝션 */
+public record TemplateSearchDocument(
+    Long templateId, Long spaceId, String title, String description, String template) {
+
+  public static TemplateSearchDocument from(Template template) {
+    return new TemplateSearchDocument(
+        template.getId(),
+        template.getSpaceId(),
+        template.getTitle(),
+        template.getDescription(),
+        template.getTemplate());
+  }
+}
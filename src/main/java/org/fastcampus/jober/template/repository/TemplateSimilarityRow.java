@@ -0,0 +1,4 @@
+package org.fastcampus.jober.template.repository;
+
+/** 유사 템플릿 색인을 만들 때 읽는 필드만 담은 프로젝션. 서명이 없는 예전 행만 본문(template)을 함께 읽습니다. */
+public record TemplateSimilarityRow(Long templateId, String title, byte[] signature, String template) {}
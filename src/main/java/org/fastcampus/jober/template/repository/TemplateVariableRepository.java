@@ -0,0 +1,65 @@
+package org.fastcampus.jober.template.repository;
+
+import java.util.List;
+
+import org.fastcampus.jober.template.dto.response.TemplateSummaryResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateVariableUsageResponseDto;
+import org.fastcampus.jober.template.entity.TemplateVariable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** 템플릿 변수(정규화) 저장소 */
+@Repository
+public interface TemplateVariableRepository extends JpaRepository<TemplateVariable, Long> {
+
+  List<TemplateVariable> findByTemplateIdOrderByIdAsc(Long templateId);
+
+  /**
+   * 템플릿의 변수 행을 모두 지웁니다. 다시 채우기 전에 호출합니다.
+   *
+   * @param templateId 템플릿 ID
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM TemplateVariable v WHERE v.templateId = :templateId")
+  void deleteByTemplateId(@Param("templateId") Long templateId);
+
+  /**
+   * 변수 X를 쓰는 템플릿 요약을 최신순 키셋 페이지로 조회 (idx_template_variable_space_name 사용)
+   *
+   * @param spaceId 스페이스 ID
+   * @param name 변수명
+   * @param cursor 이 id 미만만 조회 (첫 페이지는 Long.MAX_VALUE)
+   * @param limit 조회 건수 (페이지 크기 + 1)
+   * @return 템플릿 요약 리스트
+   */
+  @Query("""
+SELECT new org.fastcampus.jober.template.dto.response.TemplateSummaryResponseDto(t.id, t.title, t.createdAt)
+FROM TemplateVariable v JOIN Template t ON t.id = v.templateId
+WHERE v.spaceId = :spaceId AND v.name = :name AND t.isDeleted = false AND t.id < :cursor
+ORDER BY t.id DESC
+""")
+  List<TemplateSummaryResponseDto> findTemplatesByVariable(
+      @Param("spaceId") Long spaceId,
+      @Param("name") String name,
+      @Param("cursor") Long cursor,
+      Limit limit);
+
+  /**
+   * 스페이스에서 쓰이는 변수와 사용 템플릿 수 (많이 쓰는 순)
+   *
+   * @param spaceId 스페이스 ID
+   * @return 변수별 사용 템플릿 수
+   */
+  @Query("""
+SELECT new org.fastcampus.jober.template.dto.response.TemplateVariableUsageResponseDto(v.name, COUNT(v))
+FROM TemplateVariable v JOIN Template t ON t.id = v.templateId
+WHERE v.spaceId = :spaceId AND t.isDeleted = false
+GROUP BY v.name
+ORDER BY COUNT(v) DESC, v.name ASC
+""")
+  List<TemplateVariableUsageResponseDto> findUsageBySpaceId(@Param("spaceId") Long spaceId);
+}
@@ -0,0 +1,68 @@
+package org.fastcampus.jober.template.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.fastcampus.jober.template.dto.response.TemplateVersionResponseDto;
+import org.fastcampus.jober.template.entity.TemplateVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** 템플릿 버전 저장소 */
+@Repository
+public interface TemplateVersionRepository extends JpaRepository<TemplateVersion, Long> {
+
+  /**
+   * 템플릿 계보의 버전 목록을 최신순으로 조회 (payload 제외)
+   *
+   * @param templateId 템플릿 ID
+   * @return 버전 목록
+   */
+  @Query("""
+SELECT new org.fastcampus.jober.template.dto.response.TemplateVersionResponseDto(
+  v.version, v.snapshot, v.title, v.payloadSize, v.bodySize, v.createdAt, v.createdBy)
+FROM TemplateVersion v
+WHERE v.templateId = :templateId
+ORDER BY v.version DESC
+""")
+  List<TemplateVersionResponseDto> findSummariesByTemplateId(@Param("templateId") Long templateId);
+
+  /**
+   * 템플릿 계보의 마지막 버전 번호
+   *
+   * @param templateId 템플릿 ID
+   * @return 버전이 하나도 없으면 empty
+   */
+  @Query("SELECT MAX(v.version) FROM TemplateVersion v WHERE v.templateId = :templateId")
+  Optional<Integer> findLatestVersion(@Param("templateId") Long templateId);
+
+  /**
+   * version 이하에서 가장 가까운 스냅샷 버전 번호 (복원 시작점)
+   *
+   * @param templateId 템플릿 ID
+   * @param version 복원할 버전
+   * @return 스냅샷이 없으면 empty
+   */
+  @Query("""
+SELECT MAX(v.version)
+FROM TemplateVersion v
+WHERE v.templateId = :templateId
+AND v.snapshot = true
+AND v.version <= :version
+""")
+  Optional<Integer> findSnapshotVersionAtOrBefore(
+      @Param("templateId") Long templateId, @Param("version") Integer version);
+
+  /**
+   * 스냅샷부터 복원할 버전까지 차례로 조회
+   *
+   * @param templateId 템플릿 ID
+   * @param from 시작 버전 (스냅샷)
+   * @param to 복원할 버전
+   * @return 버전 오름차순 목록
+   */
+  List<TemplateVersion> findByTemplateIdAndVersionBetweenOrderByVersionAsc(
+      Long templateId, Integer from, Integer to);
+}
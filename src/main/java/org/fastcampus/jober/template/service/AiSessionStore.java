@@ -0,0 +1,138 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.template.dto.request.TemplateState;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+
+/**
+ * 서버 측 AI 세션 상태 저장소. (사용자, sessionId(Template.sessionId))별로 마지막 AI 응답의 TemplateState를 보관하므로 클라이언트는 매
+ * 턴마다 state 전체를 주고받지 않고 sessionId와 메시지만 보내면 됩니다. 세션 동안 AI 서버로 보낸 시도 수(재시도/헤지 포함)도
+ * 누적해 템플릿 저장 시 Template.totalAttempts로 남깁니다. 마지막 접근 후 ttl이 지나거나 max-sessions를 넘으면
+ * 축출되며, 지표는 cache.gets, cache.evictions (cache=ai.session.state)로 노출됩니다.
+ *
+ * <p>sessionId는 템플릿 상세 응답에도 노출되므로 사용자 ID와 묶어서 저장합니다. 다른 사용자의 sessionId를 보내도 그 사용자의
+ * 세션과는 별개인 자기 세션으로 취급되고, 로그인 사용자가 없으면 세션을 쓰지 않습니다.
+ *
+ * <p>인스턴스 메모리에 보관하므로 여러 인스턴스로 배포할 때는 sticky session이 필요합니다.
+ */
+@Component
+public class AiSessionStore {
+
+  static final String CACHE_NAME = "ai.session.state";
+  static final int MAX_SESSION_ID_LENGTH = 64;
+
+  private final boolean enabled;
+  private final Cache<Key, Entry> sessions;
+
+  private record Key(long userId, String sessionId) {}
+
+  /** 세션별 마지막 state(아직 성공 응답이 없으면 null)와 누적 시도 수 */
+  private record Entry(TemplateState state, int attempts) {
+
+    Entry merge(Entry next) {
+      return new Entry(next.state != null ? next.state : state, attempts + next.attempts);
+    }
+  }
+
+  public AiSessionStore(AiFlaskProps aiFlaskProps, MeterRegistry meterRegistry) {
+    AiFlaskProps.Session props = aiFlaskProps.getSession();
+    this.enabled = props.isEnabled();
+    this.sessions =
+        Caffeine.newBuilder()
+            .maximumSize(props.getMaxSessions())
+            .expireAfterAccess(props.getTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, sessions, CACHE_NAME);
+  }
+
+  /**
+   * 세션의 마지막 상태를 조회합니다. 처음 보는(또는 만료된) 세션이면 비어 있습니다.
+   *
+   * @param userId 세션을 쓰는 사용자 ID (null이면 비어 있음)
+   * @param sessionId 세션 ID
+   * @return 마지막 AI 응답의 state
+   * @throws BusinessException sessionId 형식이 잘못된 경우
+   */
+  public Optional<TemplateState> get(Long userId, String sessionId) {
+    validate(sessionId);
+    if (!enabled || userId == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(sessions.getIfPresent(new Key(userId, sessionId))).map(Entry::state);
+  }
+
+  /**
+   * 세션 동안 AI 서버로 보낸 누적 시도 수를 조회합니다.
+   *
+   * @param userId 세션을 쓰는 사용자 ID (null이면 비어 있음)
+   * @param sessionId 세션 ID (null이거나 형식이 잘못되면 비어 있음)
+   * @return 누적 시도 수 (기록이 없으면 비어 있음)
+   */
+  public OptionalInt totalAttempts(Long userId, String sessionId) {
+    if (!enabled || userId == null || !isValid(sessionId)) {
+      return OptionalInt.empty();
+    }
+    Entry entry = sessions.getIfPresent(new Key(userId, sessionId));
+    return entry != null ? OptionalInt.of(entry.attempts()) : OptionalInt.empty();
+  }
+
+  /**
+   * AI 응답의 state와 시도 수를 세션에 저장합니다. 실패/폴백 응답이나 step이 없는 state는 저장하지 않아 직전 상태가 유지되고,
+   * 시도 수만 누적됩니다. attempts가 없는 응답(SSE 이벤트)은 한 번 시도한 것으로 봅니다.
+   *
+   * @param userId 세션을 쓰는 사용자 ID (null이면 무시)
+   * @param sessionId 세션 ID (null이면 무시)
+   * @param response AI 응답
+   */
+  public void remember(Long userId, String sessionId, TemplateCreateResponseDto response) {
+    if (response == null) {
+      return;
+    }
+    TemplateState state = Boolean.TRUE.equals(response.getSuccess()) ? response.getState() : null;
+    remember(userId, sessionId, state, response.getAttempts() != null ? response.getAttempts() : 1);
+  }
+
+  /**
+   * relay 스트림이나 캐시 적중처럼 state만 꺼낸 경우 사용합니다. step이 없는 state는 저장하지 않고, 형식이 잘못된 sessionId는
+   * 무시합니다.
+   *
+   * @param userId 세션을 쓰는 사용자 ID (null이면 무시)
+   * @param sessionId 세션 ID (null이면 무시)
+   * @param state 마지막 AI 응답의 state
+   * @param attempts 이번에 AI 서버로 보낸 시도 수 (캐시 적중이면 0)
+   */
+  public void remember(Long userId, String sessionId, TemplateState state, int attempts) {
+    if (!enabled || userId == null || !isValid(sessionId)) {
+      return;
+    }
+    TemplateState valid = state != null && state.getStep() != null ? state : null;
+    if (valid == null && attempts <= 0) {
+      return;
+    }
+    sessions.asMap().merge(new Key(userId, sessionId), new Entry(valid, Math.max(0, attempts)), Entry::merge);
+  }
+
+  private static boolean isValid(String sessionId) {
+    return sessionId != null && !sessionId.isBlank() && sessionId.length() <= MAX_SESSION_ID_LENGTH;
+  }
+
+  private static void validate(String sessionId) {
+    if (!isValid(sessionId)) {
+      throw new BusinessException(
+          ErrorCode.BAD_REQUEST, "sessionId는 1~" + MAX_SESSION_ID_LENGTH + "자여야 합니다.");
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.fastcampus.jober.space.entity.SpaceContacts;
+
+/**
+ * #{변수}를 한 번만 파싱해 둔 템플릿. 연락처 필드로 채울 자리만 슬롯으로 남기고, 기본값으로 채울 변수와 채울 값이 없는 변수는
+ * 컴파일 시점에 앞뒤 문자열과 합쳐 둡니다. 따라서 렌더링은 "문자열, 연락처 값, 문자열, ..."을 이어 붙이는 것뿐이며 불변이라 여러
+ * 스레드에서 공유할 수 있습니다.
+ *
+ * <p>닫는 }가 없거나 이름이 빈 #{는 변수가 아닌 일반 문자로 둡니다.
+ */
+public final class CompiledTemplate {
+
+  private static final String OPEN = "#{";
+  private static final char CLOSE = '}';
+
+  // literals.length == slots.length + 1
+  private final String[] literals;
+  private final ContactVariable[] slots;
+  private final List<String> variables;
+  private final List<String> unresolvedVariables;
+  private final int literalLength;
+
+  private CompiledTemplate(
+      String[] literals, ContactVariable[] slots, List<String> variables, List<String> unresolvedVariables) {
+    this.literals = literals;
+    this.slots = slots;
+    this.variables = variables;
+    this.unresolvedVariables = unresolvedVariables;
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalLength = length;
+  }
+
+  /**
+   * 템플릿 본문을 컴파일합니다.
+   *
+   * @param source #{변수}가 들어 있는 템플릿 본문 (null이면 빈 템플릿)
+   * @param defaults 연락처 필드가 아닌 변수의 값 (editableVariables)
+   */
+  static CompiledTemplate compile(String source, Map<String, String> defaults) {
+    List<String> literals = new ArrayList<>();
+    List<ContactVariable> slots = new ArrayList<>();
+    Set<String> variables = new LinkedHashSet<>();
+    Set<String> unresolved = new LinkedHashSet<>();
+    StringBuilder literal = new StringBuilder();
+
+    String text = source != null ? source : "";
+    int from = 0;
+    while (from < text.length()) {
+      int open = text.indexOf(OPEN, from);
+      int close = open < 0 ? -1 : text.indexOf(CLOSE, open + OPEN.length());
+      if (close < 0) {
+        break;
+      }
+      // "#{a #{b}"처럼 닫히기 전에 다시 열리면 앞의 #{는 일반 문자
+      int reopen = text.indexOf(OPEN, open + OPEN.length());
+      if (reopen >= 0 && reopen < close) {
+        literal.append(text, from, reopen);
+        from = reopen;
+        continue;
+      }
+      String name = text.substring(open + OPEN.length(), close).trim();
+      if (name.isEmpty()) {
+        literal.append(text, from, close + 1);
+        from = close + 1;
+        continue;
+      }
+
+      literal.append(text, from, open);
+      variables.add(name);
+      ContactVariable field = ContactVariable.of(name);
+      if (field != null) {
+        literals.add(literal.toString());
+        literal.setLength(0);
+        slots.add(field);
+      } else if (defaults.containsKey(name)) {
+        literal.append(defaults.get(name));
+      } else {
+        // 채울 값이 없으면 원문 그대로 남겨 발송 전에 눈에 띄게 함
+        literal.append(text, open, close + 1);
+        unresolved.add(name);
+      }
+      from = close + 1;
+    }
+    literal.append(text, from, text.length());
+    literals.add(literal.toString());
+
+    return new CompiledTemplate(
+        literals.toArray(String[]::new),
+        slots.toArray(ContactVariable[]::new),
+        List.copyOf(variables),
+        List.copyOf(unresolved));
+  }
+
+  /** 연락처 한 명의 메시지를 out 뒤에 이어 씁니다. out을 재사용하면 행마다 새 버퍼를 만들지 않습니다. */
+  public void renderTo(SpaceContacts contact, StringBuilder out) {
+    for (int i = 0; i < slots.length; i++) {
+      out.append(literals[i]).append(slots[i].valueOf(contact));
+    }
+    out.append(literals[slots.length]);
+  }
+
+  public String render(SpaceContacts contact) {
+    StringBuilder out = new StringBuilder(estimatedLength());
+    renderTo(contact, out);
+    return out.toString();
+  }
+
+  /** 연락처 값 한 자리를 16자로 본 결과 길이 추정치 (버퍼 초기 크기용) */
+  public int estimatedLength() {
+    return literalLength + slots.length * 16;
+  }
+
+  /** 본문에 나온 변수명 (처음 나온 순서) */
+  public List<String> variables() {
+    return variables;
+  }
+
+  /** 연락처 필드도 기본값도 없어 #{변수} 그대로 남는 변수명 */
+  public List<String> unresolvedVariables() {
+    return unresolvedVariables;
+  }
+}
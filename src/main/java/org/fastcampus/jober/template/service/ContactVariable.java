@@ -0,0 +1,48 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.fastcampus.jober.space.entity.SpaceContacts;
+
+/**
+ * 연락처 값으로 채워지는 템플릿 변수. AI가 만든 템플릿은 같은 값을 여러 이름(#{고객명}, #{이름} 등)으로 부르므로 별칭을 함께
+ * 둡니다. 별칭에 없는 변수는 템플릿의 editableVariables 기본값으로 채웁니다.
+ */
+enum ContactVariable {
+  NAME(SpaceContacts::getName, List.of("name", "이름", "고객명", "성명", "회원명", "수신자명")),
+  PHONE_NUM(SpaceContacts::getPhoneNum, List.of("phoneNum", "phone", "전화번호", "휴대폰번호", "휴대폰", "연락처")),
+  EMAIL(SpaceContacts::getEmail, List.of("email", "이메일")),
+  TAG(SpaceContacts::getTag, List.of("tag", "태그", "그룹"));
+
+  private static final Map<String, ContactVariable> BY_ALIAS = new HashMap<>();
+
+  static {
+    for (ContactVariable variable : values()) {
+      for (String alias : variable.aliases) {
+        BY_ALIAS.put(alias, variable);
+      }
+    }
+  }
+
+  private final Function<SpaceContacts, String> getter;
+  private final List<String> aliases;
+
+  ContactVariable(Function<SpaceContacts, String> getter, List<String> aliases) {
+    this.getter = getter;
+    this.aliases = aliases;
+  }
+
+  /** 변수명에 해당하는 연락처 필드. 없으면 null */
+  static ContactVariable of(String name) {
+    return BY_ALIAS.get(name);
+  }
+
+  /** 연락처의 값. 비어 있는 필드(tag 등)는 빈 문자열입니다. */
+  String valueOf(SpaceContacts contact) {
+    String value = getter.apply(contact);
+    return value != null ? value : "";
+  }
+}
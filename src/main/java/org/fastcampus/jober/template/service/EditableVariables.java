@@ -0,0 +1,43 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/** Template.editableVariables(JSON 객체 문자열)를 변수명 → 값으로 읽습니다. */
+@Slf4j
+final class EditableVariables {
+
+  private EditableVariables() {}
+
+  /**
+   * @param editableVariables {"고객명": "홍길동", ...} 형태의 JSON (null 가능)
+   * @return 나온 순서대로의 변수명 → 값. 객체가 아니거나 읽을 수 없으면 빈 맵이며 null 값은 제외합니다.
+   */
+  static Map<String, String> parse(ObjectMapper objectMapper, String editableVariables) {
+    Map<String, String> values = new LinkedHashMap<>();
+    if (editableVariables == null || editableVariables.isBlank()) {
+      return values;
+    }
+    try {
+      JsonNode node = objectMapper.readTree(editableVariables);
+      if (node != null && node.isObject()) {
+        node.fields()
+            .forEachRemaining(
+                field -> {
+                  JsonNode value = field.getValue();
+                  if (!value.isNull()) {
+                    values.put(field.getKey(), value.isValueNode() ? value.asText() : value.toString());
+                  }
+                });
+      }
+    } catch (JsonProcessingException e) {
+      log.debug("editableVariables를 읽지 못했습니다: {}", e.getOriginalMessage());
+    }
+    return values;
+  }
+}
@@ -0,0 +1,370 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.fastcampus.jober.template.repository.TemplateSearchDocument;
+
+/**
+ * 한 스페이스의 템플릿 역색인. 토큰마다 내부 문서 번호의 오름차순 배열(int[])과 가중 빈도(float[])를 두고, 검색어의 모든 토큰을
+ * 포함한 문서를 BM25로 점수 매깁니다. 제목은 3배, 설명은 2배, 본문은 1배로 셉니다.
+ *
+ * <p>삭제/수정은 기존 문서 번호를 빈 자리로 남기고 새 번호로 추가하며, 빈 자리가 compactionRatio를 넘으면 번호를 다시 매겨
+ * 압축합니다. 읽기는 동시에, 쓰기는 하나씩 처리합니다.
+ */
+final class SpaceSearchIndex {
+
+  static final float TITLE_WEIGHT = 3f;
+  static final float DESCRIPTION_WEIGHT = 2f;
+  static final float BODY_WEIGHT = 1f;
+
+  private static final float K1 = 1.2f;
+  private static final float B = 0.75f;
+  private static final int MIN_COMPACTION = 64;
+
+  /** 검색 결과 한 건 */
+  record Hit(long templateId, String title, String description, float score) {}
+
+  /** 요청한 구간의 결과와 전체 일치 건수 */
+  record Page(List<Hit> hits, int totalHits) {
+    static final Page EMPTY = new Page(List.of(), 0);
+  }
+
+  private record Doc(long templateId, String title, String description, float length) {}
+
+  private final double compactionRatio;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // 적재는 DB 조회로 블로킹되므로 가상 스레드의 캐리어를 붙잡지 않도록 synchronized 대신 사용
+  private final ReentrantLock loadLock = new ReentrantLock();
+
+  private final Map<String, Postings> postings = new HashMap<>();
+  private final Map<Long, Integer> docNumbers = new HashMap<>();
+  private Doc[] docs = new Doc[MIN_COMPACTION];
+  private int docCount;
+  private int liveCount;
+  private double totalLength;
+
+  // DB에서 처음 채우는 동안 들어온 변경은 모아 두었다가 적재 후 순서대로 반영
+  private volatile boolean loaded;
+  private List<Runnable> pending = new ArrayList<>();
+
+  SpaceSearchIndex(double compactionRatio) {
+    this.compactionRatio = compactionRatio;
+  }
+
+  /** 아직 채워지지 않았으면 loader로 전체 문서를 읽어 채웁니다. 같은 스페이스의 동시 검색은 한 번만 읽습니다. */
+  void ensureLoaded(Supplier<List<TemplateSearchDocument>> loader) {
+    if (loaded) {
+      return;
+    }
+    loadLock.lock();
+    try {
+      if (loaded) {
+        return;
+      }
+      List<TemplateSearchDocument> documents = loader.get();
+      lock.writeLock().lock();
+      try {
+        for (TemplateSearchDocument document : documents) {
+          upsertLocked(document);
+        }
+        // 적재 중 커밋된 변경은 DB 조회 결과에 이미 있을 수도 있지만 추가/삭제 모두 멱등이므로 다시 반영
+        pending.forEach(Runnable::run);
+        pending = null;
+        loaded = true;
+        maybeCompact();
+      } finally {
+        lock.writeLock().unlock();
+      }
+    } finally {
+      loadLock.unlock();
+    }
+  }
+
+  /** 문서를 추가하거나 같은 templateId의 기존 문서를 교체합니다. */
+  void upsert(TemplateSearchDocument document) {
+    write(() -> upsertLocked(document));
+  }
+
+  /** 문서를 색인에서 뺍니다. 없으면 아무것도 하지 않습니다. */
+  void remove(long templateId) {
+    write(() -> removeLocked(templateId));
+  }
+
+  private void write(Runnable change) {
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        pending.add(change);
+        return;
+      }
+      change.run();
+      maybeCompact();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 모든 토큰을 포함한 문서를 점수 내림차순(같으면 최신 templateId 우선)으로 offset부터 limit건 돌려줍니다.
+   *
+   * @param tokens TemplateTokenizer.queryTokens로 자른 검색어
+   */
+  Page search(Set<String> tokens, int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      if (tokens.isEmpty() || liveCount == 0) {
+        return Page.EMPTY;
+      }
+      Postings[] lists = new Postings[tokens.size()];
+      int n = 0;
+      for (String token : tokens) {
+        Postings list = resolve(token);
+        if (list == null) {
+          return Page.EMPTY;
+        }
+        lists[n++] = list;
+      }
+      // 가장 짧은 목록을 기준으로 나머지 목록에서 이분 탐색 (커서는 앞으로만 이동)
+      Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+      float[] idf = new float[n];
+      for (int j = 0; j < n; j++) {
+        int df = Math.min(lists[j].size, liveCount);
+        idf[j] = (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+      }
+      float averageLength = (float) Math.max(1.0, totalLength / liveCount);
+      int[] cursors = new int[n];
+      int wanted = offset + limit;
+      PriorityQueue<Hit> top =
+          new PriorityQueue<>(
+              Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::templateId));
+      int total = 0;
+
+      Postings lead = lists[0];
+      candidates:
+      for (int i = 0; i < lead.size; i++) {
+        Doc doc = docs[lead.docs[i]];
+        if (doc == null) {
+          continue;
+        }
+        float norm = K1 * (1 - B + B * doc.length() / averageLength);
+        float score = idf[0] * termScore(lead.freqs[i], norm);
+        for (int j = 1; j < n; j++) {
+          Postings list = lists[j];
+          int pos = Arrays.binarySearch(list.docs, cursors[j], list.size, lead.docs[i]);
+          if (pos < 0) {
+            cursors[j] = -pos - 1;
+            if (cursors[j] >= list.size) {
+              break candidates;
+            }
+            continue candidates;
+          }
+          cursors[j] = pos + 1;
+          score += idf[j] * termScore(list.freqs[pos], norm);
+        }
+        total++;
+        if (wanted <= 0) {
+          continue;
+        }
+        if (top.size() < wanted) {
+          top.add(new Hit(doc.templateId(), doc.title(), doc.description(), score));
+        } else if (better(score, doc.templateId(), top.peek())) {
+          top.poll();
+          top.add(new Hit(doc.templateId(), doc.title(), doc.description(), score));
+        }
+      }
+
+      List<Hit> ranked = new ArrayList<>(top.size());
+      while (!top.isEmpty()) {
+        ranked.add(top.poll());
+      }
+      Collections.reverse(ranked);
+      List<Hit> hits = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+      return new Page(List.copyOf(hits), total);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 색인된(삭제되지 않은) 문서 수 */
+  int size() {
+    lock.readLock().lock();
+    try {
+      return liveCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 서로 다른 토큰 수 */
+  int vocabularySize() {
+    lock.readLock().lock();
+    try {
+      return postings.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static float termScore(float freq, float norm) {
+    return freq * (K1 + 1) / (freq + norm);
+  }
+
+  private static boolean better(float score, long templateId, Hit worst) {
+    return score > worst.score() || (score == worst.score() && templateId > worst.templateId());
+  }
+
+  /**
+   * 토큰의 문서 목록. 2-gram 문자 한 글자로 된 검색어("톡")는 그 글자를 포함한 모든 토큰("톡", "알림톡"의 "림톡", "톡발")의 목록을
+   * 합쳐서 찾습니다. 토큰 수만큼 훑으므로 한 글자 검색은 다른 검색보다 느립니다.
+   */
+  private Postings resolve(String token) {
+    if (token.length() != 1 || !TemplateTokenizer.isGramChar(token.charAt(0))) {
+      return postings.get(token);
+    }
+    char c = token.charAt(0);
+    Map<Integer, Float> merged = new HashMap<>();
+    postings.forEach(
+        (key, list) -> {
+          if (key.indexOf(c) >= 0) {
+            for (int i = 0; i < list.size; i++) {
+              merged.merge(list.docs[i], list.freqs[i], Math::max);
+            }
+          }
+        });
+    if (merged.isEmpty()) {
+      return null;
+    }
+    int[] numbers = merged.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    Postings union = new Postings(numbers.length);
+    for (int number : numbers) {
+      union.add(number, merged.get(number));
+    }
+    return union;
+  }
+
+  private void upsertLocked(TemplateSearchDocument document) {
+    removeLocked(document.templateId());
+
+    Map<String, float[]> freqs = new HashMap<>();
+    float[] length = new float[1];
+    collect(document.title(), TITLE_WEIGHT, freqs, length);
+    collect(document.description(), DESCRIPTION_WEIGHT, freqs, length);
+    collect(document.template(), BODY_WEIGHT, freqs, length);
+
+    if (docCount == docs.length) {
+      docs = Arrays.copyOf(docs, docs.length * 2);
+    }
+    int number = docCount++;
+    docs[number] =
+        new Doc(document.templateId(), document.title(), document.description(), length[0]);
+    docNumbers.put(document.templateId(), number);
+    // 새 문서 번호는 항상 가장 크므로 뒤에 붙이기만 해도 목록이 정렬된 상태로 유지됨
+    freqs.forEach((token, freq) -> postings.computeIfAbsent(token, key -> new Postings(4)).add(number, freq[0]));
+    liveCount++;
+    totalLength += length[0];
+  }
+
+  private static void collect(String text, float weight, Map<String, float[]> freqs, float[] length) {
+    TemplateTokenizer.tokenize(
+        text,
+        token -> {
+          freqs.computeIfAbsent(token, key -> new float[1])[0] += weight;
+          length[0] += weight;
+        });
+  }
+
+  private void removeLocked(long templateId) {
+    Integer number = docNumbers.remove(templateId);
+    if (number == null) {
+      return;
+    }
+    totalLength -= docs[number].length();
+    docs[number] = null;
+    liveCount--;
+  }
+
+  /** 빈 자리를 없애고 남은 문서에 0부터 번호를 다시 매깁니다. 순서가 유지되므로 목록은 정렬 상태 그대로입니다. */
+  private void maybeCompact() {
+    int tombstones = docCount - liveCount;
+    if (tombstones < MIN_COMPACTION || tombstones < docCount * compactionRatio) {
+      return;
+    }
+    int[] remap = new int[docCount];
+    Doc[] compacted = new Doc[Math.max(MIN_COMPACTION, liveCount * 2)];
+    int next = 0;
+    for (int i = 0; i < docCount; i++) {
+      if (docs[i] == null) {
+        remap[i] = -1;
+      } else {
+        remap[i] = next;
+        compacted[next++] = docs[i];
+      }
+    }
+    Iterator<Postings> lists = postings.values().iterator();
+    while (lists.hasNext()) {
+      Postings list = lists.next();
+      list.remap(remap);
+      if (list.size == 0) {
+        lists.remove();
+      }
+    }
+    docNumbers.clear();
+    for (int i = 0; i < next; i++) {
+      docNumbers.put(compacted[i].templateId(), i);
+    }
+    docs = compacted;
+    docCount = next;
+  }
+
+  /** 내부 문서 번호 오름차순의 문서 목록 */
+  private static final class Postings {
+    private int[] docs;
+    private float[] freqs;
+    private int size;
+
+    Postings(int capacity) {
+      this.docs = new int[capacity];
+      this.freqs = new float[capacity];
+    }
+
+    void add(int doc, float freq) {
+      if (size == docs.length) {
+        int capacity = docs.length + (docs.length >> 1) + 1;
+        docs = Arrays.copyOf(docs, capacity);
+        freqs = Arrays.copyOf(freqs, capacity);
+      }
+      docs[size] = doc;
+      freqs[size] = freq;
+      size++;
+    }
+
+    void remap(int[] remap) {
+      int kept = 0;
+      for (int i = 0; i < size; i++) {
+        int number = remap[docs[i]];
+        if (number >= 0) {
+          docs[kept] = number;
+          freqs[kept] = freqs[i];
+          kept++;
+        }
+      }
+      size = kept;
+      if (kept < docs.length / 2) {
+        docs = Arrays.copyOf(docs, Math.max(kept, 1));
+        freqs = Arrays.copyOf(freqs, Math.max(kept, 1));
+      }
+    }
+  }
+}
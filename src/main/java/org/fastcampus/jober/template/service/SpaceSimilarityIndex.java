@@ -0,0 +1,310 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 한 스페이스의 MinHash LSH 색인. 문서마다 서명의 밴드 20개를 버킷 키로 만들어 키 → 문서 연결 목록에 넣고, 질의는 같은 버킷에 든
+ * 문서만 서명 전체로 비교하므로 비교 횟수가 스페이스 크기가 아니라 비슷한 문서 수에 비례합니다.
+ *
+ * <p>버킷은 long 키의 열린 주소 해시 테이블과, (문서 번호 * BANDS + 밴드) 자리마다 같은 버킷의 이전 항목을 가리키는 int 배열로
+ * 이루어져 문서당 박싱된 객체를 만들지 않습니다. 삭제/수정은 빈 자리로 남기고 compactionRatio를 넘으면 다시 만듭니다. 읽기는
+ * 동시에, 쓰기는 하나씩 처리합니다.
+ */
+final class SpaceSimilarityIndex {
+
+  private static final int BANDS = TemplateMinHash.BANDS;
+  private static final int MIN_COMPACTION = 64;
+
+  /** 비슷한 템플릿 한 건 */
+  record Match(long templateId, String title, double similarity) {}
+
+  /** 색인에 넣을 템플릿 (서명은 TemplateMinHash.signature) */
+  record Entry(long templateId, String title, int[] signature) {}
+
+  private final double compactionRatio;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // 적재는 DB 조회로 블로킹되므로 가상 스레드의 캐리어를 붙잡지 않도록 synchronized 대신 사용
+  private final ReentrantLock loadLock = new ReentrantLock();
+
+  private final Map<Long, Integer> docNumbers = new HashMap<>();
+  private Entry[] docs = new Entry[MIN_COMPACTION];
+  private int docCount;
+  private int liveCount;
+  private Buckets buckets = new Buckets(MIN_COMPACTION * BANDS);
+  // (문서 번호 * BANDS + 밴드) → 같은 버킷의 이전 자리 (-1이면 끝)
+  private int[] next = new int[MIN_COMPACTION * BANDS];
+
+  // DB에서 처음 채우는 동안 들어온 변경은 모아 두었다가 적재 후 순서대로 반영
+  private volatile boolean loaded;
+  private List<Runnable> pending = new ArrayList<>();
+
+  SpaceSimilarityIndex(double compactionRatio) {
+    this.compactionRatio = compactionRatio;
+  }
+
+  /** 아직 채워지지 않았으면 loader로 전체 문서를 읽어 채웁니다. 같은 스페이스의 동시 요청은 한 번만 읽습니다. */
+  void ensureLoaded(Supplier<List<Entry>> loader) {
+    if (loaded) {
+      return;
+    }
+    loadLock.lock();
+    try {
+      if (loaded) {
+        return;
+      }
+      List<Entry> entries = loader.get();
+      lock.writeLock().lock();
+      try {
+        for (Entry entry : entries) {
+          upsertLocked(entry);
+        }
+        // 적재 중 커밋된 변경은 DB 조회 결과에 이미 있을 수도 있지만 추가/삭제 모두 멱등이므로 다시 반영
+        pending.forEach(Runnable::run);
+        pending = null;
+        loaded = true;
+        maybeCompact();
+      } finally {
+        lock.writeLock().unlock();
+      }
+    } finally {
+      loadLock.unlock();
+    }
+  }
+
+  /** 문서를 추가하거나 같은 templateId의 기존 문서를 교체합니다. */
+  void upsert(Entry entry) {
+    write(() -> upsertLocked(entry));
+  }
+
+  /** 문서를 색인에서 뺍니다. 없으면 아무것도 하지 않습니다. */
+  void remove(long templateId) {
+    write(() -> removeLocked(templateId));
+  }
+
+  private void write(Runnable change) {
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        pending.add(change);
+        return;
+      }
+      change.run();
+      maybeCompact();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 색인된 템플릿의 서명. 없으면 null */
+  int[] signatureOf(long templateId) {
+    lock.readLock().lock();
+    try {
+      Integer number = docNumbers.get(templateId);
+      return number != null ? docs[number].signature() : null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 서명이 비슷한 템플릿을 유사도 내림차순(같으면 최신 templateId 우선)으로 최대 limit건 돌려줍니다.
+   *
+   * @param signature 질의 서명
+   * @param excludeTemplateId 결과에서 뺄 템플릿 (자기 자신, 없으면 -1)
+   * @param minSimilarity 이 값 이상인 문서만 (0~1)
+   */
+  List<Match> query(int[] signature, long excludeTemplateId, double minSimilarity, int limit) {
+    lock.readLock().lock();
+    try {
+      if (signature == null || liveCount == 0 || limit <= 0) {
+        return List.of();
+      }
+      BitSet seen = new BitSet(docCount);
+      PriorityQueue<Match> top =
+          new PriorityQueue<>(
+              Comparator.comparingDouble(Match::similarity).thenComparingLong(Match::templateId));
+      for (int band = 0; band < BANDS; band++) {
+        for (int slot = buckets.head(TemplateMinHash.bandKey(signature, band)); slot >= 0; slot = next[slot]) {
+          int number = slot / BANDS;
+          if (seen.get(number)) {
+            continue;
+          }
+          seen.set(number);
+          Entry doc = docs[number];
+          if (doc == null || doc.templateId() == excludeTemplateId) {
+            continue;
+          }
+          double similarity = TemplateMinHash.similarity(signature, doc.signature());
+          if (similarity < minSimilarity) {
+            continue;
+          }
+          if (top.size() < limit) {
+            top.add(new Match(doc.templateId(), doc.title(), similarity));
+          } else if (better(similarity, doc.templateId(), top.peek())) {
+            top.poll();
+            top.add(new Match(doc.templateId(), doc.title(), similarity));
+          }
+        }
+      }
+      List<Match> ranked = new ArrayList<>(top.size());
+      while (!top.isEmpty()) {
+        ranked.add(top.poll());
+      }
+      Collections.reverse(ranked);
+      return ranked;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 색인된(삭제되지 않은) 문서 수 */
+  int size() {
+    lock.readLock().lock();
+    try {
+      return liveCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static boolean better(double similarity, long templateId, Match worst) {
+    return similarity > worst.similarity()
+        || (similarity == worst.similarity() && templateId > worst.templateId());
+  }
+
+  private void upsertLocked(Entry entry) {
+    removeLocked(entry.templateId());
+    if (entry.signature() == null) {
+      return;
+    }
+    if (docCount == docs.length) {
+      docs = Arrays.copyOf(docs, docs.length * 2);
+      next = Arrays.copyOf(next, docs.length * BANDS);
+    }
+    int number = docCount++;
+    docs[number] = entry;
+    docNumbers.put(entry.templateId(), number);
+    for (int band = 0; band < BANDS; band++) {
+      int slot = number * BANDS + band;
+      next[slot] = buckets.push(TemplateMinHash.bandKey(entry.signature(), band), slot);
+    }
+    liveCount++;
+  }
+
+  private void removeLocked(long templateId) {
+    Integer number = docNumbers.remove(templateId);
+    if (number == null) {
+      return;
+    }
+    docs[number] = null;
+    liveCount--;
+  }
+
+  /** 빈 자리를 없애고 남은 문서로 버킷을 다시 만듭니다. */
+  private void maybeCompact() {
+    int tombstones = docCount - liveCount;
+    if (tombstones < MIN_COMPACTION || tombstones < docCount * compactionRatio) {
+      return;
+    }
+    Entry[] live = new Entry[liveCount];
+    int n = 0;
+    for (int i = 0; i < docCount; i++) {
+      if (docs[i] != null) {
+        live[n++] = docs[i];
+      }
+    }
+    int capacity = Math.max(MIN_COMPACTION, liveCount * 2);
+    docs = new Entry[capacity];
+    next = new int[capacity * BANDS];
+    buckets = new Buckets(capacity * BANDS);
+    docNumbers.clear();
+    docCount = 0;
+    liveCount = 0;
+    for (Entry entry : live) {
+      upsertLocked(entry);
+    }
+  }
+
+  /** 밴드 키 → 버킷의 마지막 자리. long 키 열린 주소(선형 탐사) 해시 테이블 */
+  private static final class Buckets {
+    private long[] keys;
+    private int[] heads;
+    private boolean[] used;
+    private int size;
+
+    Buckets(int expected) {
+      int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+      keys = new long[capacity];
+      heads = new int[capacity];
+      used = new boolean[capacity];
+    }
+
+    int head(long key) {
+      int mask = keys.length - 1;
+      for (int i = spread(key) & mask; used[i]; i = (i + 1) & mask) {
+        if (keys[i] == key) {
+          return heads[i];
+        }
+      }
+      return -1;
+    }
+
+    /** 버킷 맨 앞에 slot을 넣고, 이전 맨 앞 자리(없으면 -1)를 돌려줍니다. */
+    int push(long key, int slot) {
+      if ((size + 1) * 2 > keys.length) {
+        grow();
+      }
+      int mask = keys.length - 1;
+      int i = spread(key) & mask;
+      while (used[i]) {
+        if (keys[i] == key) {
+          int previous = heads[i];
+          heads[i] = slot;
+          return previous;
+        }
+        i = (i + 1) & mask;
+      }
+      used[i] = true;
+      keys[i] = key;
+      heads[i] = slot;
+      size++;
+      return -1;
+    }
+
+    private void grow() {
+      long[] oldKeys = keys;
+      int[] oldHeads = heads;
+      boolean[] oldUsed = used;
+      keys = new long[oldKeys.length * 2];
+      heads = new int[oldKeys.length * 2];
+      used = new boolean[oldKeys.length * 2];
+      int mask = keys.length - 1;
+      for (int j = 0; j < oldKeys.length; j++) {
+        if (oldUsed[j]) {
+          int i = spread(oldKeys[j]) & mask;
+          while (used[i]) {
+            i = (i + 1) & mask;
+          }
+          used[i] = true;
+          keys[i] = oldKeys[j];
+          heads[i] = oldHeads[j];
+        }
+      }
+    }
+
+    private static int spread(long key) {
+      return (int) (key ^ (key >>> 32));
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package org.fastcampus.jober.template.service;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열 변경분 인코딩. 이전 문자열을 16글자 블록으로 나눠 색인하고, 새 문자열을 롤링 해시로 훑으며 일치하는 구간은 COPY(이전
+ * 위치, 길이)로, 나머지는 INSERT(UTF-8 바이트)로 적습니다. 일치 구간은 앞뒤로 최대한 늘리므로 앞부분/뒷부분만 바뀐 경우나 문단
+ * 이동도 작게 남습니다.
+ *
+ * <p>형식: varint(연산 수), 연산마다 varint((길이 &lt;&lt; 1) | 종류) 뒤에 COPY면 varint(이전 위치), INSERT면 UTF-8 바이트.
+ */
+final class TemplateDelta {
+
+  private static final int BLOCK = 16;
+  private static final int PRIME = 31;
+  private static final int COPY = 0;
+  private static final int INSERT = 1;
+
+  private TemplateDelta() {}
+
+  /** base를 target으로 바꾸는 연산을 씁니다. */
+  static void write(String base, String target, DataOutput out) throws IOException {
+    Ops ops = new Ops();
+    int baseLength = base.length();
+    int targetLength = target.length();
+    Map<Integer, Integer> blocks = index(base);
+    int literalStart = 0;
+    int pos = 0;
+    int hash = targetLength >= BLOCK ? hash(target, 0) : 0;
+    int outFactor = power();
+
+    while (pos + BLOCK <= targetLength) {
+      Integer candidate = blocks.get(hash);
+      if (candidate != null && base.regionMatches(candidate, target, pos, BLOCK)) {
+        int baseStart = candidate;
+        int targetStart = pos;
+        while (targetStart > literalStart
+            && baseStart > 0
+            && base.charAt(baseStart - 1) == target.charAt(targetStart - 1)) {
+          baseStart--;
+          targetStart--;
+        }
+        int targetEnd = pos + BLOCK;
+        int baseEnd = candidate + BLOCK;
+        while (targetEnd < targetLength && baseEnd < baseLength && base.charAt(baseEnd) == target.charAt(targetEnd)) {
+          targetEnd++;
+          baseEnd++;
+        }
+        // 서로게이트 쌍이 COPY/INSERT 경계에서 갈라지지 않도록 구간을 줄임
+        if (targetStart < targetLength && Character.isLowSurrogate(target.charAt(targetStart))) {
+          targetStart++;
+          baseStart++;
+        }
+        if (targetEnd < targetLength && Character.isLowSurrogate(target.charAt(targetEnd))) {
+          targetEnd--;
+        }
+        if (targetEnd > targetStart) {
+          ops.insert(target, literalStart, targetStart);
+          ops.copy(baseStart, targetEnd - targetStart);
+          pos = targetEnd;
+          literalStart = targetEnd;
+          if (pos + BLOCK <= targetLength) {
+            hash = hash(target, pos);
+          }
+          continue;
+        }
+      }
+      if (pos + BLOCK < targetLength) {
+        hash = (hash - target.charAt(pos) * outFactor) * PRIME + target.charAt(pos + BLOCK);
+      }
+      pos++;
+    }
+    ops.insert(target, literalStart, targetLength);
+    ops.writeTo(out);
+  }
+
+  /** write로 쓴 연산을 base에 적용합니다. */
+  static String apply(String base, DataInput in) throws IOException {
+    int count = readVarint(in);
+    StringBuilder result = new StringBuilder(base.length() + 64);
+    for (int i = 0; i < count; i++) {
+      int header = readVarint(in);
+      int length = header >>> 1;
+      if ((header & 1) == COPY) {
+        int offset = readVarint(in);
+        result.append(base, offset, offset + length);
+      } else {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        result.append(new String(bytes, StandardCharsets.UTF_8));
+      }
+    }
+    return result.toString();
+  }
+
+  /** base의 BLOCK 배수 위치 블록 해시 → 처음 나온 위치 */
+  private static Map<Integer, Integer> index(String base) {
+    Map<Integer, Integer> blocks = new HashMap<>();
+    for (int i = 0; i + BLOCK <= base.length(); i += BLOCK) {
+      blocks.putIfAbsent(hash(base, i), i);
+    }
+    return blocks;
+  }
+
+  private static int hash(String text, int start) {
+    int hash = 0;
+    for (int i = start; i < start + BLOCK; i++) {
+      hash = hash * PRIME + text.charAt(i);
+    }
+    return hash;
+  }
+
+  private static int power() {
+    int value = 1;
+    for (int i = 1; i < BLOCK; i++) {
+      value *= PRIME;
+    }
+    return value;
+  }
+
+  static void writeVarint(DataOutput out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  static int readVarint(DataInput in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("잘못된 varint입니다.");
+  }
+
+  /** 연산을 모아 두었다가 개수와 함께 씁니다. */
+  private static final class Ops {
+    private final List<Op> ops = new ArrayList<>();
+
+    void copy(int offset, int length) {
+      ops.add(new Op(offset, length, null));
+    }
+
+    void insert(String target, int from, int to) {
+      if (to > from) {
+        ops.add(new Op(0, 0, target.substring(from, to).getBytes(StandardCharsets.UTF_8)));
+      }
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+      writeVarint(out, ops.size());
+      for (Op op : ops) {
+        if (op.bytes() == null) {
+          writeVarint(out, (op.length() << 1) | COPY);
+          writeVarint(out, op.offset());
+        } else {
+          writeVarint(out, (op.bytes().length << 1) | INSERT);
+          out.write(op.bytes());
+        }
+      }
+    }
+  }
+
+  private record Op(int offset, int length, byte[] bytes) {}
+}
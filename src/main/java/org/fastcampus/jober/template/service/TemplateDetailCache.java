@@ -0,0 +1,111 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.fastcampus.jober.common.TemplateDetailCacheProps;
+import org.fastcampus.jober.template.dto.response.TemplateDetailResponseDto;
+
+/**
+ * (spaceId, templateId)별 템플릿 상세 DTO의 read-through 캐시. 적중하면 스페이스/템플릿 조회를 모두 건너뜁니다. 항목 크기는 문자열
+ * 길이로 추정해 max-size 안에서 축출하며, 템플릿 저장/삭제/복원과 스페이스 삭제 때 무효화합니다.
+ *
+ * <p>지표: cache.gets, cache.evictions (cache=template.detail), template.detail.cache.size (추정 바이트)
+ */
+@Component
+public class TemplateDetailCache {
+
+  static final String CACHE_NAME = "template.detail";
+
+  // DTO 객체와 박싱된 필드의 대략적인 고정 비용
+  private static final int ENTRY_OVERHEAD = 256;
+
+  private final boolean enabled;
+  private final Cache<Key, TemplateDetailResponseDto> cache;
+
+  public TemplateDetailCache(TemplateDetailCacheProps props, MeterRegistry meterRegistry) {
+    this.enabled = props.isEnabled();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(props.getMaxSize().toBytes())
+            .weigher((Key key, TemplateDetailResponseDto value) -> weigh(value))
+            .expireAfterWrite(props.getTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    Gauge.builder("template.detail.cache.size", cache, TemplateDetailCache::weightedSize)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  private record Key(Long spaceId, Long templateId) {}
+
+  /**
+   * 캐시에 있으면 돌려주고, 없으면 loader로 읽어 저장합니다. loader가 null을 돌려주거나 예외를 던지면 저장하지 않습니다.
+   *
+   * <p>검증 조회까지 loader 안에서 하므로 커밋 전 스냅샷으로 읽은 값이 무효화 뒤에 다시 저장되지 않습니다 (같은 키의 로드와 무효화는
+   * 서로 기다림).
+   */
+  public TemplateDetailResponseDto get(
+      Long spaceId, Long templateId, Supplier<TemplateDetailResponseDto> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    return cache.get(new Key(spaceId, templateId), key -> loader.get());
+  }
+
+  /** 템플릿이 바뀌거나 삭제될 때 호출합니다. 지금 한 번, 트랜잭션 커밋 후에 한 번 더 지웁니다. */
+  public void evict(Long spaceId, Long templateId) {
+    Key key = new Key(spaceId, templateId);
+    invalidateNowAndAfterCommit(() -> cache.invalidate(key));
+  }
+
+  /** 스페이스가 삭제될 때 그 스페이스의 항목을 모두 지웁니다. */
+  public void evictSpace(Long spaceId) {
+    invalidateNowAndAfterCommit(() -> cache.asMap().keySet().removeIf(key -> key.spaceId().equals(spaceId)));
+  }
+
+  /** 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 후에도 한 번 더 지웁니다. */
+  private static void invalidateNowAndAfterCommit(Runnable invalidate) {
+    invalidate.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              invalidate.run();
+            }
+          });
+    }
+  }
+
+  /** Java 문자열은 한글이 섞이면 글자당 2바이트이므로 길이 * 2로 추정합니다. */
+  static int weigh(TemplateDetailResponseDto dto) {
+    long chars =
+        length(dto.getTitle())
+            + length(dto.getDescription())
+            + length(dto.getStatus())
+            + length(dto.getSessionId())
+            + length(dto.getTemplate())
+            + length(dto.getStructuredTemplate())
+            + length(dto.getEditableVariables());
+    return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + chars * 2);
+  }
+
+  private static int length(String value) {
+    return value != null ? value.length() : 0;
+  }
+
+  private static double weightedSize(Cache<?, ?> cache) {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+}
@@ -0,0 +1,267 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.template.dto.request.TemplateCreateRequestDto;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateJobResponseDto;
+import org.fastcampus.jober.template.entity.TemplateJob;
+import org.fastcampus.jober.template.entity.enums.JobStatus;
+import org.fastcampus.jober.template.repository.TemplateJobRepository;
+import org.fastcampus.jober.util.AiCallScheduler;
+
+/**
+ * 비동기 템플릿 생성 작업 큐. 작업은 DB(template_job)에 먼저 저장한 뒤 고정 크기 워커 풀에서 TemplateService.createTemplate으로
+ * 실행합니다. 워커 수가 곧 작업 모드의 AI 서버 동시 호출 상한이며, 서버가 재시작되면 대기/실행 중이던 작업을 다시 실행합니다.
+ *
+ * <p>단일 인스턴스 배포를 가정합니다. 여러 인스턴스가 같은 DB를 쓰면 재시작 복구 시 작업이 중복 실행될 수 있습니다.
+ */
+@Slf4j
+@Service
+public class TemplateJobService {
+
+  private static final EnumSet<JobStatus> UNFINISHED = EnumSet.of(JobStatus.QUEUED, JobStatus.RUNNING);
+
+  private final TemplateJobRepository templateJobRepository;
+  private final TemplateService templateService;
+  private final ObjectMapper objectMapper;
+  private final AiFlaskProps.Jobs settings;
+
+  private final ExecutorService workers;
+  private final AtomicInteger pending = new AtomicInteger();
+  // 완료를 기다리는 구독자용. 작업이 끝나면 제거됨
+  private final Map<String, Sinks.One<TemplateJobResponseDto>> completions = new ConcurrentHashMap<>();
+
+  public TemplateJobService(
+      TemplateJobRepository templateJobRepository,
+      TemplateService templateService,
+      ObjectMapper objectMapper,
+      AiFlaskProps aiFlaskProps,
+      MeterRegistry meterRegistry) {
+    this.templateJobRepository = templateJobRepository;
+    this.templateService = templateService;
+    this.objectMapper = objectMapper;
+    this.settings = aiFlaskProps.getJobs();
+    // 대기열 길이는 pending 카운터로 제한하므로 큐 자체는 제한하지 않음 (복구된 작업은 모두 받아야 함)
+    this.workers =
+        new ThreadPoolExecutor(
+            settings.getWorkers(),
+            settings.getWorkers(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            Thread.ofPlatform().name("template-job-", 0).daemon(true).factory());
+    meterRegistry.gauge("template.jobs.pending", pending);
+  }
+
+  /**
+   * 템플릿 생성 작업을 등록하고 즉시 반환합니다.
+   *
+   * @param userId 작업을 등록하는 사용자 ID
+   * @param request 템플릿 생성 요청 DTO
+   * @return 등록된 작업 상태 (QUEUED)
+   * @throws BusinessException 대기 중인 작업이 너무 많은 경우 (429)
+   */
+  public TemplateJobResponseDto submit(Long userId, TemplateCreateRequestDto request) {
+    if (pending.incrementAndGet() > settings.getMaxPending()) {
+      pending.decrementAndGet();
+      throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "대기 중인 생성 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+    TemplateJob job;
+    try {
+      job = templateJobRepository.save(TemplateJob.queued(userId, objectMapper.writeValueAsString(request)));
+    } catch (JsonProcessingException | RuntimeException e) {
+      pending.decrementAndGet();
+      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "생성 작업을 등록하지 못했습니다.", e);
+    }
+    dispatch(job.getId());
+    log.info("[JOB] 생성 작업 등록: {}", job.getId());
+    return toResponse(job);
+  }
+
+  /**
+   * 작업 상태를 조회합니다.
+   *
+   * @param userId 조회하는 사용자 ID
+   * @param jobId 작업 ID
+   * @return 작업 상태 (완료 시 결과 포함)
+   * @throws BusinessException 작업이 없거나 다른 사용자의 작업인 경우 (404)
+   */
+  public TemplateJobResponseDto get(Long userId, String jobId) {
+    return toResponse(findOwnedOrThrow(userId, jobId));
+  }
+
+  /**
+   * 작업 상태를 구독합니다. 현재 상태를 먼저 보내고, 끝나지 않은 작업이면 완료 상태를 한 번 더 보낸 뒤 종료합니다.
+   *
+   * @param userId 구독하는 사용자 ID
+   * @param jobId 작업 ID
+   * @return 작업 상태 스트림
+   * @throws BusinessException 작업이 없거나 다른 사용자의 작업인 경우 (404)
+   */
+  public Flux<TemplateJobResponseDto> subscribe(Long userId, String jobId) {
+    // 조회보다 먼저 sink를 등록해야 조회와 완료 사이의 완료 신호를 놓치지 않음
+    Sinks.One<TemplateJobResponseDto> completion =
+        completions.computeIfAbsent(jobId, id -> Sinks.one());
+    TemplateJobResponseDto current;
+    try {
+      current = get(userId, jobId);
+    } catch (BusinessException e) {
+      completions.remove(jobId, completion);
+      throw e;
+    }
+    if (current.getStatus().isTerminal()) {
+      completions.remove(jobId, completion);
+      return Flux.just(current);
+    }
+    return Flux.concat(
+        Mono.just(current),
+        completion
+            .asMono()
+            .timeout(settings.getSubscribeTimeout(), Mono.fromCallable(() -> get(userId, jobId))));
+  }
+
+  /** 재시작 전에 끝나지 않은 작업을 다시 실행합니다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeUnfinishedJobs() {
+    List<TemplateJob> unfinished = templateJobRepository.findByStatusInOrderByCreatedAtAsc(UNFINISHED);
+    for (TemplateJob job : unfinished) {
+      if (job.getAttempts() >= settings.getMaxAttempts()) {
+        job.fail("최대 시도 횟수(" + settings.getMaxAttempts() + "회)를 초과했습니다.");
+        templateJobRepository.save(job);
+        continue;
+      }
+      if (job.getStatus() == JobStatus.RUNNING) {
+        job.requeue();
+        templateJobRepository.save(job);
+      }
+      pending.incrementAndGet();
+      dispatch(job.getId());
+    }
+    if (!unfinished.isEmpty()) {
+      log.info("[JOB] 미완료 작업 {}건 복구", unfinished.size());
+    }
+  }
+
+  private void dispatch(String jobId) {
+    try {
+      workers.execute(() -> run(jobId));
+    } catch (RejectedExecutionException e) {
+      // 종료 중: 작업은 QUEUED로 남아 다음 기동 시 복구됨
+      pending.decrementAndGet();
+      log.warn("[JOB] 워커 풀 종료 중이라 작업을 실행하지 못했습니다: {}", jobId);
+    }
+  }
+
+  private void run(String jobId) {
+    try {
+      TemplateJob job = findOrThrow(jobId);
+      job.start();
+      job = templateJobRepository.save(job);
+
+      try {
+        TemplateCreateRequestDto request =
+            objectMapper.readValue(job.getRequestPayload(), TemplateCreateRequestDto.class);
+        TemplateCreateResponseDto result =
+            templateService.createTemplate(
+                job.getUserId(),
+                templateService.queueKey(job.getUserId(), request.getSpaceId()),
+                request,
+                AiCallScheduler.Priority.BACKGROUND);
+        if (Boolean.TRUE.equals(result.getSuccess())) {
+          job.succeed(objectMapper.writeValueAsString(result));
+        } else {
+          // AI 서버 장애 시 돌아오는 폴백 응답 (success=false)
+          log.warn("[JOB] 생성 작업 실패 응답: {} - {}", jobId, result.getResponse());
+          job.fail(result.getResponse());
+        }
+      } catch (Exception e) {
+        if (Thread.currentThread().isInterrupted()) {
+          // 종료로 인한 중단: RUNNING으로 남겨 두고 다음 기동 시 복구
+          log.warn("[JOB] 종료로 작업이 중단되었습니다: {}", jobId);
+          return;
+        }
+        log.warn("[JOB] 생성 작업 실패: {} - {}", jobId, e.getMessage());
+        job.fail(e.getMessage());
+      }
+      job = templateJobRepository.save(job);
+      complete(job);
+    } catch (Exception e) {
+      log.error("[JOB] 작업 상태 저장 실패: {} - {}", jobId, e.getMessage(), e);
+    } finally {
+      pending.decrementAndGet();
+    }
+  }
+
+  private void complete(TemplateJob job) {
+    Sinks.One<TemplateJobResponseDto> completion = completions.remove(job.getId());
+    if (completion != null) {
+      completion.tryEmitValue(toResponse(job));
+    }
+  }
+
+  private TemplateJob findOrThrow(String jobId) {
+    return templateJobRepository
+        .findById(jobId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "작업을 찾을 수 없습니다."));
+  }
+
+  /** 다른 사용자의 작업은 존재 여부를 드러내지 않도록 없는 작업과 같이 처리합니다. */
+  private TemplateJob findOwnedOrThrow(Long userId, String jobId) {
+    TemplateJob job = findOrThrow(jobId);
+    if (!job.isOwnedBy(userId)) {
+      throw new BusinessException(ErrorCode.NOT_FOUND, "작업을 찾을 수 없습니다.");
+    }
+    return job;
+  }
+
+  private TemplateJobResponseDto toResponse(TemplateJob job) {
+    TemplateCreateResponseDto result = null;
+    if (job.getResultPayload() != null) {
+      try {
+        result = objectMapper.readValue(job.getResultPayload(), TemplateCreateResponseDto.class);
+      } catch (JsonProcessingException e) {
+        log.warn("[JOB] 결과 역직렬화 실패: {} - {}", job.getId(), e.getMessage());
+      }
+    }
+    return TemplateJobResponseDto.builder()
+        .jobId(job.getId())
+        .status(job.getStatus())
+        .attempts(job.getAttempts())
+        .result(result)
+        .error(job.getErrorMessage())
+        .createdAt(job.getCreatedAt())
+        .completedAt(job.getCompletedAt())
+        .build();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    workers.shutdownNow();
+  }
+}
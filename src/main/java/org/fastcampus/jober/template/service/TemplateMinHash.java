@@ -0,0 +1,129 @@
+package org.fastcampus.jober.template.service;
+
+import java.nio.ByteBuffer;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 템플릿 본문의 MinHash 서명. 본문을 정규화한 뒤 5글자 shingle 집합을 만들고, 해시 함수 120개 각각의 최솟값을 서명으로 둡니다. 두
+ * 서명에서 같은 자리의 값이 일치하는 비율이 shingle 집합의 Jaccard 유사도 추정치입니다.
+ *
+ * <p>LSH: 서명을 6개씩 20개 밴드로 나누고 밴드 하나라도 같으면 후보로 봅니다. 유사도 s인 쌍이 후보가 될 확률은 1 - (1 - s^6)^20
+ * 으로 s=0.8이면 99.8%, s=0.7이면 92%, s=0.5면 27%, s=0.3이면 1.5%이며 후보는 서명 전체로 다시 걸러냅니다.
+ *
+ * <p>#{변수}는 이름과 상관없이 같은 자리표시자로 보므로 변수 이름만 바꾼 사본도 같은 템플릿으로 잡힙니다.
+ */
+final class TemplateMinHash {
+
+  static final int BANDS = 20;
+  static final int ROWS = 6;
+  static final int SIZE = BANDS * ROWS;
+  static final int SHINGLE = 5;
+
+  private static final Pattern PLACEHOLDER = Pattern.compile("#\\{[^#{}]*}");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  // 해시 함수 h(x) = (x * MULTIPLIERS[i] + ADDENDS[i])의 상위 32비트 (multiply-shift)
+  private static final long[] MULTIPLIERS = new long[SIZE];
+  private static final long[] ADDENDS = new long[SIZE];
+
+  static {
+    long seed = 0x9E3779B97F4A7C15L;
+    for (int i = 0; i < SIZE; i++) {
+      seed = mix(seed + 0x632BE59BD9B4E019L);
+      MULTIPLIERS[i] = seed | 1L;
+      seed = mix(seed + 0x632BE59BD9B4E019L);
+      ADDENDS[i] = seed;
+    }
+  }
+
+  private TemplateMinHash() {}
+
+  /**
+   * 본문의 서명을 계산합니다.
+   *
+   * @return 길이 SIZE인 서명. 정규화 후 빈 본문이면 null
+   */
+  static int[] signature(String text) {
+    String normalized = normalize(text);
+    if (normalized.isEmpty()) {
+      return null;
+    }
+    int[] signature = new int[SIZE];
+    Arrays.fill(signature, Integer.MAX_VALUE);
+    int last = Math.max(0, normalized.length() - SHINGLE);
+    for (int start = 0; start <= last; start++) {
+      int end = Math.min(normalized.length(), start + SHINGLE);
+      long hash = 1125899906842597L;
+      for (int i = start; i < end; i++) {
+        hash = 31 * hash + normalized.charAt(i);
+      }
+      hash = mix(hash);
+      for (int h = 0; h < SIZE; h++) {
+        int value = (int) ((hash * MULTIPLIERS[h] + ADDENDS[h]) >>> 33);
+        if (value < signature[h]) {
+          signature[h] = value;
+        }
+      }
+    }
+    return signature;
+  }
+
+  /** 같은 자리 값이 일치하는 비율 (Jaccard 유사도 추정치, 0~1) */
+  static double similarity(int[] a, int[] b) {
+    int same = 0;
+    for (int i = 0; i < SIZE; i++) {
+      if (a[i] == b[i]) {
+        same++;
+      }
+    }
+    return (double) same / SIZE;
+  }
+
+  /** band번째 밴드(ROWS개 값)를 하나의 버킷 키로 합칩니다. 밴드 번호도 섞어 다른 밴드끼리는 충돌하지 않게 합니다. */
+  static long bandKey(int[] signature, int band) {
+    long key = band * 0x9E3779B97F4A7C15L;
+    int offset = band * ROWS;
+    for (int i = 0; i < ROWS; i++) {
+      key = mix(key ^ (signature[offset + i] & 0xFFFFFFFFL));
+    }
+    return key;
+  }
+
+  /** DB 저장용 (SIZE * 4바이트) */
+  static byte[] encode(int[] signature) {
+    if (signature == null) {
+      return null;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(SIZE * Integer.BYTES);
+    buffer.asIntBuffer().put(signature);
+    return buffer.array();
+  }
+
+  /** 길이가 맞지 않으면(서명 형식이 바뀐 경우 등) null을 돌려 본문에서 다시 계산하게 합니다. */
+  static int[] decode(byte[] bytes) {
+    if (bytes == null || bytes.length != SIZE * Integer.BYTES) {
+      return null;
+    }
+    int[] signature = new int[SIZE];
+    ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+    return signature;
+  }
+
+  static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    normalized = PLACEHOLDER.matcher(normalized).replaceAll("#{}");
+    return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+  }
+
+  /** splitmix64 finalizer */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
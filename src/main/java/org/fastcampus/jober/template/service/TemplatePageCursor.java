@@ -0,0 +1,47 @@
+package org.fastcampus.jober.template.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+
+/**
+ * 템플릿 목록 키셋 커서. "spaceId:마지막 templateId"를 base64url로 감싼 값이며, 다른 스페이스의 커서는 거절합니다. 서버 상태가
+ * 없으므로 인스턴스가 달라도 이어서 조회할 수 있습니다.
+ */
+final class TemplatePageCursor {
+
+  // 첫 페이지: 모든 id보다 큰 값에서 시작
+  static final long FIRST = Long.MAX_VALUE;
+
+  private TemplatePageCursor() {}
+
+  static String encode(Long spaceId, long lastTemplateId) {
+    String raw = spaceId + ":" + lastTemplateId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서를 풀어 다음 페이지의 상한(이 id 미만)을 돌려줍니다.
+   *
+   * @param spaceId 요청한 스페이스 ID
+   * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+   * @throws BusinessException 형식이 잘못되었거나 다른 스페이스의 커서인 경우 (BAD_REQUEST)
+   */
+  static long decode(Long spaceId, String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return FIRST;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      if (separator > 0 && Long.parseLong(raw.substring(0, separator)) == spaceId) {
+        return Long.parseLong(raw.substring(separator + 1));
+      }
+    } catch (IllegalArgumentException e) {
+      // 아래에서 BAD_REQUEST로 변환
+    }
+    throw new BusinessException(ErrorCode.BAD_REQUEST, "잘못된 페이지 커서입니다.");
+  }
+}
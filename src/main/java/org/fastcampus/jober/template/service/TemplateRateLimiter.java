@@ -0,0 +1,127 @@
+package org.fastcampus.jober.template.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.fastcampus.jober.common.RateLimitProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.error.RateLimitExceededException;
+import org.fastcampus.jober.util.RateLimitStore;
+import org.fastcampus.jober.util.TokenBucketSpec;
+
+/**
+ * 템플릿 생성 API 요청 제한. 사용자(userId)와 스페이스(spaceId) 토큰 버킷을 차례로 확인하고, 하나라도 비어 있으면 429로
+ * 거절합니다. spaceId가 없는 요청은 사용자 버킷만 확인하고, 로그인 사용자가 없으면(permit-all) 사용자 제한을 생략합니다. 거절
+ * 수는 template.ratelimit.rejected{scope=user|space} 지표로 남습니다.
+ *
+ * <p>스페이스 멤버십은 확인하지 않으므로, 다른 스페이스의 버킷을 비우지 못하도록 TemplateService.queueKey로 멤버십을 확인한
+ * spaceId만 넘겨야 합니다.
+ */
+@Slf4j
+@Component
+public class TemplateRateLimiter {
+
+  private final boolean enabled;
+  private final TokenBucketSpec userSpec;
+  private final TokenBucketSpec spaceSpec;
+  private final RateLimitStore store;
+  private final Counter userRejected;
+  private final Counter spaceRejected;
+
+  public TemplateRateLimiter(RateLimitProps props, RateLimitStore store, MeterRegistry meterRegistry) {
+    this.enabled = props.isEnabled();
+    this.userSpec = spec(props.getUser());
+    this.spaceSpec = spec(props.getSpace());
+    this.store = store;
+    this.userRejected = meterRegistry.counter("template.ratelimit.rejected", "scope", "user");
+    this.spaceRejected = meterRegistry.counter("template.ratelimit.rejected", "scope", "space");
+  }
+
+  /**
+   * 요청 1건 분량의 토큰을 꺼냅니다.
+   *
+   * @see #acquire(Long, List)
+   */
+  public void acquire(Long userId, Long spaceId) {
+    acquire(userId, Collections.singletonList(spaceId));
+  }
+
+  /**
+   * 사용자 버킷에서 요청 수만큼, 각 스페이스 버킷에서 그 스페이스 요청 수만큼 토큰을 꺼냅니다 (일괄 생성은 항목마다 자기 스페이스에
+   * 부과). 버킷 크기보다 큰 요청은 기다려도 통과할 수 없으므로 나눠 보내도록 400으로 거절합니다.
+   *
+   * @param userId 로그인 사용자 ID (없으면 사용자 제한 생략)
+   * @param spaceIds 요청 항목별 스페이스 ID. 멤버십을 확인한 값이어야 하며, null인 항목은 사용자 버킷에만 부과
+   * @throws BusinessException 버킷 크기를 넘는 경우
+   * @throws RateLimitExceededException 어느 한 버킷이라도 토큰이 부족한 경우
+   */
+  public void acquire(Long userId, List<Long> spaceIds) {
+    if (!enabled) {
+      return;
+    }
+    Map<Long, Integer> costBySpace = new TreeMap<>();
+    for (Long spaceId : spaceIds) {
+      if (spaceId != null) {
+        costBySpace.merge(spaceId, 1, Integer::sum);
+      }
+    }
+    if (userId != null && spaceIds.size() > userSpec.capacity()) {
+      throw new BusinessException(
+          ErrorCode.BAD_REQUEST, "한 번에 최대 " + userSpec.capacity() + "개까지 요청할 수 있습니다.");
+    }
+    for (int cost : costBySpace.values()) {
+      if (cost > spaceSpec.capacity()) {
+        throw new BusinessException(
+            ErrorCode.BAD_REQUEST, "스페이스당 한 번에 최대 " + spaceSpec.capacity() + "개까지 요청할 수 있습니다.");
+      }
+    }
+
+    long now = System.nanoTime();
+    String userKey = userId != null ? "user:" + userId : null;
+    if (userKey != null) {
+      long wait = store.tryConsume(userKey, spaceIds.size(), userSpec, now);
+      if (wait > 0) {
+        userRejected.increment();
+        throw exceeded("사용자", userKey, wait);
+      }
+    }
+    Map<String, Integer> consumed = new LinkedHashMap<>();
+    for (Map.Entry<Long, Integer> entry : costBySpace.entrySet()) {
+      String spaceKey = "space:" + entry.getKey();
+      long wait = store.tryConsume(spaceKey, entry.getValue(), spaceSpec, now);
+      if (wait > 0) {
+        // 한 스페이스라도 거절되면 앞서 꺼낸 토큰은 모두 돌려줌
+        if (userKey != null) {
+          store.refund(userKey, spaceIds.size(), userSpec);
+        }
+        consumed.forEach((key, tokens) -> store.refund(key, tokens, spaceSpec));
+        spaceRejected.increment();
+        throw exceeded("스페이스", spaceKey, wait);
+      }
+      consumed.put(spaceKey, entry.getValue());
+    }
+  }
+
+  private static RateLimitExceededException exceeded(String scope, String key, long waitNanos) {
+    RateLimitExceededException e =
+        new RateLimitExceededException(scope + " 요청 한도를 초과했습니다.", Duration.ofNanos(waitNanos));
+    log.debug("[RATE-LIMIT] 요청 제한 초과: {} (retry after {}s)", key, e.getRetryAfterSeconds());
+    return e;
+  }
+
+  private static TokenBucketSpec spec(RateLimitProps.Bucket bucket) {
+    return TokenBucketSpec.of(
+        bucket.getCapacity(), bucket.getRefillTokens(), bucket.getRefillPeriod());
+  }
+}
@@ -0,0 +1,206 @@
+package org.fastcampus.jober.template.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import org.fastcampus.jober.common.TemplateRenderProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.space.entity.SpaceContacts;
+import org.fastcampus.jober.space.repository.SpaceContactsRepository;
+import org.fastcampus.jober.space.repository.SpaceMemberRepository;
+import org.fastcampus.jober.template.dto.response.TemplateRenderPreviewResponseDto;
+import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.repository.TemplateRepository;
+import org.fastcampus.jober.user.dto.CustomUserDetails;
+
+/**
+ * 저장된 템플릿의 #{변수}를 스페이스 연락처로 채웁니다. 템플릿은 (본문, editableVariables) 내용을 키로 한 번만 컴파일해 캐시하므로
+ * 템플릿을 수정하면 새 내용으로 다시 컴파일됩니다. 내보내기는 연락처를 export-batch-size씩 읽어 NDJSON으로 바로 쓰고, 행마다
+ * 같은 StringBuilder/char[]를 재사용해 연락처 수와 무관한 메모리로 동작합니다.
+ *
+ * <p>지표: cache.gets (cache=template.render.compiled), template.render.export, template.render.rows
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TemplateRenderService {
+
+  static final String CACHE_NAME = "template.render.compiled";
+
+  private final TemplateRepository templateRepository;
+  private final SpaceContactsRepository spaceContactsRepository;
+  private final SpaceMemberRepository spaceMemberRepository;
+  private final ObjectMapper objectMapper;
+  private final TemplateRenderProps props;
+  private final Cache<Source, CompiledTemplate> compiled;
+  private final Timer exportTimer;
+  private final Counter renderedRows;
+
+  public TemplateRenderService(
+      TemplateRepository templateRepository,
+      SpaceContactsRepository spaceContactsRepository,
+      SpaceMemberRepository spaceMemberRepository,
+      ObjectMapper objectMapper,
+      TemplateRenderProps props,
+      MeterRegistry meterRegistry) {
+    this.templateRepository = templateRepository;
+    this.spaceContactsRepository = spaceContactsRepository;
+    this.spaceMemberRepository = spaceMemberRepository;
+    this.objectMapper = objectMapper;
+    this.props = props;
+    this.compiled =
+        Caffeine.newBuilder()
+            .maximumWeight(props.getMaxCachedChars())
+            .weigher((Source source, CompiledTemplate value) -> source.length())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, compiled, CACHE_NAME);
+    this.exportTimer = Timer.builder("template.render.export").register(meterRegistry);
+    this.renderedRows = Counter.builder("template.render.rows").register(meterRegistry);
+  }
+
+  /** 컴파일 캐시 키. 내용이 같으면 templateId가 달라도 같은 컴파일 결과를 씁니다. */
+  private record Source(String template, String editableVariables) {
+    int length() {
+      return (template != null ? template.length() : 0)
+          + (editableVariables != null ? editableVariables.length() : 0);
+    }
+  }
+
+  /**
+   * 연락처 앞쪽 일부로 렌더링 결과를 미리 봅니다.
+   *
+   * @param principal 로그인 사용자 (스페이스 멤버만 허용)
+   * @param spaceId 스페이스 ID
+   * @param templateId 템플릿 ID
+   * @param tag 연락처 태그 (null이면 전체)
+   * @param size 미리볼 연락처 수 (없거나 0 이하면 기본값, 최대 max-preview-size)
+   * @return 변수 목록과 연락처별 렌더링 결과
+   */
+  public TemplateRenderPreviewResponseDto preview(
+      CustomUserDetails principal, Long spaceId, Long templateId, String tag, Integer size) {
+    CompiledTemplate template = prepare(principal, spaceId, templateId);
+    int limit =
+        size == null || size <= 0
+            ? props.getDefaultPreviewSize()
+            : Math.min(size, props.getMaxPreviewSize());
+    List<SpaceContacts> contacts =
+        spaceContactsRepository.findPageBySpaceId(spaceId, tag, 0L, Limit.of(limit));
+    renderedRows.increment(contacts.size());
+    return TemplateRenderPreviewResponseDto.builder()
+        .templateId(templateId)
+        .variables(template.variables())
+        .unresolvedVariables(template.unresolvedVariables())
+        .items(
+            contacts.stream()
+                .map(
+                    contact ->
+                        TemplateRenderPreviewResponseDto.Item.builder()
+                            .contactId(contact.getId())
+                            .name(contact.getName())
+                            .phoneNum(contact.getPhoneNum())
+                            .text(template.render(contact))
+                            .build())
+                .toList())
+        .build();
+  }
+
+  /**
+   * 권한과 템플릿을 확인하고 컴파일된 템플릿을 돌려줍니다. 내보내기 응답을 시작하기 전에 호출해 오류를 일반 JSON 오류로 응답하게
+   * 합니다.
+   *
+   * @throws BusinessException 스페이스 멤버가 아니면 FORBIDDEN, 템플릿이 없거나 삭제되었으면 NOT_FOUND
+   */
+  public CompiledTemplate prepare(CustomUserDetails principal, Long spaceId, Long templateId) {
+    spaceMemberRepository
+        .findBySpaceIdAndUserId(spaceId, principal.getUserId())
+        .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 렌더링할 수 있습니다."));
+    Template template = templateRepository.findBySpaceIdAndTemplateIdWithAllFields(spaceId, templateId);
+    if (template == null || Boolean.TRUE.equals(template.getIsDeleted())) {
+      throw new BusinessException(ErrorCode.NOT_FOUND, "템플릿을 찾을 수 없습니다.");
+    }
+    return compile(template.getTemplate(), template.getEditableVariables());
+  }
+
+  /**
+   * 스페이스 연락처 전체(또는 태그)에 대해 렌더링 결과를 한 줄에 하나씩 NDJSON으로 씁니다.
+   * {"contactId":1,"name":"...","phoneNum":"...","text":"..."}
+   *
+   * <p>배치 조회마다 짧은 읽기 트랜잭션을 쓰도록 바깥 트랜잭션 없이 실행하므로 영속성 컨텍스트에 연락처가 쌓이지 않습니다.
+   *
+   * @return 내보낸 연락처 수
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public long export(CompiledTemplate template, Long spaceId, String tag, OutputStream out)
+      throws IOException {
+    long start = System.nanoTime();
+    long rows = 0;
+    StringBuilder text = new StringBuilder(template.estimatedLength());
+    char[] chars = new char[template.estimatedLength()];
+    try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+      json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+      json.setRootValueSeparator(null);
+      long afterId = 0L;
+      while (true) {
+        List<SpaceContacts> batch =
+            spaceContactsRepository.findPageBySpaceId(
+                spaceId, tag, afterId, Limit.of(props.getExportBatchSize()));
+        for (SpaceContacts contact : batch) {
+          text.setLength(0);
+          template.renderTo(contact, text);
+          if (chars.length < text.length()) {
+            chars = new char[text.length() * 2];
+          }
+          text.getChars(0, text.length(), chars, 0);
+
+          json.writeStartObject();
+          json.writeNumberField("contactId", contact.getId());
+          json.writeStringField("name", contact.getName());
+          json.writeStringField("phoneNum", contact.getPhoneNum());
+          json.writeFieldName("text");
+          json.writeString(chars, 0, text.length());
+          json.writeEndObject();
+          json.writeRaw('\n');
+        }
+        rows += batch.size();
+        renderedRows.increment(batch.size());
+        json.flush();
+        if (batch.size() < props.getExportBatchSize()) {
+          break;
+        }
+        afterId = batch.get(batch.size() - 1).getId();
+      }
+    } finally {
+      exportTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    log.info("템플릿 렌더링 내보내기 완료 - spaceId: {}, rows: {}", spaceId, rows);
+    return rows;
+  }
+
+  /** 같은 내용은 캐시된 컴파일 결과를 재사용합니다. */
+  CompiledTemplate compile(String template, String editableVariables) {
+    return compiled.get(
+        new Source(template, editableVariables),
+        source ->
+            CompiledTemplate.compile(
+                source.template(), EditableVariables.parse(objectMapper, source.editableVariables())));
+  }
+}
@@ -0,0 +1,65 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+
+/**
+ * 동일한 AI 템플릿 생성 요청에 대한 응답 캐시. AI 서버로 보내는 요청 body의 정규화 해시(CanonicalJsonHasher)를 키로 사용하며,
+ * 크기/TTL 기반으로 만료됩니다. 적중/미스/축출 지표는 cache.gets, cache.evictions (cache=ai.template.response)로
+ * 노출됩니다.
+ */
+@Component
+public class TemplateResponseCache {
+
+  static final String CACHE_NAME = "ai.template.response";
+
+  private final AiFlaskProps.ResponseCache props;
+  private final Cache<String, TemplateCreateResponseDto> cache;
+
+  public TemplateResponseCache(AiFlaskProps aiFlaskProps, MeterRegistry meterRegistry) {
+    this.props = aiFlaskProps.getResponseCache();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(props.getMaxSize())
+            .expireAfterWrite(props.getTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 캐시 대상 요청인지 확인합니다.
+   *
+   * @param requestBody AI 서버로 보낼 요청 body (TemplateCreateRequestDto.toRequestBody())
+   * @return state.step이 캐시 대상 단계이면 true
+   */
+  public boolean isCacheable(Map<String, Object> requestBody) {
+    if (!props.isEnabled()) {
+      return false;
+    }
+    Object state = requestBody.get("state");
+    Object step = state instanceof Map<?, ?> stateMap ? stateMap.get("step") : null;
+    return step != null && props.getCacheableSteps().contains(step.toString());
+  }
+
+  public Optional<TemplateCreateResponseDto> get(String key) {
+    return Optional.ofNullable(cache.getIfPresent(key));
+  }
+
+  /** 성공한 응답만 저장합니다. 실패/폴백 응답은 재시도될 수 있도록 캐시하지 않습니다. */
+  public void put(String key, TemplateCreateResponseDto response) {
+    if (response != null && Boolean.TRUE.equals(response.getSuccess())) {
+      cache.put(key, response);
+    }
+  }
+}
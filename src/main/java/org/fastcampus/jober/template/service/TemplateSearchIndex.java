@@ -0,0 +1,138 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.fastcampus.jober.common.TemplateSearchProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.repository.TemplateRepository;
+import org.fastcampus.jober.template.repository.TemplateSearchDocument;
+
+/**
+ * 스페이스별 템플릿 전문 검색 색인. 스페이스를 처음 검색할 때 DB에서 색인을 만들고, 이후 저장/삭제는 커밋 후 색인에 바로 반영합니다.
+ * 오래 검색하지 않은 스페이스는 메모리에서 내리며, 인스턴스마다 따로 유지됩니다.
+ *
+ * <p>색인은 빈 색인을 캐시에 올린 뒤 새 읽기 트랜잭션에서 채웁니다. 호출한 쪽 트랜잭션의 스냅샷(REPEATABLE READ)으로 읽으면 그
+ * 사이 커밋된 저장이 조회에도, 아직 색인이 없어 건너뛴 커밋 후 반영에도 빠지기 때문입니다.
+ *
+ * <p>지표: template.search.latency, cache.size/cache.evictions (cache=template.search.index)
+ */
+@Component
+public class TemplateSearchIndex {
+
+  static final String CACHE_NAME = "template.search.index";
+
+  private final TemplateSearchProps props;
+  private final TemplateRepository templateRepository;
+  private final Cache<Long, SpaceSearchIndex> spaces;
+  private final TransactionTemplate loadTransaction;
+  private final Timer searchTimer;
+
+  public TemplateSearchIndex(
+      TemplateSearchProps props,
+      TemplateRepository templateRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.props = props;
+    this.templateRepository = templateRepository;
+    this.loadTransaction = new TransactionTemplate(transactionManager);
+    this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.loadTransaction.setReadOnly(true);
+    this.spaces =
+        Caffeine.newBuilder()
+            .maximumSize(props.getMaxSpaces())
+            .expireAfterAccess(props.getIdleTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, spaces, CACHE_NAME);
+    this.searchTimer =
+        Timer.builder("template.search.latency").publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+  }
+
+  /**
+   * 스페이스 템플릿을 검색합니다.
+   *
+   * @param spaceId 스페이스 ID
+   * @param query 검색어 (제목/설명/본문 대상, 모든 단어를 포함해야 일치)
+   * @param page 0부터 시작하는 페이지 번호
+   * @param size 페이지 크기 (max-page-size 이하로 제한)
+   * @throws BusinessException 검색어에 검색할 수 있는 글자가 없는 경우 (BAD_REQUEST)
+   */
+  public SpaceSearchIndex.Page search(Long spaceId, String query, int page, int size) {
+    Set<String> tokens = TemplateTokenizer.queryTokens(query);
+    if (tokens.isEmpty()) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST, "검색어를 입력해주세요.");
+    }
+    if (page < 0) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST, "page는 0 이상이어야 합니다.");
+    }
+    int limit = size <= 0 ? props.getDefaultPageSize() : Math.min(size, props.getMaxPageSize());
+    long offset = (long) page * limit;
+    if (offset > Integer.MAX_VALUE - limit) {
+      return SpaceSearchIndex.Page.EMPTY;
+    }
+
+    SpaceSearchIndex index =
+        spaces.get(spaceId, id -> new SpaceSearchIndex(props.getCompactionRatio()));
+    index.ensureLoaded(
+        () -> loadTransaction.execute(status -> templateRepository.findSearchDocumentsBySpaceId(spaceId)));
+    return searchTimer.record(() -> index.search(tokens, (int) offset, limit));
+  }
+
+  /** 저장된 템플릿을 커밋 후 색인에 반영합니다. 색인이 아직 없는 스페이스는 첫 검색 때 DB에서 읽으므로 건너뜁니다. */
+  public void index(Template template) {
+    TemplateSearchDocument document = TemplateSearchDocument.from(template);
+    afterCommit(
+        () -> {
+          SpaceSearchIndex index = spaces.getIfPresent(document.spaceId());
+          if (index != null) {
+            index.upsert(document);
+          }
+        });
+  }
+
+  /** 삭제된 템플릿을 커밋 후 색인에서 뺍니다. */
+  public void remove(Long spaceId, Long templateId) {
+    afterCommit(
+        () -> {
+          SpaceSearchIndex index = spaces.getIfPresent(spaceId);
+          if (index != null) {
+            index.remove(templateId);
+          }
+        });
+  }
+
+  /** JDBC로 여러 템플릿을 한 번에 넣은 뒤 호출합니다. 커밋 후 스페이스 색인을 내려 다음 검색 때 DB에서 다시 만듭니다. */
+  public void invalidateSpace(Long spaceId) {
+    afterCommit(() -> spaces.invalidate(spaceId));
+  }
+
+  /** 롤백된 변경이 색인에 남지 않도록 트랜잭션 안이면 커밋 후에, 밖이면 바로 실행합니다. */
+  private static void afterCommit(Runnable change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      change.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            change.run();
+          }
+        });
+  }
+}
@@ -1,9 +1,16 @@
 package org.fastcampus.jober.template.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
 import org.fastcampus.jober.template.dto.response.*;
 import org.fastcampus.jober.user.dto.CustomUserDetails;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,16 +19,29 @@ import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.common.TemplateListProps;
 import org.fastcampus.jober.error.BusinessException;
 import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.space.repository.SpaceMemberRepository;
 import org.fastcampus.jober.space.repository.SpaceRepository;
 import org.fastcampus.jober.template.dto.request.TemplateCreateRequestDto;
 import org.fastcampus.jober.template.dto.request.TemplateDeleteRequestDto;
 import org.fastcampus.jober.template.dto.request.TemplateSaveRequestDto;
+import org.fastcampus.jober.template.dto.request.TemplateState;
 import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.entity.TemplateContent;
 import org.fastcampus.jober.template.repository.TemplateRepository;
+import org.fastcampus.jober.template.repository.TemplateVariableRepository;
+import org.fastcampus.jober.util.AiCallRejectedException;
+import org.fastcampus.jober.util.AiCallScheduler;
+import org.fastcampus.jober.util.AiCallScheduler.Priority;
+import org.fastcampus.jober.util.AiRequestCoalescer;
+import org.fastcampus.jober.util.CanonicalJsonHasher;
 import org.fastcampus.jober.util.ExternalApiUtil;
+import org.fastcampus.jober.util.SseStreamGuard;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /** 템플릿 관련 비즈니스 로직을 처리하는 서비스 클래스 AI Flask 서버와의 통신을 통해 템플릿 생성 등의 기능을 제공합니다. */
 @Slf4j
@@ -33,6 +53,25 @@ public class TemplateService {
     private final ExternalApiUtil externalApiUtil;
     private final TemplateRepository templateRepository;
     private final SpaceRepository spaceRepository;
+    private final TemplateResponseCache templateResponseCache;
+    private final AiRequestCoalescer aiRequestCoalescer;
+    private final CanonicalJsonHasher canonicalJsonHasher;
+    private final SseStreamGuard sseStreamGuard;
+    private final AiFlaskProps aiFlaskProps;
+    private final AiSessionStore aiSessionStore;
+    private final AiCallScheduler aiCallScheduler;
+    private final SpaceMemberRepository spaceMemberRepository;
+    private final TemplateSearchIndex templateSearchIndex;
+    private final TemplateListProps templateListProps;
+    private final TemplateVersionService templateVersionService;
+    private final TemplateVariableService templateVariableService;
+    private final TemplateVariableRepository templateVariableRepository;
+    private final TemplateDetailCache templateDetailCache;
+    private final TemplateSimilarityIndex templateSimilarityIndex;
+
+    private static final String STREAM_IDLE_MESSAGE = "AI 서버 응답이 지연되어 생성을 중단했습니다. 다시 시도해주세요.";
+    private static final String SCHEDULER_REJECTED_MESSAGE = "요청이 많아 AI 템플릿 생성을 시작하지 못했습니다. 잠시 후 다시 시도해주세요.";
+    private static final byte[] SSE_EVENT_TERMINATOR = "\n\n".getBytes(StandardCharsets.UTF_8);
 
     /** AI Flask 서버의 기본 URL application.yml의 ai.flask.base-url 값을 주입받습니다. */
     @Value("${ai.flask.base-url}")
@@ -44,27 +83,266 @@ public class TemplateService {
     @Value("${ai.flask.chat-stream-endpoint}")
     private String aiFlaskChatStreamEndpoint;
 
-    public Flux<TemplateCreateResponseDto> templateSSE(TemplateCreateRequestDto templateCreateRequestDto) {
-        return externalApiUtil.stream(templateCreateRequestDto.toRequestBody(), aiFlaskChatStreamEndpoint);
+    /**
+     * AI 서버의 SSE 응답을 이벤트 단위 DTO로 변환해 전달합니다.
+     *
+     * @param userId 로그인 사용자 ID (세션 상태 구분용)
+     * @param queue queueKey로 확인한 AI 호출 대기열 키
+     * @param templateCreateRequestDto 템플릿 생성 요청 DTO
+     * @return 생성 진행/결과 이벤트 스트림
+     */
+    public Flux<TemplateCreateResponseDto> templateSSE(
+            Long userId, String queue, TemplateCreateRequestDto templateCreateRequestDto) {
+        TemplateCreateRequestDto request = resolveSession(userId, templateCreateRequestDto);
+        Map<String, Object> requestBody = request.toRequestBody();
+        String key = aiFlaskChatStreamEndpoint + ":" + canonicalJsonHasher.hash(requestBody);
+
+        // 동일한 요청의 스트림은 하나의 업스트림 연결을 공유 (늦게 합류한 구독자는 replay)
+        // 스트림이 열려 있는 동안 스페이스/우선순위 기준 호출 슬롯을 점유
+        Flux<TemplateCreateResponseDto> events = aiRequestCoalescer.flux(key, () -> aiCallScheduler
+                .flux(queue, Priority.INTERACTIVE, () -> sseStreamGuard.upstream(
+                        "decoded",
+                        externalApiUtil.stream(requestBody, aiFlaskChatStreamEndpoint),
+                        () -> Mono.just(ExternalApiUtil.fallbackResponse(STREAM_IDLE_MESSAGE))))
+                .onErrorResume(AiCallRejectedException.class,
+                        e -> Mono.just(ExternalApiUtil.fallbackResponse(SCHEDULER_REJECTED_MESSAGE))));
+        if (request.getSessionId() == null) {
+            return events;
+        }
+        // 공유 스트림이라도 세션 저장은 구독자(세션)마다 수행
+        return Flux.defer(() -> {
+            AtomicReference<TemplateCreateResponseDto> last = new AtomicReference<>();
+            return events
+                    .doOnNext(last::set)
+                    .doOnComplete(() -> aiSessionStore.remember(userId, request.getSessionId(), last.get()));
+        });
+    }
+
+    /**
+     * templateSSE의 pass-through 버전입니다. AI 서버의 SSE 바이트를 디코딩/재직렬화 없이 그대로 전달합니다.
+     *
+     * @param userId 로그인 사용자 ID (세션 상태 구분용)
+     * @param queue queueKey로 확인한 AI 호출 대기열 키
+     * @param templateCreateRequestDto 템플릿 생성 요청 DTO
+     * @return 원본 SSE 바이트 청크
+     */
+    public Flux<byte[]> templateSSERelay(Long userId, String queue, TemplateCreateRequestDto templateCreateRequestDto) {
+        TemplateCreateRequestDto request = resolveSession(userId, templateCreateRequestDto);
+        String sessionId = request.getSessionId();
+        Map<String, Object> requestBody = request.toRequestBody();
+        // 최종 state는 공유 업스트림에서 한 번만 꺼내므로 세션이 있으면 세션 단위로만 합침
+        String key = "relay:" + aiFlaskChatStreamEndpoint + ":" + canonicalJsonHasher.hash(requestBody)
+                + (sessionId != null ? ":" + userId + ":" + sessionId : "");
+
+        return aiRequestCoalescer.flux(key, () -> aiCallScheduler
+                .flux(queue, Priority.INTERACTIVE, () -> sseStreamGuard.upstream(
+                        "relay",
+                        externalApiUtil.relay(requestBody, aiFlaskChatStreamEndpoint,
+                                state -> aiSessionStore.remember(userId, sessionId, state, 1)),
+                        // 앞 이벤트가 중간에 끊겼을 수 있으므로 빈 줄로 닫은 뒤 안내 이벤트를 보냄
+                        () -> Flux.concat(
+                                Mono.just(SSE_EVENT_TERMINATOR),
+                                Mono.fromCallable(() -> externalApiUtil.toSseFrame(
+                                        ExternalApiUtil.fallbackResponse(STREAM_IDLE_MESSAGE))))))
+                .onErrorResume(AiCallRejectedException.class,
+                        e -> Mono.fromCallable(() -> externalApiUtil.toSseFrame(
+                                ExternalApiUtil.fallbackResponse(SCHEDULER_REJECTED_MESSAGE)))));
     }
 
     /**
      * 템플릿 생성 요청을 기반으로 AI가 템플릿을 생성하도록 요청합니다.
      *
-     * @param request 템플릿 생성 요청 DTO (사용자 메시지와 세션 상태 포함)
+     * @param userId 로그인 사용자 ID (세션 상태 구분용)
+     * @param queue queueKey로 확인한 AI 호출 대기열 키
+     * @param templateCreateRequestDto 템플릿 생성 요청 DTO (사용자 메시지와 세션 상태 또는 sessionId 포함)
+     * @return AI가 생성한 구조화된 템플릿 응답 DTO
+     */
+    public TemplateCreateResponseDto createTemplate(
+            Long userId, String queue, TemplateCreateRequestDto templateCreateRequestDto) {
+        return createTemplate(userId, queue, templateCreateRequestDto, Priority.INTERACTIVE);
+    }
+
+    /**
+     * createTemplate과 같지만 AI 호출 슬롯을 지정한 우선순위로 요청합니다 (비동기 작업 큐는 BACKGROUND).
+     *
+     * @param userId 로그인(작업 등록) 사용자 ID
+     * @param queue queueKey로 확인한 AI 호출 대기열 키
+     * @param templateCreateRequestDto 템플릿 생성 요청 DTO
+     * @param priority AI 호출 우선순위
      * @return AI가 생성한 구조화된 템플릿 응답 DTO
-     * @throws RuntimeException AI 서버 통신 실패 시 발생
      */
-    public TemplateCreateResponseDto createTemplate(TemplateCreateRequestDto request) {
+    public TemplateCreateResponseDto createTemplate(
+            Long userId, String queue, TemplateCreateRequestDto templateCreateRequestDto, Priority priority) {
+        // sessionId만 보낸 경우 서버에 보관된 세션 상태로 state를 채움
+        TemplateCreateRequestDto request = resolveSession(userId, templateCreateRequestDto);
+
         // AI Flask 서버로 보낼 URL 구성
         String url = aiFlaskBaseUrl + aiFlaskChatEndpoint;
 
         // DTO의 toRequestBody() 메서드를 통해 요청 body 구성
         // 데이터 변환과 null 처리 책임을 DTO에게 위임
-        Object requestBody = request.toRequestBody();
+        Map<String, Object> requestBody = request.toRequestBody();
+        String requestHash = canonicalJsonHasher.hash(requestBody);
+
+        // 결정적인 단계(initial 등)의 동일 요청은 캐시된 응답을 재사용
+        boolean cacheable = templateResponseCache.isCacheable(requestBody);
+        if (cacheable) {
+            Optional<TemplateCreateResponseDto> cached = templateResponseCache.get(requestHash);
+            if (cached.isPresent()) {
+                aiSessionStore.remember(userId, request.getSessionId(), cached.get().getState(), 0);
+                return cached.get();
+            }
+        }
+
+        // ExternalApiUtil을 통해 AI Flask 서버로 요청 전송 (동시에 들어온 동일 요청은 한 번만 전송)
+        TemplateCreateResponseDto response;
+        try {
+            response = aiRequestCoalescer.execute(
+                    aiFlaskChatEndpoint + ":" + requestHash,
+                    () -> aiCallScheduler.call(queue, priority,
+                            () -> externalApiUtil.postJson(url, requestBody, TemplateCreateResponseDto.class, "AI Flask 서버")));
+        } catch (AiCallRejectedException e) {
+            log.warn("AI 호출 슬롯 대기 실패: {}", e.getMessage());
+            return ExternalApiUtil.fallbackResponse(SCHEDULER_REJECTED_MESSAGE);
+        }
+        if (cacheable) {
+            templateResponseCache.put(requestHash, response);
+        }
+        aiSessionStore.remember(userId, request.getSessionId(), response);
+        return response;
+    }
+
+    /**
+     * createTemplate의 논블로킹 버전입니다. AI 서버 응답을 기다리는 동안 서블릿 스레드를 반환합니다.
+     *
+     * @param userId 로그인 사용자 ID (세션 상태 구분용)
+     * @param queue queueKey로 확인한 AI 호출 대기열 키
+     * @param templateCreateRequestDto 템플릿 생성 요청 DTO (사용자 메시지와 세션 상태 또는 sessionId 포함)
+     * @return AI가 생성한 구조화된 템플릿 응답 DTO를 담은 Mono
+     */
+    public Mono<TemplateCreateResponseDto> createTemplateAsync(
+            Long userId, String queue, TemplateCreateRequestDto templateCreateRequestDto) {
+        return createTemplateAsync(userId, queue, templateCreateRequestDto, Priority.INTERACTIVE);
+    }
+
+    private Mono<TemplateCreateResponseDto> createTemplateAsync(
+            Long userId, String queue, TemplateCreateRequestDto templateCreateRequestDto, Priority priority) {
+        TemplateCreateRequestDto request = resolveSession(userId, templateCreateRequestDto);
+        Map<String, Object> requestBody = request.toRequestBody();
+        String requestHash = canonicalJsonHasher.hash(requestBody);
+
+        boolean cacheable = templateResponseCache.isCacheable(requestBody);
+        if (cacheable) {
+            Optional<TemplateCreateResponseDto> cached = templateResponseCache.get(requestHash);
+            if (cached.isPresent()) {
+                aiSessionStore.remember(userId, request.getSessionId(), cached.get().getState(), 0);
+                return Mono.just(cached.get());
+            }
+        }
+
+        return aiRequestCoalescer
+                .mono(
+                        aiFlaskChatEndpoint + ":" + requestHash,
+                        () -> aiCallScheduler
+                                .mono(queue, priority, () -> externalApiUtil.postJsonAsync(
+                                        aiFlaskChatEndpoint, requestBody, TemplateCreateResponseDto.class, "AI Flask 서버"))
+                                .onErrorResume(AiCallRejectedException.class,
+                                        e -> Mono.just(ExternalApiUtil.fallbackResponse(SCHEDULER_REJECTED_MESSAGE))))
+                .doOnNext(response -> {
+                    if (cacheable) {
+                        templateResponseCache.put(requestHash, response);
+                    }
+                    aiSessionStore.remember(userId, request.getSessionId(), response);
+                });
+    }
+
+    /**
+     * AI 호출 슬롯 대기열 키를 정합니다. 요청의 spaceId는 클라이언트가 보낸 값이므로 멤버인 경우에만 스페이스 대기열을 쓰고,
+     * spaceId가 없으면 사용자별 대기열을 씁니다. 로그인 사용자가 없으면(permit-all) 공용 대기열입니다. 생성 요청의 멤버십
+     * 확인은 여기서 한 번만 하며, 통과한 spaceId로 요청 제한(TemplateRateLimiter)을 적용하고 결과 키를 생성 메서드에 넘깁니다.
+     *
+     * @param userId 로그인 사용자 ID (없으면 null)
+     * @param spaceId 요청의 스페이스 ID (없으면 null)
+     * @return AI 호출 대기열 키 (공용 대기열이면 null)
+     * @throws BusinessException spaceId를 보냈지만 그 스페이스 멤버가 아닌 경우
+     */
+    public String queueKey(Long userId, Long spaceId) {
+        if (spaceId == null) {
+            return userId != null ? AiCallScheduler.userQueue(userId) : null;
+        }
+        if (userId == null || spaceMemberRepository.findBySpaceIdAndUserId(spaceId, userId).isEmpty()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 AI 템플릿을 생성할 수 있습니다.");
+        }
+        return AiCallScheduler.spaceQueue(spaceId);
+    }
+
+    /**
+     * sessionId가 있고 state가 없는 요청이면 서버에 보관된 그 사용자의 세션 상태로 state를 채웁니다. state를 직접 보낸 기존
+     * 클라이언트 요청은 그대로 사용하며, 처음 보는 세션(다른 사용자의 sessionId 포함)이면 state 없이(initial 단계로) 보냅니다.
+     */
+    private TemplateCreateRequestDto resolveSession(Long userId, TemplateCreateRequestDto request) {
+        if (request.getSessionId() == null || request.getState() != null) {
+            return request;
+        }
+        TemplateState state = aiSessionStore.get(userId, request.getSessionId()).orElse(null);
+        return new TemplateCreateRequestDto(
+                request.getMessage(), state, request.getSessionId(), request.getSpaceId());
+    }
+
+    /**
+     * 일괄 생성 요청 목록을 검증하고 스페이스별 AI 호출 대기열 키를 정합니다. 멤버십 조회는 블로킹이므로 항목을 내보내기 전에
+     * 스페이스별로 한 번씩 확인합니다.
+     *
+     * @param userId 로그인 사용자 ID (없으면 null)
+     * @param requests 템플릿 생성 요청 목록
+     * @return spaceId별 대기열 키 (spaceId가 없는 항목은 null 키)
+     * @throws BusinessException 목록이 비었거나 최대 항목 수를 넘었거나, 멤버가 아닌 스페이스가 섞인 경우
+     */
+    public Map<Long, String> queueKeys(Long userId, List<TemplateCreateRequestDto> requests) {
+        requireBatchSize(requests);
+        Map<Long, String> queues = new HashMap<>();
+        for (TemplateCreateRequestDto request : requests) {
+            if (!queues.containsKey(request.getSpaceId())) {
+                queues.put(request.getSpaceId(), queueKey(userId, request.getSpaceId()));
+            }
+        }
+        return queues;
+    }
+
+    private void requireBatchSize(List<TemplateCreateRequestDto> requests) {
+        int maxItems = aiFlaskProps.getBatch().getMaxItems();
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "생성 요청 목록이 비어 있습니다.");
+        }
+        if (requests.size() > maxItems) {
+            throw new BusinessException(
+                    ErrorCode.BAD_REQUEST, "한 번에 최대 " + maxItems + "개까지 생성할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 여러 템플릿 생성 요청을 AI 서버로 나눠 보내고, 완료되는 순서대로 항목별 결과를 내보냅니다. AI 서버 동시 호출 수는
+     * ai.flask.batch.max-concurrency로 제한되며, 한 항목의 실패는 다른 항목에 영향을 주지 않습니다.
+     *
+     * @param userId 로그인 사용자 ID (세션 상태 구분용)
+     * @param requests 템플릿 생성 요청 목록
+     * @param queues queueKeys로 확인한 spaceId별 대기열 키
+     * @return 항목별 결과 스트림
+     * @throws BusinessException 목록이 비었거나 최대 항목 수를 넘은 경우
+     */
+    public Flux<TemplateBatchItemResponseDto> createTemplates(
+            Long userId, List<TemplateCreateRequestDto> requests, Map<Long, String> queues) {
+        requireBatchSize(requests);
 
-        // ExternalApiUtil을 통해 AI Flask 서버로 요청 전송
-        return externalApiUtil.postJson(url, requestBody, TemplateCreateResponseDto.class, "AI Flask 서버");
+        return Flux.range(0, requests.size())
+                .flatMap(index -> Mono.defer(() -> createTemplateAsync(userId,
+                                        queues.get(requests.get(index).getSpaceId()), requests.get(index), Priority.BATCH))
+                                .map(result -> TemplateBatchItemResponseDto.success(index, result))
+                                .onErrorResume(e -> {
+                                    log.warn("[BATCH] {}번 항목 생성 실패: {}", index, e.getMessage());
+                                    return Mono.just(TemplateBatchItemResponseDto.failure(index, e.getMessage()));
+                                }),
+                        aiFlaskProps.getBatch().getMaxConcurrency());
     }
 
     /**
@@ -79,7 +357,7 @@ public class TemplateService {
         // 스페이스 존재 여부 검증
         spaceRepository.findByIdOrThrow(spaceId);
 
-        return TemplateTitleResponseDto.fromList(templateRepository.findBySpaceId(spaceId));
+        return TemplateTitleResponseDto.fromTitles(templateRepository.findTitlesBySpaceId(spaceId));
     }
 
     /**
@@ -92,33 +370,57 @@ public class TemplateService {
     public TemplateDetailResponseDto getTemplateDetailBySpaceIdAndTemplateId(
             @Parameter(description = "스페이스 ID", required = true) Long spaceId,
             @Parameter(description = "템플릿 ID", required = true) Long templateId) {
-        // 스페이스 존재 여부 검증
-        spaceRepository.findByIdOrThrow(spaceId);
+        // 캐시에 없을 때만 스페이스/템플릿을 조회 (저장/삭제/복원 시 무효화)
+        return templateDetailCache.get(spaceId, templateId, () -> {
+            // 스페이스 존재 여부 검증
+            spaceRepository.findByIdOrThrow(spaceId);
 
-        // 템플릿 존재 여부 검증
-        Template template =
-                templateRepository.findBySpaceIdAndTemplateIdWithAllFields(spaceId, templateId);
-        if (template == null) {
-            return null;
-        }
-        return TemplateDetailResponseDto.from(template);
+            // 템플릿 존재 여부 검증
+            Template template =
+                    templateRepository.findBySpaceIdAndTemplateIdWithAllFields(spaceId, templateId);
+            return TemplateDetailResponseDto.from(template);
+        });
     }
 
     /**
      * 템플릿을 저장합니다.
      *
+     * @param principal 로그인 사용자
      * @param request 템플릿 저장 요청 DTO
      * @return 템플릿 저장 응답 DTO
+     * @throws BusinessException 스페이스 멤버가 아니거나 수정할 템플릿이 없는 경우
      */
     @Transactional
-    public TemplateSaveResponseDto saveTemplate(TemplateSaveRequestDto request) {
+    public TemplateSaveResponseDto saveTemplate(CustomUserDetails principal, TemplateSaveRequestDto request) {
 
-        // 스페이스 존재 여부 검증
+        // 스페이스 존재 여부, 멤버 여부 검증
         spaceRepository.findByIdOrThrow(request.getSpaceId());
+        spaceMemberRepository.findBySpaceIdAndUserId(request.getSpaceId(), principal.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 저장할 수 있습니다."));
 
-        // 템플릿 저장
-        Template template = templateRepository.save(request.toEntity());
-        return TemplateSaveResponseDto.from(template);
+        // 템플릿 저장 (AI 세션 동안 누적된 시도 수를 함께 기록)
+        Template template;
+        TemplateContent previous = null;
+        if (request.getTemplateId() == null) {
+            template = request.toEntity();
+            aiSessionStore.totalAttempts(principal.getUserId(), request.getSessionId()).ifPresent(template::setTotalAttempts);
+            template = templateRepository.save(template);
+        } else {
+            // 기존 템플릿의 새 버전: 현재 행을 새 내용으로 바꾸고 지난 내용은 변경분으로 남김
+            template = templateRepository
+                    .findActiveForUpdate(request.getTemplateId(), request.getSpaceId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "템플릿을 찾을 수 없습니다."));
+            previous = TemplateContent.from(template);
+            request.toContent().applyTo(template);
+            templateDetailCache.evict(template.getSpaceId(), template.getId());
+            template.setSessionId(request.getSessionId());
+            aiSessionStore.totalAttempts(principal.getUserId(), request.getSessionId()).ifPresent(template::setTotalAttempts);
+        }
+        int version = templateVersionService.record(template, previous);
+        templateVariableService.sync(template);
+        templateSearchIndex.index(template);
+        List<SpaceSimilarityIndex.Match> nearDuplicates = templateSimilarityIndex.index(template);
+        return TemplateSaveResponseDto.from(template, version, similarItems(nearDuplicates));
     }
 
     /**
@@ -142,9 +444,180 @@ public class TemplateService {
 
         // 템플릿 삭제
         template.softDelete();
+        templateDetailCache.evict(template.getSpaceId(), template.getId());
+        templateSearchIndex.remove(template.getSpaceId(), template.getId());
+        templateSimilarityIndex.remove(template.getSpaceId(), template.getId());
     }
 
     public List<TemplateListResponseDto> getTemplateList(CustomUserDetails principal, Long spaceId) {
         return templateRepository.findAllBySpaceIdAndUserId(principal.getUserId(), spaceId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 스페이스의 템플릿 요약(id, 제목, 생성일시)을 최신순 키셋 페이지로 조회합니다.
+     *
+     * @param principal 로그인 사용자
+     * @param spaceId 스페이스 ID
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (없거나 0 이하면 기본값, 최대 max-page-size)
+     * @return 템플릿 요약 페이지
+     */
+    public TemplatePageResponseDto<TemplateSummaryResponseDto> getTemplateSummaryPage(
+            CustomUserDetails principal, Long spaceId, String cursor, Integer size) {
+        // 스페이스 존재 여부, 멤버 여부 검증
+        spaceRepository.findByIdOrThrow(spaceId);
+        spaceMemberRepository.findBySpaceIdAndUserId(spaceId, principal.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 조회할 수 있습니다."));
+
+        long after = TemplatePageCursor.decode(spaceId, cursor);
+        int pageSize = pageSize(size);
+        List<TemplateSummaryResponseDto> rows =
+                templateRepository.findSummaryPage(spaceId, after, Limit.of(pageSize + 1));
+        return page(spaceId, rows, pageSize, TemplateSummaryResponseDto::getTemplateId);
+    }
+
+    /**
+     * 스페이스 멤버가 접근 가능한 템플릿 목록(제목, 변수화된 템플릿)을 최신순 키셋 페이지로 조회합니다.
+     *
+     * @param principal 로그인 사용자
+     * @param spaceId 스페이스 ID
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (없거나 0 이하면 기본값, 최대 max-page-size)
+     * @return 템플릿 목록 페이지
+     */
+    public TemplatePageResponseDto<TemplateListResponseDto> getTemplateListPage(
+            CustomUserDetails principal, Long spaceId, String cursor, Integer size) {
+        spaceMemberRepository.findBySpaceIdAndUserId(spaceId, principal.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 조회할 수 있습니다."));
+
+        long after = TemplatePageCursor.decode(spaceId, cursor);
+        int pageSize = pageSize(size);
+        List<TemplateListResponseDto> rows =
+                templateRepository.findListPage(spaceId, after, Limit.of(pageSize + 1));
+        return page(spaceId, rows, pageSize, TemplateListResponseDto::getTemplateId);
+    }
+
+    /**
+     * 변수 X를 쓰는 템플릿 요약을 최신순 키셋 페이지로 조회합니다. 본문을 읽지 않고 template_variable 인덱스로 찾습니다.
+     *
+     * @param principal 로그인 사용자
+     * @param spaceId 스페이스 ID
+     * @param name 변수명 (#{} 없이)
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (없거나 0 이하면 기본값, 최대 max-page-size)
+     * @return 템플릿 요약 페이지
+     */
+    public TemplatePageResponseDto<TemplateSummaryResponseDto> getTemplatesByVariable(
+            CustomUserDetails principal, Long spaceId, String name, String cursor, Integer size) {
+        spaceMemberRepository.findBySpaceIdAndUserId(spaceId, principal.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 조회할 수 있습니다."));
+        if (name == null || name.isBlank()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "변수명을 입력해주세요.");
+        }
+
+        long after = TemplatePageCursor.decode(spaceId, cursor);
+        int pageSize = pageSize(size);
+        List<TemplateSummaryResponseDto> rows = templateVariableRepository.findTemplatesByVariable(
+                spaceId, name.trim(), after, Limit.of(pageSize + 1));
+        return page(spaceId, rows, pageSize, TemplateSummaryResponseDto::getTemplateId);
+    }
+
+    /**
+     * 스페이스 템플릿에서 쓰이는 변수와 변수별 사용 템플릿 수를 조회합니다.
+     *
+     * @param principal 로그인 사용자
+     * @param spaceId 스페이스 ID
+     * @return 많이 쓰는 순의 변수 목록
+     */
+    public List<TemplateVariableUsageResponseDto> getVariableUsage(CustomUserDetails principal, Long spaceId) {
+        spaceMemberRepository.findBySpaceIdAndUserId(spaceId, principal.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 조회할 수 있습니다."));
+        return templateVariableRepository.findUsageBySpaceId(spaceId);
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return templateListProps.getDefaultPageSize();
+        }
+        return Math.min(size, templateListProps.getMaxPageSize());
+    }
+
+    /** 한 건 더 조회한 결과로 다음 페이지 존재 여부를 판단하고, 이번 페이지 마지막 id로 커서를 만듭니다. */
+    private static <T> TemplatePageResponseDto<T> page(
+            Long spaceId, List<T> rows, int pageSize, ToLongFunction<T> templateId) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> items = hasNext ? rows.subList(0, pageSize) : rows;
+        return TemplatePageResponseDto.<T>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext
+                        ? TemplatePageCursor.encode(spaceId, templateId.applyAsLong(items.get(pageSize - 1)))
+                        : null)
+                .size(pageSize)
+                .build();
+    }
+
+    /**
+     * 스페이스의 템플릿을 제목/설명/본문으로 검색합니다. 스페이스 멤버만 검색할 수 있습니다.
+     *
+     * @param principal 로그인 사용자
+     * @param spaceId 스페이스 ID
+     * @param query 검색어
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (0 이하면 기본값)
+     * @return 점수 내림차순 검색 결과
+     */
+    public TemplateSearchResponseDto searchTemplates(
+            CustomUserDetails principal, Long spaceId, String query, int page, int size) {
+        spaceMemberRepository.findBySpaceIdAndUserId(spaceId, principal.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 검색할 수 있습니다."));
+
+        SpaceSearchIndex.Page result = templateSearchIndex.search(spaceId, query, page, size);
+        return TemplateSearchResponseDto.builder()
+                .items(result.hits().stream()
+                        .map(hit -> TemplateSearchResponseDto.Item.builder()
+                                .templateId(hit.templateId())
+                                .title(hit.title())
+                                .description(hit.description())
+                                .score(hit.score())
+                                .build())
+                        .toList())
+                .page(page)
+                .size(result.hits().size())
+                .totalHits(result.totalHits())
+                .build();
+    }
+
+    /**
+     * 템플릿과 본문이 비슷한 같은 스페이스의 템플릿을 찾습니다. 스페이스 멤버만 조회할 수 있습니다.
+     *
+     * @param principal 로그인 사용자
+     * @param spaceId 스페이스 ID
+     * @param templateId 기준 템플릿 ID
+     * @param minSimilarity 최소 유사도 (없으면 기본값)
+     * @param size 최대 결과 수 (없거나 0 이하면 기본값)
+     * @return 유사도 내림차순 결과
+     */
+    public TemplateSimilarResponseDto findSimilarTemplates(
+            CustomUserDetails principal, Long spaceId, Long templateId, Double minSimilarity, Integer size) {
+        spaceMemberRepository.findBySpaceIdAndUserId(spaceId, principal.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 조회할 수 있습니다."));
+
+        List<SpaceSimilarityIndex.Match> matches =
+                templateSimilarityIndex.findSimilar(spaceId, templateId, minSimilarity, size);
+        return TemplateSimilarResponseDto.builder()
+                .templateId(templateId)
+                .items(similarItems(matches))
+                .build();
+    }
+
+    private static List<TemplateSimilarResponseDto.Item> similarItems(List<SpaceSimilarityIndex.Match> matches) {
+        return matches.stream()
+                .map(match -> TemplateSimilarResponseDto.Item.builder()
+                        .templateId(match.templateId())
+                        .title(match.title())
+                        .similarity(match.similarity())
+                        .build())
+                .toList();
+    }
+}
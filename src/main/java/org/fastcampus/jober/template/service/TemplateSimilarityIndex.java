@@ -0,0 +1,174 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.fastcampus.jober.common.TemplateSimilarityProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.repository.TemplateRepository;
+import org.fastcampus.jober.template.repository.TemplateSimilarityRow;
+
+/**
+ * 스페이스별 유사 템플릿 색인. 저장할 때 본문의 MinHash 서명을 계산해 template 행에 같이 저장하고, 색인은 스페이스를 처음 조회할 때
+ * 저장된 서명으로 만든 뒤 저장/삭제를 커밋 후 바로 반영합니다. 오래 쓰지 않은 스페이스는 메모리에서 내리며, 인스턴스마다 따로
+ * 유지됩니다.
+ *
+ * <p>색인은 빈 색인을 캐시에 올린 뒤 새 읽기 트랜잭션에서 채웁니다(TemplateSearchIndex와 같은 이유). 그래서 저장 트랜잭션 안에서
+ * 처음 만든 색인에도 커밋된 행만 들어갑니다.
+ *
+ * <p>지표: template.similarity.latency, cache.size/cache.evictions (cache=template.similarity.index)
+ */
+@Component
+public class TemplateSimilarityIndex {
+
+  static final String CACHE_NAME = "template.similarity.index";
+
+  private final TemplateSimilarityProps props;
+  private final TemplateRepository templateRepository;
+  private final Cache<Long, SpaceSimilarityIndex> spaces;
+  private final TransactionTemplate loadTransaction;
+  private final Timer queryTimer;
+
+  public TemplateSimilarityIndex(
+      TemplateSimilarityProps props,
+      TemplateRepository templateRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.props = props;
+    this.templateRepository = templateRepository;
+    this.loadTransaction = new TransactionTemplate(transactionManager);
+    this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.loadTransaction.setReadOnly(true);
+    this.spaces =
+        Caffeine.newBuilder()
+            .maximumSize(props.getMaxSpaces())
+            .expireAfterAccess(props.getIdleTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, spaces, CACHE_NAME);
+    this.queryTimer =
+        Timer.builder("template.similarity.latency").publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+  }
+
+  /**
+   * 템플릿의 서명을 계산해 엔티티에 담고, 같은 스페이스에서 거의 같은 템플릿(duplicate-threshold 이상)을 찾습니다. 색인 반영은
+   * 커밋 후에 합니다. 템플릿을 저장/수정하는 트랜잭션 안에서 호출합니다.
+   *
+   * @param template 저장된 템플릿 (id가 있어야 함)
+   * @return 중복 후보 (유사도 내림차순, 자기 자신 제외)
+   */
+  public List<SpaceSimilarityIndex.Match> index(Template template) {
+    int[] signature = TemplateMinHash.signature(template.getTemplate());
+    template.setSimilaritySignature(TemplateMinHash.encode(signature));
+
+    Long spaceId = template.getSpaceId();
+    SpaceSimilarityIndex.Entry entry =
+        new SpaceSimilarityIndex.Entry(template.getId(), template.getTitle(), signature);
+    afterCommit(
+        () -> {
+          SpaceSimilarityIndex index = spaces.getIfPresent(spaceId);
+          if (index != null) {
+            index.upsert(entry);
+          }
+        });
+
+    if (signature == null) {
+      return List.of();
+    }
+    SpaceSimilarityIndex index = loaded(spaceId);
+    return queryTimer.record(
+        () -> index.query(signature, template.getId(), props.getDuplicateThreshold(), props.getMaxDuplicates()));
+  }
+
+  /** 삭제된 템플릿을 커밋 후 색인에서 뺍니다. */
+  public void remove(Long spaceId, Long templateId) {
+    afterCommit(
+        () -> {
+          SpaceSimilarityIndex index = spaces.getIfPresent(spaceId);
+          if (index != null) {
+            index.remove(templateId);
+          }
+        });
+  }
+
+  /** JDBC로 여러 템플릿을 한 번에 넣은 뒤 호출합니다. 커밋 후 스페이스 색인을 내려 다음 조회 때 DB에서 다시 만듭니다. */
+  public void invalidateSpace(Long spaceId) {
+    afterCommit(() -> spaces.invalidate(spaceId));
+  }
+
+  /**
+   * 템플릿과 본문이 비슷한 같은 스페이스의 템플릿을 찾습니다.
+   *
+   * @param spaceId 스페이스 ID
+   * @param templateId 기준 템플릿 ID
+   * @param minSimilarity 최소 유사도 (없으면 min-similarity, 0~1)
+   * @param size 최대 결과 수 (없거나 0 이하면 default-size, 최대 max-size)
+   * @throws BusinessException 유사도가 0~1 밖인 경우 (BAD_REQUEST), 템플릿이 없거나 본문이 비어 있는 경우 (NOT_FOUND)
+   */
+  public List<SpaceSimilarityIndex.Match> findSimilar(
+      Long spaceId, Long templateId, Double minSimilarity, Integer size) {
+    double threshold = minSimilarity != null ? minSimilarity : props.getMinSimilarity();
+    if (threshold < 0 || threshold > 1) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST, "minSimilarity는 0 이상 1 이하여야 합니다.");
+    }
+    int limit = size == null || size <= 0 ? props.getDefaultSize() : Math.min(size, props.getMaxSize());
+
+    SpaceSimilarityIndex index = loaded(spaceId);
+    int[] signature = index.signatureOf(templateId);
+    if (signature == null) {
+      throw new BusinessException(ErrorCode.NOT_FOUND, "템플릿을 찾을 수 없습니다.");
+    }
+    return queryTimer.record(() -> index.query(signature, templateId, threshold, limit));
+  }
+
+  private SpaceSimilarityIndex loaded(Long spaceId) {
+    SpaceSimilarityIndex index =
+        spaces.get(spaceId, id -> new SpaceSimilarityIndex(props.getCompactionRatio()));
+    index.ensureLoaded(
+        () ->
+            loadTransaction.execute(
+                status ->
+                    templateRepository.findSimilarityRowsBySpaceId(spaceId).stream()
+                        .map(TemplateSimilarityIndex::entry)
+                        .toList()));
+    return index;
+  }
+
+  /** 서명이 없는 예전 행은 본문에서 계산합니다. */
+  private static SpaceSimilarityIndex.Entry entry(TemplateSimilarityRow row) {
+    int[] signature = TemplateMinHash.decode(row.signature());
+    if (signature == null && row.template() != null) {
+      signature = TemplateMinHash.signature(row.template());
+    }
+    return new SpaceSimilarityIndex.Entry(row.templateId(), row.title(), signature);
+  }
+
+  /** 롤백된 변경이 색인에 남지 않도록 트랜잭션 안이면 커밋 후에, 밖이면 바로 실행합니다. */
+  private static void afterCommit(Runnable change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      change.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            change.run();
+          }
+        });
+  }
+}
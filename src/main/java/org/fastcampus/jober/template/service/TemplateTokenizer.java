@@ -0,0 +1,77 @@
+package org.fastcampus.jober.template.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 템플릿 검색용 토크나이저. 형태소 사전 없이 한글/한자/가나 구간은 글자 2-gram으로, 영문/숫자 구간은 단어 단위로 자릅니다.
+ * "SMS발송안내"는 sms, 발송, 송안, 안내가 되며, 한 글자로만 된 구간은 1-gram으로 남깁니다. #{변수명}도 같은 규칙으로 색인됩니다.
+ */
+final class TemplateTokenizer {
+
+  private TemplateTokenizer() {}
+
+  /** 문서 필드를 토큰으로 잘라 중복 포함 그대로 넘깁니다 (빈도 계산용). */
+  static void tokenize(String text, Consumer<String> sink) {
+    if (text == null || text.isEmpty()) {
+      return;
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    int length = normalized.length();
+    int i = 0;
+    while (i < length) {
+      int type = type(normalized.charAt(i));
+      if (type == OTHER) {
+        i++;
+        continue;
+      }
+      int start = i;
+      while (i < length && type(normalized.charAt(i)) == type) {
+        i++;
+      }
+      if (type == WORD) {
+        sink.accept(normalized.substring(start, i));
+      } else if (i - start == 1) {
+        sink.accept(normalized.substring(start, i));
+      } else {
+        for (int j = start; j + 1 < i; j++) {
+          sink.accept(normalized.substring(j, j + 2));
+        }
+      }
+    }
+  }
+
+  /** 검색어를 중복 없는 토큰 집합으로 자릅니다. 모든 토큰을 포함한 문서만 결과가 됩니다. */
+  static Set<String> queryTokens(String query) {
+    Set<String> tokens = new LinkedHashSet<>();
+    tokenize(query, tokens::add);
+    return tokens;
+  }
+
+  /** 2-gram으로 색인되는 문자(한글/한자/가나)인지 여부. 한 글자 검색어를 접두/접미 일치로 풀 때 씁니다. */
+  static boolean isGramChar(char c) {
+    return type(c) == GRAM;
+  }
+
+  private static final int OTHER = 0;
+  private static final int WORD = 1;
+  private static final int GRAM = 2;
+
+  private static int type(char c) {
+    if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+      return WORD;
+    }
+    if (c < 0x80) {
+      return OTHER;
+    }
+    Character.UnicodeScript script = Character.UnicodeScript.of(c);
+    return switch (script) {
+      case HANGUL, HAN, HIRAGANA, KATAKANA -> GRAM;
+      case LATIN, GREEK, CYRILLIC -> WORD;
+      default -> Character.isLetterOrDigit(c) ? WORD : OTHER;
+    };
+  }
+}
@@ -0,0 +1,397 @@
+package org.fastcampus.jober.template.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import org.fastcampus.jober.common.TemplateTransferProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.space.repository.SpaceMemberRepository;
+import org.fastcampus.jober.space.repository.SpaceRepository;
+import org.fastcampus.jober.template.dto.request.TemplateImportLineDto;
+import org.fastcampus.jober.template.dto.response.TemplateImportResponseDto;
+import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.entity.TemplateVariable;
+import org.fastcampus.jober.template.repository.TemplateExportRow;
+import org.fastcampus.jober.user.dto.CustomUserDetails;
+
+/**
+ * 스페이스 템플릿을 NDJSON으로 내보내고 가져옵니다. 내보내기는 전용 JDBC 조회로 한 줄씩 읽어 바로 쓰므로 템플릿 수와 무관한 메모리로
+ * 동작하고, 가져오기는 import-batch-size 줄마다 한 트랜잭션에서 스페이스 멤버 여부를 한 번 확인한 뒤 JDBC 배치로 넣습니다.
+ *
+ * <p>가져온 템플릿은 버전 이력 없이 저장되며(버전 기능 이전 템플릿과 같음), 변수 행과 유사도 서명은 같은 배치에서 함께 씁니다.
+ *
+ * <p>지표: template.transfer.export, template.transfer.import, template.transfer.rows{direction=export|import}
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TemplateTransferService {
+
+  // 내보내기 중 이 줄 수마다 응답으로 내보냄 (MySQL 외 드라이버의 fetch size와 같음)
+  private static final int FLUSH_ROWS = 500;
+  private static final int MAX_TITLE_LENGTH = 120;
+  private static final int MAX_COLUMN_LENGTH = 255;
+
+  private static final String SELECT_EXPORT_ROWS =
+      "SELECT id, title, description, type, template, structured_template, editable_variables, has_image,"
+          + " created_at FROM template WHERE space_id = ? AND is_deleted = false ORDER BY id";
+  private static final String INSERT_TEMPLATE =
+      "INSERT INTO template (space_id, title, description, type, template, structured_template,"
+          + " editable_variables, has_image, similarity_signature, is_deleted, is_accepted,"
+          + " variables_extracted, created_at, updated_at, created_by, updated_by)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, false, true, ?, ?, ?, ?)";
+  private static final String INSERT_VARIABLE =
+      "INSERT INTO template_variable (template_id, space_id, name, default_value, in_body)"
+          + " VALUES (?, ?, ?, ?, ?)";
+
+  private final SpaceRepository spaceRepository;
+  private final SpaceMemberRepository spaceMemberRepository;
+  private final TemplateVariableService templateVariableService;
+  private final TemplateSearchIndex templateSearchIndex;
+  private final TemplateSimilarityIndex templateSimilarityIndex;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate batchTransaction;
+  private final ObjectMapper objectMapper;
+  private final ObjectReader lineReader;
+  private final TemplateTransferProps props;
+  private final Timer exportTimer;
+  private final Timer importTimer;
+  private final Counter exportedRows;
+  private final Counter importedRows;
+
+  public TemplateTransferService(
+      SpaceRepository spaceRepository,
+      SpaceMemberRepository spaceMemberRepository,
+      TemplateVariableService templateVariableService,
+      TemplateSearchIndex templateSearchIndex,
+      TemplateSimilarityIndex templateSimilarityIndex,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      TemplateTransferProps props,
+      MeterRegistry meterRegistry) {
+    this.spaceRepository = spaceRepository;
+    this.spaceMemberRepository = spaceMemberRepository;
+    this.templateVariableService = templateVariableService;
+    this.templateSearchIndex = templateSearchIndex;
+    this.templateSimilarityIndex = templateSimilarityIndex;
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchTransaction = new TransactionTemplate(transactionManager);
+    this.objectMapper = objectMapper;
+    this.lineReader = objectMapper.readerFor(TemplateImportLineDto.class);
+    this.props = props;
+    this.exportTimer = Timer.builder("template.transfer.export").register(meterRegistry);
+    this.importTimer = Timer.builder("template.transfer.import").register(meterRegistry);
+    this.exportedRows =
+        Counter.builder("template.transfer.rows").tag("direction", "export").register(meterRegistry);
+    this.importedRows =
+        Counter.builder("template.transfer.rows").tag("direction", "import").register(meterRegistry);
+  }
+
+  /**
+   * 스페이스 멤버인지 확인합니다. 내보내기/가져오기 응답을 시작하기 전에 호출해 오류를 일반 JSON 오류로 응답하게 합니다.
+   *
+   * @throws BusinessException 스페이스 멤버가 아니면 FORBIDDEN
+   */
+  public void requireMember(CustomUserDetails principal, Long spaceId) {
+    spaceMemberRepository
+        .findBySpaceIdAndUserId(spaceId, principal.getUserId())
+        .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 가져오기/내보내기 할 수 있습니다."));
+  }
+
+  /**
+   * 스페이스의 삭제되지 않은 템플릿을 id 순으로 한 줄에 하나씩 NDJSON으로 씁니다.
+   * {"templateId":1,"title":"...","description":"...","type":"...","template":"...","structuredTemplate":"...",
+   * "editableVariables":"...","hasImage":false,"createdAt":"2025-01-01T00:00:00"}
+   *
+   * <p>행을 엔티티가 아닌 JDBC 결과로 바로 읽어 영속성 컨텍스트에 쌓지 않고, 스트림이 끝날 때까지 읽기 트랜잭션(DB 연결)을 유지합니다.
+   *
+   * @return 내보낸 템플릿 수
+   */
+  @Transactional(readOnly = true)
+  public long export(Long spaceId, OutputStream out) throws IOException {
+    long start = System.nanoTime();
+    long rows;
+    try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+      json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+      json.setRootValueSeparator(null);
+      ExportWriter writer = new ExportWriter(json);
+      try {
+        jdbcTemplate.query(connection -> exportStatement(connection, spaceId), writer);
+      } catch (UncheckedIOException e) {
+        // 클라이언트 연결 끊김 등 응답 쓰기 실패
+        throw e.getCause();
+      }
+      rows = writer.rows;
+      exportedRows.increment(rows % FLUSH_ROWS);
+    } finally {
+      exportTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    log.info("템플릿 내보내기 완료 - spaceId: {}, rows: {}", spaceId, rows);
+    return rows;
+  }
+
+  /**
+   * 내보내기 전용 조회 문장. 드라이버가 결과 전체를 메모리에 올리지 않도록 이 문장에만 fetch size를 지정합니다. MySQL
+   * Connector/J는 Integer.MIN_VALUE면 연결 설정(useCursorFetch) 없이 행을 하나씩 받아 오고, 그 밖의 드라이버(H2 등)는
+   * FLUSH_ROWS씩 나눠 받습니다.
+   */
+  private static PreparedStatement exportStatement(Connection connection, Long spaceId) throws SQLException {
+    PreparedStatement ps =
+        connection.prepareStatement(SELECT_EXPORT_ROWS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    String database = connection.getMetaData().getDatabaseProductName();
+    ps.setFetchSize(database.toLowerCase(Locale.ROOT).contains("mysql") ? Integer.MIN_VALUE : FLUSH_ROWS);
+    ps.setLong(1, spaceId);
+    return ps;
+  }
+
+  /** 조회 결과를 한 행씩 NDJSON 한 줄로 쓰고 FLUSH_ROWS 줄마다 응답으로 내보냅니다. */
+  private final class ExportWriter implements RowCallbackHandler {
+    private final JsonGenerator json;
+    private long rows;
+
+    ExportWriter(JsonGenerator json) {
+      this.json = json;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+      boolean hasImage = rs.getBoolean("has_image");
+      Boolean nullableHasImage = rs.wasNull() ? null : hasImage;
+      TemplateExportRow row =
+          new TemplateExportRow(
+              rs.getLong("id"),
+              rs.getString("title"),
+              rs.getString("description"),
+              rs.getString("type"),
+              rs.getString("template"),
+              rs.getString("structured_template"),
+              rs.getString("editable_variables"),
+              nullableHasImage,
+              rs.getObject("created_at", LocalDateTime.class));
+      try {
+        write(row);
+        if (++rows % FLUSH_ROWS == 0) {
+          json.flush();
+          exportedRows.increment(FLUSH_ROWS);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void write(TemplateExportRow row) throws IOException {
+      json.writeStartObject();
+      json.writeNumberField("templateId", row.templateId());
+      json.writeStringField("title", row.title());
+      json.writeStringField("description", row.description());
+      json.writeStringField("type", row.type());
+      json.writeStringField("template", row.template());
+      json.writeStringField("structuredTemplate", row.structuredTemplate());
+      json.writeStringField("editableVariables", row.editableVariables());
+      json.writeFieldName("hasImage");
+      if (row.hasImage() != null) {
+        json.writeBoolean(row.hasImage());
+      } else {
+        json.writeNull();
+      }
+      json.writeStringField("createdAt", row.createdAt() != null ? row.createdAt().toString() : null);
+      json.writeEndObject();
+      json.writeRaw('\n');
+    }
+  }
+
+  /**
+   * NDJSON 템플릿을 스페이스의 새 템플릿으로 가져옵니다. 줄을 읽는 대로 import-batch-size씩 모아 배치마다 짧은 트랜잭션으로
+   * 저장하므로, 중간에 실패하면 이미 커밋한 배치는 남습니다. 형식이 잘못된 줄은 건너뛰고 사유를 응답에 담습니다.
+   *
+   * @param principal 로그인 사용자 (배치마다 스페이스 멤버인지 다시 확인)
+   * @param spaceId 가져올 스페이스 ID
+   * @param in 내보내기와 같은 형식의 NDJSON (templateId 등 모르는 필드는 무시)
+   * @return 저장/건너뜀 건수
+   * @throws BusinessException 스페이스가 없으면 NOT_FOUND, 멤버가 아니면 FORBIDDEN
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public TemplateImportResponseDto importTemplates(
+      CustomUserDetails principal, Long spaceId, InputStream in) throws IOException {
+    long start = System.nanoTime();
+    long imported = 0;
+    long skipped = 0;
+    int batches = 0;
+    List<String> errors = new ArrayList<>();
+    List<Template> batch = new ArrayList<>(props.getImportBatchSize());
+    try {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+      long lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          batch.add(parse(line, spaceId));
+        } catch (BusinessException | JsonProcessingException e) {
+          skipped++;
+          if (errors.size() < props.getMaxReportedErrors()) {
+            String reason = e instanceof BusinessException ? e.getMessage() : "JSON 형식이 올바르지 않습니다.";
+            errors.add(lineNumber + "번째 줄: " + reason);
+          }
+          continue;
+        }
+        if (batch.size() == props.getImportBatchSize()) {
+          imported += writeBatch(principal, spaceId, batch);
+          batches++;
+          batch.clear();
+        }
+      }
+      if (!batch.isEmpty()) {
+        imported += writeBatch(principal, spaceId, batch);
+        batches++;
+      }
+    } finally {
+      importTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    log.info("템플릿 가져오기 완료 - spaceId: {}, imported: {}, skipped: {}", spaceId, imported, skipped);
+    return TemplateImportResponseDto.builder()
+        .imported(imported)
+        .skipped(skipped)
+        .batches(batches)
+        .errors(errors)
+        .build();
+  }
+
+  private Template parse(String line, Long spaceId) throws JsonProcessingException {
+    TemplateImportLineDto dto = lineReader.readValue(line);
+    if (dto.getTemplate() == null || dto.getTemplate().isBlank()) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST, "템플릿 내용이 비어 있습니다.");
+    }
+    if (dto.getTitle() != null && dto.getTitle().length() > MAX_TITLE_LENGTH) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST, "제목은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.");
+    }
+    if (length(dto.getDescription()) > MAX_COLUMN_LENGTH || length(dto.getType()) > MAX_COLUMN_LENGTH) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST, "설명과 타입은 " + MAX_COLUMN_LENGTH + "자 이하여야 합니다.");
+    }
+    Template template = dto.toEntity(spaceId);
+    template.setSimilaritySignature(TemplateMinHash.encode(TemplateMinHash.signature(template.getTemplate())));
+    return template;
+  }
+
+  /** 배치 하나를 한 트랜잭션에서 저장합니다. 스페이스 확인과 멤버 확인은 배치마다 한 번씩만 합니다. */
+  private int writeBatch(CustomUserDetails principal, Long spaceId, List<Template> templates) {
+    Integer written =
+        batchTransaction.execute(
+            status -> {
+              spaceRepository.findByIdOrThrow(spaceId);
+              requireMember(principal, spaceId);
+              insertTemplates(templates, principal.getUsername());
+
+              List<TemplateVariable> variables = new ArrayList<>();
+              for (Template template : templates) {
+                variables.addAll(templateVariableService.extract(template));
+              }
+              insertVariables(variables);
+              templateSearchIndex.invalidateSpace(spaceId);
+              templateSimilarityIndex.invalidateSpace(spaceId);
+              return templates.size();
+            });
+    importedRows.increment(templates.size());
+    return written != null ? written : 0;
+  }
+
+  /** 템플릿 행을 JDBC 배치로 넣고 생성된 id를 엔티티에 채웁니다 (변수 행이 참조). */
+  private void insertTemplates(List<Template> templates, String username) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    KeyHolder keys = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(INSERT_TEMPLATE, new String[] {"id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Template template = templates.get(i);
+            ps.setLong(1, template.getSpaceId());
+            ps.setString(2, template.getTitle());
+            ps.setString(3, template.getDescription());
+            ps.setString(4, template.getType());
+            ps.setString(5, template.getTemplate());
+            ps.setString(6, template.getStructuredTemplate());
+            ps.setString(7, template.getEditableVariables());
+            ps.setObject(8, template.getHasImage(), Types.BOOLEAN);
+            ps.setBytes(9, template.getSimilaritySignature());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+            ps.setString(12, username);
+            ps.setString(13, username);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return templates.size();
+          }
+        },
+        keys);
+    List<Map<String, Object>> generated = keys.getKeyList();
+    for (int i = 0; i < templates.size(); i++) {
+      templates.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+    }
+  }
+
+  private void insertVariables(List<TemplateVariable> variables) {
+    if (variables.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        INSERT_VARIABLE,
+        variables,
+        variables.size(),
+        (ps, variable) -> {
+          ps.setLong(1, variable.getTemplateId());
+          ps.setLong(2, variable.getSpaceId());
+          ps.setString(3, variable.getName());
+          ps.setString(4, variable.getDefaultValue());
+          ps.setBoolean(5, variable.getInBody());
+        });
+  }
+
+  private static int length(String value) {
+    return value != null ? value.length() : 0;
+  }
+}
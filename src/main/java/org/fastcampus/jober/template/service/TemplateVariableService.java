@@ -0,0 +1,169 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import org.fastcampus.jober.common.TemplateVariableProps;
+import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.entity.TemplateVariable;
+import org.fastcampus.jober.template.repository.TemplateRepository;
+import org.fastcampus.jober.template.repository.TemplateVariableRepository;
+
+/**
+ * 템플릿 변수 정규화. 템플릿 내용이 바뀔 때(저장, 새 버전, 복원)마다 본문의 #{변수}와 editableVariables 키를 template_variable
+ * 행으로 다시 씁니다. 변수 목록이 필요한 조회는 TEXT 컬럼을 읽어 JSON을 파싱하는 대신 이 행을 인덱스로 읽습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TemplateVariableService {
+
+  private final TemplateVariableRepository templateVariableRepository;
+  private final TemplateRepository templateRepository;
+  private final ObjectMapper objectMapper;
+  private final TemplateVariableProps props;
+  private final TransactionTemplate batchTransaction;
+
+  public TemplateVariableService(
+      TemplateVariableRepository templateVariableRepository,
+      TemplateRepository templateRepository,
+      ObjectMapper objectMapper,
+      TemplateVariableProps props,
+      PlatformTransactionManager transactionManager) {
+    this.templateVariableRepository = templateVariableRepository;
+    this.templateRepository = templateRepository;
+    this.objectMapper = objectMapper;
+    this.props = props;
+    this.batchTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 템플릿의 현재 내용으로 변수 행을 다시 씁니다. 템플릿을 저장/수정하는 트랜잭션 안에서 호출합니다.
+   *
+   * @param template 저장된 템플릿 (id가 있어야 함)
+   */
+  @Transactional
+  public void sync(Template template) {
+    templateVariableRepository.deleteByTemplateId(template.getId());
+    templateVariableRepository.saveAll(extract(template));
+    template.setVariablesExtracted(true);
+  }
+
+  /**
+   * 변수 정규화 이전에 저장된 템플릿의 변수 행을 채웁니다. 시작을 막지 않도록 별도 데몬 스레드에서 실행하고, 실패해도 다음 시작
+   * 때 남은 템플릿부터 다시 채웁니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    if (!props.isBackfillOnStartup()) {
+      return;
+    }
+    Thread.ofPlatform().name("template-variable-backfill").daemon(true).start(this::runBackfill);
+  }
+
+  /**
+   * 변수 행을 만든 적 없는 템플릿을 배치 단위로 채우고 처리했다고 표시합니다 (변수가 없는 템플릿도 표시해 다시 읽지 않음). 배치마다
+   * 짧은 트랜잭션으로 저장하며, 그사이 저장된 템플릿이나 다른 인스턴스의 채우기와 겹쳐 uk_template_variable에 걸리면 템플릿
+   * 하나씩 다시 시도하고 겹친 템플릿은 건너뜁니다.
+   */
+  void runBackfill() {
+    long afterId = 0L;
+    int templates = 0;
+    int variables = 0;
+    int skipped = 0;
+    try {
+      while (true) {
+        List<Template> batch =
+            templateRepository.findWithoutVariables(afterId, Limit.of(props.getBackfillBatchSize()));
+        if (batch.isEmpty()) {
+          break;
+        }
+        try {
+          variables += writeBackfill(batch);
+          templates += batch.size();
+        } catch (DataIntegrityViolationException e) {
+          for (Template template : batch) {
+            try {
+              variables += writeBackfill(List.of(template));
+              templates++;
+            } catch (DataIntegrityViolationException duplicate) {
+              // 이미 다른 쪽에서 변수 행을 쓰고 처리 표시까지 함
+              skipped++;
+            }
+          }
+        }
+        if (batch.size() < props.getBackfillBatchSize()) {
+          break;
+        }
+        afterId = batch.get(batch.size() - 1).getId();
+      }
+    } catch (RuntimeException e) {
+      log.warn("템플릿 변수 행 채우기 중단 - 다음 시작 때 이어서 채웁니다 (afterId: {})", afterId, e);
+    }
+    if (templates > 0 || skipped > 0) {
+      log.info(
+          "템플릿 변수 행 채우기 완료 - templates: {}, variables: {}, skipped: {}", templates, variables, skipped);
+    }
+  }
+
+  /** 템플릿들의 변수 행을 쓰고 처리 표시를 한 트랜잭션에서 남깁니다. */
+  private int writeBackfill(List<Template> templates) {
+    Integer written =
+        batchTransaction.execute(
+            status -> {
+              List<TemplateVariable> rows = new ArrayList<>();
+              for (Template template : templates) {
+                rows.addAll(extract(template));
+              }
+              templateVariableRepository.saveAllAndFlush(rows);
+              templateRepository.markVariablesExtracted(
+                  templates.stream().map(Template::getId).toList());
+              return rows.size();
+            });
+    return written != null ? written : 0;
+  }
+
+  /** 본문에 나온 순서, 이어서 editableVariables에만 있는 키 순서로 변수 행을 만듭니다. 너무 긴 이름은 건너뜁니다. */
+  List<TemplateVariable> extract(Template template) {
+    Set<String> inBody =
+        new LinkedHashSet<>(CompiledTemplate.compile(template.getTemplate(), Map.of()).variables());
+    Map<String, String> defaults = EditableVariables.parse(objectMapper, template.getEditableVariables());
+    Set<String> names = new LinkedHashSet<>(inBody);
+    names.addAll(defaults.keySet());
+
+    List<TemplateVariable> rows = new ArrayList<>(names.size());
+    for (String name : names) {
+      if (name.isBlank() || name.length() > TemplateVariable.MAX_NAME_LENGTH) {
+        continue;
+      }
+      String defaultValue = defaults.get(name);
+      if (defaultValue != null && defaultValue.length() > TemplateVariable.MAX_DEFAULT_VALUE_LENGTH) {
+        defaultValue = defaultValue.substring(0, TemplateVariable.MAX_DEFAULT_VALUE_LENGTH);
+      }
+      rows.add(
+          TemplateVariable.builder()
+              .templateId(template.getId())
+              .spaceId(template.getSpaceId())
+              .name(name)
+              .defaultValue(defaultValue)
+              .inBody(inBody.contains(name))
+              .build());
+    }
+    return rows;
+  }
+}
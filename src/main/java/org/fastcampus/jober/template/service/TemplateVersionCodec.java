@@ -0,0 +1,132 @@
+package org.fastcampus.jober.template.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.fastcampus.jober.template.entity.TemplateContent;
+import org.fastcampus.jober.template.entity.TemplateVersion;
+
+/**
+ * 템플릿 버전 payload 형식. 첫 바이트가 종류(스냅샷/변경분)이고, 이어서 본문 세 필드(template, structuredTemplate,
+ * editableVariables)를 차례로 적습니다. 필드마다 null/이전과 같음/변경분/전체 중 하나로 기록하며, 스냅샷은 gzip으로 압축합니다.
+ */
+final class TemplateVersionCodec {
+
+  private static final byte SNAPSHOT = 1;
+  private static final byte DELTA = 2;
+
+  private static final int FIELD_NULL = 0;
+  private static final int FIELD_SAME = 1;
+  private static final int FIELD_DELTA = 2;
+  private static final int FIELD_FULL = 3;
+
+  private TemplateVersionCodec() {}
+
+  static byte[] snapshot(TemplateContent content) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, content.bodySize() / 4));
+    bytes.write(SNAPSHOT);
+    try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+      writeFull(out, content.template());
+      writeFull(out, content.structuredTemplate());
+      writeFull(out, content.editableVariables());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /** previous(직전 버전)를 current로 바꾸는 변경분 */
+  static byte[] delta(TemplateContent previous, TemplateContent current) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    bytes.write(DELTA);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      writeField(out, previous.template(), current.template());
+      writeField(out, previous.structuredTemplate(), current.structuredTemplate());
+      writeField(out, previous.editableVariables(), current.editableVariables());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * 버전 하나를 복원합니다.
+   *
+   * @param previous 직전 버전 내용 (스냅샷이면 무시)
+   * @param version 복원할 버전
+   */
+  static TemplateContent decode(TemplateContent previous, TemplateVersion version) {
+    byte[] payload = version.getPayload();
+    try {
+      DataInput in;
+      if (payload[0] == SNAPSHOT) {
+        in =
+            new DataInputStream(
+                new GZIPInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1)));
+      } else if (previous != null) {
+        in = new DataInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1));
+      } else {
+        throw new IllegalStateException("변경분 앞에 스냅샷이 없습니다: version=" + version.getVersion());
+      }
+      return new TemplateContent(
+          version.getTitle(),
+          version.getDescription(),
+          version.getType(),
+          version.getHasImage(),
+          readField(in, previous == null ? null : previous.template()),
+          readField(in, previous == null ? null : previous.structuredTemplate()),
+          readField(in, previous == null ? null : previous.editableVariables()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeField(DataOutput out, String previous, String current) throws IOException {
+    if (current == null) {
+      out.writeByte(FIELD_NULL);
+    } else if (Objects.equals(previous, current)) {
+      out.writeByte(FIELD_SAME);
+    } else if (previous == null) {
+      writeFull(out, current);
+    } else {
+      out.writeByte(FIELD_DELTA);
+      TemplateDelta.write(previous, current, out);
+    }
+  }
+
+  private static void writeFull(DataOutput out, String value) throws IOException {
+    if (value == null) {
+      out.writeByte(FIELD_NULL);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeByte(FIELD_FULL);
+    TemplateDelta.writeVarint(out, bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readField(DataInput in, String previous) throws IOException {
+    int kind = in.readUnsignedByte();
+    return switch (kind) {
+      case FIELD_NULL -> null;
+      case FIELD_SAME -> previous;
+      case FIELD_DELTA -> TemplateDelta.apply(previous, in);
+      case FIELD_FULL -> {
+        byte[] bytes = new byte[TemplateDelta.readVarint(in)];
+        in.readFully(bytes);
+        yield new String(bytes, StandardCharsets.UTF_8);
+      }
+      default -> throw new IOException("알 수 없는 필드 형식입니다: " + kind);
+    };
+  }
+}
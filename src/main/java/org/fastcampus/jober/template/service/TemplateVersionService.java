@@ -0,0 +1,248 @@
+package org.fastcampus.jober.template.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.fastcampus.jober.common.TemplateVersionProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.ErrorCode;
+import org.fastcampus.jober.space.repository.SpaceMemberRepository;
+import org.fastcampus.jober.space.repository.SpaceRepository;
+import org.fastcampus.jober.template.dto.request.TemplateVersionRestoreRequestDto;
+import org.fastcampus.jober.template.dto.response.TemplateVersionDetailResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateVersionResponseDto;
+import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.entity.TemplateContent;
+import org.fastcampus.jober.template.entity.TemplateVersion;
+import org.fastcampus.jober.template.repository.TemplateRepository;
+import org.fastcampus.jober.template.repository.TemplateVersionRepository;
+import org.fastcampus.jober.user.dto.CustomUserDetails;
+
+/**
+ * 템플릿 버전 기록/조회/복원. Template 행은 계보의 현재 버전을 그대로 들고 있고, 지난 버전은 template_version에 직전 버전 대비
+ * 변경분으로 쌓입니다. snapshot-interval 버전마다 또는 변경분이 너무 크면 전체 스냅샷을 남기므로 어떤 버전이든 스냅샷 1개와
+ * 변경분 최대 snapshot-interval - 1개로 복원됩니다.
+ *
+ * <p>지표: template.version.payload{kind=snapshot|delta}, template.version.body (전체 복사였다면의 크기),
+ * template.version.reconstruct
+ */
+@Service
+@Transactional(readOnly = true)
+public class TemplateVersionService {
+
+  private final TemplateVersionRepository templateVersionRepository;
+  private final TemplateRepository templateRepository;
+  private final SpaceRepository spaceRepository;
+  private final SpaceMemberRepository spaceMemberRepository;
+  private final TemplateSearchIndex templateSearchIndex;
+  private final TemplateVariableService templateVariableService;
+  private final TemplateDetailCache templateDetailCache;
+  private final TemplateSimilarityIndex templateSimilarityIndex;
+  private final TemplateVersionProps props;
+  private final DistributionSummary snapshotBytes;
+  private final DistributionSummary deltaBytes;
+  private final DistributionSummary bodyBytes;
+  private final Timer reconstructTimer;
+
+  public TemplateVersionService(
+      TemplateVersionRepository templateVersionRepository,
+      TemplateRepository templateRepository,
+      SpaceRepository spaceRepository,
+      SpaceMemberRepository spaceMemberRepository,
+      TemplateSearchIndex templateSearchIndex,
+      TemplateVariableService templateVariableService,
+      TemplateDetailCache templateDetailCache,
+      TemplateSimilarityIndex templateSimilarityIndex,
+      TemplateVersionProps props,
+      MeterRegistry meterRegistry) {
+    this.templateVersionRepository = templateVersionRepository;
+    this.templateRepository = templateRepository;
+    this.spaceRepository = spaceRepository;
+    this.spaceMemberRepository = spaceMemberRepository;
+    this.templateSearchIndex = templateSearchIndex;
+    this.templateVariableService = templateVariableService;
+    this.templateDetailCache = templateDetailCache;
+    this.templateSimilarityIndex = templateSimilarityIndex;
+    this.props = props;
+    this.snapshotBytes = payloadSummary(meterRegistry, "snapshot");
+    this.deltaBytes = payloadSummary(meterRegistry, "delta");
+    this.bodyBytes =
+        DistributionSummary.builder("template.version.body").baseUnit("bytes").register(meterRegistry);
+    this.reconstructTimer =
+        Timer.builder("template.version.reconstruct").publishPercentiles(0.5, 0.99).register(meterRegistry);
+  }
+
+  private static DistributionSummary payloadSummary(MeterRegistry meterRegistry, String kind) {
+    return DistributionSummary.builder("template.version.payload")
+        .baseUnit("bytes")
+        .tag("kind", kind)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 템플릿의 현재 내용을 다음 버전으로 기록합니다. 호출 전에 Template 행을 잠그거나(기존 계보) 새로 저장(새 계보)해야 합니다.
+   *
+   * @param template 저장된 템플릿 (현재 버전 내용)
+   * @param previous 직전 버전 내용 (새 템플릿이면 null)
+   * @return 기록한 버전 번호
+   */
+  @Transactional
+  public int record(Template template, TemplateContent previous) {
+    TemplateContent current = TemplateContent.from(template);
+    Integer latest = templateVersionRepository.findLatestVersion(template.getId()).orElse(null);
+    if (latest == null) {
+      if (previous == null) {
+        return save(template, 1, current, null);
+      }
+      // 버전 기능 이전에 저장된 템플릿: 기존 내용을 1번 스냅샷으로 남긴 뒤 이어서 기록
+      save(template, 1, previous, null);
+      latest = 1;
+    }
+    int snapshotVersion =
+        templateVersionRepository.findSnapshotVersionAtOrBefore(template.getId(), latest).orElse(0);
+    int next = latest + 1;
+    boolean snapshotDue = next - snapshotVersion >= props.getSnapshotInterval();
+    return save(template, next, current, snapshotDue ? null : previous);
+  }
+
+  /** previous가 없거나 변경분이 너무 크면 스냅샷으로 저장합니다. */
+  private int save(Template template, int version, TemplateContent content, TemplateContent previous) {
+    byte[] payload = null;
+    if (previous != null) {
+      byte[] delta = TemplateVersionCodec.delta(previous, content);
+      if (delta.length <= content.bodySize() * props.getMaxDeltaRatio()) {
+        payload = delta;
+      }
+    }
+    boolean snapshot = payload == null;
+    if (snapshot) {
+      payload = TemplateVersionCodec.snapshot(content);
+    }
+    templateVersionRepository.save(
+        TemplateVersion.builder()
+            .templateId(template.getId())
+            .spaceId(template.getSpaceId())
+            .version(version)
+            .snapshot(snapshot)
+            .title(content.title())
+            .description(content.description())
+            .type(content.type())
+            .hasImage(content.hasImage())
+            .payload(payload)
+            .payloadSize(payload.length)
+            .bodySize(content.bodySize())
+            .build());
+    (snapshot ? snapshotBytes : deltaBytes).record(payload.length);
+    bodyBytes.record(content.bodySize());
+    return version;
+  }
+
+  /**
+   * 템플릿 버전 목록을 최신순으로 조회합니다.
+   *
+   * @param principal 로그인 사용자
+   * @param spaceId 스페이스 ID
+   * @param templateId 템플릿 ID
+   * @return 버전 목록 (내용 제외)
+   * @throws BusinessException 스페이스 멤버가 아니거나 템플릿이 없는 경우
+   */
+  public List<TemplateVersionResponseDto> getVersions(
+      CustomUserDetails principal, Long spaceId, Long templateId) {
+    requireTemplate(principal, spaceId, templateId);
+    return templateVersionRepository.findSummariesByTemplateId(templateId);
+  }
+
+  /**
+   * 특정 버전의 내용을 복원해 조회합니다.
+   *
+   * @param principal 로그인 사용자
+   * @param spaceId 스페이스 ID
+   * @param templateId 템플릿 ID
+   * @param version 버전 번호
+   * @return 해당 버전의 템플릿 내용
+   * @throws BusinessException 스페이스 멤버가 아니거나 템플릿/버전이 없는 경우
+   */
+  public TemplateVersionDetailResponseDto getVersion(
+      CustomUserDetails principal, Long spaceId, Long templateId, Integer version) {
+    requireTemplate(principal, spaceId, templateId);
+    return TemplateVersionDetailResponseDto.of(templateId, version, reconstruct(templateId, version));
+  }
+
+  /**
+   * 템플릿을 지난 버전 내용으로 되돌립니다. 지난 버전을 지우지 않고, 그 내용을 새 버전으로 기록합니다.
+   *
+   * @param principal 로그인 사용자
+   * @param request 스페이스 ID, 템플릿 ID, 되돌릴 버전
+   * @return 새로 기록된 버전의 내용
+   * @throws BusinessException 스페이스 멤버가 아니거나 템플릿/버전이 없는 경우
+   */
+  @Transactional
+  public TemplateVersionDetailResponseDto restore(
+      CustomUserDetails principal, TemplateVersionRestoreRequestDto request) {
+    spaceRepository.findByIdOrThrow(request.getSpaceId());
+    requireMember(principal, request.getSpaceId());
+    Template template =
+        templateRepository
+            .findActiveForUpdate(request.getTemplateId(), request.getSpaceId())
+            .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "템플릿을 찾을 수 없습니다."));
+
+    TemplateContent target = reconstruct(template.getId(), request.getVersion());
+    TemplateContent previous = TemplateContent.from(template);
+    target.applyTo(template);
+    templateDetailCache.evict(template.getSpaceId(), template.getId());
+    int version = record(template, previous);
+    templateVariableService.sync(template);
+    templateSearchIndex.index(template);
+    templateSimilarityIndex.index(template);
+    return TemplateVersionDetailResponseDto.of(template.getId(), version, target);
+  }
+
+  /** 가장 가까운 스냅샷부터 변경분을 차례로 적용해 버전 내용을 만듭니다. */
+  TemplateContent reconstruct(Long templateId, Integer version) {
+    if (version == null || version < 1) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST, "버전은 1 이상이어야 합니다.");
+    }
+    return reconstructTimer.record(
+        () -> {
+          int from =
+              templateVersionRepository
+                  .findSnapshotVersionAtOrBefore(templateId, version)
+                  .orElseThrow(() -> versionNotFound(version));
+          List<TemplateVersion> chain =
+              templateVersionRepository.findByTemplateIdAndVersionBetweenOrderByVersionAsc(
+                  templateId, from, version);
+          if (chain.isEmpty() || !chain.get(chain.size() - 1).getVersion().equals(version)) {
+            throw versionNotFound(version);
+          }
+          TemplateContent content = null;
+          for (TemplateVersion step : chain) {
+            content = TemplateVersionCodec.decode(content, step);
+          }
+          return content;
+        });
+  }
+
+  private void requireTemplate(CustomUserDetails principal, Long spaceId, Long templateId) {
+    spaceRepository.findByIdOrThrow(spaceId);
+    requireMember(principal, spaceId);
+    if (!templateRepository.existsByIdAndSpaceIdAndIsDeletedFalse(templateId, spaceId)) {
+      throw new BusinessException(ErrorCode.NOT_FOUND, "템플릿을 찾을 수 없습니다.");
+    }
+  }
+
+  private void requireMember(CustomUserDetails principal, Long spaceId) {
+    spaceMemberRepository
+        .findBySpaceIdAndUserId(spaceId, principal.getUserId())
+        .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 스페이스 멤버만 접근할 수 있습니다."));
+  }
+
+  private static BusinessException versionNotFound(Integer version) {
+    return new BusinessException(ErrorCode.NOT_FOUND, "템플릿 버전을 찾을 수 없습니다: " + version);
+  }
+}
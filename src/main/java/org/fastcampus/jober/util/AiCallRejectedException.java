@@ -0,0 +1,9 @@
+package org.fastcampus.jober.util;
+
+/** AiCallScheduler 대기열이 가득 찼거나 대기 시간이 초과되어 AI 서버 호출 슬롯을 받지 못한 경우 발생합니다. */
+public class AiCallRejectedException extends RuntimeException {
+
+  public AiCallRejectedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,348 @@
+package org.fastcampus.jober.util;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+
+/**
+ * AI 서버 단건 호출의 재시도/헤지 정책. 논리적 호출 하나에 Idempotency-Key 하나를 발급해 모든 시도에 같은 키와 시도 번호
+ * (X-Attempt)를 실어 보내므로 AI 서버는 중복 요청을 걸러낼 수 있습니다.
+ *
+ * <ul>
+ *   <li>재시도: 연결 실패와 429/502/503/504 응답만 지수 백오프 + 지터로 다시 보냅니다. 응답 대기 중 타임아웃은 AI 서버가
+ *       이미 처리 중일 수 있으므로, 서킷 오픈/bulkhead 포화는 다시 보내도 소용없으므로 재시도하지 않습니다. 첫 시도부터
+ *       max-elapsed가 지나면 횟수가 남아도 멈춥니다.
+ *   <li>헤지(선택): 첫 시도가 최근 응답 시간의 p95(ai.flask.hedge.percentile)를 넘기면 같은 요청을 한 번 더 보내고 먼저
+ *       도착한 응답을 사용합니다. 늦은 쪽은 취소됩니다.
+ * </ul>
+ *
+ * 둘 다 idempotent-steps에 해당하는 단계에만 적용되며, 이미 이벤트를 내보낸 SSE 스트림은 대상이 아닙니다. 지표는
+ * ai.call.attempts (호출당 시도 수), ai.call.retries, ai.call.hedges, ai.call.attempt.latency 입니다.
+ */
+@Component
+public class AiCallRetrier {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  public static final String ATTEMPT_HEADER = "X-Attempt";
+
+  private final AiFlaskProps.Retry retry;
+  private final AiFlaskProps.Hedge hedge;
+  private final Timer attemptLatency;
+  private final DistributionSummary succeededAttempts;
+  private final DistributionSummary failedAttempts;
+  private final Counter retries;
+  private final Counter hedges;
+
+  public AiCallRetrier(AiFlaskProps aiFlaskProps, MeterRegistry meterRegistry) {
+    this.retry = aiFlaskProps.getRetry();
+    this.hedge = aiFlaskProps.getHedge();
+    this.attemptLatency =
+        Timer.builder("ai.call.attempt.latency")
+            .description("성공한 AI 호출 시도 하나의 응답 시간 (헤지 지연 산출용)")
+            .publishPercentiles(hedge.getPercentile())
+            .register(meterRegistry);
+    this.succeededAttempts = attemptsSummary(meterRegistry, "success");
+    this.failedAttempts = attemptsSummary(meterRegistry, "failure");
+    this.retries = meterRegistry.counter("ai.call.retries");
+    this.hedges = meterRegistry.counter("ai.call.hedges");
+  }
+
+  private static DistributionSummary attemptsSummary(MeterRegistry meterRegistry, String outcome) {
+    return DistributionSummary.builder("ai.call.attempts")
+        .description("논리적 AI 호출 하나에 사용한 시도 수 (재시도/헤지 포함)")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  /** 시도 하나에 실을 식별 정보. 같은 논리적 호출의 시도는 모두 같은 idempotencyKey를 가집니다. */
+  public record Attempt(String idempotencyKey, int number) {
+
+    public void applyTo(HttpHeaders headers) {
+      headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+      headers.set(ATTEMPT_HEADER, String.valueOf(number));
+    }
+  }
+
+  /** 호출 결과와 그 결과를 얻기까지 보낸 시도 수 */
+  public record Result<T>(T value, int attempts) {}
+
+  /**
+   * 블로킹 호출을 정책에 따라 실행합니다. 헤지가 켜져 있으면 시도를 boundedElastic 스레드에서 실행하고 먼저 끝난 결과를 기다립니다.
+   *
+   * @param requestBody AI 서버로 보낼 요청 body (state.step으로 재시도 가능 여부 판단)
+   * @param call 시도 하나를 실행하는 함수
+   * @return 결과와 시도 수
+   */
+  public <T> Result<T> execute(Object requestBody, Function<Attempt, T> call) {
+    boolean idempotent = isIdempotent(requestBody);
+    if (idempotent && hedge.isEnabled()) {
+      // 진 쪽 시도는 취소되지만 이미 블로킹 중인 스레드는 응답을 받을 때까지 끝나지 않음
+      Result<T> result =
+          executeAsync(
+                  requestBody,
+                  attempt ->
+                      Mono.fromCallable(() -> call.apply(attempt)).subscribeOn(Schedulers.boundedElastic()))
+              .block();
+      // 응답 본문이 없으면(null) 빈 Mono가 되므로 시도 수를 알 수 없음
+      return result != null ? result : new Result<>(null, 1);
+    }
+
+    String key = newIdempotencyKey();
+    int maxAttempts = idempotent && retry.isEnabled() ? Math.max(1, retry.getMaxAttempts()) : 1;
+    long callStart = System.nanoTime();
+    for (int number = 1; ; number++) {
+      try {
+        long start = System.nanoTime();
+        T value = call.apply(new Attempt(key, number));
+        attemptLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        succeededAttempts.record(number);
+        return new Result<>(value, number);
+      } catch (RuntimeException e) {
+        Duration delay = backoff(number);
+        if (number >= maxAttempts || !isTransient(e) || !withinDeadline(callStart, delay)) {
+          failedAttempts.record(number);
+          throw e;
+        }
+        retries.increment();
+        sleep(delay);
+      }
+    }
+  }
+
+  /**
+   * execute의 논블로킹 버전입니다. 구독할 때마다 새 Idempotency-Key로 시작합니다.
+   *
+   * @param requestBody AI 서버로 보낼 요청 body
+   * @param call 시도 하나를 나타내는 Mono를 만드는 함수 (시도마다 새로 호출됨)
+   * @return 결과와 시도 수를 담은 Mono
+   */
+  public <T> Mono<Result<T>> executeAsync(Object requestBody, Function<Attempt, Mono<T>> call) {
+    return Mono.defer(
+        () -> {
+          boolean idempotent = isIdempotent(requestBody);
+          String key = newIdempotencyKey();
+          long callStart = System.nanoTime();
+          AtomicInteger attempts = new AtomicInteger();
+          Mono<T> attempt =
+              Mono.defer(
+                  () -> {
+                    long start = System.nanoTime();
+                    return call.apply(new Attempt(key, attempts.incrementAndGet()))
+                        .doOnSuccess(
+                            v -> attemptLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+                  });
+
+          Mono<T> round = idempotent && hedge.isEnabled() ? hedged(attempt) : attempt;
+          if (idempotent && retry.isEnabled() && retry.getMaxAttempts() > 1) {
+            round = round.retryWhen(retrySpec(callStart));
+          }
+          return round
+              .map(value -> new Result<>(value, attempts.get()))
+              .doOnSuccess(
+                  result -> {
+                    if (result != null) {
+                      succeededAttempts.record(result.attempts());
+                    }
+                  })
+              .doOnError(e -> failedAttempts.record(attempts.get()));
+        });
+  }
+
+  /** execute와 같은 규칙(횟수, 일시적 오류, max-elapsed, backoff)으로 라운드를 다시 구독합니다. */
+  private Retry retrySpec(long callStart) {
+    return Retry.from(
+        signals ->
+            signals.concatMap(
+                signal -> {
+                  int round = (int) signal.totalRetries() + 1;
+                  Duration delay = backoff(round);
+                  if (round >= retry.getMaxAttempts()
+                      || !isTransient(signal.failure())
+                      || !withinDeadline(callStart, delay)) {
+                    return Mono.error(signal.failure());
+                  }
+                  retries.increment();
+                  return Mono.delay(delay);
+                }));
+  }
+
+  /** 지금부터 delay만큼 기다린 뒤에도 첫 시도부터 max-elapsed 안인지 확인합니다. */
+  private boolean withinDeadline(long callStart, Duration delay) {
+    return System.nanoTime() - callStart + delay.toNanos() <= retry.getMaxElapsed().toNanos();
+  }
+
+  /** 첫 시도가 헤지 지연 안에 끝나지 않으면 두 번째 시도를 보내고, 먼저 도착한 값을 사용합니다. */
+  private <T> Mono<T> hedged(Mono<T> attempt) {
+    return Mono.create(
+        sink -> {
+          HedgeRace<T> race = new HedgeRace<>(sink);
+          sink.onCancel(race::cancel);
+          race.launch(attempt);
+          race.track(
+              Mono.delay(hedgeDelay())
+                  .subscribe(
+                      tick -> {
+                        if (race.launch(attempt)) {
+                          hedges.increment();
+                        }
+                      }));
+        });
+  }
+
+  /** 최근 성공 시도의 percentile 응답 시간을 [minDelay, maxDelay]로 자른 값. 표본이 적으면 initialDelay를 씁니다. */
+  Duration hedgeDelay() {
+    if (attemptLatency.count() < hedge.getMinSamples()) {
+      return hedge.getInitialDelay();
+    }
+    for (ValueAtPercentile value : attemptLatency.takeSnapshot().percentileValues()) {
+      if (value.percentile() == hedge.getPercentile()) {
+        long nanos = (long) value.value(TimeUnit.NANOSECONDS);
+        long clamped =
+            Math.max(hedge.getMinDelay().toNanos(), Math.min(hedge.getMaxDelay().toNanos(), nanos));
+        return Duration.ofNanos(clamped);
+      }
+    }
+    return hedge.getInitialDelay();
+  }
+
+  /** n번째 재시도 전 대기 시간: initialBackoff * 2^(n-1)을 maxBackoff로 자르고 ±jitter 비율만큼 흔듭니다. */
+  Duration backoff(int retryNumber) {
+    long max = retry.getMaxBackoff().toNanos();
+    long base = Math.min(max, retry.getInitialBackoff().toNanos() << Math.min(retryNumber - 1, 20));
+    double jitter = Math.min(1.0, Math.max(0.0, retry.getJitter()));
+    double factor = 1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+    return Duration.ofNanos(Math.min(max, (long) (base * factor)));
+  }
+
+  private boolean isIdempotent(Object requestBody) {
+    Object state = requestBody instanceof Map<?, ?> body ? body.get("state") : null;
+    Object step = state instanceof Map<?, ?> stateMap ? stateMap.get("step") : null;
+    return step != null && retry.getIdempotentSteps().contains(step.toString());
+  }
+
+  /**
+   * 다시 보내도 안전하고 성공할 수 있는 일시적 오류인지 원인 체인을 따라 확인합니다. 요청이 AI 서버에 닿지 않은 연결 실패와
+   * 429/502/503/504만 해당하며, 응답 대기 타임아웃처럼 AI 서버가 이미 요청을 처리 중일 수 있는 오류, 호출 차단(서킷/bulkhead),
+   * 그 밖의 4xx/5xx는 재시도하지 않습니다.
+   */
+  static boolean isTransient(Throwable error) {
+    for (Throwable e = error; e != null; e = e.getCause() == e ? null : e.getCause()) {
+      if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+        return false;
+      }
+      if (e instanceof WebClientResponseException response) {
+        return isTransientStatus(response.getStatusCode().value());
+      }
+      if (e instanceof HttpStatusCodeException response) {
+        return isTransientStatus(response.getStatusCode().value());
+      }
+      if (e instanceof ConnectException || e instanceof ConnectTimeoutException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isTransientStatus(int status) {
+    return status == 429 || status == 502 || status == 503 || status == 504;
+  }
+
+  private static String newIdempotencyKey() {
+    return UUID.randomUUID().toString();
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("AI 호출 재시도 대기 중 인터럽트되었습니다.", e);
+    }
+  }
+
+  /** 헤지 라운드 하나. 먼저 값을 낸 시도가 이기고, 진행 중인 시도가 모두 실패하면 마지막 오류로 끝납니다. */
+  private static final class HedgeRace<T> {
+    private final MonoSink<T> sink;
+    private final Disposable.Composite running = Disposables.composite();
+    private int inFlight;
+    private boolean done;
+
+    HedgeRace(MonoSink<T> sink) {
+      this.sink = sink;
+    }
+
+    /** 시도를 하나 시작합니다. 이미 끝난 라운드면 false. */
+    synchronized boolean launch(Mono<T> attempt) {
+      if (done) {
+        return false;
+      }
+      inFlight++;
+      running.add(attempt.subscribe(this::win, this::fail, () -> win(null)));
+      return true;
+    }
+
+    void track(Disposable disposable) {
+      running.add(disposable);
+    }
+
+    private void win(T value) {
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        done = true;
+      }
+      running.dispose();
+      if (value == null) {
+        sink.success();
+      } else {
+        sink.success(value);
+      }
+    }
+
+    private void fail(Throwable error) {
+      synchronized (this) {
+        if (done || --inFlight > 0) {
+          return;
+        }
+        done = true;
+      }
+      running.dispose();
+      sink.error(error);
+    }
+
+    void cancel() {
+      synchronized (this) {
+        done = true;
+      }
+      running.dispose();
+    }
+  }
+}
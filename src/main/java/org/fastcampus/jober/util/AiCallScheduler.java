@@ -0,0 +1,333 @@
+package org.fastcampus.jober.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+
+/**
+ * AI 서버 호출 슬롯 스케줄러. 동시 호출 수를 max-concurrent로 제한하고, 슬롯이 없으면 우선순위 등급별/스페이스별 대기열에 넣었다가
+ * 슬롯이 반납될 때 다음 호출을 고릅니다.
+ *
+ * <ul>
+ *   <li>등급 간: 가중 라운드 로빈 (기본 INTERACTIVE:BATCH:BACKGROUND = 6:3:1). 낮은 등급도 굶지 않습니다.
+ *   <li>등급 안: 대기 중인 스페이스(또는 사용자) 대기열을 돌아가며 하나씩 꺼내므로 요청을 많이 보낸 쪽이 다른 쪽을 밀어내지
+ *       못합니다.
+ * </ul>
+ *
+ * 대기열당 요청이 가득 차거나 max-wait 동안 슬롯을 받지 못하면 AiCallRejectedException으로 실패합니다. 지표는
+ * ai.scheduler.queue.depth, ai.scheduler.wait, ai.scheduler.rejected (priority 태그)와 ai.scheduler.in.use 입니다.
+ *
+ * <p>대기열 키는 호출하는 쪽이 서버에서 확인한 값으로 만들어야 합니다 (spaceQueue: 멤버십을 확인한 스페이스, userQueue: 로그인
+ * 사용자). 클라이언트가 보낸 spaceId를 그대로 쓰면 조용한 스페이스를 사칭해 새치기할 수 있습니다.
+ *
+ * <p>코얼레싱(AiRequestCoalescer) 안쪽에서 사용해야 실제로 AI 서버로 나가는 호출만 슬롯을 차지합니다.
+ */
+@Component
+public class AiCallScheduler {
+
+  /** AI 호출 우선순위 등급 */
+  public enum Priority {
+    /** 사용자가 화면에서 기다리는 호출 (SSE, 단건 생성) */
+    INTERACTIVE,
+    /** 일괄 생성 */
+    BATCH,
+    /** 비동기 작업 큐 */
+    BACKGROUND
+  }
+
+  static final String NO_SPACE = "-";
+
+  /** 멤버십을 확인한 스페이스의 대기열 키 */
+  public static String spaceQueue(long spaceId) {
+    return "space:" + spaceId;
+  }
+
+  /** spaceId 없이 호출한 로그인 사용자의 대기열 키 */
+  public static String userQueue(long userId) {
+    return "user:" + userId;
+  }
+
+  private final boolean enabled;
+  private final int maxQueuePerSpace;
+  private final Duration maxWait;
+  private final Map<Priority, ClassQueue> queues = new EnumMap<>(Priority.class);
+  private final Object lock = new Object();
+  private int available;
+  private volatile int inUse;
+
+  public AiCallScheduler(AiFlaskProps aiFlaskProps, MeterRegistry meterRegistry) {
+    AiFlaskProps.Scheduler settings = aiFlaskProps.getScheduler();
+    this.enabled = settings.isEnabled();
+    this.available = settings.getMaxConcurrent();
+    this.maxQueuePerSpace = settings.getMaxQueuePerSpace();
+    this.maxWait = settings.getMaxWait();
+
+    for (Priority priority : Priority.values()) {
+      int weight =
+          switch (priority) {
+            case INTERACTIVE -> settings.getInteractiveWeight();
+            case BATCH -> settings.getBatchWeight();
+            case BACKGROUND -> settings.getBackgroundWeight();
+          };
+      ClassQueue queue = new ClassQueue(priority, Math.max(1, weight), meterRegistry);
+      meterRegistry.gauge(
+          "ai.scheduler.queue.depth", Tags.of("priority", priority.name()), queue, q -> q.size);
+      queues.put(priority, queue);
+    }
+    meterRegistry.gauge("ai.scheduler.in.use", this, s -> s.inUse);
+  }
+
+  /**
+   * 슬롯을 받은 뒤 call을 구독하고, 결과가 끝나거나 취소되면 슬롯을 반납합니다.
+   *
+   * @param queue 공정 분배 기준 대기열 키 (spaceQueue/userQueue, null이면 공용 대기열)
+   * @param priority 우선순위 등급
+   * @param call 실제 AI 호출
+   */
+  public <T> Mono<T> mono(String queue, Priority priority, Supplier<Mono<T>> call) {
+    if (!enabled) {
+      return Mono.defer(call);
+    }
+    return Mono.usingWhen(
+        acquire(queue, priority), permit -> call.get(), permit -> Mono.fromRunnable(permit::release));
+  }
+
+  /** mono의 스트림 버전입니다. 스트림이 열려 있는 동안 슬롯을 점유합니다. */
+  public <T> Flux<T> flux(String queue, Priority priority, Supplier<Flux<T>> call) {
+    if (!enabled) {
+      return Flux.defer(call);
+    }
+    return Flux.usingWhen(
+        acquire(queue, priority), permit -> call.get(), permit -> Mono.fromRunnable(permit::release));
+  }
+
+  /** mono의 블로킹 버전입니다. 슬롯을 받을 때까지 호출 스레드가 대기합니다. */
+  public <T> T call(String queue, Priority priority, Supplier<T> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    Permit permit = acquire(queue, priority).block();
+    try {
+      return call.get();
+    } finally {
+      permit.release();
+    }
+  }
+
+  /**
+   * 호출 슬롯을 요청합니다. 슬롯이 비어 있고 대기 중인 호출이 없으면 바로 받고, 아니면 대기열에서 차례를 기다립니다.
+   *
+   * @param queueKey 공정 분배 기준 대기열 키 (null이면 공용 대기열)
+   * @return 반드시 release 해야 하는 슬롯
+   */
+  Mono<Permit> acquire(String queueKey, Priority priority) {
+    String space = queueKey != null ? queueKey : NO_SPACE;
+    ClassQueue queue = queues.get(priority);
+    return Mono.<Permit>create(
+            sink -> {
+              Waiter waiter = new Waiter(queue, space, sink);
+              // 슬롯을 받은 뒤 전달 전에 취소되면 cancel에서 반납
+              sink.onCancel(() -> cancel(waiter));
+              boolean grantedNow = false;
+              synchronized (lock) {
+                if (available > 0) {
+                  // 대기 중인 호출이 있으면 available은 항상 0이므로 새치기가 생기지 않음
+                  available--;
+                  inUse++;
+                  waiter.granted = true;
+                  grantedNow = true;
+                } else if (!queue.offer(waiter, maxQueuePerSpace)) {
+                  queue.rejected("queue_full").increment();
+                  sink.error(
+                      new AiCallRejectedException("대기열 " + space + "의 AI 호출 대기열이 가득 찼습니다."));
+                  return;
+                }
+              }
+              if (grantedNow) {
+                queue.waitTimer.record(0, TimeUnit.NANOSECONDS);
+                sink.success(new Permit());
+              }
+            })
+        .timeout(
+            maxWait,
+            Mono.defer(
+                () -> {
+                  queue.rejected("timeout").increment();
+                  return Mono.error(new AiCallRejectedException("AI 호출 대기 시간이 초과되었습니다."));
+                }));
+  }
+
+  /** 대기 중 취소(타임아웃 포함)된 호출을 대기열에서 빼거나, 이미 슬롯을 받았다면 반납합니다. */
+  private void cancel(Waiter waiter) {
+    boolean release;
+    synchronized (lock) {
+      release = waiter.granted;
+      if (!release) {
+        waiter.queue.remove(waiter);
+      }
+    }
+    if (release) {
+      releaseSlot();
+    }
+  }
+
+  private void releaseSlot() {
+    List<Waiter> grants = new ArrayList<>(1);
+    synchronized (lock) {
+      available++;
+      inUse--;
+      while (available > 0) {
+        ClassQueue next = nextClass();
+        if (next == null) {
+          break;
+        }
+        Waiter waiter = next.poll();
+        waiter.granted = true;
+        available--;
+        inUse++;
+        grants.add(waiter);
+      }
+    }
+    for (Waiter waiter : grants) {
+      waiter.queue.waitTimer.record(System.nanoTime() - waiter.enqueuedAt, TimeUnit.NANOSECONDS);
+      waiter.sink.success(new Permit());
+    }
+  }
+
+  /** 대기 중인 등급 중 가중 라운드 로빈(smooth weighted round-robin)으로 다음 등급을 고릅니다. lock 안에서 호출됩니다. */
+  private ClassQueue nextClass() {
+    ClassQueue best = null;
+    int totalWeight = 0;
+    for (ClassQueue queue : queues.values()) {
+      if (queue.size == 0) {
+        continue;
+      }
+      queue.currentWeight += queue.weight;
+      totalWeight += queue.weight;
+      if (best == null || queue.currentWeight > best.currentWeight) {
+        best = queue;
+      }
+    }
+    if (best != null) {
+      best.currentWeight -= totalWeight;
+    }
+    return best;
+  }
+
+  /** 한 우선순위 등급의 스페이스별 대기열. 대기 중인 스페이스를 순서대로 돌며 하나씩 꺼냅니다. lock 안에서만 변경됩니다. */
+  private static final class ClassQueue {
+    private final int weight;
+    private final Timer waitTimer;
+    private final Map<String, Counter> rejected = new HashMap<>();
+    private final Priority priority;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ArrayDeque<Waiter>> bySpace = new HashMap<>();
+    private final ArrayDeque<String> turn = new ArrayDeque<>();
+    private int currentWeight;
+    private volatile int size;
+
+    ClassQueue(Priority priority, int weight, MeterRegistry meterRegistry) {
+      this.priority = priority;
+      this.weight = weight;
+      this.meterRegistry = meterRegistry;
+      this.waitTimer =
+          Timer.builder("ai.scheduler.wait")
+              .description("AI 호출 슬롯을 받기까지 대기한 시간")
+              .tag("priority", priority.name())
+              .publishPercentileHistogram()
+              .register(meterRegistry);
+    }
+
+    boolean offer(Waiter waiter, int maxPerSpace) {
+      ArrayDeque<Waiter> spaceQueue = bySpace.get(waiter.space);
+      if (spaceQueue == null) {
+        spaceQueue = new ArrayDeque<>();
+        bySpace.put(waiter.space, spaceQueue);
+        turn.addLast(waiter.space);
+      } else if (spaceQueue.size() >= maxPerSpace) {
+        return false;
+      }
+      spaceQueue.addLast(waiter);
+      size++;
+      return true;
+    }
+
+    Waiter poll() {
+      String space = turn.pollFirst();
+      ArrayDeque<Waiter> spaceQueue = bySpace.get(space);
+      Waiter waiter = spaceQueue.pollFirst();
+      if (spaceQueue.isEmpty()) {
+        bySpace.remove(space);
+      } else {
+        turn.addLast(space);
+      }
+      size--;
+      return waiter;
+    }
+
+    void remove(Waiter waiter) {
+      ArrayDeque<Waiter> spaceQueue = bySpace.get(waiter.space);
+      if (spaceQueue != null && spaceQueue.remove(waiter)) {
+        size--;
+        if (spaceQueue.isEmpty()) {
+          bySpace.remove(waiter.space);
+          turn.remove(waiter.space);
+        }
+      }
+    }
+
+    Counter rejected(String reason) {
+      synchronized (rejected) {
+        return rejected.computeIfAbsent(
+            reason,
+            r ->
+                meterRegistry.counter(
+                    "ai.scheduler.rejected", "priority", priority.name(), "reason", r));
+      }
+    }
+  }
+
+  private static final class Waiter {
+    private final ClassQueue queue;
+    private final String space;
+    private final MonoSink<Permit> sink;
+    private final long enqueuedAt = System.nanoTime();
+    private boolean granted;
+
+    Waiter(ClassQueue queue, String space, MonoSink<Permit> sink) {
+      this.queue = queue;
+      this.space = space;
+      this.sink = sink;
+    }
+  }
+
+  /** 호출 슬롯. 여러 번 release 해도 한 번만 반납됩니다. */
+  final class Permit {
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        releaseSlot();
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package org.fastcampus.jober.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+
+/**
+ * AI 서버 호출 single-flight 계층. 같은 키(정규화된 요청 body 해시)로 동시에 들어온 호출은 진행 중인 한 번의 호출 결과를 함께
+ * 사용합니다. 호출이 끝나면 키가 제거되므로 결과를 보관하지는 않습니다 (보관은 TemplateResponseCache 담당).
+ */
+@Slf4j
+@Component
+public class AiRequestCoalescer {
+
+  private final boolean enabled;
+  private final Map<String, CompletableFuture<Object>> inflightCalls = new ConcurrentHashMap<>();
+  private final Map<String, Mono<Object>> inflightMonos = new ConcurrentHashMap<>();
+  private final Map<String, Flux<Object>> inflightStreams = new ConcurrentHashMap<>();
+
+  private final Counter blockingCoalesced;
+  private final Counter asyncCoalesced;
+  private final Counter streamCoalesced;
+
+  public AiRequestCoalescer(AiFlaskProps aiFlaskProps, MeterRegistry meterRegistry) {
+    this.enabled = aiFlaskProps.isSingleFlightEnabled();
+    this.blockingCoalesced = meterRegistry.counter("ai.singleflight.coalesced", "mode", "blocking");
+    this.asyncCoalesced = meterRegistry.counter("ai.singleflight.coalesced", "mode", "async");
+    this.streamCoalesced = meterRegistry.counter("ai.singleflight.coalesced", "mode", "stream");
+    meterRegistry.gauge(
+        "ai.singleflight.inflight",
+        this,
+        c -> c.inflightCalls.size() + c.inflightMonos.size() + c.inflightStreams.size());
+  }
+
+  /**
+   * 블로킹 호출을 합칩니다. 먼저 도착한 호출자가 실제 요청을 수행하고, 나머지는 그 결과(또는 예외)를 기다립니다.
+   *
+   * @param key 요청 식별 키
+   * @param call 실제 AI 호출
+   * @return 호출 결과
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String key, Supplier<T> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    CompletableFuture<Object> mine = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inflightCalls.putIfAbsent(key, mine);
+    if (existing != null) {
+      blockingCoalesced.increment();
+      log.debug("[SINGLE-FLIGHT] 진행 중인 호출에 합류: {}", key);
+      try {
+        return (T) existing.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+    try {
+      T result = call.get();
+      mine.complete(result);
+      return result;
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inflightCalls.remove(key, mine);
+    }
+  }
+
+  /**
+   * Mono 기반 비동기 호출을 합칩니다. 모든 구독자가 취소하면 실제 요청도 취소됩니다.
+   *
+   * @param key 요청 식별 키
+   * @param call 실제 AI 호출
+   * @return 공유된 결과 Mono
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Mono<T> mono(String key, Supplier<Mono<T>> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    return Mono.defer(
+        () -> {
+          AtomicReference<Mono<Object>> created = new AtomicReference<>();
+          Mono<Object> shared =
+              inflightMonos.computeIfAbsent(
+                  key,
+                  k -> {
+                    Mono<Object> m =
+                        call.get()
+                            .cast(Object.class)
+                            .doFinally(signal -> inflightMonos.remove(k, created.get()))
+                            .share();
+                    created.set(m);
+                    return m;
+                  });
+          if (created.get() == null) {
+            asyncCoalesced.increment();
+          }
+          return (Mono<T>) shared;
+        });
+  }
+
+  /**
+   * SSE 스트림을 합칩니다. 늦게 합류한 구독자도 이미 지나간 이벤트를 처음부터 재생(replay)받습니다. 모든 구독자가 떠나면 업스트림
+   * 연결이 끊깁니다.
+   *
+   * @param key 요청 식별 키
+   * @param call 실제 AI 스트림 호출
+   * @return 공유된 이벤트 Flux
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Flux<T> flux(String key, Supplier<Flux<T>> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    return Flux.defer(
+        () -> {
+          AtomicReference<Flux<Object>> created = new AtomicReference<>();
+          Flux<Object> shared =
+              inflightStreams.computeIfAbsent(
+                  key,
+                  k -> {
+                    Flux<Object> f =
+                        call.get()
+                            .cast(Object.class)
+                            .doFinally(signal -> inflightStreams.remove(k, created.get()))
+                            .replay()
+                            .refCount();
+                    created.set(f);
+                    return f;
+                  });
+          if (created.get() == null) {
+            streamCoalesced.increment();
+          }
+          return (Flux<T>) shared;
+        });
+  }
+}
@@ -0,0 +1,133 @@
+package org.fastcampus.jober.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import lombok.extern.slf4j.Slf4j;
+
+import org.fastcampus.jober.template.dto.request.TemplateState;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+
+/**
+ * AI 서버 응답(JSON)을 스트리밍 파서로 한 번만 읽어 TemplateCreateResponseDto를 만듭니다. 응답 전체를 Map으로 만든 뒤 다시
+ * DTO로 옮기던 방식과 같은 관대한 규칙을 따릅니다.
+ *
+ * <ul>
+ *   <li>success, hasImage: JSON boolean이 아니면 false
+ *   <li>response, template: 문자열이 아니어도 문자열로 변환
+ *   <li>options, structured_templates: 배열이 아니면 빈 리스트
+ *   <li>editable_variables: 객체가 아니면 빈 맵
+ *   <li>state: 객체가 아니거나 TemplateState로 변환할 수 없으면 빈 TemplateState
+ * </ul>
+ *
+ * 본문이 비었거나 JSON 객체가 아니거나 중간에 끊겼으면 호출자가 폴백 응답을 만들 수 있도록 JsonProcessingException을
+ * 던집니다. 그 밖의 IOException은 본문을 읽는 중 난 네트워크 오류입니다.
+ */
+@Slf4j
+public class AiResponseDecoder {
+
+  private final ObjectMapper objectMapper;
+
+  public AiResponseDecoder(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public TemplateCreateResponseDto decode(InputStream body) throws IOException {
+    try (JsonParser parser = objectMapper.createParser(body)) {
+      return decode(parser);
+    }
+  }
+
+  public TemplateCreateResponseDto decode(byte[] body) throws IOException {
+    try (JsonParser parser = objectMapper.createParser(body)) {
+      return decode(parser);
+    }
+  }
+
+  private TemplateCreateResponseDto decode(JsonParser parser) throws IOException {
+    TemplateCreateResponseDto dto = new TemplateCreateResponseDto();
+    dto.setSuccess(false);
+    dto.setHasImage(false);
+    dto.setOptions(Collections.emptyList());
+    dto.setStructuredTemplates(Collections.emptyList());
+    dto.setEditableVariables(Collections.emptyMap());
+    dto.setState(new TemplateState());
+
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw MismatchedInputException.from(
+          parser, TemplateCreateResponseDto.class, "AI 응답이 JSON 객체가 아닙니다: " + parser.currentToken());
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken token = parser.nextToken();
+      switch (field) {
+        case "success" -> dto.setSuccess(token == JsonToken.VALUE_TRUE);
+        case "hasImage" -> dto.setHasImage(token == JsonToken.VALUE_TRUE);
+        case "response" -> dto.setResponse(readString(parser, token));
+        case "template" -> dto.setTemplate(readString(parser, token));
+        case "options" -> dto.setOptions(readList(parser, token));
+        case "structured_templates" -> dto.setStructuredTemplates(readList(parser, token));
+        case "structured_template" ->
+            dto.setStructuredTemplate(
+                token == JsonToken.VALUE_NULL ? null : parser.readValueAs(Object.class));
+        case "editable_variables" -> dto.setEditableVariables(readMap(parser, token));
+        case "state" -> dto.setState(readState(parser, token));
+        default -> parser.skipChildren();
+      }
+    }
+    return dto;
+  }
+
+  private static String readString(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token.isScalarValue()) {
+      return parser.getText();
+    }
+    // 객체/배열이 오면 기존 Map 기반 파싱과 같이 toString 결과를 사용
+    return String.valueOf(parser.readValueAs(Object.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> readList(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.START_ARRAY) {
+      return parser.readValueAs(List.class);
+    }
+    parser.skipChildren();
+    return Collections.emptyList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> readMap(JsonParser parser, JsonToken token)
+      throws IOException {
+    if (token == JsonToken.START_OBJECT) {
+      return parser.readValueAs(Map.class);
+    }
+    parser.skipChildren();
+    return Collections.emptyMap();
+  }
+
+  /** state는 크기가 작으므로 트리로 읽은 뒤 변환합니다. 변환에 실패해도 나머지 필드 파싱은 계속됩니다. */
+  private TemplateState readState(JsonParser parser, JsonToken token) throws IOException {
+    if (token != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return new TemplateState();
+    }
+    JsonNode node = parser.readValueAsTree();
+    try {
+      return objectMapper.treeToValue(node, TemplateState.class);
+    } catch (IOException | IllegalArgumentException e) {
+      log.warn("State 파싱 중 JSON 오류 발생: {}", e.getMessage());
+      return new TemplateState();
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package org.fastcampus.jober.util;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/** 요청 body를 키 순서가 고정된 JSON으로 직렬화한 뒤 SHA-256 해시로 만듭니다. 같은 내용의 요청은 항상 같은 해시를 가집니다. */
+@Component
+public class CanonicalJsonHasher {
+
+  private final ObjectMapper canonicalMapper =
+      JsonMapper.builder()
+          .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+          .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+          .build();
+
+  /**
+   * 요청 body의 정규화된 해시를 계산합니다.
+   *
+   * @param body 요청 body (Map 또는 DTO)
+   * @return SHA-256 hex 문자열
+   */
+  public String hash(Object body) {
+    try {
+      return DigestUtils.sha256Hex(canonicalMapper.writeValueAsBytes(body));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("요청 body를 직렬화할 수 없습니다: " + e.getMessage(), e);
+    }
+  }
+}
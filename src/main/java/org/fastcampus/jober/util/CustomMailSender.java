@@ -1,6 +1,10 @@
 package org.fastcampus.jober.util;
 
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -9,6 +13,7 @@ import org.springframework.stereotype.Component;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +24,11 @@ public class CustomMailSender {
   private final JavaMailSender javaMailSender;
   private final SpringTemplateEngine templateEngine;
 
+  // Jakarta Mail은 synchronized 블록 안에서 SMTP 소켓 I/O를 수행하므로, 가상 스레드에서 직접 호출하면
+  // 캐리어 스레드가 고정(pinning)됩니다. 가상 스레드 모드에서는 전송만 이 플랫폼 스레드 풀에 맡깁니다.
+  private final ExecutorService mailSendExecutor =
+      Executors.newFixedThreadPool(2, Thread.ofPlatform().name("mail-", 0).daemon(true).factory());
+
   @Value("${app.mail.from}")
   private String from;
 
@@ -36,6 +46,26 @@ public class CustomMailSender {
     helper.setFrom(from);
     helper.setText(plainText, html);
 
-    javaMailSender.send(mime);
+    send(mime);
+  }
+
+  private void send(MimeMessage mime) {
+    if (!Thread.currentThread().isVirtual()) {
+      javaMailSender.send(mime);
+      return;
+    }
+    try {
+      CompletableFuture.runAsync(() -> javaMailSender.send(mime), mailSendExecutor).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    mailSendExecutor.shutdown();
   }
 }
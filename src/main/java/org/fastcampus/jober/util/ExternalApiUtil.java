@@ -5,34 +5,62 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.fastcampus.jober.template.dto.request.TemplateState;
 import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /** 외부 API 호출을 위한 유틸리티 클래스 HTTP 통신, 로깅, 에러 처리를 담당합니다. */
 @Slf4j
 @Component
 public class ExternalApiUtil {
 
+  /** 서킷 오픈/동시 호출 한도 초과 시 즉시 돌려주는 안내 메시지 */
+  static final String UNAVAILABLE_MESSAGE = "AI 서버가 혼잡하거나 응답하지 않습니다. 잠시 후 다시 시도해주세요.";
+
   private final RestTemplate restTemplate;
   private final WebClient webClient;
   private final ObjectMapper objectMapper;
+  private final AiResponseDecoder aiResponseDecoder;
+  private final CircuitBreaker aiCircuitBreaker;
+  private final Bulkhead aiBulkhead;
+  private final AiCallRetrier aiCallRetrier;
 
-    public ExternalApiUtil(WebClient.Builder builder, RestTemplate restTemplate, @Value("${ai.flask.base-url}") String aiFlaskBaseUrl, ObjectMapper objectMapper) {
-        this.webClient = builder.baseUrl(aiFlaskBaseUrl).build();
+    public ExternalApiUtil(WebClient.Builder builder, ClientHttpConnector aiClientHttpConnector, RestTemplate restTemplate, @Value("${ai.flask.base-url}") String aiFlaskBaseUrl, ObjectMapper objectMapper,
+                           CircuitBreaker aiCircuitBreaker, Bulkhead aiBulkhead, AiCallRetrier aiCallRetrier) {
+        // 커넥션 풀/타임아웃이 설정된 커넥터 사용 (HttpClientConfig 참고)
+        this.webClient = builder.clientConnector(aiClientHttpConnector).baseUrl(aiFlaskBaseUrl).build();
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.aiResponseDecoder = new AiResponseDecoder(objectMapper);
+        this.aiCircuitBreaker = aiCircuitBreaker;
+        this.aiBulkhead = aiBulkhead;
+        this.aiCallRetrier = aiCallRetrier;
     }
 
     public Flux<TemplateCreateResponseDto> stream(Object requestBody, String url) {
@@ -48,10 +76,117 @@ public class ExternalApiUtil {
                 // 2. 복잡한 수동 파싱(.map(this::parseAiResponse)) 로직을 제거합니다.
                 // 3. doOnNext를 사용하여 스트림 중간에 로그만 기록하고, 데이터는 그대로 통과시킵니다.
                 .doOnNext(dto -> log.info("[STREAM] AI 서버 데이터 수신: {}", dto.getResponse()))
-                .doOnError(error -> log.error("[STREAM] AI 서버 스트림 오류: {}", error.getMessage()));
+                .doOnError(error -> log.error("[STREAM] AI 서버 스트림 오류: {}", error.getMessage()))
+                // 스트림 전체가 하나의 호출로 bulkhead 슬롯을 점유하고, 서킷이 열려 있으면 즉시 폴백 이벤트 하나로 종료
+                .transformDeferred(BulkheadOperator.of(aiBulkhead))
+                .transformDeferred(this::guardUntilFirstEvent)
+                .onErrorResume(ExternalApiUtil::isRejected, e -> {
+                    log.warn("[STREAM] AI 서버 호출 차단: {}", e.getMessage());
+                    return Flux.just(fallbackResponse(UNAVAILABLE_MESSAGE));
+                });
         // --- ▲▲▲ 여기까지 수정된 핵심 로직입니다 ▲▲▲ ---
     }
 
+    /**
+     * SSE 스트림을 DTO로 디코딩하지 않고 AI 서버가 보낸 원본 바이트(이벤트 프레이밍 포함) 그대로 전달합니다. 이벤트마다
+     * 역직렬화/재직렬화하지 않으며, 스트림이 끝나면 마지막 이벤트의 state만 꺼내 로그로 남깁니다.
+     *
+     * @param requestBody 요청 body (JSON으로 변환됨)
+     * @param url 스트림 엔드포인트 (WebClient baseUrl 기준 상대 경로)
+     * @return 클라이언트 응답에 그대로 쓸 SSE 바이트 청크
+     */
+    public Flux<byte[]> relay(Object requestBody, String url) {
+        return relay(requestBody, url, state -> {});
+    }
+
+    /**
+     * relay와 같지만, 스트림이 정상 종료되면 마지막 이벤트의 state를 onFinalState로 넘깁니다 (세션 상태 저장용).
+     *
+     * @param requestBody 요청 body (JSON으로 변환됨)
+     * @param url 스트림 엔드포인트 (WebClient baseUrl 기준 상대 경로)
+     * @param onFinalState 마지막 이벤트의 state를 받을 콜백 (state가 없으면 호출되지 않음)
+     * @return 클라이언트 응답에 그대로 쓸 SSE 바이트 청크
+     */
+    public Flux<byte[]> relay(Object requestBody, String url, Consumer<TemplateState> onFinalState) {
+        return Flux.defer(() -> {
+                    SseFinalStatePeeker peeker = new SseFinalStatePeeker(objectMapper);
+                    return webClient.post()
+                            .uri(url)
+                            .accept(MediaType.TEXT_EVENT_STREAM)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class)
+                            .map(ExternalApiUtil::drain)
+                            .doOnNext(peeker::accept)
+                            .doOnComplete(() -> {
+                                Optional<TemplateState> finalState = peeker.finalState();
+                                log.info("[RELAY] AI 서버 스트림 종료: events={}, bytes={}, step={}",
+                                        peeker.eventCount(), peeker.byteCount(),
+                                        finalState.map(TemplateState::getStep).orElse(null));
+                                finalState.ifPresent(onFinalState);
+                            })
+                            .doOnError(error -> log.error("[RELAY] AI 서버 스트림 오류: {}", error.getMessage()));
+                })
+                .transformDeferred(BulkheadOperator.of(aiBulkhead))
+                .transformDeferred(this::guardUntilFirstEvent)
+                .onErrorResume(ExternalApiUtil::isRejected, e -> {
+                    log.warn("[RELAY] AI 서버 호출 차단: {}", e.getMessage());
+                    return Mono.fromCallable(() -> toSseFrame(fallbackResponse(UNAVAILABLE_MESSAGE)));
+                });
+    }
+
+    /**
+     * 스트림에 서킷 브레이커를 적용하되, 첫 이벤트를 받을 때까지(연결/상태 코드/첫 응답)만 하나의 호출로 기록합니다. 스트림 길이는
+     * 생성 시간에 비례하므로 본문까지 재면 정상적인 긴 생성이 느린 호출로 집계되어 단건 호출까지 막는 서킷이 열리기 때문입니다.
+     * 서킷이 열려 있으면 CallNotPermittedException으로 즉시 끝납니다.
+     */
+    private <T> Flux<T> guardUntilFirstEvent(Flux<T> upstream) {
+        return Flux.defer(() -> {
+            if (!aiCircuitBreaker.tryAcquirePermission()) {
+                return Flux.error(CallNotPermittedException.createCallNotPermittedException(aiCircuitBreaker));
+            }
+            long start = aiCircuitBreaker.getCurrentTimestamp();
+            AtomicBoolean recorded = new AtomicBoolean();
+            Runnable success = () -> {
+                if (recorded.compareAndSet(false, true)) {
+                    aiCircuitBreaker.onSuccess(
+                            aiCircuitBreaker.getCurrentTimestamp() - start, aiCircuitBreaker.getTimestampUnit());
+                }
+            };
+            return upstream
+                    .doOnNext(event -> success.run())
+                    .doOnComplete(success)
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            aiCircuitBreaker.onError(
+                                    aiCircuitBreaker.getCurrentTimestamp() - start, aiCircuitBreaker.getTimestampUnit(), e);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            aiCircuitBreaker.releasePermission();
+                        }
+                    });
+        });
+    }
+
+    /** 서블릿 응답에 쓰기 위해 Netty 버퍼를 힙 배열로 한 번만 복사하고 버퍼는 즉시 반환합니다. */
+    private static byte[] drain(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /** 응답 DTO 하나를 relay 스트림에 끼워 넣을 수 있는 SSE data 프레임으로 직렬화합니다. */
+    public byte[] toSseFrame(TemplateCreateResponseDto event) throws JsonProcessingException {
+        return ("data:" + objectMapper.writeValueAsString(event) + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
   /**
    * 외부 API로 JSON POST 요청을 전송합니다.
    *
@@ -59,135 +194,175 @@ public class ExternalApiUtil {
    * @param requestBody 요청 body (JSON으로 변환됨)
    * @param responseType 응답 타입 클래스
    * @param apiName API 이름 (로깅용)
-   * @return API 응답 객체
-   * @throws RuntimeException API 호출 실패 시 발생
+   * @return API 응답 객체 (TemplateCreateResponseDto이면 attempts에 시도 수 기록)
+   * @throws RuntimeException API 호출 실패 시 발생 (일시적 오류는 재시도 후)
    */
   public <T> T postJson(String url, Object requestBody, Class<T> responseType, String apiName) {
     try {
-      // HTTP 헤더 설정 (JSON 전송)
+      // 시도마다 서킷 브레이커(바깥) -> bulkhead(안쪽)를 거쳐 AI 서버 장애가 Tomcat 스레드를 고갈시키지 않도록 함
+      AiCallRetrier.Result<T> result =
+          aiCallRetrier.execute(
+              requestBody,
+              attempt -> {
+                Supplier<T> call = () -> doPostJson(url, requestBody, responseType, apiName, attempt);
+                return CircuitBreaker.decorateSupplier(
+                        aiCircuitBreaker, Bulkhead.decorateSupplier(aiBulkhead, call))
+                    .get();
+              });
+      return withAttempts(result);
+    } catch (CallNotPermittedException | BulkheadFullException e) {
+      log.warn("{} 호출 차단: {}", apiName, e.getMessage());
+      if (responseType == TemplateCreateResponseDto.class) {
+        return responseType.cast(fallbackResponse(UNAVAILABLE_MESSAGE));
+      }
+      throw new RuntimeException(apiName + " 호출이 차단되었습니다: " + e.getMessage(), e);
+    }
+  }
+
+  private <T> T doPostJson(
+      String url, Object requestBody, Class<T> responseType, String apiName, AiCallRetrier.Attempt attempt) {
+    try {
+      // HTTP 헤더 설정 (JSON 전송, 재시도/헤지 중복 제거용 Idempotency-Key)
       HttpHeaders headers = new HttpHeaders();
       headers.setContentType(MediaType.APPLICATION_JSON);
+      attempt.applyTo(headers);
 
       HttpEntity<Object> request = new HttpEntity<>(requestBody, headers);
 
-      log.info("{}로 요청 전송: {}", apiName, url);
+      log.info("{}로 요청 전송: {} (attempt={})", apiName, url, attempt.number());
       log.info("전송할 JSON: {}", requestBody);
 
+      if (responseType == TemplateCreateResponseDto.class) {
+          // 응답 본문을 중간 객체 없이 스트리밍 파서로 바로 DTO로 변환
+          TemplateCreateResponseDto parsed = restTemplate.execute(
+                  url, HttpMethod.POST, restTemplate.httpEntityCallback(request),
+                  response -> parseAiResponse(response.getBody()));
+          log.info("{}로부터 응답 수신 완료", apiName);
+          return responseType.cast(parsed);
+      }
+
       // 외부 API로 POST 요청을 보내고 응답을 받음
       T apiResponse = restTemplate.postForObject(url, request, responseType);
 
       log.info("{}로부터 응답 수신 완료", apiName);
-
-      if (responseType == TemplateCreateResponseDto.class) {
-          return responseType.cast(parseAiResponse(apiResponse));
-      } else {
-          return apiResponse;
-      }
-//      return apiResponse;
+      return apiResponse;
 
     } catch (Exception e) {
       log.error("{} 통신 중 오류 발생: {}", apiName, e.getMessage(), e);
-      throw new RuntimeException(apiName + " 호출 중 오류가 발생했습니다: " + e.getMessage());
+      // 재시도 여부 판단을 위해 원인 예외를 함께 전달
+      throw new RuntimeException(apiName + " 호출 중 오류가 발생했습니다: " + e.getMessage(), e);
     }
   }
 
+  /**
+   * 외부 API로 JSON POST 요청을 비동기로 전송합니다. 응답을 기다리는 동안 호출 스레드(Tomcat 워커)를 점유하지 않습니다.
+   *
+   * @param url 요청할 URL (WebClient baseUrl 기준 상대 경로 또는 절대 URL)
+   * @param requestBody 요청 body (JSON으로 변환됨)
+   * @param responseType 응답 타입 클래스
+   * @param apiName API 이름 (로깅용)
+   * @return API 응답을 담은 Mono (TemplateCreateResponseDto이면 attempts에 시도 수 기록)
+   */
+  public <T> Mono<T> postJsonAsync(String url, Object requestBody, Class<T> responseType, String apiName) {
+    log.info("{}로 비동기 요청 전송: {}", apiName, url);
+
+    return aiCallRetrier
+        .executeAsync(
+            requestBody,
+            attempt ->
+                attemptAsync(url, requestBody, responseType, apiName, attempt)
+                    .transformDeferred(BulkheadOperator.of(aiBulkhead))
+                    .transformDeferred(CircuitBreakerOperator.of(aiCircuitBreaker)))
+        .map(ExternalApiUtil::withAttempts)
+        .onErrorResume(
+            e -> isRejected(e) && responseType == TemplateCreateResponseDto.class,
+            e -> {
+              log.warn("{} 비동기 호출 차단: {}", apiName, e.getMessage());
+              return Mono.just(responseType.cast(fallbackResponse(UNAVAILABLE_MESSAGE)));
+            })
+        .onErrorMap(
+            e -> {
+              log.error("{} 비동기 통신 중 오류 발생: {}", apiName, e.getMessage(), e);
+              return new RuntimeException(apiName + " 호출 중 오류가 발생했습니다: " + e.getMessage(), e);
+            });
+  }
+
+  /** postJsonAsync의 시도 하나. 시도마다 요청을 새로 만들어 시도 번호 헤더를 붙입니다. */
+  private <T> Mono<T> attemptAsync(
+      String url, Object requestBody, Class<T> responseType, String apiName, AiCallRetrier.Attempt attempt) {
+    WebClient.ResponseSpec spec =
+        webClient.post()
+            .uri(url)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(attempt::applyTo)
+            .bodyValue(requestBody)
+            .retrieve();
+
+    Mono<T> response;
+    if (responseType == TemplateCreateResponseDto.class) {
+      // 블로킹 경로(postJson)와 동일한 관대한 파싱 로직을 사용
+      response =
+          spec.bodyToMono(DataBuffer.class)
+              .map(buffer -> {
+                try (InputStream body = buffer.asInputStream(true)) {
+                  return responseType.cast(parseAiResponse(body));
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              })
+              // 빈 본문이면 블로킹 경로와 같이 폴백 응답
+              .switchIfEmpty(Mono.fromSupplier(() -> responseType.cast(createFallbackResponse())));
+    } else {
+      response = spec.bodyToMono(responseType);
+    }
+
+    return response.doOnSuccess(
+        r -> log.info("{}로부터 비동기 응답 수신 완료 (attempt={})", apiName, attempt.number()));
+  }
+
+  /** 템플릿 생성 응답이면 AI 서버로 보낸 시도 수를 응답에 기록합니다. */
+  private static <T> T withAttempts(AiCallRetrier.Result<T> result) {
+    if (result.value() instanceof TemplateCreateResponseDto response) {
+      response.setAttempts(result.attempts());
+    }
+    return result.value();
+  }
+
     /**
-     * AI 서버의 원시 응답을 TemplateCreateResponseDto로 파싱합니다. 안전한 타입 캐스팅과 null 처리를 통해 파싱 오류를 방지합니다.
+     * AI 서버의 원시 응답 본문을 TemplateCreateResponseDto로 파싱합니다. 본문을 한 번만 읽으며, 타입이 맞지 않는 필드는 기본값으로
+     * 채웁니다 (AiResponseDecoder 참고). 본문이 비었거나 JSON 객체가 아니거나 깨졌으면 폴백 응답을 반환합니다.
      *
-     * @param aiResponse AI 서버의 원시 응답
+     * @param body AI 서버 응답 본문
      * @return 구조화된 템플릿 생성 응답 DTO
+     * @throws IOException 본문을 읽는 중 네트워크 오류가 난 경우
      */
-    private TemplateCreateResponseDto parseAiResponse(Object aiResponse) {
+    private TemplateCreateResponseDto parseAiResponse(InputStream body) throws IOException {
         try {
-            log.info("AIRESPONSE {}", aiResponse.toString());
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseMap = objectMapper.convertValue(aiResponse, Map.class);
-
-            log.info("AI 서버 응답 파싱 시작: {}", responseMap);
-
-            TemplateCreateResponseDto responseDto = new TemplateCreateResponseDto();
-
-            // DTO의 새 구조에 맞춰 필드 값을 설정합니다.
-            responseDto.setSuccess(safeGetBoolean(responseMap, "success"));
-            responseDto.setResponse(safeGetString(responseMap, "response"));
-            responseDto.setTemplate(safeGetString(responseMap, "template"));
-            responseDto.setOptions(safeGetList(responseMap, "options"));
-            responseDto.setStructuredTemplate(responseMap.get("structured_template"));
-            responseDto.setStructuredTemplates(safeGetList(responseMap, "structured_templates"));
-            responseDto.setEditableVariables(safeGetMap(responseMap, "editable_variables"));
-            responseDto.setHasImage(safeGetBoolean(responseMap, "hasImage"));
-            responseDto.setState(safeParseState(responseMap, "state"));
-
+            TemplateCreateResponseDto responseDto = aiResponseDecoder.decode(body);
             log.info("AI 응답 파싱 완료: success={}, response={}", responseDto.getSuccess(), responseDto.getResponse());
             return responseDto;
-
-        } catch (Exception e) {
+        } catch (JsonProcessingException e) {
             log.error("AI 응답 파싱 실패: {}", e.getMessage(), e);
             return createFallbackResponse();
         }
     }
 
-    // --- 타입별로 안전하게 값을 가져오는 헬퍼 메소드들 ---
-
-    private String safeGetString(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        return value != null ? value.toString() : null;
-    }
-
-    private Boolean safeGetBoolean(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value instanceof Boolean) {
-            return (Boolean) value;
-        }
-        return false; // 기본값은 false로 설정
-    }
-
-    @SuppressWarnings("unchecked")
-    private <T> List<T> safeGetList(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value instanceof List) {
-            try {
-                // 모든 원소가 elementType과 일치하는지 확인하는 로직을 추가할 수 있으나,
-                // 현재는 신뢰하고 캐스팅합니다.
-                return (List<T>) value;
-            } catch (ClassCastException e) {
-                log.warn("리스트 타입 캐스팅 실패 - key: {}, value: {}", key, value);
-                return Collections.emptyList();
-            }
-        }
-        return Collections.emptyList(); // 리스트가 아니거나 없으면 빈 리스트 반환
-    }
-
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> safeGetMap(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value instanceof Map) {
-            return (Map<String, Object>) value;
-        }
-        return Collections.emptyMap();
-    }
-
-    /** Map에서 TemplateState를 안전하게 파싱합니다. */
-    private TemplateState safeParseState(Map<String, Object> map, String key) {
-        Object stateObj = map.get(key);
-        if (stateObj instanceof Map) {
-            try {
-                // Map을 JSON 문자열로 변환 후, 다시 TemplateState 객체로 파싱
-                String stateJson = objectMapper.writeValueAsString(stateObj);
-                return objectMapper.readValue(stateJson, TemplateState.class);
-            } catch (JsonProcessingException e) {
-                log.warn("State 파싱 중 JSON 오류 발생: {}", e.getMessage());
-            }
-        }
-        return new TemplateState(); // 파싱 실패 시 빈 객체 반환
-    }
-
     /** 파싱 실패 시 반환할 기본 응답을 생성합니다. */
     private TemplateCreateResponseDto createFallbackResponse() {
+        return fallbackResponse("AI 응답 처리 중 오류가 발생했습니다.");
+    }
+
+    /** 지정한 안내 메시지로 실패 응답을 생성합니다. */
+    public static TemplateCreateResponseDto fallbackResponse(String message) {
         TemplateCreateResponseDto fallback = new TemplateCreateResponseDto();
         fallback.setSuccess(false); // 실패 상태 명시
-        fallback.setResponse("AI 응답 처리 중 오류가 발생했습니다.");
+        fallback.setResponse(message);
         fallback.setState(new TemplateState());
         return fallback;
     }
+
+    /** 서킷 오픈 또는 bulkhead 포화로 호출 자체가 거부되었는지 확인합니다. */
+    private static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
 }
@@ -0,0 +1,52 @@
+package org.fastcampus.jober.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 인스턴스 메모리 토큰 버킷 저장소. 버킷 하나를 "이론상 다음 도착 시각"(TAT, GCRA) 하나로 표현해 AtomicLong CAS만으로 갱신하므로
+ * 요청 경로에 락이 없습니다. 남은 토큰 수는 (now + capacity * nanosPerToken - TAT) / nanosPerToken 입니다.
+ *
+ * <p>버킷이 가득 찰 시간 이상 쓰이지 않은 키는 정리됩니다. 다시 만들어진 버킷은 가득 찬 상태이므로 결과는 같습니다.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+  private final Cache<String, AtomicLong> buckets;
+
+  /**
+   * @param maxKeys 보관할 최대 버킷 수
+   * @param idleExpiry 이 시간 동안 쓰이지 않은 버킷은 정리 (가장 긴 버킷 재충전 시간 이상)
+   */
+  public InMemoryRateLimitStore(long maxKeys, Duration idleExpiry) {
+    this.buckets = Caffeine.newBuilder().maximumSize(maxKeys).expireAfterAccess(idleExpiry).build();
+  }
+
+  @Override
+  public long tryConsume(String key, int tokens, TokenBucketSpec spec, long nowNanos) {
+    AtomicLong tat = buckets.get(key, k -> new AtomicLong(nowNanos));
+    long increment = tokens * spec.nanosPerToken();
+    long burst = spec.capacity() * spec.nanosPerToken();
+    while (true) {
+      long current = tat.get();
+      long next = Math.max(current, nowNanos) + increment;
+      long wait = next - nowNanos - burst;
+      if (wait > 0) {
+        return wait;
+      }
+      if (tat.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  @Override
+  public void refund(String key, int tokens, TokenBucketSpec spec) {
+    AtomicLong tat = buckets.getIfPresent(key);
+    if (tat != null) {
+      tat.addAndGet(-tokens * spec.nanosPerToken());
+    }
+  }
+}
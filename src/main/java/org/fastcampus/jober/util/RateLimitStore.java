@@ -0,0 +1,28 @@
+package org.fastcampus.jober.util;
+
+/**
+ * 토큰 버킷 상태 저장소. 기본 구현은 인스턴스 메모리(InMemoryRateLimitStore)이므로 인스턴스마다 한도가 따로 적용됩니다. 여러
+ * 인스턴스가 한도를 공유해야 하면 Redis 등 공유 저장소 구현을 RateLimitStore 빈으로 등록해 교체합니다.
+ */
+public interface RateLimitStore {
+
+  /**
+   * key 버킷에서 tokens개를 꺼냅니다. 거절된 경우 토큰은 소모되지 않습니다.
+   *
+   * @param key 버킷 키 (예: user:1, space:3)
+   * @param tokens 꺼낼 토큰 수 (spec.capacity 이하)
+   * @param spec 버킷 규격
+   * @param nowNanos 호출 측 단조 시계(System.nanoTime). 공유 저장소 구현은 자체 시계를 써도 됩니다.
+   * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(ns)
+   */
+  long tryConsume(String key, int tokens, TokenBucketSpec spec, long nowNanos);
+
+  /**
+   * tryConsume으로 꺼낸 토큰을 되돌립니다. 여러 버킷을 차례로 확인하다 뒤쪽 버킷에서 거절된 경우에 사용합니다.
+   *
+   * @param key 버킷 키
+   * @param tokens 되돌릴 토큰 수
+   * @param spec 버킷 규격
+   */
+  void refund(String key, int tokens, TokenBucketSpec spec);
+}
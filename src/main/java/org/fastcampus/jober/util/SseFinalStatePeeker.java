@@ -0,0 +1,139 @@
+package org.fastcampus.jober.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import org.fastcampus.jober.template.dto.request.TemplateState;
+
+/**
+ * 원본 SSE 바이트를 그대로 흘려보내는 relay 모드에서 마지막 이벤트의 state만 꺼내 봅니다. 청크마다 이벤트 경계(빈 줄)만
+ * 스캔하고 바이트는 복사하지 않으며, JSON 파싱은 스트림 종료 시 마지막 이벤트에 대해 한 번만 수행합니다.
+ *
+ * <p>스트림 하나(구독 하나)당 인스턴스 하나를 사용합니다. 스레드 안전하지 않습니다.
+ */
+@Slf4j
+public class SseFinalStatePeeker {
+
+  private record Segment(byte[] bytes, int from, int to) {}
+
+  private final ObjectMapper objectMapper;
+
+  // 아직 경계가 나오지 않은 현재 이벤트 / 마지막으로 완성된 data 이벤트 (원본 청크 배열의 구간 참조)
+  private List<Segment> current = new ArrayList<>();
+  private List<Segment> lastEvent = List.of();
+  private int newlineRun;
+  private int currentStart;
+
+  private long eventCount;
+  private long byteCount;
+
+  public SseFinalStatePeeker(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /** 클라이언트로 전달되는 청크를 관찰합니다. 청크 배열은 이후 수정되지 않아야 합니다. */
+  public void accept(byte[] chunk) {
+    byteCount += chunk.length;
+    currentStart = 0;
+    for (int i = 0; i < chunk.length; i++) {
+      byte b = chunk[i];
+      if (b == '\n') {
+        if (++newlineRun == 2) {
+          current.add(new Segment(chunk, currentStart, i + 1));
+          completeEvent();
+          currentStart = i + 1;
+        }
+      } else if (b != '\r') {
+        newlineRun = 0;
+      }
+    }
+    if (currentStart < chunk.length) {
+      current.add(new Segment(chunk, currentStart, chunk.length));
+    }
+  }
+
+  public long eventCount() {
+    return eventCount;
+  }
+
+  public long byteCount() {
+    return byteCount;
+  }
+
+  /**
+   * 마지막 data 이벤트의 state를 파싱합니다. 끝에 빈 줄 없이 종료된 이벤트도 포함하며, 파싱할 수 없으면 비어 있는 Optional을
+   * 반환합니다.
+   */
+  public Optional<TemplateState> finalState() {
+    List<Segment> event = hasData(current) ? current : lastEvent;
+    String data = extractData(event);
+    if (data.isEmpty()) {
+      return Optional.empty();
+    }
+    try (JsonParser parser = objectMapper.createParser(data)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      // state 외의 필드(template, structured_templates 등)는 객체를 만들지 않고 건너뜀
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if ("state".equals(field) && value == JsonToken.START_OBJECT) {
+          return Optional.of(objectMapper.readValue(parser, TemplateState.class));
+        }
+        parser.skipChildren();
+      }
+    } catch (Exception e) {
+      log.warn("[RELAY] 마지막 이벤트 state 파싱 실패: {}", e.getMessage());
+    }
+    return Optional.empty();
+  }
+
+  private void completeEvent() {
+    if (hasData(current)) {
+      lastEvent = current;
+      eventCount++;
+    }
+    current = new ArrayList<>();
+    newlineRun = 0;
+  }
+
+  /** 주석(:)만 있거나 빈 이벤트는 state 후보에서 제외합니다. */
+  private static boolean hasData(List<Segment> event) {
+    for (Segment s : event) {
+      for (int i = s.from(); i < s.to(); i++) {
+        byte b = s.bytes()[i];
+        if (b != '\n' && b != '\r') {
+          return b != ':';
+        }
+      }
+    }
+    return false;
+  }
+
+  /** 이벤트의 data: 라인들을 이어 붙입니다. (여러 줄 data는 줄바꿈으로 연결) */
+  private static String extractData(List<Segment> event) {
+    ByteArrayOutputStream raw = new ByteArrayOutputStream();
+    for (Segment s : event) {
+      raw.write(s.bytes(), s.from(), s.to() - s.from());
+    }
+    StringBuilder data = new StringBuilder();
+    for (String line : raw.toString(StandardCharsets.UTF_8).split("\r?\n")) {
+      if (line.startsWith("data:")) {
+        if (!data.isEmpty()) {
+          data.append('\n');
+        }
+        data.append(line.startsWith("data: ") ? line.substring(6) : line.substring(5));
+      }
+    }
+    return data.toString();
+  }
+}
@@ -0,0 +1,134 @@
+package org.fastcampus.jober.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+
+/**
+ * 템플릿 SSE 스트림의 수명 관리. 업스트림(AI 서버 연결)에는 idle 타임아웃을, 다운스트림(클라이언트 응답)에는 heartbeat와
+ * 크기 제한 버퍼를 적용하고, 양쪽의 활성/취소 스트림 수를 지표로 남깁니다.
+ *
+ * <p>클라이언트가 떠나면 다운스트림 취소가 single-flight 계층을 거쳐 업스트림까지 전파되어 AI 서버 연결이 끊겨야 합니다.
+ * template.sse.active{side=upstream}가 다운스트림보다 계속 크다면 취소가 새고 있다는 뜻입니다.
+ */
+@Slf4j
+@Component
+public class SseStreamGuard {
+
+  static final String KEEP_ALIVE = "keep-alive";
+
+  private final Duration heartbeatInterval;
+  private final Duration idleTimeout;
+  private final int bufferSize;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+
+  public SseStreamGuard(AiFlaskProps aiFlaskProps, MeterRegistry meterRegistry) {
+    AiFlaskProps.StreamSettings settings = aiFlaskProps.getStream();
+    this.heartbeatInterval = settings.getHeartbeatInterval();
+    this.idleTimeout = settings.getIdleTimeout();
+    this.bufferSize = settings.getBufferSize();
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * AI 서버 스트림에 idle 타임아웃을 적용합니다. 타임아웃이 나면 업스트림 구독을 취소(연결 종료)하고 onIdleTimeout이 주는
+   * 이벤트로 스트림을 마칩니다.
+   *
+   * @param mode 스트림 종류 (decoded, relay)
+   * @param source AI 서버 스트림
+   * @param onIdleTimeout 타임아웃 시 대신 보낼 이벤트
+   */
+  public <T> Flux<T> upstream(
+      String mode, Flux<T> source, Supplier<? extends Publisher<T>> onIdleTimeout) {
+    Flux<T> guarded =
+        source.timeout(
+            idleTimeout,
+            Flux.defer(
+                () -> {
+                  log.warn("[SSE] AI 서버 스트림 idle 타임아웃({}) - 업스트림 취소: mode={}", idleTimeout, mode);
+                  meterRegistry.counter("template.sse.idle.timeouts", "mode", mode).increment();
+                  return onIdleTimeout.get();
+                }));
+    return track(guarded, "upstream", mode);
+  }
+
+  /**
+   * 디코딩된 이벤트 스트림을 클라이언트용 SSE로 감쌉니다. 느린 클라이언트 때문에 bufferSize를 넘게 쌓이면 오래된 진행 이벤트부터
+   * 버리고(최종 이벤트는 항상 마지막에 도착), 이벤트가 없는 동안에는 주기적으로 keep-alive 주석을 보냅니다.
+   *
+   * @param mode 스트림 종류
+   * @param events 업스트림 이벤트
+   * @return 클라이언트로 보낼 SSE 스트림
+   */
+  public <T> Flux<ServerSentEvent<T>> downstream(String mode, Flux<T> events) {
+    Flux<ServerSentEvent<T>> data =
+        events
+            .onBackpressureBuffer(
+                bufferSize,
+                dropped -> meterRegistry.counter("template.sse.dropped", "mode", mode).increment(),
+                BufferOverflowStrategy.DROP_OLDEST)
+            .map(event -> ServerSentEvent.builder(event).build());
+    Flux<ServerSentEvent<T>> withHeartbeat =
+        data.publish(
+            shared ->
+                Flux.merge(
+                    shared,
+                    Flux.interval(heartbeatInterval)
+                        .map(tick -> ServerSentEvent.<T>builder().comment(KEEP_ALIVE).build())
+                        .takeUntilOther(shared.then())),
+            // publish가 앞단 버퍼를 미리 비워 가지 않도록 prefetch 최소화
+            1);
+    return track(withHeartbeat, "downstream", mode);
+  }
+
+  /**
+   * 원본 SSE 바이트 스트림(relay)을 클라이언트용으로 감쌉니다. 임의 위치에서 잘린 청크는 버리거나 사이에 주석을 끼워 넣을 수
+   * 없으므로 heartbeat는 보내지 않고, 버퍼가 넘치면 스트림을 오류로 종료합니다.
+   *
+   * @param mode 스트림 종류
+   * @param chunks 업스트림 바이트 청크
+   * @return 클라이언트로 보낼 바이트 청크
+   */
+  public Flux<byte[]> downstreamRaw(String mode, Flux<byte[]> chunks) {
+    Flux<byte[]> bounded =
+        chunks.onBackpressureBuffer(
+            bufferSize,
+            dropped -> meterRegistry.counter("template.sse.dropped", "mode", mode).increment(),
+            BufferOverflowStrategy.ERROR);
+    return track(bounded, "downstream", mode);
+  }
+
+  private <T> Flux<T> track(Flux<T> stream, String side, String mode) {
+    AtomicInteger gauge =
+        active.computeIfAbsent(
+            side + ":" + mode,
+            k ->
+                meterRegistry.gauge(
+                    "template.sse.active",
+                    Tags.of("side", side, "mode", mode),
+                    new AtomicInteger()));
+    return stream
+        .doOnSubscribe(s -> gauge.incrementAndGet())
+        .doOnCancel(
+            () -> {
+              log.debug("[SSE] 스트림 취소: side={}, mode={}", side, mode);
+              meterRegistry.counter("template.sse.cancelled", "side", side, "mode", mode).increment();
+            })
+        .doFinally(signal -> gauge.decrementAndGet());
+  }
+}
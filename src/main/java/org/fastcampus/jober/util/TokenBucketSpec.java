@@ -0,0 +1,24 @@
+package org.fastcampus.jober.util;
+
+import java.time.Duration;
+
+/**
+ * 토큰 버킷 규격.
+ *
+ * @param capacity 버킷 크기 (최대 연속 허용 수)
+ * @param nanosPerToken 토큰 하나가 채워지는 데 걸리는 시간(ns)
+ */
+public record TokenBucketSpec(long capacity, long nanosPerToken) {
+
+  public static TokenBucketSpec of(long capacity, long refillTokens, Duration refillPeriod) {
+    if (capacity <= 0 || refillTokens <= 0 || refillPeriod.isZero() || refillPeriod.isNegative()) {
+      throw new IllegalArgumentException("토큰 버킷 설정은 0보다 커야 합니다.");
+    }
+    return new TokenBucketSpec(capacity, Math.max(1, refillPeriod.toNanos() / refillTokens));
+  }
+
+  /** 빈 버킷이 가득 찰 때까지 걸리는 시간 */
+  public Duration fullRefill() {
+    return Duration.ofNanos(capacity * nanosPerToken);
+  }
+}
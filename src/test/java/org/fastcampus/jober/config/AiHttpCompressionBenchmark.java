@@ -0,0 +1,236 @@
+package org.fastcampus.jober.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.common.AiFlaskProps.Compression.RequestMode;
+import org.fastcampus.jober.support.AiStubServer;
+import org.fastcampus.jober.support.LoadRunner;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+import org.fastcampus.jober.util.AiCallRetrier;
+import org.fastcampus.jober.util.ExternalApiUtil;
+
+/**
+ * 템플릿 본문/검증 맵이 담긴 실제 크기의 요청과 structured_templates가 담긴 응답으로, 압축 전후의 요청/응답 전송 바이트와 왕복
+ * 지연을 비교합니다. 블로킹(RestTemplate), 비동기(WebClient), SSE relay 경로를 모두 측정합니다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class AiHttpCompressionBenchmark {
+
+  private static final int CONCURRENCY = 8;
+  private static final int ITERATIONS = 100;
+  private static final int STREAMS = 100;
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static AiStubServer stub;
+  private static Map<String, Object> requestBody;
+
+  private final List<CloseableHttpClient> clients = new ArrayList<>();
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    requestBody = realisticRequest();
+    stub = AiStubServer.start().chatResponse(objectMapper.writeValueAsString(realisticResponse()));
+  }
+
+  @AfterAll
+  static void tearDown() {
+    stub.close();
+  }
+
+  @AfterEach
+  void closeClients() throws Exception {
+    for (CloseableHttpClient client : clients) {
+      client.close();
+    }
+  }
+
+  @Test
+  void compareIdentityAndGzip() throws Exception {
+    Measurement identity = measure("identity", false, RequestMode.OFF);
+    Measurement gzip = measure("gzip", true, RequestMode.AUTO);
+
+    System.out.println(identity);
+    System.out.println(gzip);
+
+    assertThat(gzip.requestBytesPerCall()).isLessThan(identity.requestBytesPerCall() / 2);
+    assertThat(gzip.responseBytesPerCall()).isLessThan(identity.responseBytesPerCall() / 2);
+    assertThat(gzip.streamBytesPerCall()).isLessThan(identity.streamBytesPerCall());
+    assertThat(gzip.blocking().errors()).isZero();
+    assertThat(gzip.async().errors()).isZero();
+  }
+
+  @Test
+  void smallBodiesAreSentAsIs() throws Exception {
+    ExternalApiUtil api = client(true, RequestMode.ALWAYS);
+    stub.compression(true).reset();
+
+    api.postJson(
+        stub.baseUrl() + AiStubServer.CHAT_PATH,
+        Map.of("message", "환영 메시지", "state", Map.of("step", "initial")),
+        TemplateCreateResponseDto.class,
+        "stub");
+
+    assertThat(stub.requestWireBytes()).isEqualTo(stub.requestBodyBytes());
+  }
+
+  private Measurement measure(String label, boolean compression, RequestMode requestMode)
+      throws Exception {
+    ExternalApiUtil api = client(compression, requestMode);
+    stub.compression(compression);
+    String url = stub.baseUrl() + AiStubServer.CHAT_PATH;
+
+    // 워밍업 (JIT, 커넥션 풀, AUTO 모드 협상)
+    LoadRunner.run(
+        CONCURRENCY, 20, () -> api.postJson(url, requestBody, TemplateCreateResponseDto.class, "stub"));
+
+    stub.reset();
+    LoadRunner.Result blocking =
+        LoadRunner.run(
+            CONCURRENCY,
+            ITERATIONS,
+            () -> {
+              TemplateCreateResponseDto response =
+                  api.postJson(url, requestBody, TemplateCreateResponseDto.class, "stub");
+              assertThat(response.getStructuredTemplates()).hasSize(10);
+              return response;
+            });
+    long calls = (long) CONCURRENCY * ITERATIONS;
+    long requestBytes = stub.requestWireBytes() / calls;
+    long responseBytes = stub.responseWireBytes() / calls;
+
+    LoadRunner.Result async =
+        LoadRunner.run(
+            CONCURRENCY,
+            ITERATIONS,
+            () ->
+                api.postJsonAsync(
+                        AiStubServer.CHAT_PATH, requestBody, TemplateCreateResponseDto.class, "stub")
+                    .block());
+
+    stub.reset();
+    for (int i = 0; i < STREAMS; i++) {
+      api.relay(requestBody, AiStubServer.STREAM_PATH).blockLast();
+    }
+    long streamBytes = stub.responseWireBytes() / STREAMS;
+
+    return new Measurement(label, requestBytes, responseBytes, streamBytes, blocking, async);
+  }
+
+  private ExternalApiUtil client(boolean compression, RequestMode requestMode) {
+    AiFlaskProps props = new AiFlaskProps();
+    props.setBaseUrl(stub.baseUrl());
+    props.getPool().setMaxPerRoute(CONCURRENCY);
+    props.getCompression().setResponseEnabled(compression);
+    props.getCompression().setRequest(requestMode);
+    props.getRetry().setEnabled(false);
+
+    HttpClientConfig config = new HttpClientConfig(props);
+    CloseableHttpClient httpClient = config.aiHttpClient();
+    clients.add(httpClient);
+    return new ExternalApiUtil(
+        WebClient.builder(),
+        config.aiClientHttpConnector(),
+        config.restTemplate(httpClient),
+        stub.baseUrl(),
+        objectMapper,
+        CircuitBreaker.ofDefaults("benchmark"),
+        Bulkhead.of("benchmark", BulkheadConfig.custom().maxConcurrentCalls(CONCURRENCY).build()),
+        new AiCallRetrier(props, new SimpleMeterRegistry()));
+  }
+
+  /** 템플릿 수정 단계 요청: 원문 템플릿, 변수 검증 맵, 이전 후보 템플릿을 state에 담아 보냅니다 (약 10KB). */
+  private static Map<String, Object> realisticRequest() {
+    Map<String, Object> variables = new LinkedHashMap<>();
+    Map<String, Object> validation = new LinkedHashMap<>();
+    for (int i = 0; i < 30; i++) {
+      variables.put("변수" + i, "고객님께 안내드릴 값 " + i);
+      validation.put("변수" + i, Map.of("required", true, "maxLength", 40, "pattern", "^[가-힣a-zA-Z0-9 ]+$"));
+    }
+    List<Map<String, Object>> candidates = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      candidates.add(Map.of("title", "후보 " + i, "body", templateText(i)));
+    }
+    Map<String, Object> state = new LinkedHashMap<>();
+    state.put("step", "editing");
+    state.put("original_request", "신규 가입 고객에게 보낼 환영 알림톡을 만들어 주세요.");
+    state.put("template", templateText(0));
+    state.put("editable_variables", variables);
+    state.put("validation", validation);
+    state.put("structured_templates", candidates);
+    return Map.of("message", "두 번째 문단을 조금 더 정중하게 바꿔 주세요.", "state", state);
+  }
+
+  /** 완료 단계 응답: structured_templates 10개와 편집 가능한 변수 목록 (약 15KB). */
+  private static Map<String, Object> realisticResponse() {
+    List<Object> templates = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      templates.add(
+          Map.of(
+              "title", "환영 메시지 " + i,
+              "text", templateText(i),
+              "buttons", List.of(Map.of("name", "자세히 보기", "url", "https://example.com/welcome/" + i))));
+    }
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("success", true);
+    response.put("response", "템플릿이 생성되었습니다.");
+    response.put("template", templateText(0));
+    response.put("structured_template", templates.get(0));
+    response.put("structured_templates", templates);
+    response.put("editable_variables", Map.of("고객명", "홍길동", "가입일", "2024-01-01", "쿠폰코드", "WELCOME10"));
+    response.put("options", List.of("기본형", "이미지형"));
+    response.put("hasImage", false);
+    response.put("state", Map.of("step", "completed", "original_request", "환영 메시지"));
+    return response;
+  }
+
+  private static String templateText(int seed) {
+    return """
+        안녕하세요, #{고객명}님! 저희 서비스에 가입해 주셔서 진심으로 감사드립니다. (%d)
+        #{가입일}부터 모든 기능을 자유롭게 이용하실 수 있으며, 첫 구매 시 사용 가능한 쿠폰 #{쿠폰코드}을 드립니다.
+        쿠폰은 발급일로부터 30일 동안 사용할 수 있으며, 일부 상품에는 적용되지 않을 수 있습니다.
+        궁금한 점이 있으시면 언제든지 고객센터로 문의해 주세요. 앞으로도 더 나은 서비스로 보답하겠습니다.
+        """
+        .formatted(seed);
+  }
+
+  private record Measurement(
+      String label,
+      long requestBytesPerCall,
+      long responseBytesPerCall,
+      long streamBytesPerCall,
+      LoadRunner.Result blocking,
+      LoadRunner.Result async) {
+
+    @Override
+    public String toString() {
+      return String.format(
+          "[%s] request=%dB response=%dB stream=%dB%n  %s%n  %s",
+          label,
+          requestBytesPerCall,
+          responseBytesPerCall,
+          streamBytesPerCall,
+          blocking.summary(label + " blocking"),
+          async.summary(label + " async"));
+    }
+  }
+}
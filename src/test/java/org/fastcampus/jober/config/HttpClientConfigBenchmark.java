@@ -0,0 +1,76 @@
+package org.fastcampus.jober.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.support.AiStubServer;
+import org.fastcampus.jober.support.LoadRunner;
+
+/** 기존 SimpleClientHttpRequestFactory 기반 RestTemplate과 풀링 RestTemplate 비교 (./gradlew benchmark) */
+@Tag("benchmark")
+class HttpClientConfigBenchmark {
+
+  private static final int CONCURRENCY = 32;
+  private static final int ITERATIONS = 200;
+
+  private static AiStubServer stub;
+  private static CloseableHttpClient pooledClient;
+  private static RestTemplate pooled;
+  private static RestTemplate simple;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    stub = AiStubServer.start().latency(Duration.ofMillis(5));
+
+    AiFlaskProps props = new AiFlaskProps();
+    props.setBaseUrl(stub.baseUrl());
+    props.getPool().setMaxPerRoute(CONCURRENCY);
+
+    HttpClientConfig config = new HttpClientConfig(props);
+    pooledClient = config.aiHttpClient();
+    pooled = config.restTemplate(pooledClient);
+    simple = new RestTemplate();
+  }
+
+  @AfterAll
+  static void tearDown() throws Exception {
+    pooledClient.close();
+    stub.close();
+  }
+
+  @Test
+  void compareSimpleAndPooledClient() throws Exception {
+    String url = stub.baseUrl() + AiStubServer.CHAT_PATH;
+    Map<String, Object> body = Map.of("message", "환영 메시지", "state", Map.of("step", "initial"));
+
+    // 워밍업
+    LoadRunner.run(CONCURRENCY, 20, () -> simple.postForObject(url, body, Map.class));
+    LoadRunner.run(CONCURRENCY, 20, () -> pooled.postForObject(url, body, Map.class));
+
+    stub.reset();
+    LoadRunner.Result simpleResult =
+        LoadRunner.run(CONCURRENCY, ITERATIONS, () -> simple.postForObject(url, body, Map.class));
+    int simpleConnections = stub.connectionCount();
+
+    stub.reset();
+    LoadRunner.Result pooledResult =
+        LoadRunner.run(CONCURRENCY, ITERATIONS, () -> pooled.postForObject(url, body, Map.class));
+    int pooledConnections = stub.connectionCount();
+
+    System.out.println(simpleResult.summary("simple") + " connections=" + simpleConnections);
+    System.out.println(pooledResult.summary("pooled") + " connections=" + pooledConnections);
+
+    assertThat(pooledResult.errors()).isZero();
+    assertThat(pooledConnections).isLessThanOrEqualTo(CONCURRENCY);
+  }
+}
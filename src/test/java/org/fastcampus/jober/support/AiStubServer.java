@@ -0,0 +1,538 @@
+package org.fastcampus.jober.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * 테스트/벤치마크용 로컬 AI Flask 서버 대역. 실제 Flask 서버의 /api/chat 응답 형태를 흉내 내며, 응답 지연과 수신 커넥션 수,
+ * 실제 오간 바이트 수(압축 후)를 관찰할 수 있습니다.
+ *
+ * <p>지연 시간/SSE 이벤트 간격은 분포({@link Delay})로, 응답 크기와 장애(상태 코드 실패, 스트림 중간 끊김)는 요청마다 확률로
+ * 지정합니다. 테스트 안에서 {@link #start()}로 띄우거나, 로컬 서버를 ai.flask.base-url로 붙여 볼 때는 단독 실행합니다.
+ * (./gradlew aiStub -Pstub.args="port=8000 latency=800ms latency-p99=5s")
+ */
+public class AiStubServer implements AutoCloseable {
+
+  public static final String CHAT_PATH = "/api/chat";
+  public static final String STREAM_PATH = "/api/chat/stream";
+
+  public static final String DEFAULT_CHAT_RESPONSE =
+      """
+      {"success":true,"response":"템플릿이 생성되었습니다.","template":"안녕하세요, #{고객명}님!",
+       "options":["기본형","이미지형"],"structured_template":{"title":"환영"},
+       "editable_variables":{"고객명":"홍길동"},"structured_templates":[],"hasImage":false,
+       "state":{"step":"completed","original_request":"환영 메시지"}}
+      """;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+
+  private volatile Delay latency = Delay.NONE;
+  private volatile String chatResponse = DEFAULT_CHAT_RESPONSE;
+  private volatile int failureStatus = 0;
+  private volatile double failureRate = 0;
+  private volatile double dropRate = 0;
+  private volatile int streamEvents = 20;
+  private volatile Delay streamInterval = Delay.NONE;
+  private volatile int streamChunkBytes = 0;
+  private final AtomicInteger abortedStreams = new AtomicInteger();
+  private final AtomicInteger injectedFailures = new AtomicInteger();
+  private final AtomicInteger droppedStreams = new AtomicInteger();
+  private volatile boolean compression;
+  private final AtomicLong requestWireBytes = new AtomicLong();
+  private final AtomicLong requestBodyBytes = new AtomicLong();
+  private final AtomicLong responseWireBytes = new AtomicLong();
+
+  private AiStubServer(HttpServer server, ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /** 임의의 빈 포트로 스텁 서버를 시작합니다. */
+  public static AiStubServer start() throws IOException {
+    return start(0);
+  }
+
+  /** 지정한 포트로 스텁 서버를 시작합니다. (0이면 임의의 빈 포트) */
+  public static AiStubServer start(int port) throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    AiStubServer stub = new AiStubServer(server, executor);
+    server.createContext(STREAM_PATH, stub::handleStream);
+    server.createContext(CHAT_PATH, stub::handleChat);
+    server.setExecutor(executor);
+    server.start();
+    return stub;
+  }
+
+  public String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  public AiStubServer latency(Duration latency) {
+    return latency(Delay.fixed(latency));
+  }
+
+  /** 응답(SSE는 첫 이벤트) 전 지연 시간 분포 */
+  public AiStubServer latency(Delay latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  public AiStubServer chatResponse(String chatResponse) {
+    this.chatResponse = chatResponse;
+    return this;
+  }
+
+  /** SSE 스트림 한 번에 보낼 이벤트 수 (마지막 이벤트는 chatResponse) */
+  public AiStubServer streamEvents(int streamEvents) {
+    this.streamEvents = streamEvents;
+    return this;
+  }
+
+  /** SSE 이벤트 사이 간격 */
+  public AiStubServer streamInterval(Duration streamInterval) {
+    return streamInterval(Delay.fixed(streamInterval));
+  }
+
+  /** SSE 이벤트 사이 간격 분포 (이벤트마다 새로 뽑음) */
+  public AiStubServer streamInterval(Delay streamInterval) {
+    this.streamInterval = streamInterval;
+    return this;
+  }
+
+  /** 진행 중 SSE 이벤트 하나의 대략적인 크기 (바이트, 0이면 채우지 않음) */
+  public AiStubServer streamChunkBytes(int streamChunkBytes) {
+    this.streamChunkBytes = streamChunkBytes;
+    return this;
+  }
+
+  /** 최종 응답 크기를 대략 bytes 바이트로 맞춥니다. 템플릿 본문을 늘려서 채웁니다. */
+  public AiStubServer payloadBytes(int bytes) {
+    return chatResponse(sizedChatResponse(bytes));
+  }
+
+  /** 클라이언트가 끊어서 끝까지 보내지 못한 SSE 스트림 수 */
+  public int abortedStreamCount() {
+    return abortedStreams.get();
+  }
+
+  /**
+   * gzip 지원 여부. 켜면 응답 헤더 Accept-Encoding: gzip으로 압축 요청 수신을 알리고, 클라이언트가 허용하면 응답을 gzip으로
+   * 보냅니다. 끈 상태에서 압축된 요청이 오면 415로 거절합니다.
+   */
+  public AiStubServer compression(boolean compression) {
+    this.compression = compression;
+    return this;
+  }
+
+  /** 지금까지 받은 요청 본문 바이트 수 (압축된 경우 압축 후 크기) */
+  public long requestWireBytes() {
+    return requestWireBytes.get();
+  }
+
+  /** 지금까지 받은 요청 본문을 푼 뒤의 바이트 수 */
+  public long requestBodyBytes() {
+    return requestBodyBytes.get();
+  }
+
+  /** 지금까지 보낸 응답 본문 바이트 수 (압축된 경우 압축 후 크기) */
+  public long responseWireBytes() {
+    return responseWireBytes.get();
+  }
+
+  /** 이후 모든 요청에 지정한 HTTP 상태 코드로 실패 응답합니다. (장애 주입) */
+  public AiStubServer failWith(int status) {
+    return failWith(status, 1.0);
+  }
+
+  /** 요청마다 rate 확률로 지정한 HTTP 상태 코드로 실패 응답합니다. (장애 주입) */
+  public AiStubServer failWith(int status, double rate) {
+    this.failureStatus = status;
+    this.failureRate = rate;
+    return this;
+  }
+
+  /** SSE 스트림마다 rate 확률로 최종 이벤트를 보내기 전에 연결을 끊습니다. (장애 주입) */
+  public AiStubServer dropStreams(double rate) {
+    this.dropRate = rate;
+    return this;
+  }
+
+  /** 장애 주입을 해제합니다. */
+  public AiStubServer recover() {
+    this.failureStatus = 0;
+    this.failureRate = 0;
+    this.dropRate = 0;
+    return this;
+  }
+
+  /** 장애 주입으로 실패 응답한 요청 수 */
+  public int injectedFailureCount() {
+    return injectedFailures.get();
+  }
+
+  /** 장애 주입으로 중간에 끊은 SSE 스트림 수 */
+  public int droppedStreamCount() {
+    return droppedStreams.get();
+  }
+
+  public int requestCount() {
+    return requestCount.get();
+  }
+
+  /** 지금까지 요청을 보낸 클라이언트 측 포트 수 (= 맺어진 TCP 커넥션 수) */
+  public int connectionCount() {
+    return remotePorts.size();
+  }
+
+  public void reset() {
+    requestCount.set(0);
+    abortedStreams.set(0);
+    injectedFailures.set(0);
+    droppedStreams.set(0);
+    remotePorts.clear();
+    requestWireBytes.set(0);
+    requestBodyBytes.set(0);
+    responseWireBytes.set(0);
+  }
+
+  private void handleChat(HttpExchange exchange) throws IOException {
+    requestCount.incrementAndGet();
+    remotePorts.add(exchange.getRemoteAddress().getPort());
+    if (!readRequestBody(exchange)) {
+      return;
+    }
+    sleep(latency.next());
+
+    int status = injectFailure() ? failureStatus : 0;
+    byte[] body =
+        (status > 0 ? "{\"error\":\"injected failure\"}" : chatResponse)
+            .getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    if (gzipResponse(exchange)) {
+      body = gzip(body);
+    }
+    exchange.sendResponseHeaders(status > 0 ? status : 200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+    responseWireBytes.addAndGet(body.length);
+  }
+
+  private boolean injectFailure() {
+    if (failureStatus <= 0 || !chance(failureRate)) {
+      return false;
+    }
+    injectedFailures.incrementAndGet();
+    return true;
+  }
+
+  private static boolean chance(double rate) {
+    return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  /** 요청 본문을 끝까지 읽고 바이트 수를 기록합니다. 압축을 끈 상태에서 gzip 요청이 오면 415로 응답하고 false를 반환합니다. */
+  private boolean readRequestBody(HttpExchange exchange) throws IOException {
+    byte[] wire;
+    try (InputStream in = exchange.getRequestBody()) {
+      wire = in.readAllBytes();
+    }
+    requestWireBytes.addAndGet(wire.length);
+    boolean gzipped = "gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+    if (gzipped && !compression) {
+      exchange.sendResponseHeaders(415, -1);
+      exchange.close();
+      return false;
+    }
+    if (gzipped) {
+      try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(wire))) {
+        requestBodyBytes.addAndGet(in.readAllBytes().length);
+      }
+    } else {
+      requestBodyBytes.addAndGet(wire.length);
+    }
+    return true;
+  }
+
+  /** 압축을 켰다면 압축 요청 수신을 알리고, 클라이언트가 gzip을 허용하면 Content-Encoding을 붙인 뒤 true를 반환합니다. */
+  private boolean gzipResponse(HttpExchange exchange) {
+    if (!compression) {
+      return false;
+    }
+    exchange.getResponseHeaders().add("Accept-Encoding", "gzip");
+    String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+    if (accept == null || !accept.toLowerCase(Locale.ROOT).contains("gzip")) {
+      return false;
+    }
+    exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+    return true;
+  }
+
+  private static byte[] gzip(byte[] raw) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(raw);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * 진행 중 이벤트 (streamEvents - 1)개와 최종 응답 이벤트 하나를 SSE로 보냅니다. 끊기 장애가 걸린 스트림은 진행 중 이벤트를
+   * 절반까지만 보내고 연결을 닫습니다.
+   */
+  private void handleStream(HttpExchange exchange) throws IOException {
+    requestCount.incrementAndGet();
+    remotePorts.add(exchange.getRemoteAddress().getPort());
+    if (!readRequestBody(exchange)) {
+      return;
+    }
+    sleep(latency.next());
+
+    if (injectFailure()) {
+      byte[] body = "{\"error\":\"injected failure\"}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(failureStatus, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+      return;
+    }
+    boolean drop = chance(dropRate);
+
+    exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+    boolean gzipped = gzipResponse(exchange);
+    exchange.sendResponseHeaders(200, 0);
+    CountingOutputStream wire = new CountingOutputStream(exchange.getResponseBody(), responseWireBytes);
+    // 이벤트마다 flush해야 하므로 SYNC_FLUSH 모드로 압축
+    try (OutputStream out = gzipped ? new GZIPOutputStream(wire, true) : wire) {
+      int events = streamEvents;
+      String padding = "가".repeat(Math.max(0, streamChunkBytes - 120) / 3);
+      for (int i = 1; i < events; i++) {
+        String progress =
+            "{\"success\":true,\"response\":\"템플릿을 생성하고 있습니다... ("
+                + i
+                + "/"
+                + events
+                + ")"
+                + padding
+                + "\",\"state\":{\"step\":\"generating\"}}";
+        out.write(("data: " + progress + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        if (drop && i >= events / 2) {
+          droppedStreams.incrementAndGet();
+          // 종료 청크를 쓰지 않도록 떼어 낸 뒤 예외를 던지면 HttpServer가 소켓을 바로 닫음 (업스트림 연결 끊김)
+          wire.detach();
+          throw new StreamDroppedException();
+        }
+        sleep(streamInterval.next());
+      }
+      String last = chatResponse.replace("\n", "");
+      out.write(("data: " + last + "\n\n").getBytes(StandardCharsets.UTF_8));
+    } catch (StreamDroppedException e) {
+      throw e;
+    } catch (IOException e) {
+      // 클라이언트(업스트림 구독 취소)가 연결을 끊음
+      abortedStreams.incrementAndGet();
+    }
+  }
+
+  /** 최종 응답 본문이 대략 bytes 바이트(UTF-8)가 되도록 템플릿 본문을 늘린 채팅 응답 */
+  public static String sizedChatResponse(int bytes) {
+    String line = "안녕하세요, #{고객명}님! 주문하신 상품이 #{배송일}에 출발합니다.\\n";
+    int base = DEFAULT_CHAT_RESPONSE.getBytes(StandardCharsets.UTF_8).length;
+    int repeat = Math.max(1, (bytes - base) / line.getBytes(StandardCharsets.UTF_8).length + 1);
+    return DEFAULT_CHAT_RESPONSE.replace(
+        "\"안녕하세요, #{고객명}님!\"", "\"" + line.repeat(repeat) + "\"");
+  }
+
+  private static void sleep(Duration duration) {
+    if (duration.isZero()) {
+      return;
+    }
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** 실제로 소켓에 쓴 바이트 수를 셉니다. detach 후에는 쓰기/닫기를 무시합니다. */
+  private static final class CountingOutputStream extends FilterOutputStream {
+    private final AtomicLong counter;
+    private boolean detached;
+
+    CountingOutputStream(OutputStream out, AtomicLong counter) {
+      super(out);
+      this.counter = counter;
+    }
+
+    void detach() {
+      detached = true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (detached) {
+        return;
+      }
+      out.write(b);
+      counter.incrementAndGet();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (detached) {
+        return;
+      }
+      out.write(b, off, len);
+      counter.addAndGet(len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (!detached) {
+        out.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!detached) {
+        out.close();
+      }
+    }
+  }
+
+  private static final class StreamDroppedException extends IOException {
+    StreamDroppedException() {
+      super("injected stream drop");
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  /** 요청(또는 SSE 이벤트)마다 새로 뽑는 지연 시간 분포 */
+  @FunctionalInterface
+  public interface Delay {
+    Delay NONE = () -> Duration.ZERO;
+
+    Duration next();
+
+    static Delay fixed(Duration duration) {
+      return () -> duration;
+    }
+
+    static Delay uniform(Duration min, Duration max) {
+      long lo = min.toNanos();
+      long span = Math.max(0, max.toNanos() - lo);
+      return () -> Duration.ofNanos(lo + ThreadLocalRandom.current().nextLong(span + 1));
+    }
+
+    /** 중앙값이 median, 99번째 백분위가 p99인 로그정규 분포. 대부분 비슷하다가 가끔 크게 늦는 LLM 응답 지연을 흉내 냅니다. */
+    static Delay logNormal(Duration median, Duration p99) {
+      double mu = Math.log(median.toNanos());
+      // 표준정규 분포의 99번째 백분위 z = 2.326
+      double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / 2.326;
+      return () ->
+          Duration.ofNanos((long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+  }
+
+  /**
+   * 단독 실행. 인자는 모두 key=value 형식이며 생략할 수 있습니다.
+   *
+   * <pre>
+   * port=8000           수신 포트
+   * latency=800ms       응답(SSE는 첫 이벤트) 지연 중앙값
+   * latency-p99=5s      지정하면 로그정규 분포, 없으면 고정 지연
+   * events=20           SSE 이벤트 수
+   * interval=30ms       SSE 이벤트 간격 (최소)
+   * interval-max=120ms  지정하면 interval~interval-max 균등 분포
+   * payload-bytes=8192  최종 응답 크기
+   * chunk-bytes=512     진행 중 SSE 이벤트 크기
+   * failure-rate=0.05   실패 응답 확률 (상태 코드는 failure-status, 기본 503)
+   * drop-rate=0.02      SSE 스트림 중간 끊김 확률
+   * compression=true    gzip 요청/응답 지원
+   * </pre>
+   */
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int eq = arg.indexOf('=');
+      if (eq <= 0) {
+        throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+      }
+      options.put(arg.substring(0, eq), arg.substring(eq + 1));
+    }
+
+    AiStubServer stub = start(Integer.parseInt(options.getOrDefault("port", "8000")));
+    Duration latency = duration(options, "latency", Duration.ZERO);
+    stub.latency(
+        options.containsKey("latency-p99") && !latency.isZero()
+            ? Delay.logNormal(latency, duration(options, "latency-p99", latency))
+            : Delay.fixed(latency));
+    Duration interval = duration(options, "interval", Duration.ZERO);
+    stub.streamInterval(Delay.uniform(interval, duration(options, "interval-max", interval)))
+        .streamEvents(Integer.parseInt(options.getOrDefault("events", "20")))
+        .streamChunkBytes(Integer.parseInt(options.getOrDefault("chunk-bytes", "0")))
+        .failWith(
+            Integer.parseInt(options.getOrDefault("failure-status", "503")),
+            Double.parseDouble(options.getOrDefault("failure-rate", "0")))
+        .dropStreams(Double.parseDouble(options.getOrDefault("drop-rate", "0")))
+        .compression(Boolean.parseBoolean(options.getOrDefault("compression", "false")));
+    if (options.containsKey("payload-bytes")) {
+      stub.payloadBytes(Integer.parseInt(options.get("payload-bytes")));
+    }
+
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread(
+                () -> {
+                  System.out.printf(
+                      "requests=%d connections=%d injected failures=%d dropped streams=%d%n",
+                      stub.requestCount(),
+                      stub.connectionCount(),
+                      stub.injectedFailureCount(),
+                      stub.droppedStreamCount());
+                  stub.close();
+                }));
+    System.out.println("AI stub server: " + stub.baseUrl() + " " + options);
+    Thread.currentThread().join();
+  }
+
+  private static Duration duration(Map<String, String> options, String key, Duration fallback) {
+    String value = options.get(key);
+    return value == null ? fallback : DurationStyle.detectAndParse(value);
+  }
+}
@@ -0,0 +1,82 @@
+package org.fastcampus.jober.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 벤치마크용 간단한 동시 부하 발생기. 지연 시간 백분위와 처리량을 계산합니다. */
+public final class LoadRunner {
+
+  private LoadRunner() {}
+
+  /**
+   * concurrency개의 스레드에서 각각 iterations번 task를 실행합니다.
+   *
+   * @return 측정 결과
+   */
+  public static Result run(int concurrency, int iterations, Callable<?> task) throws Exception {
+    long[] latencies = new long[concurrency * iterations];
+    AtomicInteger cursor = new AtomicInteger();
+    AtomicInteger errors = new AtomicInteger();
+
+    ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+    long start = System.nanoTime();
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < concurrency; t++) {
+        futures.add(
+            pool.submit(
+                () -> {
+                  for (int i = 0; i < iterations; i++) {
+                    long s = System.nanoTime();
+                    try {
+                      task.call();
+                    } catch (Exception e) {
+                      errors.incrementAndGet();
+                    }
+                    latencies[cursor.getAndIncrement()] = System.nanoTime() - s;
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> f : futures) {
+        f.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    long elapsed = System.nanoTime() - start;
+    Arrays.sort(latencies);
+    return new Result(latencies, elapsed, errors.get());
+  }
+
+  public record Result(long[] sortedLatenciesNanos, long elapsedNanos, int errors) {
+
+    public double throughputPerSec() {
+      return sortedLatenciesNanos.length / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double percentileMillis(double p) {
+      int idx = (int) Math.ceil(p / 100.0 * sortedLatenciesNanos.length) - 1;
+      idx = Math.max(0, Math.min(idx, sortedLatenciesNanos.length - 1));
+      return sortedLatenciesNanos[idx] / 1_000_000.0;
+    }
+
+    public String summary(String label) {
+      return String.format(
+          "[%s] requests=%d errors=%d throughput=%.1f/s p50=%.2fms p95=%.2fms p99=%.2fms",
+          label,
+          sortedLatenciesNanos.length,
+          errors,
+          throughputPerSec(),
+          percentileMillis(50),
+          percentileMillis(95),
+          percentileMillis(99));
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package org.fastcampus.jober.template.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.fastcampus.jober.JoberServerApplication;
+import org.fastcampus.jober.support.AiStubServer;
+import org.fastcampus.jober.support.LoadRunner;
+
+/**
+ * 로컬 AI 스텁 서버를 상대로 /template/create-template, /template/sse에 부하를 주고 지연 시간 백분위와 처리량을 출력합니다.
+ * AI 서버 지연은 로그정규 분포, SSE 이벤트 간격은 균등 분포로 흔들고, 장애 구간에서는 실패 응답과 스트림 끊김을 섞습니다.
+ * (./gradlew benchmark)
+ *
+ * <p>측정 전에 같은 동시성으로 워밍업해 AI 서버 커넥션 풀과 JIT를 미리 채우고, 응답 캐시/동일 요청 합치기/요청 제한은 꺼서 모든
+ * 요청이 스텁까지 가게 합니다.
+ */
+@Tag("benchmark")
+class TemplateAiLoadBenchmark {
+
+  private static final int CONCURRENCY = 50;
+  private static final int ITERATIONS = 10;
+  private static final int STREAM_EVENTS = 20;
+  private static final AiStubServer.Delay AI_LATENCY =
+      AiStubServer.Delay.logNormal(Duration.ofMillis(150), Duration.ofMillis(800));
+  private static final AiStubServer.Delay STREAM_INTERVAL =
+      AiStubServer.Delay.uniform(Duration.ofMillis(10), Duration.ofMillis(40));
+
+  private static AiStubServer stub;
+  private static ConfigurableApplicationContext ctx;
+  private static String baseUrl;
+  private static final HttpClient client =
+      HttpClient.newBuilder().executor(Executors.newCachedThreadPool()).build();
+  private static final AtomicInteger sequence = new AtomicInteger();
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    stub =
+        AiStubServer.start()
+            .latency(AI_LATENCY)
+            .payloadBytes(4 * 1024)
+            .streamEvents(STREAM_EVENTS)
+            .streamInterval(STREAM_INTERVAL)
+            .streamChunkBytes(256);
+    ctx =
+        new SpringApplicationBuilder(JoberServerApplication.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=true",
+                "ai.flask.base-url=" + stub.baseUrl(),
+                "ai.flask.pool.max-per-route=" + CONCURRENCY,
+                "ai.flask.bulkhead.max-concurrent-calls=" + CONCURRENCY,
+                "ai.flask.scheduler.max-concurrent=" + CONCURRENCY,
+                "ai.flask.scheduler.max-queue-per-space=" + CONCURRENCY * 2,
+                "ai.flask.response-cache.enabled=false",
+                "ai.flask.single-flight-enabled=false",
+                "rate-limit.enabled=false",
+                "security.permit-all=/template/**")
+            .run();
+    baseUrl = "http://127.0.0.1:" + ctx.getEnvironment().getProperty("local.server.port");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    ctx.close();
+    stub.close();
+  }
+
+  @Test
+  void createTemplateAndSse() throws Exception {
+    LoadRunner.Result create = measure(TemplateAiLoadBenchmark::createTemplate, () -> {});
+    System.out.println(create.summary("create-template") + " " + stubStats());
+
+    StreamTimings timings = new StreamTimings(CONCURRENCY * ITERATIONS);
+    LoadRunner.Result sse = measure(() -> sse(timings), timings::reset);
+    System.out.println(sse.summary("sse (complete)") + " " + stubStats());
+    System.out.println(timings.firstEvent(sse.elapsedNanos()).summary("sse (first event)"));
+
+    assertThat(create.errors()).isZero();
+    assertThat(sse.errors()).isZero();
+
+    // 장애 구간: 실패 응답 5% (재시도 대상 503), 스트림 중간 끊김 5%
+    stub.failWith(503, 0.05).dropStreams(0.05);
+    try {
+      LoadRunner.Result faultyCreate = measure(TemplateAiLoadBenchmark::createTemplate, () -> {});
+      System.out.println(faultyCreate.summary("create-template (faults)") + " " + stubStats());
+      LoadRunner.Result faultySse = measure(() -> sse(timings), timings::reset);
+      System.out.println(faultySse.summary("sse (faults)") + " " + stubStats());
+    } finally {
+      stub.recover();
+    }
+  }
+
+  /** 같은 동시성으로 워밍업해 커넥션 풀을 채운 뒤 카운터를 비우고 측정합니다. */
+  private static LoadRunner.Result measure(Callable<?> task, Runnable reset) throws Exception {
+    LoadRunner.run(CONCURRENCY, 2, task);
+    stub.reset();
+    reset.run();
+    return LoadRunner.run(CONCURRENCY, ITERATIONS, task);
+  }
+
+  private static String stubStats() {
+    return String.format(
+        "ai-requests=%d ai-connections=%d injected-failures=%d dropped-streams=%d",
+        stub.requestCount(),
+        stub.connectionCount(),
+        stub.injectedFailureCount(),
+        stub.droppedStreamCount());
+  }
+
+  /** 요청마다 메시지를 바꿔 캐시/합치기 없이 AI 서버를 호출하게 합니다. */
+  private static HttpRequest request(String path, String accept) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .header("Content-Type", "application/json")
+        .header("Accept", accept)
+        .POST(
+            HttpRequest.BodyPublishers.ofString(
+                "{\"message\":\"환영 메시지 "
+                    + sequence.incrementAndGet()
+                    + "\",\"state\":{\"step\":\"initial\"}}"))
+        .build();
+  }
+
+  private static Object createTemplate() throws Exception {
+    HttpResponse<String> response =
+        client.send(
+            request("/template/create-template", "application/json"),
+            HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200 || !response.body().contains("\"completed\"")) {
+      throw new IllegalStateException("status=" + response.statusCode());
+    }
+    return response.body();
+  }
+
+  /** 첫 data 이벤트까지의 시간을 기록하고, 최종(completed) 이벤트를 받아야 성공으로 봅니다. */
+  private static Object sse(StreamTimings timings) throws Exception {
+    long start = System.nanoTime();
+    HttpResponse<InputStream> response =
+        client.send(
+            request("/template/sse", "text/event-stream"),
+            HttpResponse.BodyHandlers.ofInputStream());
+    if (response.statusCode() != 200) {
+      response.body().close();
+      throw new IllegalStateException("status=" + response.statusCode());
+    }
+    String last = null;
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith("data:")) {
+          if (last == null) {
+            timings.record(System.nanoTime() - start);
+          }
+          last = line;
+        }
+      }
+    }
+    if (last == null || !last.contains("\"completed\"")) {
+      throw new IllegalStateException("stream ended without final event");
+    }
+    return last;
+  }
+
+  /** 스트림별 첫 이벤트 도착 시간 */
+  private static final class StreamTimings {
+    private final long[] firstEventNanos;
+    private final AtomicInteger count = new AtomicInteger();
+
+    StreamTimings(int capacity) {
+      this.firstEventNanos = new long[capacity];
+    }
+
+    void reset() {
+      count.set(0);
+    }
+
+    void record(long nanos) {
+      int idx = count.getAndIncrement();
+      if (idx < firstEventNanos.length) {
+        firstEventNanos[idx] = nanos;
+      }
+    }
+
+    LoadRunner.Result firstEvent(long elapsedNanos) {
+      long[] sorted = Arrays.copyOf(firstEventNanos, Math.min(count.get(), firstEventNanos.length));
+      Arrays.sort(sorted);
+      return new LoadRunner.Result(sorted, elapsedNanos, 0);
+    }
+  }
+}
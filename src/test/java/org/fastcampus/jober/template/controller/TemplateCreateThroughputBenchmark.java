@@ -0,0 +1,95 @@
+package org.fastcampus.jober.template.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.fastcampus.jober.JoberServerApplication;
+import org.fastcampus.jober.support.AiStubServer;
+import org.fastcampus.jober.support.LoadRunner;
+
+/**
+ * 가상 스레드 모드 on/off에 따른 /template/create-template 동시 처리량 비교. Tomcat 워커 수를 작게 고정한 뒤 지연된 AI 스텁
+ * 서버를 상대로 부하를 줍니다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class TemplateCreateThroughputBenchmark {
+
+  private static final int TOMCAT_THREADS = 20;
+  private static final int CONCURRENCY = 100;
+  private static final int ITERATIONS = 10;
+
+  private static AiStubServer stub;
+  private static final HttpClient client =
+      HttpClient.newBuilder().executor(Executors.newCachedThreadPool()).build();
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    stub = AiStubServer.start().latency(Duration.ofMillis(100));
+  }
+
+  @AfterAll
+  static void tearDown() {
+    stub.close();
+  }
+
+  @Test
+  void compareVirtualThreadMode() throws Exception {
+    LoadRunner.Result platform = runWithVirtualThreads(false);
+    LoadRunner.Result virtual = runWithVirtualThreads(true);
+
+    System.out.println(platform.summary("platform threads (tomcat max=" + TOMCAT_THREADS + ")"));
+    System.out.println(virtual.summary("virtual threads"));
+
+    assertThat(virtual.errors()).isZero();
+  }
+
+  private static LoadRunner.Result runWithVirtualThreads(boolean enabled) throws Exception {
+    try (ConfigurableApplicationContext ctx =
+        new SpringApplicationBuilder(JoberServerApplication.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + enabled,
+                "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "ai.flask.base-url=" + stub.baseUrl(),
+                "ai.flask.pool.max-per-route=" + CONCURRENCY,
+                // 요청 제한은 로그인 사용자와 spaceId가 필요하므로 익명 부하에서는 끔
+                "rate-limit.enabled=false",
+                "security.permit-all=/template/**")
+            .run()) {
+      String port = ctx.getEnvironment().getProperty("local.server.port");
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/template/create-template"))
+              .header("Content-Type", "application/json")
+              .POST(
+                  HttpRequest.BodyPublishers.ofString(
+                      "{\"message\":\"환영 메시지\",\"state\":{\"step\":\"initial\"}}"))
+              .build();
+
+      // 워밍업
+      LoadRunner.run(TOMCAT_THREADS, 5, () -> send(request));
+      return LoadRunner.run(CONCURRENCY, ITERATIONS, () -> send(request));
+    }
+  }
+
+  private static Object send(HttpRequest request) throws Exception {
+    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("status=" + response.statusCode());
+    }
+    return response.body();
+  }
+}
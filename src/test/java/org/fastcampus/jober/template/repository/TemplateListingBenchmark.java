@@ -0,0 +1,190 @@
+package org.fastcampus.jober.template.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+
+import org.fastcampus.jober.template.dto.response.TemplateSummaryResponseDto;
+import org.fastcampus.jober.template.dto.response.TemplateTitleResponseDto;
+
+/**
+ * 한 스페이스에 템플릿 2만 건(다른 스페이스 포함 총 3만 건, 본문 약 2KB)을 넣고 다음을 비교합니다. (./gradlew benchmark)
+ *
+ * <ul>
+ *   <li>엔티티 전체 조회(findBySpaceId) 대 제목 프로젝션(findTitlesBySpaceId)
+ *   <li>OFFSET 페이지 대 키셋 페이지의 첫/마지막 페이지 지연
+ *   <li>키셋으로 전체 페이지를 순회하는 비용과 실행 계획의 인덱스 사용 여부
+ * </ul>
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+class TemplateListingBenchmark {
+
+  private static final long SPACE_ID = 1L;
+  private static final int TEMPLATES = 20_000;
+  private static final int OTHER_TEMPLATES = 10_000;
+  private static final int PAGE_SIZE = 20;
+  private static final int ITERATIONS = 50;
+
+  @Autowired private TemplateRepository templateRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    String body = "안녕하세요, #{고객명}님! 주문하신 상품이 #{배송일}에 출발합니다. ".repeat(40);
+    List<Object[]> rows = new ArrayList<>();
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (int i = 0; i < TEMPLATES + OTHER_TEMPLATES; i++) {
+      // 다른 스페이스 템플릿을 섞어 넣어 id가 스페이스별로 연속되지 않도록 함
+      long spaceId = i % 3 == 2 ? 2L : SPACE_ID;
+      boolean deleted = i % 50 == 0;
+      rows.add(
+          new Object[] {spaceId, "템플릿 " + i, "설명 " + i, body, body, "{\"고객명\":\"홍길동\"}", deleted, now});
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO template (space_id, title, description, template, structured_template, editable_variables,"
+            + " is_deleted, is_accepted, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, false, ?)",
+        rows);
+    entityManager.clear();
+  }
+
+  @Test
+  void projectionAndKeysetVersusEntitiesAndOffset() throws Exception {
+    Timing entities =
+        measure(
+            "all titles via entities",
+            () -> {
+              // 1차 캐시에 남은 엔티티를 재사용하지 않도록 매번 비운 뒤 조회
+              entityManager.clear();
+              return TemplateTitleResponseDto.fromList(templateRepository.findBySpaceId(SPACE_ID));
+            });
+    Timing titles =
+        measure(
+            "all titles via projection",
+            () -> TemplateTitleResponseDto.fromTitles(templateRepository.findTitlesBySpaceId(SPACE_ID)));
+
+    long lastOffset = countLive() - PAGE_SIZE;
+    long lastCursor = lastPageCursor();
+    measure("offset first page", () -> offsetPage(0));
+    Timing offsetLast = measure("offset last page (offset=" + lastOffset + ")", () -> offsetPage(lastOffset));
+    measure(
+        "keyset first page",
+        () -> templateRepository.findSummaryPage(SPACE_ID, Long.MAX_VALUE, Limit.of(PAGE_SIZE + 1)));
+    Timing keysetLast =
+        measure(
+            "keyset last page",
+            () -> templateRepository.findSummaryPage(SPACE_ID, lastCursor, Limit.of(PAGE_SIZE + 1)));
+
+    // 키셋으로 전체 순회: 모든 살아 있는 템플릿을 중복/누락 없이 한 번씩
+    long start = System.nanoTime();
+    int pages = 0;
+    long seen = 0;
+    long cursor = Long.MAX_VALUE;
+    long previous = Long.MAX_VALUE;
+    while (true) {
+      List<TemplateSummaryResponseDto> page =
+          templateRepository.findSummaryPage(SPACE_ID, cursor, Limit.of(PAGE_SIZE + 1));
+      List<TemplateSummaryResponseDto> items = page.subList(0, Math.min(PAGE_SIZE, page.size()));
+      for (TemplateSummaryResponseDto item : items) {
+        assertThat(item.getTemplateId()).isLessThan(previous);
+        previous = item.getTemplateId();
+      }
+      seen += items.size();
+      pages++;
+      if (page.size() <= PAGE_SIZE) {
+        break;
+      }
+      cursor = items.get(PAGE_SIZE - 1).getTemplateId();
+    }
+    System.out.printf(
+        "[keyset full walk] pages=%d rows=%d elapsed=%dms%n", pages, seen, (System.nanoTime() - start) / 1_000_000);
+    assertThat(seen).isEqualTo(countLive());
+
+    jdbcTemplate
+        .queryForList(
+            "EXPLAIN SELECT id, title, created_at FROM template WHERE space_id = ? AND is_deleted = false"
+                + " AND id < ? ORDER BY id DESC LIMIT ?",
+            String.class,
+            SPACE_ID,
+            lastCursor,
+            PAGE_SIZE + 1)
+        .forEach(plan -> System.out.println("[plan] " + plan.replace('\n', ' ')));
+
+    assertThat(keysetLast.p50Millis()).isLessThan(offsetLast.p50Millis());
+    assertThat(titles.p50Millis()).isLessThan(entities.p50Millis());
+  }
+
+  private List<Map<String, Object>> offsetPage(long offset) {
+    return jdbcTemplate.queryForList(
+        "SELECT id, title, created_at FROM template WHERE space_id = ? AND is_deleted = false"
+            + " ORDER BY id DESC LIMIT ? OFFSET ?",
+        SPACE_ID,
+        PAGE_SIZE,
+        offset);
+  }
+
+  private long countLive() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM template WHERE space_id = ? AND is_deleted = false", Long.class, SPACE_ID);
+  }
+
+  /** 마지막 페이지 바로 앞 항목의 id (키셋 마지막 페이지 요청의 커서) */
+  private long lastPageCursor() {
+    return jdbcTemplate.queryForObject(
+        "SELECT id FROM template WHERE space_id = ? AND is_deleted = false ORDER BY id ASC LIMIT 1 OFFSET ?",
+        Long.class,
+        SPACE_ID,
+        PAGE_SIZE);
+  }
+
+  /**
+   * 같은 스레드에서 반복 실행해 지연 백분위를 구합니다. 데이터가 테스트 트랜잭션 안에만 있으므로 LoadRunner처럼 다른 스레드에서
+   * 실행하면 보이지 않습니다.
+   */
+  private static Timing measure(String label, Callable<?> task) throws Exception {
+    for (int i = 0; i < ITERATIONS / 5; i++) {
+      task.call();
+    }
+    long[] latencies = new long[ITERATIONS];
+    for (int i = 0; i < ITERATIONS; i++) {
+      long start = System.nanoTime();
+      task.call();
+      latencies[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(latencies);
+    Timing timing = new Timing(latencies);
+    System.out.printf(
+        "[%s] runs=%d p50=%.2fms p95=%.2fms%n", label, ITERATIONS, timing.p50Millis(), timing.percentileMillis(95));
+    return timing;
+  }
+
+  private record Timing(long[] sortedNanos) {
+    double p50Millis() {
+      return percentileMillis(50);
+    }
+
+    double percentileMillis(double p) {
+      int index = Math.min(sortedNanos.length - 1, Math.max(0, (int) Math.ceil(p / 100 * sortedNanos.length) - 1));
+      return sortedNanos[index] / 1_000_000.0;
+    }
+  }
+}
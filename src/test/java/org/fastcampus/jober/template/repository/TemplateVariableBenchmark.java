@@ -0,0 +1,213 @@
+package org.fastcampus.jober.template.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+
+import org.fastcampus.jober.template.dto.response.TemplateSummaryResponseDto;
+import org.fastcampus.jober.template.entity.Template;
+import org.fastcampus.jober.template.entity.TemplateVariable;
+
+/**
+ * 템플릿 3만 건(본문 약 2KB, 변수 5개)에서 변수 조회를 TEXT 컬럼 기준과 template_variable 기준으로 비교합니다. (./gradlew
+ * benchmark)
+ *
+ * <ul>
+ *   <li>"변수 X를 쓰는 템플릿": 본문/editableVariables LIKE 스캔 대 (space_id, name) 인덱스
+ *   <li>템플릿 한 건의 변수 목록: 엔티티 조회 후 JSON/본문 파싱 대 변수 행 조회
+ * </ul>
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+class TemplateVariableBenchmark {
+
+  private static final long SPACE_ID = 1L;
+  private static final int TEMPLATES = 30_000;
+  private static final int VARIABLES_PER_TEMPLATE = 5;
+  private static final int COMMON_VARIABLES = 40;
+  // 1000건 중 1건만 쓰는 변수: LIKE는 끝까지 훑어야 첫 페이지를 채움
+  private static final String RARE_VARIABLE = "환불계좌";
+  private static final int PAGE_SIZE = 20;
+  private static final int ITERATIONS = 50;
+  private static final Pattern PLACEHOLDER = Pattern.compile("#\\{\\s*([^#{}]+?)\\s*}");
+
+  @Autowired private TemplateRepository templateRepository;
+  @Autowired private TemplateVariableRepository templateVariableRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private long sampleTemplateId;
+
+  @BeforeEach
+  void setUp() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> templates = new ArrayList<>();
+    for (int i = 0; i < TEMPLATES; i++) {
+      List<String> names = names(i);
+      StringBuilder body = new StringBuilder();
+      StringBuilder variables = new StringBuilder("{");
+      for (String name : names) {
+        body.append("안녕하세요, #{").append(name).append("} 안내드립니다. ").append("본문 내용 ".repeat(40));
+        variables.append(variables.length() > 1 ? "," : "").append('"').append(name).append("\":\"예시 값\"");
+      }
+      templates.add(
+          new Object[] {
+            SPACE_ID, "템플릿 " + i, "설명 " + i, body.toString(), "{}", variables.append('}').toString(), now
+          });
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO template (space_id, title, description, template, structured_template, editable_variables,"
+            + " is_deleted, is_accepted, created_at) VALUES (?, ?, ?, ?, ?, ?, false, false, ?)",
+        templates);
+
+    List<Long> ids =
+        jdbcTemplate.queryForList("SELECT id FROM template ORDER BY id ASC", Long.class);
+    List<Object[]> variables = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i++) {
+      for (String name : names(i)) {
+        variables.add(new Object[] {ids.get(i), SPACE_ID, name, "예시 값"});
+      }
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO template_variable (template_id, space_id, name, default_value, in_body) VALUES (?, ?, ?, ?, true)",
+        variables);
+    sampleTemplateId = ids.get(ids.size() / 2);
+    entityManager.clear();
+  }
+
+  private static List<String> names(int i) {
+    List<String> names = new ArrayList<>();
+    for (int k = 0; k < VARIABLES_PER_TEMPLATE - 1; k++) {
+      names.add("변수" + ((i + k * 7) % COMMON_VARIABLES));
+    }
+    names.add(i % 1000 == 0 ? RARE_VARIABLE : "고객명");
+    return names;
+  }
+
+  @Test
+  void normalizedVariablesVersusTextColumns() throws Exception {
+    Timing likeRare = measure("LIKE scan (rare variable)", () -> likePage(RARE_VARIABLE));
+    Timing indexRare =
+        measure(
+            "index (rare variable)",
+            () ->
+                templateVariableRepository.findTemplatesByVariable(
+                    SPACE_ID, RARE_VARIABLE, Long.MAX_VALUE, Limit.of(PAGE_SIZE + 1)));
+    measure("LIKE scan (common variable)", () -> likePage("변수3"));
+    measure(
+        "index (common variable)",
+        () ->
+            templateVariableRepository.findTemplatesByVariable(
+                SPACE_ID, "변수3", Long.MAX_VALUE, Limit.of(PAGE_SIZE + 1)));
+
+    List<TemplateSummaryResponseDto> indexed =
+        templateVariableRepository.findTemplatesByVariable(
+            SPACE_ID, RARE_VARIABLE, Long.MAX_VALUE, Limit.of(PAGE_SIZE));
+    assertThat(indexed).extracting(TemplateSummaryResponseDto::getTemplateId).isEqualTo(likePage(RARE_VARIABLE));
+
+    Timing parsed =
+        measure(
+            "variables via entity + JSON parse",
+            () -> {
+              entityManager.clear();
+              Template template =
+                  templateRepository.findBySpaceIdAndTemplateIdWithAllFields(SPACE_ID, sampleTemplateId);
+              Set<String> names = new LinkedHashSet<>();
+              Matcher matcher = PLACEHOLDER.matcher(template.getTemplate());
+              while (matcher.find()) {
+                names.add(matcher.group(1));
+              }
+              JsonNode node = objectMapper.readTree(template.getEditableVariables());
+              node.fieldNames().forEachRemaining(names::add);
+              return names;
+            });
+    Timing normalized =
+        measure(
+            "variables via template_variable",
+            () -> {
+              entityManager.clear();
+              return templateVariableRepository.findByTemplateIdOrderByIdAsc(sampleTemplateId).stream()
+                  .map(TemplateVariable::getName)
+                  .toList();
+            });
+
+    jdbcTemplate
+        .queryForList(
+            "EXPLAIN SELECT t.id, t.title, t.created_at FROM template_variable v JOIN template t ON t.id = v.template_id"
+                + " WHERE v.space_id = ? AND v.name = ? AND t.is_deleted = false AND t.id < ? ORDER BY t.id DESC LIMIT ?",
+            String.class,
+            SPACE_ID,
+            RARE_VARIABLE,
+            Long.MAX_VALUE,
+            PAGE_SIZE + 1)
+        .forEach(plan -> System.out.println("[plan] " + plan.replace('\n', ' ')));
+
+    assertThat(indexRare.p50Millis()).isLessThan(likeRare.p50Millis());
+    assertThat(normalized.p50Millis()).isLessThan(parsed.p50Millis());
+  }
+
+  private List<Long> likePage(String name) {
+    String pattern = "%#{" + name + "}%";
+    return jdbcTemplate.queryForList(
+        "SELECT id FROM template WHERE space_id = ? AND is_deleted = false"
+            + " AND (template LIKE ? OR editable_variables LIKE ?) ORDER BY id DESC LIMIT ?",
+        Long.class,
+        SPACE_ID,
+        pattern,
+        "%\"" + name + "\"%",
+        PAGE_SIZE);
+  }
+
+  /** 같은 스레드에서 반복 실행해 지연 백분위를 구합니다 (데이터가 테스트 트랜잭션 안에만 있음). */
+  private static Timing measure(String label, Callable<?> task) throws Exception {
+    for (int i = 0; i < ITERATIONS / 5; i++) {
+      task.call();
+    }
+    long[] latencies = new long[ITERATIONS];
+    for (int i = 0; i < ITERATIONS; i++) {
+      long start = System.nanoTime();
+      task.call();
+      latencies[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(latencies);
+    Timing timing = new Timing(latencies);
+    System.out.printf(
+        "[%s] runs=%d p50=%.3fms p95=%.3fms%n", label, ITERATIONS, timing.p50Millis(), timing.percentileMillis(95));
+    return timing;
+  }
+
+  private record Timing(long[] sortedNanos) {
+    double p50Millis() {
+      return percentileMillis(50);
+    }
+
+    double percentileMillis(double p) {
+      int index = Math.min(sortedNanos.length - 1, Math.max(0, (int) Math.ceil(p / 100 * sortedNanos.length) - 1));
+      return sortedNanos[index] / 1_000_000.0;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.template.dto.request.TemplateState;
+
+@DisplayName("AiSessionStore 테스트")
+class AiSessionStoreTest {
+
+  private static final long OWNER = 1L;
+  private static final long OTHER = 2L;
+  private static final String SESSION_ID = "session-1";
+
+  private final AiSessionStore store = new AiSessionStore(new AiFlaskProps(), new SimpleMeterRegistry());
+
+  private static TemplateState state(String step) {
+    TemplateState state = new TemplateState();
+    state.setStep(step);
+    return state;
+  }
+
+  @Test
+  @DisplayName("다른 사용자는 같은 sessionId로 세션을 이어가거나 덮어쓸 수 없다")
+  void otherUserCannotResumeSession() {
+    store.remember(OWNER, SESSION_ID, state("template_selection"), 2);
+
+    // 다른 사용자가 노출된 sessionId로 이어가려 하면 처음 보는 세션으로 취급
+    assertThat(store.get(OTHER, SESSION_ID)).isEmpty();
+    assertThat(store.totalAttempts(OTHER, SESSION_ID)).isEmpty();
+
+    store.remember(OTHER, SESSION_ID, state("completed"), 1);
+
+    assertThat(store.get(OWNER, SESSION_ID)).get().extracting(TemplateState::getStep)
+        .isEqualTo("template_selection");
+    assertThat(store.totalAttempts(OWNER, SESSION_ID)).hasValue(2);
+    assertThat(store.get(OTHER, SESSION_ID)).get().extracting(TemplateState::getStep)
+        .isEqualTo("completed");
+  }
+
+  @Test
+  @DisplayName("로그인 사용자가 없으면 세션 상태를 저장하지 않는다")
+  void ignoresAnonymousSession() {
+    store.remember(null, SESSION_ID, state("completed"), 1);
+
+    assertThat(store.get(null, SESSION_ID)).isEmpty();
+    assertThat(store.totalAttempts(null, SESSION_ID)).isEmpty();
+  }
+}
@@ -0,0 +1,67 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.fastcampus.jober.space.entity.SpaceContacts;
+
+/** #{변수} 파싱 경계 조건과, 연락처 필드/기본값/미해결 변수가 각각 올바르게 채워지는지 검증합니다. */
+@DisplayName("CompiledTemplate 테스트")
+class CompiledTemplateTest {
+
+  private static final SpaceContacts CONTACT =
+      SpaceContacts.builder()
+          .id(1L)
+          .name("홍길동")
+          .phoneNum("010-1234-5678")
+          .email("hong@example.com")
+          .spaceId(1L)
+          .build();
+
+  @Test
+  @DisplayName("연락처 필드는 연락처 값으로, 나머지는 기본값으로 채우고 값이 없으면 원문을 남긴다")
+  void resolvesContactFieldsDefaultsAndUnresolved() {
+    CompiledTemplate template =
+        CompiledTemplate.compile(
+            "#{고객명}님, 쿠폰 #{쿠폰코드}를 #{ 이메일 }로 보냈습니다. #{만료일}까지 사용하세요. (#{태그})",
+            Map.of("쿠폰코드", "WELCOME10"));
+
+    assertThat(template.render(CONTACT))
+        .isEqualTo("홍길동님, 쿠폰 WELCOME10를 hong@example.com로 보냈습니다. #{만료일}까지 사용하세요. ()");
+    assertThat(template.variables()).containsExactly("고객명", "쿠폰코드", "이메일", "만료일", "태그");
+    assertThat(template.unresolvedVariables()).containsExactly("만료일");
+  }
+
+  @Test
+  @DisplayName("닫히지 않았거나 비어 있거나 중첩된 #{는 일반 문자로 남긴다")
+  void malformedPlaceholdersStayLiteral() {
+    assertThat(CompiledTemplate.compile("가격 #{ 원", Map.of()).render(CONTACT)).isEqualTo("가격 #{ 원");
+    assertThat(CompiledTemplate.compile("#{}와 #{  }", Map.of()).render(CONTACT)).isEqualTo("#{}와 #{  }");
+    assertThat(CompiledTemplate.compile("#{a #{이름}}", Map.of()).render(CONTACT)).isEqualTo("#{a 홍길동}");
+    assertThat(CompiledTemplate.compile("#{이름}#{이름}", Map.of()).render(CONTACT)).isEqualTo("홍길동홍길동");
+    assertThat(CompiledTemplate.compile(null, Map.of()).render(CONTACT)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("재사용 버퍼에 이어 써도 String.replace 결과와 같다")
+  void renderToMatchesNaiveReplace() {
+    String source = "안녕하세요 #{고객명}님 (#{연락처}) #{고객명}님의 #{쿠폰코드}\n".repeat(20);
+    CompiledTemplate template = CompiledTemplate.compile(source, Map.of("쿠폰코드", "C-1"));
+    String expected =
+        source
+            .replace("#{고객명}", CONTACT.getName())
+            .replace("#{연락처}", CONTACT.getPhoneNum())
+            .replace("#{쿠폰코드}", "C-1");
+
+    StringBuilder out = new StringBuilder();
+    for (int i = 0; i < 3; i++) {
+      out.setLength(0);
+      template.renderTo(CONTACT, out);
+      assertThat(out.toString()).isEqualTo(expected);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.fastcampus.jober.template.repository.TemplateSearchDocument;
+
+/** 한글 2-gram 토큰화, 필드 가중치 순위, 저장/삭제 즉시 반영, 페이지 구간, 압축 후 결과 유지를 검증합니다. */
+@DisplayName("SpaceSearchIndex 테스트")
+class SpaceSearchIndexTest {
+
+  private static TemplateSearchDocument doc(long id, String title, String description, String body) {
+    return new TemplateSearchDocument(id, 1L, title, description, body);
+  }
+
+  private static SpaceSearchIndex loaded(TemplateSearchDocument... documents) {
+    SpaceSearchIndex index = new SpaceSearchIndex(0.3);
+    index.ensureLoaded(() -> List.of(documents));
+    return index;
+  }
+
+  private static List<Long> ids(SpaceSearchIndex index, String query) {
+    return index.search(TemplateTokenizer.queryTokens(query), 0, 100).hits().stream()
+        .map(SpaceSearchIndex.Hit::templateId)
+        .toList();
+  }
+
+  @Test
+  @DisplayName("한글은 글자 2-gram, 영문/숫자는 단어로 자른다")
+  void tokenizesHangulAsBigrams() {
+    List<String> tokens = new ArrayList<>();
+    TemplateTokenizer.tokenize("SMS발송안내 #{고객명}님, 쿠폰 10%", tokens::add);
+
+    assertThat(tokens).containsExactly("sms", "발송", "송안", "안내", "고객", "객명", "님", "쿠폰", "10");
+  }
+
+  @Test
+  @DisplayName("모든 검색어를 포함한 문서만 찾고 제목 일치를 본문 일치보다 높게 둔다")
+  void ranksTitleMatchesFirst() {
+    SpaceSearchIndex index =
+        loaded(
+            doc(1, "주문 안내", null, "고객님의 배송이 시작되었습니다."),
+            doc(2, "배송 시작 안내", "배송 출발 알림", "주문하신 상품이 출발했습니다."),
+            doc(3, "쿠폰 발급", null, "쿠폰이 발급되었습니다."));
+
+    assertThat(ids(index, "배송 안내")).containsExactly(2L, 1L);
+    assertThat(ids(index, "쿠폰 배송")).isEmpty();
+    assertThat(ids(index, "송")).containsExactlyInAnyOrder(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("저장/삭제가 바로 검색 결과에 반영되고 적재 전 변경도 잃지 않는다")
+  void appliesIncrementalChanges() {
+    SpaceSearchIndex index = new SpaceSearchIndex(0.3);
+    index.upsert(doc(3, "생일 축하 쿠폰", null, null));
+    index.remove(1);
+    index.ensureLoaded(() -> List.of(doc(1, "가입 환영", null, null), doc(2, "가입 축하", null, null)));
+
+    assertThat(ids(index, "축하")).containsExactlyInAnyOrder(2L, 3L);
+    assertThat(ids(index, "환영")).isEmpty();
+
+    index.upsert(doc(2, "결제 완료", null, null));
+    index.upsert(doc(4, "가입 환영", null, null));
+
+    assertThat(ids(index, "축하")).containsExactly(3L);
+    assertThat(ids(index, "결제")).containsExactly(2L);
+    assertThat(ids(index, "가입 환영")).containsExactly(4L);
+    assertThat(index.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("페이지는 점수 순서를 유지하며 전체 일치 건수를 함께 준다")
+  void paginatesRankedResults() {
+    List<TemplateSearchDocument> documents = new ArrayList<>();
+    for (long id = 1; id <= 25; id++) {
+      documents.add(doc(id, "공지 " + id, null, "정기 점검 공지"));
+    }
+    SpaceSearchIndex index = new SpaceSearchIndex(0.3);
+    index.ensureLoaded(() -> documents);
+
+    SpaceSearchIndex.Page first = index.search(TemplateTokenizer.queryTokens("공지"), 0, 10);
+    SpaceSearchIndex.Page last = index.search(TemplateTokenizer.queryTokens("공지"), 20, 10);
+
+    assertThat(first.totalHits()).isEqualTo(25);
+    // 점수가 같으면 최신(큰) templateId가 앞
+    assertThat(first.hits()).extracting(SpaceSearchIndex.Hit::templateId).startsWith(25L, 24L);
+    assertThat(last.hits()).extracting(SpaceSearchIndex.Hit::templateId).containsExactly(5L, 4L, 3L, 2L, 1L);
+  }
+
+  @Test
+  @DisplayName("삭제가 쌓여 압축된 뒤에도 결과가 같다")
+  void compactsTombstones() {
+    SpaceSearchIndex index = new SpaceSearchIndex(0.3);
+    AtomicInteger loads = new AtomicInteger();
+    index.ensureLoaded(
+        () -> {
+          loads.incrementAndGet();
+          return List.of();
+        });
+    for (long id = 1; id <= 300; id++) {
+      index.upsert(doc(id, id % 2 == 0 ? "짝수 알림" : "홀수 알림", null, "템플릿 " + id));
+    }
+    for (long id = 1; id <= 300; id += 2) {
+      index.remove(id);
+    }
+    index.ensureLoaded(List::of);
+
+    assertThat(loads).hasValue(1);
+    assertThat(index.size()).isEqualTo(150);
+    assertThat(ids(index, "홀수")).isEmpty();
+    assertThat(index.search(TemplateTokenizer.queryTokens("짝수 알림"), 0, 10).totalHits()).isEqualTo(150);
+    assertThat(ids(index, "템플릿 300")).containsExactly(300L);
+  }
+}
@@ -0,0 +1,95 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** MinHash 서명 정규화/유사도 추정, LSH 색인의 중복 후보 조회, 저장/삭제 반영과 압축 후 결과 유지를 검증합니다. */
+@DisplayName("SpaceSimilarityIndex 테스트")
+class SpaceSimilarityIndexTest {
+
+  private static final String WELCOME =
+      "#{고객명}님, 회원가입을 진심으로 환영합니다. 가입 기념으로 #{쿠폰명} 쿠폰을 발급해 드렸으니 마이페이지에서 확인해 주세요."
+          + " 쿠폰은 발급일로부터 30일 동안 사용할 수 있습니다.";
+
+  private static SpaceSimilarityIndex.Entry entry(long id, String body) {
+    return new SpaceSimilarityIndex.Entry(id, "템플릿 " + id, TemplateMinHash.signature(body));
+  }
+
+  private static List<Long> similar(SpaceSimilarityIndex index, String body, double minSimilarity) {
+    return index.query(TemplateMinHash.signature(body), -1, minSimilarity, 10).stream()
+        .map(SpaceSimilarityIndex.Match::templateId)
+        .toList();
+  }
+
+  @Test
+  @DisplayName("변수 이름, 대소문자, 공백만 다른 본문은 같은 서명이다")
+  void normalizesPlaceholdersAndWhitespace() {
+    int[] original = TemplateMinHash.signature(WELCOME);
+    int[] renamed =
+        TemplateMinHash.signature(WELCOME.replace("#{고객명}", "#{ 이름 }").replace(" 쿠폰은", "\n\n  쿠폰은"));
+
+    assertThat(TemplateMinHash.similarity(original, renamed)).isEqualTo(1.0);
+    assertThat(TemplateMinHash.decode(TemplateMinHash.encode(original))).isEqualTo(original);
+    assertThat(TemplateMinHash.signature(" \n ")).isNull();
+  }
+
+  @Test
+  @DisplayName("조금 고친 본문은 중복 후보로, 다른 본문은 찾지 않는다")
+  void findsNearDuplicates() {
+    SpaceSimilarityIndex index = new SpaceSimilarityIndex(0.3);
+    index.ensureLoaded(
+        () ->
+            List.of(
+                entry(1, WELCOME),
+                entry(2, WELCOME.replace("30일", "14일")),
+                entry(3, "주문하신 상품이 #{배송일}에 출발합니다. 배송 조회는 아래 버튼을 눌러 확인해 주세요."),
+                entry(4, "")));
+
+    List<SpaceSimilarityIndex.Match> matches =
+        index.query(TemplateMinHash.signature(WELCOME), 1, 0.7, 10);
+
+    assertThat(matches).extracting(SpaceSimilarityIndex.Match::templateId).containsExactly(2L);
+    assertThat(matches.get(0).similarity()).isGreaterThan(0.8).isLessThan(1.0);
+    assertThat(index.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("유사도가 같으면 최신 templateId가 앞서고 limit만큼만 준다")
+  void ranksBySimilarityThenNewest() {
+    SpaceSimilarityIndex index = new SpaceSimilarityIndex(0.3);
+    index.ensureLoaded(() -> List.of(entry(1, WELCOME), entry(2, WELCOME), entry(3, WELCOME)));
+
+    assertThat(index.query(TemplateMinHash.signature(WELCOME), -1, 0.9, 2))
+        .extracting(SpaceSimilarityIndex.Match::templateId)
+        .containsExactly(3L, 2L);
+  }
+
+  @Test
+  @DisplayName("저장/삭제가 바로 반영되고 적재 전 변경과 압축 후에도 결과가 같다")
+  void appliesIncrementalChangesAndCompacts() {
+    SpaceSimilarityIndex index = new SpaceSimilarityIndex(0.3);
+    index.upsert(entry(2, WELCOME));
+    index.remove(1);
+    index.ensureLoaded(() -> List.of(entry(1, WELCOME)));
+
+    assertThat(similar(index, WELCOME, 0.9)).containsExactly(2L);
+
+    for (long id = 10; id < 400; id++) {
+      index.upsert(entry(id, "정기 점검 안내 " + id + "번 서버는 새벽 두 시부터 네 시까지 점검합니다."));
+    }
+    for (long id = 10; id < 400; id++) {
+      index.upsert(entry(id, "주문 " + id + "번 상품의 결제가 완료되었습니다. 이용해 주셔서 감사합니다."));
+    }
+    index.upsert(entry(2, "결제 실패 안내입니다. 카드 한도를 확인해 주세요."));
+
+    assertThat(similar(index, WELCOME, 0.9)).isEmpty();
+    assertThat(similar(index, "정기 점검 안내 17번 서버는 새벽 두 시부터 네 시까지 점검합니다.", 0.7)).isEmpty();
+    assertThat(similar(index, "주문 17번 상품의 결제가 완료되었습니다. 이용해 주셔서 감사합니다.", 0.99)).containsExactly(17L);
+    assertThat(index.signatureOf(1)).isNull();
+    assertThat(index.size()).isEqualTo(391);
+  }
+}
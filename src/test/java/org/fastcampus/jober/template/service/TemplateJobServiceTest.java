@@ -0,0 +1,106 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.template.dto.request.TemplateCreateRequestDto;
+import org.fastcampus.jober.template.dto.response.TemplateJobResponseDto;
+import org.fastcampus.jober.template.entity.TemplateJob;
+import org.fastcampus.jober.template.entity.enums.JobStatus;
+import org.fastcampus.jober.template.repository.TemplateJobRepository;
+import org.fastcampus.jober.util.AiCallScheduler;
+import org.fastcampus.jober.util.ExternalApiUtil;
+
+/** 작업을 등록한 사용자만 조회/구독할 수 있는지, AI 서버 장애 폴백 응답을 실패로 기록하는지 검증합니다. */
+@DisplayName("TemplateJobService 테스트")
+class TemplateJobServiceTest {
+
+  private static final long OWNER = 1L;
+  private static final long OTHER = 2L;
+  private static final String UNAVAILABLE = "AI 서버가 혼잡하거나 응답하지 않습니다.";
+
+  private final Map<String, TemplateJob> jobs = new ConcurrentHashMap<>();
+  private TemplateService templateService;
+  private TemplateJobService templateJobService;
+
+  @BeforeEach
+  void setUp() {
+    TemplateJobRepository repository = mock(TemplateJobRepository.class);
+    when(repository.save(any(TemplateJob.class)))
+        .thenAnswer(
+            invocation -> {
+              TemplateJob job = invocation.getArgument(0);
+              jobs.put(job.getId(), job);
+              return job;
+            });
+    when(repository.findById(anyString()))
+        .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<String>getArgument(0))));
+    templateService = mock(TemplateService.class);
+    templateJobService =
+        new TemplateJobService(
+            repository, templateService, new ObjectMapper(), new AiFlaskProps(), new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    templateJobService.shutdown();
+  }
+
+  private TemplateJobResponseDto awaitTerminal(String jobId) throws InterruptedException {
+    for (int i = 0; i < 200; i++) {
+      TemplateJobResponseDto job = templateJobService.get(OWNER, jobId);
+      if (job.getStatus().isTerminal()) {
+        return job;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("작업이 끝나지 않았습니다: " + jobId);
+  }
+
+  @Test
+  @DisplayName("AI 서버 폴백 응답(success=false)은 작업 실패로 기록한다")
+  void fallbackResponseFailsJob() throws Exception {
+    when(templateService.createTemplate(eq(OWNER), any(), any(), eq(AiCallScheduler.Priority.BACKGROUND)))
+        .thenReturn(ExternalApiUtil.fallbackResponse(UNAVAILABLE));
+
+    String jobId = templateJobService.submit(OWNER, new TemplateCreateRequestDto()).getJobId();
+    TemplateJobResponseDto job = awaitTerminal(jobId);
+
+    assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+    assertThat(job.getError()).isEqualTo(UNAVAILABLE);
+    assertThat(job.getResult()).isNull();
+  }
+
+  @Test
+  @DisplayName("다른 사용자는 작업을 조회하거나 구독할 수 없다")
+  void rejectsOtherUsers() throws Exception {
+    when(templateService.createTemplate(eq(OWNER), any(), any(), eq(AiCallScheduler.Priority.BACKGROUND)))
+        .thenReturn(ExternalApiUtil.fallbackResponse("완료"));
+    String jobId = templateJobService.submit(OWNER, new TemplateCreateRequestDto()).getJobId();
+    awaitTerminal(jobId);
+
+    assertThatThrownBy(() -> templateJobService.get(OTHER, jobId)).isInstanceOf(BusinessException.class);
+    assertThatThrownBy(() -> templateJobService.subscribe(OTHER, jobId))
+        .isInstanceOf(BusinessException.class);
+    assertThat(templateJobService.subscribe(OWNER, jobId).blockLast().getJobId()).isEqualTo(jobId);
+  }
+}
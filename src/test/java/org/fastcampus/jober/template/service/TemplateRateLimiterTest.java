@@ -0,0 +1,79 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.fastcampus.jober.common.RateLimitProps;
+import org.fastcampus.jober.error.BusinessException;
+import org.fastcampus.jober.error.RateLimitExceededException;
+import org.fastcampus.jober.util.InMemoryRateLimitStore;
+
+/** 일괄 생성이 항목별 스페이스에 부과되고, spaceId가 없는 요청은 사용자 버킷에만 부과되는지 검증합니다. */
+@DisplayName("TemplateRateLimiter 테스트")
+class TemplateRateLimiterTest {
+
+  private static final long USER = 10L;
+  private static final long OTHER_USER = 20L;
+  private static final long MY_SPACE = 1L;
+  private static final long SECOND_SPACE = 3L;
+
+  private TemplateRateLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitProps props = new RateLimitProps();
+    props.setUser(new RateLimitProps.Bucket(10, 1, Duration.ofHours(1)));
+    props.setSpace(new RateLimitProps.Bucket(4, 1, Duration.ofHours(1)));
+    limiter =
+        new TemplateRateLimiter(
+            props, new InMemoryRateLimitStore(1_000, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("일괄 요청은 항목마다 자기 스페이스 버킷에 부과된다")
+  void chargesEachItemsSpace() {
+    limiter.acquire(USER, List.of(MY_SPACE, SECOND_SPACE, SECOND_SPACE, SECOND_SPACE));
+
+    assertThatCode(() -> limiter.acquire(USER, Collections.nCopies(3, MY_SPACE)))
+        .doesNotThrowAnyException();
+    assertThatThrownBy(() -> limiter.acquire(USER, List.of(SECOND_SPACE, SECOND_SPACE)))
+        .isInstanceOf(RateLimitExceededException.class);
+  }
+
+  @Test
+  @DisplayName("spaceId가 없는 요청은 사용자 버킷에만 부과된다")
+  void chargesOnlyUserWithoutSpace() {
+    for (int i = 0; i < 10; i++) {
+      limiter.acquire(USER, (Long) null);
+    }
+
+    assertThatThrownBy(() -> limiter.acquire(USER, (Long) null))
+        .isInstanceOf(RateLimitExceededException.class);
+    // 스페이스 버킷은 그대로
+    assertThatCode(() -> limiter.acquire(OTHER_USER, Collections.nCopies(4, MY_SPACE)))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("버킷 크기보다 큰 일괄 요청은 거절하고 토큰을 소모하지 않는다")
+  void rejectsOversizedBatch() {
+    assertThatThrownBy(() -> limiter.acquire(USER, Collections.nCopies(5, MY_SPACE)))
+        .isInstanceOf(BusinessException.class);
+    assertThatThrownBy(() -> limiter.acquire(USER, Arrays.asList(new Long[11])))
+        .isInstanceOf(BusinessException.class);
+
+    assertThatCode(() -> limiter.acquire(USER, Collections.nCopies(4, MY_SPACE)))
+        .doesNotThrowAnyException();
+  }
+}
@@ -0,0 +1,137 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.fastcampus.jober.space.entity.SpaceContacts;
+
+/**
+ * 연락처 1만 명에게 변수 8개짜리 템플릿(약 1.5KB)을 렌더링하며, 컴파일된 템플릿을 재사용 버퍼에 쓰는 방식과 변수마다
+ * String.replace를 반복하는 방식의 행당 시간/할당 바이트를 비교합니다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class TemplateRenderBenchmark {
+
+  private static final int CONTACTS = 10_000;
+  private static final int ROUNDS = 10;
+
+  private static final String SOURCE =
+      """
+      안녕하세요, #{고객명}님! 저희 서비스에 가입해 주셔서 진심으로 감사드립니다.
+      #{가입일}부터 모든 기능을 자유롭게 이용하실 수 있으며, 첫 구매 시 사용 가능한 쿠폰 #{쿠폰코드}을 드립니다.
+      쿠폰은 발급일로부터 30일 동안 사용할 수 있으며, 일부 상품에는 적용되지 않을 수 있습니다.
+      가입하신 연락처(#{연락처})와 이메일(#{이메일})로 주문/배송 알림을 보내 드립니다.
+      #{고객명}님의 등급은 #{등급}이며, #{태그} 그룹 고객님께는 매월 추가 혜택을 드립니다.
+      궁금한 점이 있으시면 언제든지 고객센터(#{고객센터})로 문의해 주세요. 앞으로도 더 나은 서비스로 보답하겠습니다.
+      """
+          .repeat(2);
+
+  @Test
+  void compiledVersusStringReplace() {
+    Map<String, String> defaults = new LinkedHashMap<>();
+    defaults.put("가입일", "2024-01-01");
+    defaults.put("쿠폰코드", "WELCOME10");
+    defaults.put("등급", "골드");
+    defaults.put("고객센터", "1588-0000");
+    List<SpaceContacts> contacts = contacts();
+    CompiledTemplate compiled = CompiledTemplate.compile(SOURCE, defaults);
+
+    StringBuilder buffer = new StringBuilder(compiled.estimatedLength());
+    long[] checksum = new long[2];
+    Runnable compiledRound =
+        () -> {
+          for (SpaceContacts contact : contacts) {
+            buffer.setLength(0);
+            compiled.renderTo(contact, buffer);
+            checksum[0] += buffer.length();
+          }
+        };
+    Runnable naiveRound =
+        () -> {
+          for (SpaceContacts contact : contacts) {
+            checksum[1] += naive(contact, defaults).length();
+          }
+        };
+
+    // 두 방식 결과가 같은지 먼저 확인
+    for (SpaceContacts contact : contacts.subList(0, 100)) {
+      assertThat(compiled.render(contact)).isEqualTo(naive(contact, defaults));
+    }
+
+    // 워밍업 (JIT)
+    for (int i = 0; i < ROUNDS; i++) {
+      compiledRound.run();
+      naiveRound.run();
+    }
+    Cost naiveCost = measure(naiveRound);
+    Cost compiledCost = measure(compiledRound);
+
+    System.out.println("[string.replace] " + naiveCost);
+    System.out.println("[compiled]       " + compiledCost);
+
+    assertThat(checksum[0]).isEqualTo(checksum[1]);
+    assertThat(compiledCost.nanosPerRow()).isLessThan(naiveCost.nanosPerRow());
+    assertThat(compiledCost.bytesPerRow()).isLessThan(naiveCost.bytesPerRow() / 4);
+  }
+
+  /** 변수마다 String.replace로 새 문자열을 만드는 방식 */
+  private static String naive(SpaceContacts contact, Map<String, String> defaults) {
+    String text =
+        SOURCE
+            .replace("#{고객명}", contact.getName())
+            .replace("#{연락처}", contact.getPhoneNum())
+            .replace("#{이메일}", contact.getEmail())
+            .replace("#{태그}", contact.getTag());
+    for (Map.Entry<String, String> entry : defaults.entrySet()) {
+      text = text.replace("#{" + entry.getKey() + "}", entry.getValue());
+    }
+    return text;
+  }
+
+  private static List<SpaceContacts> contacts() {
+    List<SpaceContacts> contacts = new ArrayList<>(CONTACTS);
+    for (int i = 0; i < CONTACTS; i++) {
+      contacts.add(
+          SpaceContacts.builder()
+              .id((long) i + 1)
+              .name("고객" + i)
+              .phoneNum(String.format("010-%04d-%04d", i / 10_000, i % 10_000))
+              .email("user" + i + "@example.com")
+              .tag(i % 2 == 0 ? "VIP" : "일반")
+              .spaceId(1L)
+              .build());
+    }
+    return contacts;
+  }
+
+  private static Cost measure(Runnable round) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < ROUNDS; i++) {
+      round.run();
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    long rows = (long) CONTACTS * ROUNDS;
+    return new Cost(elapsed / (double) rows, allocated / rows);
+  }
+
+  private record Cost(double nanosPerRow, long bytesPerRow) {
+    @Override
+    public String toString() {
+      return String.format(
+          "rows=%d time/row=%.0fns alloc/row=%dB throughput=%.0f rows/s",
+          (long) CONTACTS * ROUNDS, nanosPerRow, bytesPerRow, 1e9 / nanosPerRow);
+    }
+  }
+}
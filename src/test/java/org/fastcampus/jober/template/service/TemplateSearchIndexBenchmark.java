@@ -0,0 +1,154 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.fastcampus.jober.support.LoadRunner;
+import org.fastcampus.jober.template.repository.TemplateSearchDocument;
+
+/**
+ * 한 스페이스에 템플릿 10만 건을 색인한 뒤 색인 생성 시간/메모리, 검색어 유형별 지연, 저장 1건 반영 지연을 측정하고 LIKE
+ * '%검색어%'에 해당하는 전체 순회 검색과 비교합니다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class TemplateSearchIndexBenchmark {
+
+  private static final int TEMPLATES = 100_000;
+  private static final int CONCURRENCY = 4;
+  private static final int ITERATIONS = 500;
+  private static final int SCAN_ITERATIONS = 10;
+
+  private static final String[] SUBJECTS = {
+    "신규 가입", "주문 완료", "배송 시작", "배송 완료", "결제 실패", "쿠폰 발급", "포인트 적립", "예약 확인", "예약 취소",
+    "정기 점검", "비밀번호 변경", "휴면 전환", "이벤트 당첨", "리뷰 요청", "재입고", "환불 완료", "멤버십 갱신", "생일 축하"
+  };
+  private static final String[] CHANNELS = {"알림톡", "SMS", "LMS", "친구톡", "이메일"};
+  private static final String[] SENTENCES = {
+    "#{고객명}님, 요청하신 내용이 정상적으로 처리되었습니다.",
+    "자세한 내용은 아래 버튼을 눌러 확인해 주세요.",
+    "주문번호 #{주문번호}의 상품이 #{배송일}에 출발합니다.",
+    "쿠폰 #{쿠폰코드}은 발급일로부터 30일 동안 사용할 수 있습니다.",
+    "문의 사항은 고객센터 #{연락처}로 연락 주시기 바랍니다.",
+    "이용해 주셔서 감사합니다. 더 나은 서비스로 보답하겠습니다.",
+    "예약하신 #{매장명} 방문 일정은 #{예약일시}입니다.",
+    "적립된 포인트는 다음 결제부터 바로 사용하실 수 있습니다.",
+    "보안을 위해 비밀번호를 주기적으로 변경해 주세요.",
+    "본 메시지는 정보성 안내로 수신 동의 여부와 관계없이 발송됩니다."
+  };
+  private static final String[] QUERIES = {
+    "배송", "쿠폰 발급", "알림톡 예약 확인", "sms 결제 실패", "고객센터 연락", "생일", "톡", "멤버십 갱신 안내 17"
+  };
+
+  private static List<TemplateSearchDocument> documents;
+
+  @BeforeAll
+  static void setUp() {
+    Random random = new Random(42);
+    documents = new ArrayList<>(TEMPLATES);
+    for (long id = 1; id <= TEMPLATES; id++) {
+      documents.add(generate(id, random));
+    }
+  }
+
+  @Test
+  void indexVersusScanOn100kTemplates() throws Exception {
+    System.gc();
+    long heapBefore = usedHeap();
+    long buildStart = System.nanoTime();
+    SpaceSearchIndex index = new SpaceSearchIndex(0.3);
+    index.ensureLoaded(() -> documents);
+    long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+    System.gc();
+    long indexBytes = usedHeap() - heapBefore;
+    System.out.printf(
+        Locale.ROOT,
+        "[build] templates=%d elapsed=%dms vocabulary=%d retained≈%.1fMB%n",
+        index.size(),
+        buildMillis,
+        index.vocabularySize(),
+        indexBytes / 1024.0 / 1024.0);
+
+    // 워밍업 (JIT)
+    for (String query : QUERIES) {
+      LoadRunner.run(1, 50, () -> index.search(TemplateTokenizer.queryTokens(query), 0, 20));
+    }
+
+    for (String query : QUERIES) {
+      int hits = index.search(TemplateTokenizer.queryTokens(query), 0, 20).totalHits();
+      LoadRunner.Result result =
+          LoadRunner.run(
+              CONCURRENCY, ITERATIONS, () -> index.search(TemplateTokenizer.queryTokens(query), 0, 20));
+      System.out.println(result.summary("index \"" + query + "\" hits=" + hits));
+      assertThat(result.errors()).isZero();
+    }
+
+    // 저장 1건 반영 (동시 검색 중 수정)
+    AtomicLong nextId = new AtomicLong(TEMPLATES);
+    Random random = new Random(7);
+    LoadRunner.Result upserts =
+        LoadRunner.run(1, 2_000, () -> {
+          index.upsert(generate(nextId.incrementAndGet(), random));
+          return null;
+        });
+    System.out.println(upserts.summary("upsert"));
+
+    // LIKE '%검색어%' 전체 순회 (정렬 없이 일치 여부만)
+    LoadRunner.Result scan = LoadRunner.run(1, SCAN_ITERATIONS, () -> scan("쿠폰 발급"));
+    LoadRunner.Result indexed =
+        LoadRunner.run(1, SCAN_ITERATIONS, () -> index.search(TemplateTokenizer.queryTokens("쿠폰 발급"), 0, 20));
+    System.out.println(scan.summary("scan \"쿠폰 발급\""));
+    System.out.println(indexed.summary("index \"쿠폰 발급\""));
+
+    assertThat(indexed.percentileMillis(50)).isLessThan(scan.percentileMillis(50));
+  }
+
+  private static int scan(String query) {
+    String[] words = query.toLowerCase(Locale.ROOT).split(" ");
+    int hits = 0;
+    for (TemplateSearchDocument document : documents) {
+      String text =
+          (document.title() + " " + document.description() + " " + document.template()).toLowerCase(Locale.ROOT);
+      boolean all = true;
+      for (String word : words) {
+        if (!text.contains(word)) {
+          all = false;
+          break;
+        }
+      }
+      if (all) {
+        hits++;
+      }
+    }
+    return hits;
+  }
+
+  private static TemplateSearchDocument generate(long id, Random random) {
+    String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+    String channel = CHANNELS[random.nextInt(CHANNELS.length)];
+    StringBuilder body = new StringBuilder();
+    int sentences = 3 + random.nextInt(5);
+    for (int i = 0; i < sentences; i++) {
+      body.append(SENTENCES[random.nextInt(SENTENCES.length)]).append('\n');
+    }
+    return new TemplateSearchDocument(
+        id,
+        1L,
+        subject + " 안내 " + (id % 100),
+        channel + " " + subject + " 발송용 템플릿",
+        body.toString());
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,155 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.fastcampus.jober.support.LoadRunner;
+
+/**
+ * 한 스페이스에 템플릿 10만 건(원본 1만 건과 단어 몇 개를 바꾼 변형 9만 건)을 LSH 색인에 넣고, 유사 템플릿 조회 지연을 서명 전체
+ * 순회와 비교하며 순회 결과를 정답으로 재현율을 잽니다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class TemplateSimilarityBenchmark {
+
+  private static final int CLUSTERS = 10_000;
+  private static final int VARIANTS_PER_CLUSTER = 10;
+  private static final int WORDS_PER_TEMPLATE = 40;
+  private static final int VOCABULARY = 5_000;
+  private static final int QUERIES = 300;
+  private static final int CONCURRENCY = 4;
+  private static final int ITERATIONS = 500;
+  private static final int SCAN_ITERATIONS = 20;
+  private static final int LIMIT = 50;
+
+  private static final String SYLLABLES = "가나다라마바사아자차카타파하고노도로모보소오조초코토포호구누두루무부수우주추";
+
+  private static List<SpaceSimilarityIndex.Entry> entries;
+
+  @BeforeAll
+  static void setUp() {
+    Random random = new Random(42);
+    String[] vocabulary = new String[VOCABULARY];
+    for (int i = 0; i < VOCABULARY; i++) {
+      StringBuilder word = new StringBuilder();
+      int length = 2 + random.nextInt(3);
+      for (int k = 0; k < length; k++) {
+        word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+      }
+      vocabulary[i] = word.toString();
+    }
+
+    entries = new ArrayList<>(CLUSTERS * VARIANTS_PER_CLUSTER);
+    long id = 0;
+    long signNanos = 0;
+    for (int c = 0; c < CLUSTERS; c++) {
+      String[] base = new String[WORDS_PER_TEMPLATE];
+      for (int w = 0; w < WORDS_PER_TEMPLATE; w++) {
+        base[w] = w % 10 == 0 ? "#{변수" + w + "}" : vocabulary[random.nextInt(VOCABULARY)];
+      }
+      for (int v = 0; v < VARIANTS_PER_CLUSTER; v++) {
+        // 변형마다 0~8개 단어를 바꿔 원본과의 유사도를 1.0에서 0.4 정도까지 고르게 퍼뜨림
+        String[] words = base.clone();
+        int edits = v == 0 ? 0 : random.nextInt(9);
+        for (int e = 0; e < edits; e++) {
+          words[random.nextInt(WORDS_PER_TEMPLATE)] = vocabulary[random.nextInt(VOCABULARY)];
+        }
+        String body = String.join(" ", words);
+        long start = System.nanoTime();
+        int[] signature = TemplateMinHash.signature(body);
+        signNanos += System.nanoTime() - start;
+        entries.add(new SpaceSimilarityIndex.Entry(++id, "템플릿 " + id, signature));
+      }
+    }
+    System.out.printf(Locale.ROOT, "[signature] templates=%d avg=%.1fµs (저장 1건당 추가 비용)%n", id, signNanos / 1_000.0 / id);
+  }
+
+  @Test
+  void lshVersusScanOn100kTemplates() throws Exception {
+    System.gc();
+    long heapBefore = usedHeap();
+    long buildStart = System.nanoTime();
+    SpaceSimilarityIndex index = new SpaceSimilarityIndex(0.3);
+    index.ensureLoaded(() -> entries);
+    long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+    System.gc();
+    System.out.printf(
+        Locale.ROOT,
+        "[build] templates=%d elapsed=%dms retained≈%.1fMB%n",
+        index.size(),
+        buildMillis,
+        (usedHeap() - heapBefore) / 1024.0 / 1024.0);
+
+    Random random = new Random(7);
+    List<SpaceSimilarityIndex.Entry> queries = new ArrayList<>(QUERIES);
+    for (int i = 0; i < QUERIES; i++) {
+      queries.add(entries.get(random.nextInt(entries.size())));
+    }
+
+    // 재현율: 서명 전체 순회로 찾은 유사 템플릿 중 LSH가 찾은 비율 (같은 서명 기준이므로 MinHash 추정 오차는 빼고 LSH 손실만 봄)
+    for (double threshold : new double[] {0.9, 0.8, 0.7, 0.6, 0.5}) {
+      long expected = 0;
+      long found = 0;
+      for (SpaceSimilarityIndex.Entry query : queries) {
+        Set<Long> truth = scan(query, threshold);
+        Set<Long> lsh = new HashSet<>();
+        index.query(query.signature(), query.templateId(), threshold, Integer.MAX_VALUE)
+            .forEach(match -> lsh.add(match.templateId()));
+        expected += truth.size();
+        truth.retainAll(lsh);
+        found += truth.size();
+      }
+      double recall = expected == 0 ? 1.0 : (double) found / expected;
+      System.out.printf(
+          Locale.ROOT, "[recall] minSimilarity=%.1f expected=%d found=%d recall=%.3f%n", threshold, expected, found, recall);
+      if (threshold >= 0.7) {
+        assertThat(recall).isGreaterThan(0.9);
+      }
+    }
+
+    // 워밍업 (JIT)
+    LoadRunner.run(1, 2_000, () -> index.query(queries.get(random.nextInt(QUERIES)).signature(), -1, 0.7, LIMIT));
+
+    LoadRunner.Result lsh =
+        LoadRunner.run(
+            CONCURRENCY,
+            ITERATIONS,
+            () -> {
+              SpaceSimilarityIndex.Entry query = queries.get(random.nextInt(QUERIES));
+              return index.query(query.signature(), query.templateId(), 0.7, LIMIT);
+            });
+    LoadRunner.Result scan =
+        LoadRunner.run(1, SCAN_ITERATIONS, () -> scan(queries.get(random.nextInt(QUERIES)), 0.7));
+    System.out.println(lsh.summary("lsh minSimilarity=0.7"));
+    System.out.println(scan.summary("scan minSimilarity=0.7"));
+
+    assertThat(lsh.errors()).isZero();
+    assertThat(lsh.percentileMillis(50)).isLessThan(scan.percentileMillis(50));
+  }
+
+  private static Set<Long> scan(SpaceSimilarityIndex.Entry query, double threshold) {
+    Set<Long> similar = new HashSet<>();
+    for (SpaceSimilarityIndex.Entry entry : entries) {
+      if (entry.templateId() != query.templateId()
+          && TemplateMinHash.similarity(query.signature(), entry.signature()) >= threshold) {
+        similar.add(entry.templateId());
+      }
+    }
+    return similar;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
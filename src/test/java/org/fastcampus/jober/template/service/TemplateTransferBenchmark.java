@@ -0,0 +1,219 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.fastcampus.jober.template.dto.response.TemplateImportResponseDto;
+import org.fastcampus.jober.user.dto.CustomUserDetails;
+
+/**
+ * 템플릿 100만 건 NDJSON 내보내기 중 힙 사용량이 늘지 않는지 확인하고, 가져오기 JDBC 배치 처리량을 잽니다. (./gradlew benchmark)
+ *
+ * <p>인메모리 H2는 데이터 자체가 힙에 있으므로 파일 H2(LAZY_QUERY_EXECUTION=1로 결과를 나눠 읽음)를 쓰고, 내보내기가 실제
+ * 요청처럼 자체 읽기 트랜잭션을 열도록 테스트 트랜잭션 없이 실행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest(
+    properties =
+        "spring.datasource.url=jdbc:h2:file:./build/benchmark/template-transfer;LAZY_QUERY_EXECUTION=1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({
+  TemplateTransferService.class,
+  TemplateVariableService.class,
+  TemplateSearchIndex.class,
+  TemplateSimilarityIndex.class,
+  TemplateTransferBenchmark.Config.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TemplateTransferBenchmark {
+
+  private static final int EXPORT_ROWS = 1_000_000;
+  private static final int IMPORT_ROWS = 100_000;
+  private static final int INSERT_CHUNK = 10_000;
+  // 이 바이트 수만큼 쓸 때마다 GC 후 힙 사용량을 기록
+  private static final long SAMPLE_BYTES = 32L * 1024 * 1024;
+  private static final long MAX_HEAP_GROWTH = 32L * 1024 * 1024;
+
+  @Autowired private TemplateTransferService templateTransferService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private long spaceId;
+  private CustomUserDetails principal;
+
+  @TestConfiguration
+  static class Config {
+    @Bean
+    ObjectMapper objectMapper() {
+      return new ObjectMapper();
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.update(
+        "INSERT INTO users (username, password, name, email, is_deleted, created_at) VALUES (?, ?, ?, ?, false, ?)",
+        "transfer", "-", "벤치마크", "transfer@example.com", now);
+    long userId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+    jdbcTemplate.update(
+        "INSERT INTO space (space_name, admin_user_id, created_at) VALUES (?, ?, ?)", "벤치마크", userId, now);
+    spaceId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM space", Long.class);
+    jdbcTemplate.update(
+        "INSERT INTO space_member (authority, space_id, user_id, is_deleted, created_at) VALUES ('ADMIN', ?, ?, false, ?)",
+        spaceId, userId, now);
+    principal = new CustomUserDetails(userId, "transfer", "-", List.of());
+
+    List<Object[]> rows = new ArrayList<>(INSERT_CHUNK);
+    for (int i = 0; i < EXPORT_ROWS; i++) {
+      rows.add(new Object[] {spaceId, "템플릿 " + i, "설명 " + i, body(i), "{\"고객명\":\"홍길동\"}", now});
+      if (rows.size() == INSERT_CHUNK) {
+        insert(rows);
+        rows.clear();
+      }
+    }
+    insert(rows);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("TRUNCATE TABLE template_variable");
+    jdbcTemplate.execute("TRUNCATE TABLE template");
+    jdbcTemplate.update("DELETE FROM space_member");
+    jdbcTemplate.update("DELETE FROM space");
+    jdbcTemplate.update("DELETE FROM users");
+  }
+
+  private void insert(List<Object[]> rows) {
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO template (space_id, title, description, template, editable_variables, is_deleted,"
+            + " is_accepted, created_at) VALUES (?, ?, ?, ?, ?, false, false, ?)",
+        rows);
+  }
+
+  private static String body(int i) {
+    return "#{고객명}님, 주문번호 " + i + "번 상품이 #{배송일}에 출발합니다. 배송 조회는 아래 버튼을 눌러 확인해 주세요.";
+  }
+
+  @Test
+  void exports1mTemplatesWithoutHeapGrowth() throws Exception {
+    HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+    long start = System.nanoTime();
+    long rows = templateTransferService.export(spaceId, out);
+    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+    System.out.printf(
+        Locale.ROOT,
+        "[export] rows=%d bytes=%.1fMB elapsed=%.1fs throughput=%.0f rows/s heap baseline=%.1fMB max growth=%.1fMB"
+            + " samples=%d%n",
+        rows,
+        out.bytes / 1024.0 / 1024.0,
+        seconds,
+        rows / seconds,
+        out.baseline / 1024.0 / 1024.0,
+        out.maxGrowth / 1024.0 / 1024.0,
+        out.samples);
+
+    assertThat(rows).isEqualTo(EXPORT_ROWS);
+    assertThat(out.samples).isGreaterThan(3);
+    assertThat(out.maxGrowth).isLessThan(MAX_HEAP_GROWTH);
+
+    // 가져오기: 내보낸 형식 그대로 10만 줄 (배치마다 멤버 확인 1번 + JDBC 배치 insert)
+    StringBuilder ndjson = new StringBuilder();
+    for (int i = 0; i < IMPORT_ROWS; i++) {
+      ndjson
+          .append("{\"templateId\":")
+          .append(i)
+          .append(",\"title\":\"가져온 템플릿 ")
+          .append(i)
+          .append("\",\"template\":\"")
+          .append(body(i))
+          .append("\",\"editableVariables\":\"{\\\"고객명\\\":\\\"홍길동\\\"}\",\"hasImage\":false}\n");
+    }
+    ndjson.append("{\"title\":\"본문 없음\"}\n").append("{깨진 줄\n");
+    start = System.nanoTime();
+    TemplateImportResponseDto result =
+        templateTransferService.importTemplates(
+            principal, spaceId, new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+    seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+    System.out.printf(
+        Locale.ROOT,
+        "[import] rows=%d skipped=%d batches=%d elapsed=%.1fs throughput=%.0f rows/s errors=%s%n",
+        result.getImported(),
+        result.getSkipped(),
+        result.getBatches(),
+        seconds,
+        result.getImported() / seconds,
+        result.getErrors());
+
+    assertThat(result.getImported()).isEqualTo(IMPORT_ROWS);
+    assertThat(result.getSkipped()).isEqualTo(2);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM template_variable", Long.class))
+        .isEqualTo(IMPORT_ROWS * 2L);
+  }
+
+  /** 받은 바이트를 버리면서 SAMPLE_BYTES마다 GC 후 힙 사용량을 기록합니다. */
+  private static final class HeapSamplingOutputStream extends OutputStream {
+    private final long baseline = usedHeapAfterGc();
+    private long bytes;
+    private long nextSample = SAMPLE_BYTES;
+    private long maxGrowth;
+    private int samples;
+
+    @Override
+    public void write(int b) {
+      count(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count(len);
+    }
+
+    private void count(int len) {
+      bytes += len;
+      if (bytes >= nextSample) {
+        nextSample += SAMPLE_BYTES;
+        samples++;
+        maxGrowth = Math.max(maxGrowth, usedHeapAfterGc() - baseline);
+      }
+    }
+
+    private static long usedHeapAfterGc() {
+      System.gc();
+      Runtime runtime = Runtime.getRuntime();
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** 큰 스페이스 내보내기가 결과를 모아 두지 않고 500줄마다 응답으로 흘려보내는지 검증합니다. */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+  TemplateTransferService.class,
+  TemplateVariableService.class,
+  TemplateSearchIndex.class,
+  TemplateSimilarityIndex.class,
+  TemplateTransferServiceTest.Config.class
+})
+@DisplayName("TemplateTransferService 테스트")
+class TemplateTransferServiceTest {
+
+  private static final long SPACE_ID = 1L;
+  private static final long OTHER_SPACE_ID = 2L;
+  private static final int ROWS = 20_000;
+  private static final int FLUSH_ROWS = 500;
+
+  @Autowired private TemplateTransferService templateTransferService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @TestConfiguration
+  static class Config {
+    @Bean
+    ObjectMapper objectMapper() {
+      return new ObjectMapper();
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
+  private void insert(long spaceId, int count, boolean deleted) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      rows.add(new Object[] {spaceId, "템플릿 " + i, "#{고객명}님, 주문번호 " + i + "번", deleted, now});
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO template (space_id, title, template, is_deleted, is_accepted, created_at)"
+            + " VALUES (?, ?, ?, ?, false, ?)",
+        rows);
+  }
+
+  @Test
+  @DisplayName("큰 스페이스 내보내기는 500줄마다 응답으로 흘려보내고 버퍼에 쌓아 두지 않는다")
+  void flushesExportIncrementally() throws Exception {
+    insert(SPACE_ID, ROWS, false);
+    insert(SPACE_ID, 10, true);
+    insert(OTHER_SPACE_ID, 10, false);
+    FlushRecordingOutputStream out = new FlushRecordingOutputStream();
+
+    long rows = templateTransferService.export(SPACE_ID, out);
+
+    assertThat(rows).isEqualTo(ROWS);
+    assertThat(out.lines()).isEqualTo(ROWS);
+    // 500줄마다 flush하고, flush 사이에 쓰인 양은 500줄 분량을 넘지 않음
+    assertThat(out.linesAtFlush).hasSizeGreaterThanOrEqualTo(ROWS / FLUSH_ROWS);
+    assertThat(out.linesAtFlush.get(0)).isEqualTo(FLUSH_ROWS);
+    for (int i = 1; i < out.linesAtFlush.size(); i++) {
+      assertThat(out.linesAtFlush.get(i) - out.linesAtFlush.get(i - 1)).isLessThanOrEqualTo(FLUSH_ROWS);
+    }
+  }
+
+  /** flush될 때마다 그때까지 받은 줄 수를 기록합니다. */
+  private static final class FlushRecordingOutputStream extends ByteArrayOutputStream {
+    private final List<Long> linesAtFlush = new ArrayList<>();
+
+    @Override
+    public void flush() {
+      linesAtFlush.add(lines());
+    }
+
+    long lines() {
+      return toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count();
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.fastcampus.jober.template.entity.TemplateContent;
+import org.fastcampus.jober.template.entity.TemplateVersion;
+
+/**
+ * 템플릿 하나를 200번 고쳐 저장하는 상황에서, 매번 전체를 복사하는 기존 방식과 변경분+스냅샷 방식의 저장 크기, 그리고 임의 버전
+ * 복원 지연을 스냅샷 간격별로 비교합니다. TemplateVersionService.record와 같은 규칙으로 payload를 만듭니다. (./gradlew
+ * benchmark)
+ */
+@Tag("benchmark")
+class TemplateVersionBenchmark {
+
+  private static final int VERSIONS = 200;
+  private static final int READS = 5_000;
+  private static final double MAX_DELTA_RATIO = 0.5;
+
+  private static final String[] SENTENCES = {
+    "#{고객명}님, 요청하신 내용이 정상적으로 처리되었습니다.",
+    "자세한 내용은 아래 버튼을 눌러 확인해 주세요.",
+    "주문번호 #{주문번호}의 상품이 #{배송일}에 출발합니다.",
+    "쿠폰 #{쿠폰코드}은 발급일로부터 30일 동안 사용할 수 있습니다.",
+    "문의 사항은 고객센터 #{연락처}로 연락 주시기 바랍니다.",
+    "이용해 주셔서 감사합니다. 더 나은 서비스로 보답하겠습니다."
+  };
+
+  @Test
+  void deltaChainVersusFullCopies() {
+    List<TemplateContent> history = history(new Random(42));
+    long fullCopyBytes = history.stream().mapToLong(TemplateContent::bodySize).sum();
+    System.out.printf("[full copy] versions=%d stored=%dKB%n", VERSIONS, fullCopyBytes / 1024);
+
+    for (int interval : new int[] {1, 5, 10, 20, 50}) {
+      List<TemplateVersion> chain = encode(history, interval);
+      long stored = chain.stream().mapToLong(v -> v.getPayload().length).sum();
+      // Template 행이 현재 버전을 전체로 들고 있으므로 그 크기도 함께 계산
+      long withHead = stored + history.get(VERSIONS - 1).bodySize();
+      long snapshots = chain.stream().filter(TemplateVersion::getSnapshot).count();
+
+      Random random = new Random(7);
+      long[] latencies = new long[READS];
+      for (int i = 0; i < READS; i++) {
+        int target = 1 + random.nextInt(VERSIONS);
+        long start = System.nanoTime();
+        TemplateContent restored = reconstruct(chain, target);
+        latencies[i] = System.nanoTime() - start;
+        assertThat(restored.template()).isEqualTo(history.get(target - 1).template());
+      }
+      Arrays.sort(latencies);
+      System.out.printf(
+          "[interval=%d] snapshots=%d stored=%dKB (+head %dKB, %.1f%% of full copy) read p50=%.1fus p99=%.1fus max=%.1fus%n",
+          interval,
+          snapshots,
+          stored / 1024,
+          withHead / 1024,
+          withHead * 100.0 / fullCopyBytes,
+          latencies[READS / 2] / 1_000.0,
+          latencies[READS * 99 / 100] / 1_000.0,
+          latencies[READS - 1] / 1_000.0);
+      if (interval == 10) {
+        assertThat(withHead).isLessThan(fullCopyBytes / 4);
+      }
+    }
+  }
+
+  /** 한두 문장씩 고치거나 더하는 편집을 이어서 만든 버전 이력 */
+  private static List<TemplateContent> history(Random random) {
+    List<String> sentences = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      sentences.add(SENTENCES[random.nextInt(SENTENCES.length)]);
+    }
+    List<TemplateContent> history = new ArrayList<>();
+    for (int v = 0; v < VERSIONS; v++) {
+      int at = random.nextInt(sentences.size());
+      switch (random.nextInt(3)) {
+        case 0 -> sentences.set(at, SENTENCES[random.nextInt(SENTENCES.length)] + " (" + v + ")");
+        case 1 -> sentences.add(at, "버전 " + v + "에서 추가한 안내 문장입니다.");
+        default -> sentences.remove(at);
+      }
+      String template = String.join("\n", sentences);
+      String structured = "{\"title\":\"안내 " + (v / 20) + "\",\"text\":\"" + template.replace("\n", "\\n") + "\"}";
+      String variables = "{\"고객명\":\"홍길동\",\"배송일\":\"2024-01-" + (1 + v % 28) + "\"}";
+      history.add(new TemplateContent("안내", null, "알림", false, template, structured, variables));
+    }
+    return history;
+  }
+
+  private static List<TemplateVersion> encode(List<TemplateContent> history, int interval) {
+    List<TemplateVersion> chain = new ArrayList<>();
+    int lastSnapshot = 0;
+    for (int v = 1; v <= history.size(); v++) {
+      TemplateContent content = history.get(v - 1);
+      byte[] payload = null;
+      if (v > 1 && v - lastSnapshot < interval) {
+        byte[] delta = TemplateVersionCodec.delta(history.get(v - 2), content);
+        if (delta.length <= content.bodySize() * MAX_DELTA_RATIO) {
+          payload = delta;
+        }
+      }
+      boolean snapshot = payload == null;
+      if (snapshot) {
+        payload = TemplateVersionCodec.snapshot(content);
+        lastSnapshot = v;
+      }
+      chain.add(
+          TemplateVersion.builder()
+              .version(v)
+              .snapshot(snapshot)
+              .title(content.title())
+              .type(content.type())
+              .hasImage(content.hasImage())
+              .payload(payload)
+              .build());
+    }
+    return chain;
+  }
+
+  /** TemplateVersionService.reconstruct와 같은 순서: 가장 가까운 스냅샷부터 목표 버전까지 */
+  private static TemplateContent reconstruct(List<TemplateVersion> chain, int version) {
+    int from = version;
+    while (!chain.get(from - 1).getSnapshot()) {
+      from--;
+    }
+    TemplateContent content = null;
+    for (int v = from; v <= version; v++) {
+      content = TemplateVersionCodec.decode(content, chain.get(v - 1));
+    }
+    return content;
+  }
+}
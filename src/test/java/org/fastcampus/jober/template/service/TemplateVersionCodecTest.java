@@ -0,0 +1,93 @@
+package org.fastcampus.jober.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.fastcampus.jober.template.entity.TemplateContent;
+import org.fastcampus.jober.template.entity.TemplateVersion;
+
+/** 변경분/스냅샷 payload가 원래 내용으로 정확히 복원되는지, 작은 수정이 작은 변경분으로 남는지 검증합니다. */
+@DisplayName("TemplateVersionCodec 테스트")
+class TemplateVersionCodecTest {
+
+  private static final String BODY =
+      "안녕하세요, #{고객명}님! 주문하신 상품이 #{배송일}에 출발합니다. 문의는 고객센터로 연락 주세요.\n".repeat(60);
+
+  private static TemplateContent content(String template, String structured, String variables) {
+    return new TemplateContent("제목", "설명", "알림", false, template, structured, variables);
+  }
+
+  private static TemplateVersion version(int number, byte[] payload) {
+    return TemplateVersion.builder()
+        .version(number)
+        .snapshot(false)
+        .title("제목")
+        .description("설명")
+        .type("알림")
+        .hasImage(false)
+        .payload(payload)
+        .build();
+  }
+
+  @Test
+  @DisplayName("스냅샷과 변경분을 차례로 적용하면 각 버전 내용이 복원된다")
+  void reconstructsChain() {
+    TemplateContent v1 = content(BODY, "{\"title\":\"환영\"}", null);
+    TemplateContent v2 = content(BODY.replace("출발합니다", "도착했습니다"), "{\"title\":\"환영\"}", "{\"고객명\":\"\"}");
+    TemplateContent v3 = content("🎉 " + v2.template() + "감사합니다 😀", null, v2.editableVariables());
+
+    TemplateContent decoded = TemplateVersionCodec.decode(null, version(1, TemplateVersionCodec.snapshot(v1)));
+    assertThat(decoded).isEqualTo(v1);
+    decoded = TemplateVersionCodec.decode(decoded, version(2, TemplateVersionCodec.delta(v1, v2)));
+    assertThat(decoded).isEqualTo(v2);
+    decoded = TemplateVersionCodec.decode(decoded, version(3, TemplateVersionCodec.delta(v2, v3)));
+    assertThat(decoded).isEqualTo(v3);
+  }
+
+  @Test
+  @DisplayName("작은 수정의 변경분은 본문 크기의 일부만 차지한다")
+  void smallEditsProduceSmallDeltas() {
+    TemplateContent before = content(BODY, null, null);
+    TemplateContent after =
+        content(BODY.substring(0, 1000) + "추가된 문장입니다. " + BODY.substring(1000, 2500) + BODY.substring(2600), null, null);
+
+    byte[] delta = TemplateVersionCodec.delta(before, after);
+
+    assertThat(delta.length).isLessThan(100);
+    assertThat(TemplateVersionCodec.decode(before, version(2, delta))).isEqualTo(after);
+  }
+
+  @Test
+  @DisplayName("무작위 삽입/삭제(이모지 포함)도 그대로 복원된다")
+  void randomEditsRoundTrip() {
+    Random random = new Random(42);
+    String alphabet = "가나다라 abc{}#\"😀,:\n";
+    int[] codePoints = alphabet.codePoints().toArray();
+    for (int round = 0; round < 2_000; round++) {
+      StringBuilder base = new StringBuilder();
+      int length = random.nextInt(400);
+      for (int i = 0; i < length; i++) {
+        base.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+      }
+      StringBuilder edited = new StringBuilder(base);
+      for (int e = 0; e < 3 && edited.length() > 0; e++) {
+        int at = edited.offsetByCodePoints(0, random.nextInt(edited.codePointCount(0, edited.length())));
+        if (random.nextBoolean()) {
+          edited.insert(at, "새 문구😀" + e);
+        } else {
+          int end = edited.offsetByCodePoints(at, Math.min(5, edited.codePointCount(at, edited.length())));
+          edited.delete(at, end);
+        }
+      }
+      TemplateContent before = content(base.toString(), null, null);
+      TemplateContent after = content(edited.toString(), null, null);
+
+      assertThat(TemplateVersionCodec.decode(before, version(2, TemplateVersionCodec.delta(before, after))))
+          .isEqualTo(after);
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.util.AiCallRetrier.Attempt;
+import org.fastcampus.jober.util.AiCallRetrier.Result;
+
+/** 일시적 오류만 재시도하는지, 헤지가 느린 시도를 대신하는지, 모든 시도가 같은 Idempotency-Key를 쓰는지 검증합니다. */
+@DisplayName("AiCallRetrier 테스트")
+class AiCallRetrierTest {
+
+  private static final Map<String, Object> BODY = Map.of("state", Map.of("step", "initial"));
+
+  private AiFlaskProps props;
+  private SimpleMeterRegistry meterRegistry;
+  private final List<Attempt> attempts = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    props = new AiFlaskProps();
+    props.getRetry().setInitialBackoff(Duration.ofMillis(1));
+    props.getRetry().setMaxBackoff(Duration.ofMillis(5));
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  /** doPostJson처럼 HTTP 예외를 RuntimeException으로 감싸 던집니다. */
+  private static RuntimeException wrapped(RuntimeException cause) {
+    return new RuntimeException("AI Flask 서버 호출 중 오류가 발생했습니다", cause);
+  }
+
+  @Test
+  @DisplayName("503은 같은 키로 재시도하고 성공까지의 시도 수를 돌려준다")
+  void retriesTransientErrorsWithSameKey() {
+    AiCallRetrier retrier = new AiCallRetrier(props, meterRegistry);
+
+    Result<String> result =
+        retrier.execute(
+            BODY,
+            attempt -> {
+              attempts.add(attempt);
+              if (attempt.number() < 3) {
+                throw wrapped(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+              }
+              return "ok";
+            });
+
+    assertThat(result.value()).isEqualTo("ok");
+    assertThat(result.attempts()).isEqualTo(3);
+    assertThat(attempts).extracting(Attempt::number).containsExactly(1, 2, 3);
+    assertThat(attempts).extracting(Attempt::idempotencyKey).containsOnly(attempts.get(0).idempotencyKey());
+    assertThat(meterRegistry.counter("ai.call.retries").count()).isEqualTo(2.0);
+    assertThat(meterRegistry.get("ai.call.attempts").tag("outcome", "success").summary().totalAmount())
+        .isEqualTo(3.0);
+  }
+
+  @Test
+  @DisplayName("4xx와 재시도 불가 단계는 한 번만 시도한다")
+  void doesNotRetryNonTransientOrNonIdempotent() {
+    AiCallRetrier retrier = new AiCallRetrier(props, meterRegistry);
+    assertThatThrownBy(
+            () ->
+                retrier.execute(
+                    BODY,
+                    attempt -> {
+                      attempts.add(attempt);
+                      throw wrapped(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+                    }))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(attempts).hasSize(1);
+
+    props.getRetry().setIdempotentSteps(List.of("confirm"));
+    AiCallRetrier stepLimited = new AiCallRetrier(props, new SimpleMeterRegistry());
+    assertThatThrownBy(
+            () ->
+                stepLimited.execute(
+                    BODY,
+                    attempt -> {
+                      attempts.add(attempt);
+                      throw wrapped(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+                    }))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(attempts).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("연결 실패는 재시도하고, 응답 대기 타임아웃은 AI 서버가 처리 중일 수 있어 재시도하지 않는다")
+  void retriesConnectFailuresButNotReadTimeouts() {
+    AiCallRetrier retrier = new AiCallRetrier(props, meterRegistry);
+
+    Result<String> result =
+        retrier.execute(
+            BODY,
+            attempt -> {
+              attempts.add(attempt);
+              if (attempt.number() == 1) {
+                throw wrapped(new ResourceAccessException("connect", new ConnectException("refused")));
+              }
+              return "ok";
+            });
+    assertThat(result.attempts()).isEqualTo(2);
+
+    attempts.clear();
+    assertThatThrownBy(
+            () ->
+                retrier.execute(
+                    BODY,
+                    attempt -> {
+                      attempts.add(attempt);
+                      throw wrapped(
+                          new ResourceAccessException("read", new SocketTimeoutException("Read timed out")));
+                    }))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(attempts).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("첫 시도부터 max-elapsed가 지나면 횟수가 남아도 재시도하지 않는다")
+  void stopsRetryingAfterDeadline() {
+    props.getRetry().setMaxAttempts(10);
+    props.getRetry().setInitialBackoff(Duration.ofMillis(20));
+    props.getRetry().setMaxBackoff(Duration.ofMillis(20));
+    props.getRetry().setJitter(0);
+    props.getRetry().setMaxElapsed(Duration.ofMillis(50));
+    AiCallRetrier retrier = new AiCallRetrier(props, meterRegistry);
+
+    assertThatThrownBy(
+            () ->
+                retrier.execute(
+                    BODY,
+                    attempt -> {
+                      attempts.add(attempt);
+                      throw wrapped(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+                    }))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(attempts).hasSizeBetween(2, 3);
+
+    attempts.clear();
+    Mono<Result<String>> call =
+        retrier.executeAsync(
+            BODY,
+            attempt -> {
+              attempts.add(attempt);
+              return Mono.error(wrapped(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)));
+            });
+    assertThatThrownBy(() -> call.block(Duration.ofSeconds(5)))
+        .hasRootCauseInstanceOf(HttpServerErrorException.class);
+    assertThat(attempts).hasSizeBetween(2, 3);
+  }
+
+  @Test
+  @DisplayName("비동기 호출도 일시적 오류를 재시도하고 횟수를 넘기면 마지막 오류로 실패한다")
+  void asyncRetriesUntilExhausted() {
+    AiCallRetrier retrier = new AiCallRetrier(props, meterRegistry);
+
+    Mono<Result<String>> call =
+        retrier.executeAsync(
+            BODY,
+            attempt -> {
+              attempts.add(attempt);
+              return Mono.error(wrapped(new HttpServerErrorException(HttpStatus.GATEWAY_TIMEOUT)));
+            });
+
+    assertThatThrownBy(() -> call.block(Duration.ofSeconds(5)))
+        .hasRootCauseInstanceOf(HttpServerErrorException.class);
+    assertThat(attempts).hasSize(3);
+    assertThat(meterRegistry.get("ai.call.attempts").tag("outcome", "failure").summary().max())
+        .isEqualTo(3.0);
+  }
+
+  @Test
+  @DisplayName("첫 시도가 헤지 지연을 넘기면 두 번째 시도의 응답을 사용한다")
+  void hedgeWinsWhenPrimaryIsSlow() {
+    props.getHedge().setEnabled(true);
+    props.getHedge().setInitialDelay(Duration.ofMillis(50));
+    AiCallRetrier retrier = new AiCallRetrier(props, meterRegistry);
+
+    Result<String> result =
+        retrier
+            .executeAsync(
+                BODY,
+                attempt -> {
+                  attempts.add(attempt);
+                  return attempt.number() == 1 ? Mono.never() : Mono.just("hedged");
+                })
+            .block(Duration.ofSeconds(5));
+
+    assertThat(result.value()).isEqualTo("hedged");
+    assertThat(result.attempts()).isEqualTo(2);
+    assertThat(attempts).extracting(Attempt::idempotencyKey).containsOnly(attempts.get(0).idempotencyKey());
+    assertThat(meterRegistry.counter("ai.call.hedges").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("재시도 간격은 지수적으로 늘고 maxBackoff를 넘지 않는다")
+  void backoffIsBoundedWithJitter() {
+    props.getRetry().setInitialBackoff(Duration.ofMillis(100));
+    props.getRetry().setMaxBackoff(Duration.ofMillis(300));
+    props.getRetry().setJitter(0.5);
+    AiCallRetrier retrier = new AiCallRetrier(props, meterRegistry);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(retrier.backoff(1)).isBetween(Duration.ofMillis(50), Duration.ofMillis(150));
+      assertThat(retrier.backoff(5)).isBetween(Duration.ofMillis(150), Duration.ofMillis(300));
+    }
+  }
+}
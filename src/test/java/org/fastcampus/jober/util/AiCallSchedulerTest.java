@@ -0,0 +1,143 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.util.AiCallScheduler.Permit;
+import org.fastcampus.jober.util.AiCallScheduler.Priority;
+
+/** 슬롯 1개짜리 스케줄러로 스페이스 간 공정 분배, 우선순위 가중치, 대기열 제한을 검증합니다. */
+@DisplayName("AiCallScheduler 테스트")
+class AiCallSchedulerTest {
+
+  private AiFlaskProps props;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    props = new AiFlaskProps();
+    props.getScheduler().setMaxConcurrent(1);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  /** 슬롯을 받은 순서를 기록하고, 받은 슬롯은 permits에 보관합니다. */
+  private final List<String> order = new CopyOnWriteArrayList<>();
+
+  private final List<Permit> permits = new CopyOnWriteArrayList<>();
+
+  private Disposable enqueue(AiCallScheduler scheduler, long spaceId, Priority priority) {
+    return scheduler
+        .acquire(AiCallScheduler.spaceQueue(spaceId), priority)
+        .subscribe(
+            permit -> {
+              order.add(priority.name().charAt(0) + ":" + spaceId);
+              permits.add(permit);
+            },
+            error -> order.add("rejected:" + spaceId));
+  }
+
+  /** 가장 먼저 받은 슬롯부터 하나씩 반납하며 대기열을 모두 비웁니다. */
+  private void drain() {
+    for (int i = 0; i < permits.size(); i++) {
+      permits.get(i).release();
+    }
+  }
+
+  @Test
+  @DisplayName("한 스페이스가 요청을 몰아 보내도 다른 스페이스는 번갈아 슬롯을 받는다")
+  void roundRobinAcrossSpaces() {
+    AiCallScheduler scheduler = new AiCallScheduler(props, meterRegistry);
+    enqueue(scheduler, 0, Priority.INTERACTIVE); // 슬롯 점유
+    for (int i = 0; i < 10; i++) {
+      enqueue(scheduler, 1, Priority.INTERACTIVE);
+    }
+    enqueue(scheduler, 2, Priority.INTERACTIVE);
+    enqueue(scheduler, 2, Priority.INTERACTIVE);
+
+    assertThat(
+            meterRegistry
+                .get("ai.scheduler.queue.depth")
+                .tag("priority", "INTERACTIVE")
+                .gauge()
+                .value())
+        .isEqualTo(12.0);
+    drain();
+
+    assertThat(order.subList(1, 6)).containsExactly("I:1", "I:2", "I:1", "I:2", "I:1");
+    assertThat(order).hasSize(13);
+  }
+
+  @Test
+  @DisplayName("우선순위 등급은 가중치 비율로 슬롯을 받고 낮은 등급도 굶지 않는다")
+  void weightedAcrossPriorities() {
+    AiCallScheduler scheduler = new AiCallScheduler(props, meterRegistry);
+    enqueue(scheduler, 0, Priority.INTERACTIVE);
+    for (int i = 0; i < 20; i++) {
+      enqueue(scheduler, 1, Priority.BACKGROUND);
+      enqueue(scheduler, 2, Priority.INTERACTIVE);
+    }
+    drain();
+
+    List<String> firstTen = new ArrayList<>(order.subList(1, 11));
+    // 기본 가중치 6:1 → 7번 중 6번은 INTERACTIVE, 1번은 BACKGROUND
+    assertThat(firstTen).filteredOn(s -> s.startsWith("B")).hasSizeBetween(1, 2);
+    assertThat(firstTen).filteredOn(s -> s.startsWith("I")).hasSizeGreaterThanOrEqualTo(8);
+    assertThat(meterRegistry.get("ai.scheduler.wait").tag("priority", "BACKGROUND").timer().count())
+        .isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("대기 중에 취소된 호출은 대기열에서 빠지고 슬롯을 가져가지 않는다")
+  void cancelledWaiterIsSkipped() {
+    AiCallScheduler scheduler = new AiCallScheduler(props, meterRegistry);
+    enqueue(scheduler, 0, Priority.INTERACTIVE);
+    Disposable gone = enqueue(scheduler, 1, Priority.INTERACTIVE);
+    enqueue(scheduler, 2, Priority.INTERACTIVE);
+
+    gone.dispose();
+    drain();
+
+    assertThat(order).containsExactly("I:0", "I:2");
+  }
+
+  @Test
+  @DisplayName("스페이스 대기열이 가득 차거나 대기 시간이 지나면 거절된다")
+  void rejectsWhenQueueFullOrTimedOut() {
+    props.getScheduler().setMaxQueuePerSpace(1);
+    props.getScheduler().setMaxWait(Duration.ofMillis(100));
+    AiCallScheduler scheduler = new AiCallScheduler(props, meterRegistry);
+    enqueue(scheduler, 0, Priority.INTERACTIVE);
+    enqueue(scheduler, 1, Priority.INTERACTIVE);
+
+    assertThatThrownBy(() -> scheduler.acquire(AiCallScheduler.spaceQueue(1), Priority.INTERACTIVE).block())
+        .isInstanceOf(AiCallRejectedException.class);
+    assertThatThrownBy(() -> scheduler.acquire(AiCallScheduler.spaceQueue(2), Priority.INTERACTIVE).block())
+        .isInstanceOf(AiCallRejectedException.class);
+
+    assertThat(
+            meterRegistry
+                .counter("ai.scheduler.rejected", "priority", "INTERACTIVE", "reason", "queue_full")
+                .count())
+        .isEqualTo(1.0);
+    // 먼저 대기열에 들어간 스페이스 1의 호출도 같은 이유로 타임아웃
+    assertThat(order).contains("rejected:1");
+    assertThat(
+            meterRegistry
+                .counter("ai.scheduler.rejected", "priority", "INTERACTIVE", "reason", "timeout")
+                .count())
+        .isEqualTo(2.0);
+  }
+}
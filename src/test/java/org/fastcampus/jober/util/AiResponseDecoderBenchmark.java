@@ -0,0 +1,146 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.fastcampus.jober.template.dto.request.TemplateState;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+
+/**
+ * AI 응답 파싱 비용 비교: 기존 경로(DTO 역직렬화 → Map 변환 → state 재직렬화/재파싱)와 AiResponseDecoder의 단일 패스 파싱.
+ * structured_templates 개수를 늘려 가며 호출당 할당 바이트와 지연 시간을 측정합니다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class AiResponseDecoderBenchmark {
+
+  private static final int WARMUP = 2_000;
+  private static final int ITERATIONS = 5_000;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final AiResponseDecoder decoder = new AiResponseDecoder(objectMapper);
+
+  @Test
+  void legacyMapPathVersusStreamingDecoder() throws Exception {
+    for (int templates : new int[] {1, 10, 50}) {
+      byte[] payload = payload(templates);
+      Cost legacy = measure(() -> legacyParse(payload));
+      Cost streaming = measure(() -> decoder.decode(payload));
+
+      System.out.printf(
+          "[structured_templates=%d, %dKB] legacy: %s | streaming: %s%n",
+          templates, payload.length / 1024, legacy, streaming);
+      assertThat(streaming.bytesPerOp()).isLessThan(legacy.bytesPerOp());
+    }
+  }
+
+  @Test
+  void decoderMatchesLegacyResult() throws Exception {
+    byte[] payload = payload(3);
+    assertThat(decoder.decode(payload)).isEqualTo(legacyParse(payload));
+  }
+
+  private interface Parse {
+    TemplateCreateResponseDto run() throws Exception;
+  }
+
+  private static Cost measure(Parse parse) throws Exception {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    for (int i = 0; i < WARMUP; i++) {
+      parse.run();
+    }
+    long threadId = Thread.currentThread().threadId();
+    long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      parse.run();
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+    return new Cost(allocated / ITERATIONS, elapsed / 1_000.0 / ITERATIONS);
+  }
+
+  private record Cost(long bytesPerOp, double microsPerOp) {
+    @Override
+    public String toString() {
+      return String.format("alloc=%dB/op latency=%.1fus/op", bytesPerOp, microsPerOp);
+    }
+  }
+
+  /** 변경 전 ExternalApiUtil.postJson + parseAiResponse 경로를 그대로 재현합니다. */
+  @SuppressWarnings("unchecked")
+  private TemplateCreateResponseDto legacyParse(byte[] payload) throws Exception {
+    TemplateCreateResponseDto typed =
+        objectMapper.readValue(payload, TemplateCreateResponseDto.class);
+    Map<String, Object> map = objectMapper.convertValue(typed, Map.class);
+
+    TemplateCreateResponseDto dto = new TemplateCreateResponseDto();
+    dto.setSuccess(map.get("success") instanceof Boolean b ? b : false);
+    dto.setResponse(map.get("response") != null ? map.get("response").toString() : null);
+    dto.setTemplate(map.get("template") != null ? map.get("template").toString() : null);
+    dto.setOptions(
+        map.get("options") instanceof List<?> l ? (List<String>) l : Collections.emptyList());
+    dto.setStructuredTemplate(map.get("structured_template"));
+    dto.setStructuredTemplates(
+        map.get("structured_templates") instanceof List<?> l
+            ? (List<Object>) l
+            : Collections.emptyList());
+    dto.setEditableVariables(
+        map.get("editable_variables") instanceof Map<?, ?> m
+            ? (Map<String, Object>) m
+            : Collections.emptyMap());
+    dto.setHasImage(map.get("hasImage") instanceof Boolean b ? b : false);
+    TemplateState state = new TemplateState();
+    if (map.get("state") instanceof Map<?, ?> stateMap) {
+      state =
+          objectMapper.readValue(objectMapper.writeValueAsString(stateMap), TemplateState.class);
+    }
+    dto.setState(state);
+    return dto;
+  }
+
+  /** 실제 AI 응답과 비슷한 구조의 본문. 템플릿 하나당 약 1KB 입니다. */
+  private byte[] payload(int templates) throws Exception {
+    String body =
+        "안녕하세요, #{고객명}님! #{상품명} 주문이 정상적으로 접수되었습니다. 배송 예정일은 #{배송일}이며, "
+            .repeat(6);
+    List<Map<String, Object>> structured = new ArrayList<>();
+    for (int i = 0; i < templates; i++) {
+      Map<String, Object> template = new LinkedHashMap<>();
+      template.put("title", "주문 접수 안내 " + i);
+      template.put("body", body);
+      template.put("buttons", List.of(Map.of("name", "배송 조회", "linkType", "WL")));
+      template.put("variables", List.of("고객명", "상품명", "배송일"));
+      structured.add(template);
+    }
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("success", true);
+    response.put("response", "템플릿이 생성되었습니다.");
+    response.put("template", body);
+    response.put("options", List.of("기본형", "이미지형", "아이템리스트형"));
+    response.put("structured_template", structured.get(0));
+    response.put("editable_variables", Map.of("고객명", "홍길동", "상품명", "운동화", "배송일", "3일"));
+    response.put("structured_templates", structured);
+    response.put("hasImage", false);
+    response.put(
+        "state",
+        Map.of(
+            "step", "completed",
+            "original_request", "주문 접수 알림톡",
+            "validation_result", Map.of("passed", true, "issues", List.of()),
+            "template_pipeline_state", Map.of("stage", "done", "attempts", 1)));
+    return objectMapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,65 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+
+@DisplayName("AiResponseDecoder 테스트")
+class AiResponseDecoderTest {
+
+  private final AiResponseDecoder decoder = new AiResponseDecoder(new ObjectMapper());
+
+  private TemplateCreateResponseDto decode(String body) throws Exception {
+    return decoder.decode(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("정상 응답은 필드별로 읽고, 타입이 맞지 않는 필드는 기본값으로 채운다")
+  void decodesValidBody() throws Exception {
+    TemplateCreateResponseDto dto =
+        decode(
+            "{\"success\":true,\"response\":\"완료\",\"template\":\"#{고객명}님\",\"options\":\"x\","
+                + "\"editable_variables\":{\"고객명\":\"홍길동\"},\"unknown\":[1,{\"a\":2}],"
+                + "\"state\":{\"step\":\"completed\"}}");
+
+    assertThat(dto.getSuccess()).isTrue();
+    assertThat(dto.getTemplate()).isEqualTo("#{고객명}님");
+    assertThat(dto.getOptions()).isEmpty();
+    assertThat(dto.getEditableVariables()).containsEntry("고객명", "홍길동");
+    assertThat(dto.getState().getStep()).isEqualTo("completed");
+    assertThat(dto.getHasImage()).isFalse();
+  }
+
+  @Test
+  @DisplayName("빈 본문은 JsonProcessingException으로 실패한다")
+  void rejectsEmptyBody() {
+    assertThatThrownBy(() -> decode("")).isInstanceOf(JsonProcessingException.class);
+    assertThatThrownBy(() -> decode("  \n")).isInstanceOf(JsonProcessingException.class);
+  }
+
+  @Test
+  @DisplayName("JSON 객체가 아닌 본문은 JsonProcessingException으로 실패한다")
+  void rejectsNonObjectBody() {
+    assertThatThrownBy(() -> decode("[{\"success\":true}]"))
+        .isInstanceOf(JsonProcessingException.class);
+    assertThatThrownBy(() -> decode("\"ok\"")).isInstanceOf(JsonProcessingException.class);
+  }
+
+  @Test
+  @DisplayName("중간에 끊긴 본문은 JsonProcessingException으로 실패한다")
+  void rejectsTruncatedBody() {
+    assertThatThrownBy(() -> decode("{\"success\":true,\"response\":\"템플릿을"))
+        .isInstanceOf(JsonProcessingException.class);
+    assertThatThrownBy(() -> decode("{\"success\":true,\"options\":[\"a\""))
+        .isInstanceOf(JsonProcessingException.class);
+  }
+}
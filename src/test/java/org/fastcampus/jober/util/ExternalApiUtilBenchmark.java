@@ -0,0 +1,222 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.config.HttpClientConfig;
+import org.fastcampus.jober.support.AiStubServer;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+
+/**
+ * 지연이 긴 AI 서버를 가정하고, 고정 크기 워커 풀(Tomcat 모사)에서 블로킹 postJson과 논블로킹 postJsonAsync의 처리량/스레드 사용량을
+ * 비교합니다. SSE 스트림의 디코딩 경로와 relay 경로의 이벤트당 비용도 측정합니다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class ExternalApiUtilBenchmark {
+
+  private static final int WORKERS = 16;
+  private static final int REQUESTS = 400;
+  private static final Duration AI_LATENCY = Duration.ofMillis(200);
+  private static final int STREAMS = 200;
+  private static final int STREAM_EVENTS = 50;
+
+  private static AiStubServer stub;
+  private static CloseableHttpClient httpClient;
+  private static ExternalApiUtil externalApiUtil;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    stub = AiStubServer.start().latency(AI_LATENCY);
+
+    AiFlaskProps props = new AiFlaskProps();
+    props.setBaseUrl(stub.baseUrl());
+    props.getPool().setMaxTotal(REQUESTS);
+    props.getPool().setMaxPerRoute(REQUESTS);
+
+    HttpClientConfig config = new HttpClientConfig(props);
+    httpClient = config.aiHttpClient();
+    externalApiUtil =
+        new ExternalApiUtil(
+            WebClient.builder(),
+            config.aiClientHttpConnector(),
+            config.restTemplate(httpClient),
+            stub.baseUrl(),
+            new ObjectMapper(),
+            CircuitBreaker.ofDefaults("benchmark"),
+            Bulkhead.of("benchmark", BulkheadConfig.custom().maxConcurrentCalls(REQUESTS).build()),
+            new AiCallRetrier(new AiFlaskProps(), new SimpleMeterRegistry()));
+  }
+
+  @AfterAll
+  static void tearDown() throws Exception {
+    httpClient.close();
+    stub.close();
+  }
+
+  @Test
+  void blockingVersusAsyncOnFixedWorkerPool() throws Exception {
+    Map<String, Object> body = Map.of("message", "환영 메시지", "state", Map.of("step", "initial"));
+    String url = stub.baseUrl() + AiStubServer.CHAT_PATH;
+
+    Measurement blocking =
+        measure(
+            workers ->
+                submitAll(
+                    workers,
+                    () -> {
+                      externalApiUtil.postJson(url, body, TemplateCreateResponseDto.class, "stub");
+                      return CompletableFuture.completedFuture(null);
+                    }));
+
+    Measurement async =
+        measure(
+            workers ->
+                submitAll(
+                    workers,
+                    () ->
+                        externalApiUtil
+                            .postJsonAsync(
+                                AiStubServer.CHAT_PATH, body, TemplateCreateResponseDto.class, "stub")
+                            .toFuture()
+                            .thenAccept(response -> {})));
+
+    System.out.println("[blocking] " + blocking);
+    System.out.println("[async]    " + async);
+
+    assertThat(async.elapsedMillis()).isLessThan(blocking.elapsedMillis());
+  }
+
+  /**
+   * 같은 SSE 스트림을 (1) DTO 디코딩 후 재직렬화하는 기존 경로와 (2) 원본 바이트를 그대로 전달하는 relay 경로로 소비하면서,
+   * 이벤트당 할당 바이트와 스트림당 CPU 시간을 비교합니다. 스트림 소비는 순차 실행이므로 JVM 전체 할당량/프로세스 CPU 시간의 차이가
+   * 곧 해당 경로의 비용입니다.
+   */
+  @Test
+  void decodedStreamVersusRelay() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    Map<String, Object> body = Map.of("message", "환영 메시지", "state", Map.of("step", "initial"));
+    stub.latency(Duration.ZERO).streamEvents(STREAM_EVENTS);
+    try {
+      Runnable decoded =
+          () ->
+              externalApiUtil
+                  .stream(body, AiStubServer.STREAM_PATH)
+                  // MVC가 ServerSentEvent<TemplateCreateResponseDto>를 내보낼 때와 같은 재직렬화
+                  .map(
+                      dto -> {
+                        try {
+                          return objectMapper.writeValueAsBytes(dto);
+                        } catch (Exception e) {
+                          throw new IllegalStateException(e);
+                        }
+                      })
+                  .blockLast();
+      Runnable relay = () -> externalApiUtil.relay(body, AiStubServer.STREAM_PATH).blockLast();
+
+      // 워밍업 (JIT, 커넥션 풀)
+      for (int i = 0; i < STREAMS / 2; i++) {
+        decoded.run();
+        relay.run();
+      }
+      StreamCost decodedCost = measureStreams(decoded);
+      StreamCost relayCost = measureStreams(relay);
+
+      System.out.println("[stream decoded] " + decodedCost);
+      System.out.println("[stream relay]   " + relayCost);
+
+      assertThat(relayCost.bytesPerEvent()).isLessThan(decodedCost.bytesPerEvent());
+    } finally {
+      stub.latency(AI_LATENCY);
+    }
+  }
+
+  private static StreamCost measureStreams(Runnable stream) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    com.sun.management.OperatingSystemMXBean os =
+        (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+    long cpuBefore = os.getProcessCpuTime();
+    for (int i = 0; i < STREAMS; i++) {
+      stream.run();
+    }
+    long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+    long cpuNanos = os.getProcessCpuTime() - cpuBefore;
+    return new StreamCost(
+        allocated / ((long) STREAMS * STREAM_EVENTS), cpuNanos / 1_000.0 / STREAMS);
+  }
+
+  private record StreamCost(long bytesPerEvent, double cpuMicrosPerStream) {
+    @Override
+    public String toString() {
+      return String.format(
+          "streams=%d events/stream=%d alloc/event=%dB cpu/stream=%.1fus",
+          STREAMS, STREAM_EVENTS, bytesPerEvent, cpuMicrosPerStream);
+    }
+  }
+
+  private interface Call {
+    CompletableFuture<Void> start();
+  }
+
+  private interface Scenario {
+    List<CompletableFuture<?>> run(ExecutorService workers) throws Exception;
+  }
+
+  /** 워커는 요청을 시작만 하고 즉시 반환됩니다. 블로킹 호출은 워커 안에서 응답까지 기다립니다. */
+  private static List<CompletableFuture<?>> submitAll(ExecutorService workers, Call call) {
+    List<CompletableFuture<?>> results = new ArrayList<>();
+    for (int i = 0; i < REQUESTS; i++) {
+      results.add(CompletableFuture.supplyAsync(call::start, workers).thenCompose(f -> f));
+    }
+    return results;
+  }
+
+  private static Measurement measure(Scenario scenario) throws Exception {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    threads.resetPeakThreadCount();
+    ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+    long start = System.nanoTime();
+    try {
+      List<CompletableFuture<?>> results = scenario.run(workers);
+      CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+    } finally {
+      workers.shutdownNow();
+    }
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    return new Measurement(elapsedMillis, REQUESTS * 1000.0 / elapsedMillis, threads.getPeakThreadCount());
+  }
+
+  private record Measurement(long elapsedMillis, double throughputPerSec, int peakThreads) {
+    @Override
+    public String toString() {
+      return String.format(
+          "requests=%d workers=%d elapsed=%dms throughput=%.1f/s peakThreads=%d",
+          REQUESTS, WORKERS, elapsedMillis, throughputPerSec, peakThreads);
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.config.AiResilienceConfig;
+import org.fastcampus.jober.config.HttpClientConfig;
+import org.fastcampus.jober.support.AiStubServer;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+
+/** 장애를 주입하는 로컬 AI 스텁 서버를 상대로 서킷 브레이커/bulkhead 동작을 검증합니다. */
+@DisplayName("ExternalApiUtil 서킷 브레이커/bulkhead 테스트")
+class ExternalApiUtilResilienceTest {
+
+  private static final Map<String, Object> BODY =
+      Map.of("message", "환영 메시지", "state", Map.of("step", "initial"));
+
+  private AiStubServer stub;
+  private CloseableHttpClient httpClient;
+  private SimpleMeterRegistry meterRegistry;
+  private CircuitBreaker circuitBreaker;
+  private ExternalApiUtil externalApiUtil;
+  private String url;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    stub = AiStubServer.start();
+    url = stub.baseUrl() + AiStubServer.CHAT_PATH;
+
+    AiFlaskProps props = new AiFlaskProps();
+    props.setBaseUrl(stub.baseUrl());
+    props.getCircuitBreaker().setSlidingWindowSize(4);
+    props.getCircuitBreaker().setMinimumNumberOfCalls(4);
+    props.getCircuitBreaker().setWaitDurationInOpenState(Duration.ofMillis(300));
+    props.getCircuitBreaker().setPermittedCallsInHalfOpenState(2);
+    props.getCircuitBreaker().setSlowCallDurationThreshold(Duration.ofMillis(200));
+    props.getBulkhead().setMaxConcurrentCalls(2);
+    // 서킷 전환 횟수를 호출 단위로 세기 위해 재시도는 끔
+    props.getRetry().setEnabled(false);
+
+    meterRegistry = new SimpleMeterRegistry();
+    AiResilienceConfig resilienceConfig = new AiResilienceConfig(props);
+    circuitBreaker = resilienceConfig.aiCircuitBreaker(meterRegistry);
+    Bulkhead bulkhead = resilienceConfig.aiBulkhead(meterRegistry);
+
+    HttpClientConfig httpConfig = new HttpClientConfig(props);
+    httpClient = httpConfig.aiHttpClient();
+    externalApiUtil =
+        new ExternalApiUtil(
+            WebClient.builder(),
+            httpConfig.aiClientHttpConnector(),
+            httpConfig.restTemplate(httpClient),
+            stub.baseUrl(),
+            new ObjectMapper(),
+            circuitBreaker,
+            bulkhead,
+            new AiCallRetrier(props, meterRegistry));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    httpClient.close();
+    stub.close();
+  }
+
+  private TemplateCreateResponseDto call() {
+    return externalApiUtil.postJson(url, BODY, TemplateCreateResponseDto.class, "stub");
+  }
+
+  @Test
+  @DisplayName("연속 실패 시 서킷이 열리고 이후 호출은 AI 서버로 가지 않고 폴백 응답을 받는다")
+  void opensCircuitAndFailsFast() {
+    stub.failWith(500);
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(this::call).isInstanceOf(RuntimeException.class);
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    int before = stub.requestCount();
+    TemplateCreateResponseDto response = call();
+
+    assertThat(response.getSuccess()).isFalse();
+    assertThat(response.getResponse()).isEqualTo(ExternalApiUtil.UNAVAILABLE_MESSAGE);
+    assertThat(stub.requestCount()).isEqualTo(before);
+    assertThat(
+            meterRegistry
+                .counter("ai.circuitbreaker.transitions", "from", "CLOSED", "to", "OPEN")
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("OPEN 대기 후 HALF_OPEN probe가 성공하면 서킷이 다시 닫힌다")
+  void halfOpenProbesCloseCircuit() throws Exception {
+    stub.failWith(503);
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(this::call).isInstanceOf(RuntimeException.class);
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    stub.recover();
+    Thread.sleep(400);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+    assertThat(call().getSuccess()).isTrue();
+    assertThat(call().getSuccess()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("HALF_OPEN probe가 실패하면 서킷이 다시 열린다")
+  void failedProbeReopensCircuit() throws Exception {
+    stub.failWith(500);
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(this::call).isInstanceOf(RuntimeException.class);
+    }
+    Thread.sleep(400);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+    assertThatThrownBy(this::call).isInstanceOf(RuntimeException.class);
+    assertThatThrownBy(this::call).isInstanceOf(RuntimeException.class);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  @DisplayName("동시 호출이 bulkhead 한도를 넘으면 초과분은 즉시 폴백 응답을 받는다")
+  void bulkheadRejectsExcessConcurrentCalls() {
+    stub.latency(Duration.ofMillis(500));
+    ExecutorService pool = Executors.newFixedThreadPool(5);
+    try {
+      List<CompletableFuture<TemplateCreateResponseDto>> futures = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        futures.add(CompletableFuture.supplyAsync(this::call, pool));
+      }
+      long rejected =
+          futures.stream()
+              .map(CompletableFuture::join)
+              .filter(r -> ExternalApiUtil.UNAVAILABLE_MESSAGE.equals(r.getResponse()))
+              .count();
+
+      assertThat(rejected).isEqualTo(3);
+      assertThat(stub.requestCount()).isEqualTo(2);
+      // bulkhead 거부는 AI 서버 실패로 집계하지 않음
+      assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("빈 본문이나 JSON 객체가 아닌 본문은 동기/비동기 모두 오류 대신 폴백 응답을 받는다")
+  void malformedBodyFallsBack() {
+    for (String body : List.of("", "[{\"success\":true}]")) {
+      stub.chatResponse(body);
+
+      TemplateCreateResponseDto blocking = call();
+      TemplateCreateResponseDto async =
+          externalApiUtil
+              .postJsonAsync(AiStubServer.CHAT_PATH, BODY, TemplateCreateResponseDto.class, "stub")
+              .block(Duration.ofSeconds(2));
+
+      assertThat(blocking.getSuccess()).isFalse();
+      assertThat(blocking.getResponse()).isEqualTo("AI 응답 처리 중 오류가 발생했습니다.");
+      assertThat(async).isNotNull();
+      assertThat(async.getSuccess()).isFalse();
+      assertThat(async.getResponse()).isEqualTo("AI 응답 처리 중 오류가 발생했습니다.");
+    }
+    assertThat(stub.requestCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("긴 SSE 스트림은 첫 이벤트까지만 재므로 느린 호출로 집계되지 않는다")
+  void longStreamsAreNotSlowCalls() {
+    stub.streamEvents(5).streamInterval(Duration.ofMillis(100));
+
+    for (int i = 0; i < 4; i++) {
+      List<TemplateCreateResponseDto> events =
+          externalApiUtil.stream(BODY, AiStubServer.STREAM_PATH).collectList().block(Duration.ofSeconds(5));
+      assertThat(events).hasSize(5);
+    }
+
+    assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(4);
+    assertThat(circuitBreaker.getMetrics().getNumberOfSlowCalls()).isZero();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("서킷이 열리면 SSE 스트림도 폴백 이벤트 하나로 즉시 종료된다")
+  void streamFailsFastWhenOpen() {
+    circuitBreaker.transitionToOpenState();
+
+    List<TemplateCreateResponseDto> events =
+        externalApiUtil.stream(BODY, "/api/chat/stream").collectList().block(Duration.ofSeconds(2));
+
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getSuccess()).isFalse();
+    assertThat(stub.requestCount()).isZero();
+  }
+}
@@ -0,0 +1,107 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** 여러 스레드가 같은 버킷을 동시에 두드려도 허용 수가 버킷 규격을 넘지 않는지 검증합니다. */
+@DisplayName("InMemoryRateLimitStore 동시성 테스트")
+class InMemoryRateLimitStoreTest {
+
+  private static final int THREADS = 32;
+  private static final int ATTEMPTS_PER_THREAD = 10_000;
+
+  private final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+  private final InMemoryRateLimitStore store =
+      new InMemoryRateLimitStore(10_000, Duration.ofMinutes(10));
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("시간이 흐르지 않으면 정확히 capacity만큼만 허용된다")
+  void admitsExactlyCapacityUnderContention() throws Exception {
+    TokenBucketSpec spec = TokenBucketSpec.of(100, 1, Duration.ofHours(1));
+    long now = System.nanoTime();
+
+    long admitted = hammer(() -> store.tryConsume("user:1", 1, spec, now) == 0);
+
+    assertThat(admitted).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("시간이 흐르면 capacity + 경과 시간만큼 채워진 토큰까지만 허용된다")
+  void admitsCapacityPlusRefillUnderContention() throws Exception {
+    TokenBucketSpec spec = TokenBucketSpec.of(50, 1, Duration.ofMillis(1));
+    long start = System.nanoTime();
+    AtomicLong clock = new AtomicLong(start);
+
+    // 시도마다 가상 시계를 1µs씩 진행 → 전체 320ms 동안 약 320개가 채워짐
+    long admitted =
+        hammer(() -> store.tryConsume("space:1", 1, spec, clock.addAndGet(1_000)) == 0);
+
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(clock.get() - start);
+    assertThat(admitted).isBetween(50L, 50L + elapsedMillis + 1);
+    assertThat(admitted).isGreaterThan(elapsedMillis / 2);
+  }
+
+  @Test
+  @DisplayName("거절된 시도는 토큰을 소모하지 않고, 되돌린 토큰은 다시 쓸 수 있다")
+  void rejectionDoesNotConsumeAndRefundRestores() {
+    TokenBucketSpec spec = TokenBucketSpec.of(2, 1, Duration.ofSeconds(1));
+    long now = System.nanoTime();
+
+    assertThat(store.tryConsume("user:2", 2, spec, now)).isZero();
+    long wait = store.tryConsume("user:2", 1, spec, now);
+    assertThat(wait).isEqualTo(Duration.ofSeconds(1).toNanos());
+    assertThat(store.tryConsume("user:2", 1, spec, now)).isEqualTo(wait);
+
+    store.refund("user:2", 1, spec);
+    assertThat(store.tryConsume("user:2", 1, spec, now)).isZero();
+    assertThat(store.tryConsume("user:2", 1, spec, now + wait)).isZero();
+  }
+
+  private interface Attempt {
+    boolean admitted();
+  }
+
+  /** THREADS개 스레드가 동시에 시작해 ATTEMPTS_PER_THREAD번씩 시도하고, 허용된 총 횟수를 반환합니다. */
+  private long hammer(Attempt attempt) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Long>> results = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      results.add(
+          pool.submit(
+              () -> {
+                start.await();
+                long admitted = 0;
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                  if (attempt.admitted()) {
+                    admitted++;
+                  }
+                }
+                return admitted;
+              }));
+    }
+    start.countDown();
+    long total = 0;
+    for (Future<Long> result : results) {
+      total += result.get(30, TimeUnit.SECONDS);
+    }
+    return total;
+  }
+}
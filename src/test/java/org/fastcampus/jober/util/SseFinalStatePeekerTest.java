@@ -0,0 +1,56 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.fastcampus.jober.template.dto.request.TemplateState;
+
+@DisplayName("SseFinalStatePeeker 테스트")
+class SseFinalStatePeekerTest {
+
+  private final SseFinalStatePeeker peeker = new SseFinalStatePeeker(new ObjectMapper());
+
+  private void feed(String chunk) {
+    peeker.accept(chunk.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("청크 경계와 관계없이 마지막 data 이벤트의 state를 꺼낸다")
+  void peeksFinalStateAcrossChunks() {
+    feed("data: {\"response\":\"1\",\"state\":{\"step\":\"generating\"}}\n");
+    feed("\ndata: {\"structured_templates\":[{\"a\":[1,2]}],\"sta");
+    feed("te\":{\"step\":\"completed\",\"original_request\":\"환영\"}}\r\n\r\n");
+    feed(": keep-alive\n\n");
+
+    TemplateState state = peeker.finalState().orElseThrow();
+
+    assertThat(state.getStep()).isEqualTo("completed");
+    assertThat(state.getOriginalRequest()).isEqualTo("환영");
+    assertThat(peeker.eventCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("빈 줄 없이 끝난 마지막 이벤트도 state 후보로 본다")
+  void includesUnterminatedLastEvent() {
+    feed("data: {\"state\":{\"step\":\"generating\"}}\n\n");
+    feed("data: {\"state\":{\"step\":\"completed\"}}");
+
+    assertThat(peeker.finalState()).map(TemplateState::getStep).hasValue("completed");
+  }
+
+  @Test
+  @DisplayName("state가 없거나 JSON이 깨졌으면 빈 값을 반환한다")
+  void emptyWhenStateMissingOrMalformed() {
+    feed("data: {\"response\":\"no state\"}\n\n");
+    assertThat(peeker.finalState()).isEmpty();
+
+    feed("data: {not json\n\n");
+    assertThat(peeker.finalState()).isEmpty();
+  }
+}
@@ -0,0 +1,188 @@
+package org.fastcampus.jober.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.fastcampus.jober.common.AiFlaskProps;
+import org.fastcampus.jober.config.HttpClientConfig;
+import org.fastcampus.jober.support.AiStubServer;
+import org.fastcampus.jober.template.dto.response.TemplateCreateResponseDto;
+
+/** 로컬 AI 스텁 서버의 SSE 스트림으로 heartbeat, idle 타임아웃, 버퍼 제한, 취소 전파를 검증합니다. */
+@DisplayName("SseStreamGuard 테스트")
+class SseStreamGuardTest {
+
+  private static final Map<String, Object> BODY =
+      Map.of("message", "환영 메시지", "state", Map.of("step", "initial"));
+
+  private AiStubServer stub;
+  private CloseableHttpClient httpClient;
+  private SimpleMeterRegistry meterRegistry;
+  private AiFlaskProps props;
+  private ExternalApiUtil externalApiUtil;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    stub = AiStubServer.start();
+    props = new AiFlaskProps();
+    props.setBaseUrl(stub.baseUrl());
+    meterRegistry = new SimpleMeterRegistry();
+
+    HttpClientConfig httpConfig = new HttpClientConfig(props);
+    httpClient = httpConfig.aiHttpClient();
+    externalApiUtil =
+        new ExternalApiUtil(
+            WebClient.builder(),
+            httpConfig.aiClientHttpConnector(),
+            httpConfig.restTemplate(httpClient),
+            stub.baseUrl(),
+            new ObjectMapper(),
+            CircuitBreaker.ofDefaults("test"),
+            Bulkhead.ofDefaults("test"),
+            new AiCallRetrier(new AiFlaskProps(), new SimpleMeterRegistry()));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    httpClient.close();
+    stub.close();
+  }
+
+  private Flux<ServerSentEvent<TemplateCreateResponseDto>> guardedStream(SseStreamGuard guard) {
+    return guard.downstream(
+        "decoded",
+        guard.upstream(
+            "decoded",
+            externalApiUtil.stream(BODY, AiStubServer.STREAM_PATH),
+            () -> Mono.just(ExternalApiUtil.fallbackResponse("timeout"))));
+  }
+
+  private double gauge(String side) {
+    return meterRegistry
+        .get("template.sse.active")
+        .tags("side", side, "mode", "decoded")
+        .gauge()
+        .value();
+  }
+
+  @Test
+  @DisplayName("클라이언트가 구독을 취소하면 AI 서버 연결도 끊긴다")
+  void cancellationReachesAiServer() throws Exception {
+    stub.streamEvents(200).streamInterval(Duration.ofMillis(20));
+    SseStreamGuard guard = new SseStreamGuard(props, meterRegistry);
+
+    CountDownLatch firstEvent = new CountDownLatch(1);
+    Disposable subscription = guardedStream(guard).subscribe(e -> firstEvent.countDown());
+    assertThat(firstEvent.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(gauge("upstream")).isEqualTo(1.0);
+
+    subscription.dispose();
+
+    awaitTrue(() -> stub.abortedStreamCount() == 1);
+    assertThat(gauge("upstream")).isZero();
+    assertThat(gauge("downstream")).isZero();
+    assertThat(
+            meterRegistry
+                .counter("template.sse.cancelled", "side", "upstream", "mode", "decoded")
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("이벤트가 없는 동안 keep-alive 주석을 보내고, 스트림이 끝나면 함께 종료된다")
+  void sendsHeartbeatWhileIdle() {
+    props.getStream().setHeartbeatInterval(Duration.ofMillis(50));
+    stub.streamEvents(3).latency(Duration.ofMillis(400));
+    SseStreamGuard guard = new SseStreamGuard(props, meterRegistry);
+
+    List<ServerSentEvent<TemplateCreateResponseDto>> events =
+        guardedStream(guard).collectList().block(Duration.ofSeconds(5));
+
+    assertThat(events).filteredOn(e -> SseStreamGuard.KEEP_ALIVE.equals(e.comment())).isNotEmpty();
+    assertThat(events)
+        .filteredOn(e -> e.data() != null)
+        .hasSize(3)
+        .last()
+        .satisfies(e -> assertThat(e.data().getState().getStep()).isEqualTo("completed"));
+  }
+
+  @Test
+  @DisplayName("AI 서버가 idle 타임아웃 동안 이벤트를 보내지 않으면 업스트림을 끊고 안내 이벤트로 끝낸다")
+  void idleTimeoutCancelsUpstream() throws Exception {
+    props.getStream().setIdleTimeout(Duration.ofMillis(200));
+    stub.streamEvents(20).streamInterval(Duration.ofMillis(500));
+    SseStreamGuard guard = new SseStreamGuard(props, meterRegistry);
+
+    List<ServerSentEvent<TemplateCreateResponseDto>> events =
+        guardedStream(guard).collectList().block(Duration.ofSeconds(5));
+
+    ServerSentEvent<TemplateCreateResponseDto> last = events.get(events.size() - 1);
+    assertThat(last.data().getSuccess()).isFalse();
+    assertThat(last.data().getResponse()).isEqualTo("timeout");
+    assertThat(meterRegistry.counter("template.sse.idle.timeouts", "mode", "decoded").count())
+        .isEqualTo(1.0);
+    awaitTrue(() -> stub.abortedStreamCount() == 1);
+  }
+
+  @Test
+  @DisplayName("느린 클라이언트 때문에 버퍼가 넘치면 오래된 이벤트부터 버리고 최신 이벤트는 유지한다")
+  void boundedBufferDropsOldest() {
+    props.getStream().setBufferSize(16);
+    SseStreamGuard guard = new SseStreamGuard(props, meterRegistry);
+
+    List<Integer> received = new CopyOnWriteArrayList<>();
+    BaseSubscriber<ServerSentEvent<Integer>> slowClient =
+        new BaseSubscriber<>() {
+          @Override
+          protected void hookOnSubscribe(Subscription subscription) {
+            // 구독 직후에는 아무것도 요청하지 않는 느린 클라이언트
+          }
+
+          @Override
+          protected void hookOnNext(ServerSentEvent<Integer> event) {
+            if (event.data() != null) {
+              received.add(event.data());
+            }
+          }
+        };
+    guard.downstream("decoded", Flux.range(1, 1_000)).subscribe(slowClient);
+    slowClient.requestUnbounded();
+
+    assertThat(received).hasSizeLessThan(100).endsWith(1_000);
+    assertThat(meterRegistry.counter("template.sse.dropped", "mode", "decoded").count())
+        .isGreaterThan(900);
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+      Thread.sleep(20);
+    }
+  }
+}